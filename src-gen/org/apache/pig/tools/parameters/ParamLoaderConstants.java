@@ -0,0 +1,53 @@
+/* Generated By:JavaCC: Do not edit this line. ParamLoaderConstants.java */
+package org.apache.pig.tools.parameters;
+
+
+/**
+ * Token literal values and constants.
+ * Generated by org.javacc.parser.OtherFilesGen#start()
+ */
+public interface ParamLoaderConstants {
+
+  /** End of File. */
+  int EOF = 0;
+  /** RegularExpression Id. */
+  int LETTER = 5;
+  /** RegularExpression Id. */
+  int DIGIT = 6;
+  /** RegularExpression Id. */
+  int SPECIALCHAR = 7;
+  /** RegularExpression Id. */
+  int IDENTIFIER = 8;
+  /** RegularExpression Id. */
+  int OTHER = 9;
+  /** RegularExpression Id. */
+  int LITERAL = 10;
+  /** RegularExpression Id. */
+  int SHELLCMD = 11;
+  /** RegularExpression Id. */
+  int EQUALS = 12;
+  /** RegularExpression Id. */
+  int COMMENT = 13;
+
+  /** Lexical state. */
+  int DEFAULT = 0;
+
+  /** Literal token values. */
+  String[] tokenImage = {
+    "<EOF>",
+    "\"\\n\"",
+    "\"\\r\"",
+    "\" \"",
+    "\"\\t\"",
+    "<LETTER>",
+    "<DIGIT>",
+    "<SPECIALCHAR>",
+    "<IDENTIFIER>",
+    "<OTHER>",
+    "<LITERAL>",
+    "<SHELLCMD>",
+    "\"=\"",
+    "<COMMENT>",
+  };
+
+}
@@ -0,0 +1,3530 @@
+/* Generated By:JavaCC: Do not edit this line. PigScriptParserTokenManager.java */
+package org.apache.pig.tools.pigscript.parser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import org.apache.pig.impl.util.StringUtils;
+import jline.ConsoleReader;
+
+/** Token Manager. */
+public class PigScriptParserTokenManager implements PigScriptParserConstants
+{
+        int pigBlockLevel = 0;
+        int funcBlockLevel = 0;
+        int tupleSchemaLevel = 0;
+        int bagSchemaLevel = 0;
+        int bagConstantLevel = 0;
+        int prevState = DEFAULT;
+        boolean interactive = false;
+        ConsoleReader consoleReader = null;
+    Stack<Integer> stack = new Stack<Integer>();
+        public void secondary_prompt()
+        {
+                if (interactive)
+                {
+                        /*System.err.print(">> ");
+			System.err.flush();*/
+                    consoleReader.setDefaultPrompt(">> ");
+                }
+        }
+
+    public int getState(int state) {
+        if(!stack.empty()) return stack.pop();
+        return state;
+    }
+
+    public void saveState(int state) {
+        stack.push(state);
+    }
+
+  /** Debug output. */
+  public  java.io.PrintStream debugStream = System.out;
+  /** Set debug output. */
+  public  void setDebugStream(java.io.PrintStream ds) { debugStream = ds; }
+private final int jjStopStringLiteralDfa_12(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_12(int pos, long active0, long active1)
+{
+   return jjMoveNfa_12(jjStopStringLiteralDfa_12(pos, active0, active1), pos + 1);
+}
+private int jjStopAtPos(int pos, int kind)
+{
+   jjmatchedKind = kind;
+   jjmatchedPos = pos;
+   return pos + 1;
+}
+private int jjMoveStringLiteralDfa0_12()
+{
+   switch(curChar)
+   {
+      case 34:
+         return jjStopAtPos(0, 104);
+      case 92:
+         return jjMoveStringLiteralDfa1_12(0x8000000000L);
+      default :
+         return jjMoveNfa_12(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_12(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_12(0, 0L, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 34:
+         if ((active1 & 0x8000000000L) != 0L)
+            return jjStopAtPos(1, 103);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_12(0, 0L, active1);
+}
+private int jjMoveNfa_12(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 105)
+                        kind = 105;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 105)
+                     kind = 105;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_8(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_8(int pos, long active0, long active1)
+{
+   return jjMoveNfa_8(jjStopStringLiteralDfa_8(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_8()
+{
+   switch(curChar)
+   {
+      case 59:
+         return jjStopAtPos(0, 78);
+      case 123:
+         return jjStopAtPos(0, 76);
+      default :
+         return jjMoveNfa_8(4, 0);
+   }
+}
+private int jjMoveNfa_8(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 7;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 4:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 79)
+                        kind = 79;
+                  }
+                  else if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(0, 1);
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 5;
+                  break;
+               case 0:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(0, 1);
+                  break;
+               case 3:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 77)
+                     kind = 77;
+                  jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 5:
+                  if (curChar == 10 && kind > 79)
+                     kind = 79;
+                  break;
+               case 6:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 5;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 1:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 2;
+                  break;
+               case 2:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 7 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_11(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_11(int pos, long active0, long active1)
+{
+   return jjMoveNfa_11(jjStopStringLiteralDfa_11(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_11()
+{
+   switch(curChar)
+   {
+      case 34:
+         return jjStopAtPos(0, 92);
+      case 39:
+         return jjStopAtPos(0, 97);
+      case 45:
+         return jjMoveStringLiteralDfa1_11(0x800000000L);
+      case 47:
+         return jjMoveStringLiteralDfa1_11(0x1000000000L);
+      case 96:
+         return jjStopAtPos(0, 98);
+      case 123:
+         return jjStopAtPos(0, 95);
+      default :
+         return jjMoveNfa_11(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_11(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_11(0, 0L, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 42:
+         if ((active1 & 0x1000000000L) != 0L)
+            return jjStopAtPos(1, 100);
+         break;
+      case 45:
+         if ((active1 & 0x800000000L) != 0L)
+            return jjStopAtPos(1, 99);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_11(0, 0L, active1);
+}
+private int jjMoveNfa_11(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 20;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(0, 3);
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 101)
+                        kind = 101;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 1:
+                  if (curChar == 59)
+                     kind = 96;
+                  break;
+               case 2:
+                  if ((0x2400L & l) != 0L && kind > 101)
+                     kind = 101;
+                  break;
+               case 3:
+                  if (curChar == 10 && kind > 101)
+                     kind = 101;
+                  break;
+               case 4:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 5:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(0, 3);
+                  break;
+               case 6:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(6, 7);
+                  break;
+               case 9:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 93)
+                     kind = 93;
+                  jjstateSet[jjnewStateCnt++] = 9;
+                  break;
+               case 10:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(10, 11);
+                  break;
+               case 19:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 94)
+                     kind = 94;
+                  jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if (curChar != 125)
+                     break;
+                  kind = 96;
+                  jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 7:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 8;
+                  break;
+               case 8:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 9;
+                  break;
+               case 11:
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 12;
+                  break;
+               case 12:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 13;
+                  break;
+               case 13:
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 14:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 15;
+                  break;
+               case 15:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 16:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               case 17:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 18;
+                  break;
+               case 18:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 20 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_9(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_9(int pos, long active0, long active1)
+{
+   return jjMoveNfa_9(jjStopStringLiteralDfa_9(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_9()
+{
+   switch(curChar)
+   {
+      case 40:
+         return jjStopAtPos(0, 81);
+      case 41:
+         return jjStopAtPos(0, 82);
+      case 123:
+         return jjStopAtPos(0, 83);
+      case 125:
+         return jjStopAtPos(0, 84);
+      default :
+         return jjMoveNfa_9(0, 0);
+   }
+}
+private int jjMoveNfa_9(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 4;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 86)
+                        kind = 86;
+                  }
+                  else if ((0x800100000000000L & l) != 0L)
+                  {
+                     if (kind > 85)
+                        kind = 85;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 2;
+                  break;
+               case 1:
+                  if ((0x2400L & l) != 0L && kind > 86)
+                     kind = 86;
+                  break;
+               case 2:
+                  if (curChar == 10 && kind > 86)
+                     kind = 86;
+                  break;
+               case 3:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 2;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 4 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_2()
+{
+   return 1;
+}
+private final int jjStopStringLiteralDfa_7(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_7(int pos, long active0, long active1)
+{
+   return jjMoveNfa_7(jjStopStringLiteralDfa_7(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_7()
+{
+   switch(curChar)
+   {
+      case 92:
+         return jjMoveStringLiteralDfa1_7(0x100L);
+      case 96:
+         return jjStopAtPos(0, 73);
+      default :
+         return jjMoveNfa_7(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_7(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_7(0, 0L, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 96:
+         if ((active1 & 0x100L) != 0L)
+            return jjStopAtPos(1, 72);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_7(0, 0L, active1);
+}
+private int jjMoveNfa_7(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 74)
+                        kind = 74;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 74)
+                     kind = 74;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      case 0:
+         if ((active1 & 0x200000000000L) != 0L)
+            return 56;
+         if ((active0 & 0x7e00000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            return 0;
+         }
+         if ((active0 & 0x1e181ffffffc0L) != 0L)
+         {
+            jjmatchedKind = 118;
+            return 57;
+         }
+         return -1;
+      case 1:
+         if ((active0 & 0x1e181e3e7f840L) != 0L)
+         {
+            if (jjmatchedPos != 1)
+            {
+               jjmatchedKind = 118;
+               jjmatchedPos = 1;
+            }
+            return 57;
+         }
+         if ((active0 & 0x7e00000000L) != 0L)
+         {
+            if (jjmatchedPos != 1)
+            {
+               jjmatchedKind = 119;
+               jjmatchedPos = 1;
+            }
+            return 16;
+         }
+         if ((active0 & 0x1c180780L) != 0L)
+            return 57;
+         return -1;
+      case 2:
+         if ((active0 & 0x7e00000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 2;
+            return 16;
+         }
+         if ((active0 & 0x1e08143a7f800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 2;
+            return 57;
+         }
+         if ((active0 & 0x100b0400040L) != 0L)
+            return 57;
+         return -1;
+      case 3:
+         if ((active0 & 0x3000000000L) != 0L)
+            return 16;
+         if ((active0 & 0x4e00000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 3;
+            return 16;
+         }
+         if ((active0 & 0x1e0804321d800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 3;
+            return 57;
+         }
+         if ((active0 & 0x100862000L) != 0L)
+            return 57;
+         return -1;
+      case 4:
+         if ((active0 & 0x140804101d800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 4;
+            return 57;
+         }
+         if ((active0 & 0x4e00000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 4;
+            return 16;
+         }
+         if ((active0 & 0xa00002200000L) != 0L)
+            return 57;
+         return -1;
+      case 5:
+         if ((active0 & 0x4600000000L) != 0L)
+            return 16;
+         if ((active0 & 0x804101d800L) != 0L)
+         {
+            if (jjmatchedPos != 5)
+            {
+               jjmatchedKind = 118;
+               jjmatchedPos = 5;
+            }
+            return 57;
+         }
+         if ((active0 & 0x800000000L) != 0L)
+         {
+            if (jjmatchedPos != 5)
+            {
+               jjmatchedKind = 119;
+               jjmatchedPos = 5;
+            }
+            return 16;
+         }
+         if ((active0 & 0x1400000000000L) != 0L)
+            return 57;
+         return -1;
+      case 6:
+         if ((active0 & 0x400000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 6;
+            return 16;
+         }
+         if ((active0 & 0x800000000L) != 0L)
+            return 16;
+         if ((active0 & 0x8041005800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 6;
+            return 57;
+         }
+         if ((active0 & 0x18000L) != 0L)
+            return 57;
+         return -1;
+      case 7:
+         if ((active0 & 0x8040001800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 7;
+            return 57;
+         }
+         if ((active0 & 0x400000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 7;
+            return 16;
+         }
+         if ((active0 & 0x1004000L) != 0L)
+            return 57;
+         return -1;
+      case 8:
+         if ((active0 & 0x8040001800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 8;
+            return 57;
+         }
+         if ((active0 & 0x400000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 8;
+            return 16;
+         }
+         return -1;
+      case 9:
+         if ((active0 & 0x400000000L) != 0L)
+         {
+            jjmatchedKind = 119;
+            jjmatchedPos = 9;
+            return 16;
+         }
+         if ((active0 & 0x1800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 9;
+            return 57;
+         }
+         if ((active0 & 0x8040000000L) != 0L)
+            return 57;
+         return -1;
+      case 10:
+         if ((active0 & 0x400000000L) != 0L)
+            return 16;
+         if ((active0 & 0x800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 10;
+            return 57;
+         }
+         if ((active0 & 0x1000L) != 0L)
+            return 57;
+         return -1;
+      case 11:
+         if ((active0 & 0x800L) != 0L)
+         {
+            jjmatchedKind = 118;
+            jjmatchedPos = 11;
+            return 57;
+         }
+         return -1;
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_0(int pos, long active0, long active1)
+{
+   return jjMoveNfa_0(jjStopStringLiteralDfa_0(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_0()
+{
+   switch(curChar)
+   {
+      case 39:
+         return jjStartNfaWithStates_0(0, 109, 56);
+      case 45:
+         return jjMoveStringLiteralDfa1_0(0x7e00000000L);
+      case 59:
+         return jjStopAtPos(0, 110);
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa1_0(0x4008000L);
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa1_0(0x1e40L);
+      case 68:
+      case 100:
+         return jjMoveStringLiteralDfa1_0(0x400000006000L);
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa1_0(0x100010000L);
+      case 70:
+      case 102:
+         return jjMoveStringLiteralDfa1_0(0x80L);
+      case 72:
+      case 104:
+         return jjMoveStringLiteralDfa1_0(0x20000L);
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa1_0(0x1000040000000L);
+      case 75:
+      case 107:
+         return jjMoveStringLiteralDfa1_0(0x40000L);
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa1_0(0x80000L);
+      case 77:
+      case 109:
+         return jjMoveStringLiteralDfa1_0(0x300000L);
+      case 80:
+      case 112:
+         return jjMoveStringLiteralDfa1_0(0x400000L);
+      case 81:
+      case 113:
+         return jjMoveStringLiteralDfa1_0(0x800000L);
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa1_0(0x99000000L);
+      case 83:
+      case 115:
+         return jjMoveStringLiteralDfa1_0(0xa18020000100L);
+      case 85:
+      case 117:
+         return jjMoveStringLiteralDfa1_0(0x2000000L);
+      default :
+         return jjMoveNfa_0(2, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_0(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(0, active0, 0L);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa2_0(active0, 0x40L);
+      case 66:
+      case 98:
+         return jjMoveStringLiteralDfa2_0(active0, 0x4000000000L);
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa2_0(active0, 0x8000000000L);
+      case 68:
+      case 100:
+         if ((active0 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(1, 9, 57);
+         return jjMoveStringLiteralDfa2_0(active0, 0x1000000000L);
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa2_0(active0, 0x400021024000L);
+      case 72:
+      case 104:
+         if ((active0 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(1, 8, 57);
+         break;
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa2_0(active0, 0x40000L);
+      case 75:
+      case 107:
+         return jjMoveStringLiteralDfa2_0(active0, 0x200000L);
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa2_0(active0, 0x40008000L);
+      case 77:
+      case 109:
+         if ((active0 & 0x8000000L) != 0L)
+         {
+            jjmatchedKind = 27;
+            jjmatchedPos = 1;
+         }
+         return jjMoveStringLiteralDfa2_0(active0, 0x1000010000000L);
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa2_0(active0, 0x2000001800L);
+      case 80:
+      case 112:
+         if ((active0 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(1, 10, 57);
+         return jjMoveStringLiteralDfa2_0(active0, 0x200600000000L);
+      case 81:
+      case 113:
+         return jjMoveStringLiteralDfa2_0(active0, 0x10000000000L);
+      case 83:
+      case 115:
+         if ((active0 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(1, 7, 57);
+         else if ((active0 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(1, 19, 57);
+         else if ((active0 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(1, 26, 57);
+         return jjMoveStringLiteralDfa2_0(active0, 0x802000000L);
+      case 84:
+      case 116:
+         return jjMoveStringLiteralDfa2_0(active0, 0x800000000000L);
+      case 85:
+      case 117:
+         return jjMoveStringLiteralDfa2_0(active0, 0x80802000L);
+      case 86:
+      case 118:
+         if ((active0 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(1, 20, 57);
+         break;
+      case 87:
+      case 119:
+         return jjMoveStringLiteralDfa2_0(active0, 0x400000L);
+      case 88:
+      case 120:
+         return jjMoveStringLiteralDfa2_0(active0, 0x100010000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(0, active0, 0L);
+}
+private int jjMoveStringLiteralDfa2_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(0, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(1, active0, 0L);
+      return 2;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa3_0(active0, 0x600000000L);
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa3_0(active0, 0x800000000L);
+      case 68:
+      case 100:
+         if ((active0 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(2, 22, 57);
+         return jjMoveStringLiteralDfa3_0(active0, 0x200000L);
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa3_0(active0, 0x100000000L);
+      case 70:
+      case 102:
+         if ((active0 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 28, 57);
+         return jjMoveStringLiteralDfa3_0(active0, 0x400000000000L);
+      case 71:
+      case 103:
+         return jjMoveStringLiteralDfa3_0(active0, 0x1000000L);
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa3_0(active0, 0x2808000L);
+      case 76:
+      case 108:
+         if ((active0 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 40, 57);
+         return jjMoveStringLiteralDfa3_0(active0, 0x200040060000L);
+      case 77:
+      case 109:
+         return jjMoveStringLiteralDfa3_0(active0, 0x2000L);
+      case 78:
+      case 110:
+         if ((active0 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 31, 57);
+         break;
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa3_0(active0, 0x801000000000L);
+      case 80:
+      case 112:
+         return jjMoveStringLiteralDfa3_0(active0, 0x1000000011800L);
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa3_0(active0, 0xc000000000L);
+      case 83:
+      case 115:
+         return jjMoveStringLiteralDfa3_0(active0, 0x4000L);
+      case 84:
+      case 116:
+         if ((active0 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(2, 6, 57);
+         else if ((active0 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 29, 57);
+         break;
+      case 85:
+      case 117:
+         return jjMoveStringLiteralDfa3_0(active0, 0x2000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(1, active0, 0L);
+}
+private int jjMoveStringLiteralDfa3_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(1, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(2, active0, 0L);
+      return 3;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa4_0(active0, 0x8000L);
+      case 67:
+      case 99:
+         if ((active0 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 32, 57);
+         return jjMoveStringLiteralDfa4_0(active0, 0x4000L);
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa4_0(active0, 0x60c001200000L);
+      case 76:
+      case 108:
+         if ((active0 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(3, 18, 57);
+         return jjMoveStringLiteralDfa4_0(active0, 0x10000L);
+      case 78:
+      case 110:
+         return jjMoveStringLiteralDfa4_0(active0, 0x2000000L);
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa4_0(active0, 0x1000000000000L);
+      case 80:
+      case 112:
+         if ((active0 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(3, 13, 57);
+         else if ((active0 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(3, 17, 57);
+         break;
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa4_0(active0, 0x800e00000000L);
+      case 84:
+      case 116:
+         if ((active0 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(3, 23, 57);
+         else if ((active0 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 36, 16);
+         else if ((active0 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 37, 16);
+         break;
+      case 85:
+      case 117:
+         return jjMoveStringLiteralDfa4_0(active0, 0x40000000L);
+      case 89:
+      case 121:
+         return jjMoveStringLiteralDfa4_0(active0, 0x1800L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(2, active0, 0L);
+}
+private int jjMoveStringLiteralDfa4_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(2, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(3, active0, 0L);
+      return 4;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa5_0(active0, 0x600010000L);
+      case 69:
+      case 101:
+         if ((active0 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 47, 57);
+         return jjMoveStringLiteralDfa5_0(active0, 0x4000000000L);
+      case 70:
+      case 102:
+         return jjMoveStringLiteralDfa5_0(active0, 0x800L);
+      case 71:
+      case 103:
+         if ((active0 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 25, 57);
+         break;
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa5_0(active0, 0x800000000L);
+      case 78:
+      case 110:
+         return jjMoveStringLiteralDfa5_0(active0, 0x400000000000L);
+      case 80:
+      case 112:
+         return jjMoveStringLiteralDfa5_0(active0, 0x8000000000L);
+      case 82:
+      case 114:
+         if ((active0 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(4, 21, 57);
+         return jjMoveStringLiteralDfa5_0(active0, 0x1000000004000L);
+      case 83:
+      case 115:
+         return jjMoveStringLiteralDfa5_0(active0, 0x41008000L);
+      case 84:
+      case 116:
+         if ((active0 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 45, 57);
+         return jjMoveStringLiteralDfa5_0(active0, 0x1000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(3, active0, 0L);
+}
+private int jjMoveStringLiteralDfa5_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(3, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(4, active0, 0L);
+      return 5;
+   }
+   switch(curChar)
+   {
+      case 69:
+      case 101:
+         if ((active0 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 46, 57);
+         return jjMoveStringLiteralDfa6_0(active0, 0x8000L);
+      case 70:
+      case 102:
+         if ((active0 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 38, 16);
+         break;
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa6_0(active0, 0x14000L);
+      case 77:
+      case 109:
+         if ((active0 & 0x200000000L) != 0L)
+         {
+            jjmatchedKind = 33;
+            jjmatchedPos = 5;
+         }
+         return jjMoveStringLiteralDfa6_0(active0, 0x400000000L);
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa6_0(active0, 0x1000L);
+      case 80:
+      case 112:
+         return jjMoveStringLiteralDfa6_0(active0, 0x800000000L);
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa6_0(active0, 0x800L);
+      case 84:
+      case 116:
+         if ((active0 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 48, 57);
+         return jjMoveStringLiteralDfa6_0(active0, 0x8041000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(4, active0, 0L);
+}
+private int jjMoveStringLiteralDfa6_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(4, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(5, active0, 0L);
+      return 6;
+   }
+   switch(curChar)
+   {
+      case 95:
+         return jjMoveStringLiteralDfa7_0(active0, 0x400000000L);
+      case 66:
+      case 98:
+         return jjMoveStringLiteralDfa7_0(active0, 0x4000L);
+      case 68:
+      case 100:
+         return jjMoveStringLiteralDfa7_0(active0, 0x8000000000L);
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa7_0(active0, 0x1000000L);
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa7_0(active0, 0x1000L);
+      case 78:
+      case 110:
+         if ((active0 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(6, 16, 57);
+         break;
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa7_0(active0, 0x800L);
+      case 82:
+      case 114:
+         return jjMoveStringLiteralDfa7_0(active0, 0x40000000L);
+      case 83:
+      case 115:
+         if ((active0 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(6, 15, 57);
+         break;
+      case 84:
+      case 116:
+         if ((active0 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 35, 16);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(5, active0, 0L);
+}
+private int jjMoveStringLiteralDfa7_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(5, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(6, active0, 0L);
+      return 7;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa8_0(active0, 0x40000000L);
+      case 69:
+      case 101:
+         if ((active0 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(7, 14, 57);
+         break;
+      case 70:
+      case 102:
+         return jjMoveStringLiteralDfa8_0(active0, 0x400000000L);
+      case 77:
+      case 109:
+         return jjMoveStringLiteralDfa8_0(active0, 0x800L);
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa8_0(active0, 0x8000001000L);
+      case 82:
+      case 114:
+         if ((active0 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 24, 57);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(6, active0, 0L);
+}
+private int jjMoveStringLiteralDfa8_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(6, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(7, active0, 0L);
+      return 8;
+   }
+   switch(curChar)
+   {
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa9_0(active0, 0x1000L);
+      case 73:
+      case 105:
+         return jjMoveStringLiteralDfa9_0(active0, 0x400000000L);
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa9_0(active0, 0x800L);
+      case 78:
+      case 110:
+         return jjMoveStringLiteralDfa9_0(active0, 0x8000000000L);
+      case 84:
+      case 116:
+         return jjMoveStringLiteralDfa9_0(active0, 0x40000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(7, active0, 0L);
+}
+private int jjMoveStringLiteralDfa9_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(7, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(8, active0, 0L);
+      return 9;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa10_0(active0, 0x1000L);
+      case 69:
+      case 101:
+         if ((active0 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 30, 57);
+         else if ((active0 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 39, 57);
+         break;
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa10_0(active0, 0x400000000L);
+      case 79:
+      case 111:
+         return jjMoveStringLiteralDfa10_0(active0, 0x800L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(8, active0, 0L);
+}
+private int jjMoveStringLiteralDfa10_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(8, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(9, active0, 0L);
+      return 10;
+   }
+   switch(curChar)
+   {
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa11_0(active0, 0x800L);
+      case 69:
+      case 101:
+         if ((active0 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 34, 16);
+         break;
+      case 76:
+      case 108:
+         if ((active0 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(10, 12, 57);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(9, active0, 0L);
+}
+private int jjMoveStringLiteralDfa11_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(9, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(10, active0, 0L);
+      return 11;
+   }
+   switch(curChar)
+   {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa12_0(active0, 0x800L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(10, active0, 0L);
+}
+private int jjMoveStringLiteralDfa12_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(10, old0, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(11, active0, 0L);
+      return 12;
+   }
+   switch(curChar)
+   {
+      case 76:
+      case 108:
+         if ((active0 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(12, 11, 57);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(11, active0, 0L);
+}
+private int jjStartNfaWithStates_0(int pos, int kind, int state)
+{
+   jjmatchedKind = kind;
+   jjmatchedPos = pos;
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) { return pos + 1; }
+   return jjMoveNfa_0(state, pos + 1);
+}
+static final long[] jjbitVec0 = {
+   0xfffffffffffffffeL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+static final long[] jjbitVec2 = {
+   0x0L, 0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+private int jjMoveNfa_0(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 56;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0xf7fffcfeffffd9ffL & l) != 0L)
+                  {
+                     if (kind > 119)
+                        kind = 119;
+                     jjCheckNAdd(16);
+                  }
+                  if (curChar == 45)
+                  {
+                     if (kind > 3)
+                        kind = 3;
+                     jjCheckNAdd(1);
+                  }
+                  break;
+               case 56:
+                  if ((0xffffff7fffffdbffL & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  else if (curChar == 39)
+                  {
+                     if (kind > 120)
+                        kind = 120;
+                  }
+                  if ((0xf7fffcfeffffd9ffL & l) != 0L)
+                  {
+                     if (kind > 119)
+                        kind = 119;
+                     jjCheckNAdd(16);
+                  }
+                  break;
+               case 2:
+                  if ((0xf7fffcfeffffd9ffL & l) != 0L)
+                  {
+                     if (kind > 119)
+                        kind = 119;
+                     jjCheckNAdd(16);
+                  }
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 108)
+                        kind = 108;
+                  }
+                  if (curChar == 39)
+                     jjCheckNAddStates(4, 7);
+                  else if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  else if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 6;
+                  else if (curChar == 35)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  else if (curChar == 45)
+                     jjstateSet[jjnewStateCnt++] = 0;
+                  break;
+               case 57:
+                  if ((0xf7fffcfeffffd9ffL & l) != 0L)
+                  {
+                     if (kind > 119)
+                        kind = 119;
+                     jjCheckNAdd(16);
+                  }
+                  else if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(8, 11);
+                  else if (curChar == 40)
+                  {
+                     if (kind > 51)
+                        kind = 51;
+                  }
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 118)
+                        kind = 118;
+                     jjCheckNAddTwoStates(53, 55);
+                  }
+                  else if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(50, 51);
+                  else if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 54;
+                  else if (curChar == 61)
+                  {
+                     if (kind > 50)
+                        kind = 50;
+                  }
+                  else if (curChar == 44)
+                     jjCheckNAddTwoStates(38, 39);
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(12, 15);
+                  else if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(31, 32);
+                  else if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 48;
+                  else if (curChar == 61)
+                  {
+                     if (kind > 49)
+                        kind = 49;
+                  }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(16, 20);
+                  else if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 35;
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(21, 23);
+                  break;
+               case 1:
+                  if ((0xffffffffffffdbffL & l) == 0L)
+                     break;
+                  if (kind > 3)
+                     kind = 3;
+                  jjCheckNAdd(1);
+                  break;
+               case 3:
+                  if (curChar != 33)
+                     break;
+                  if (kind > 4)
+                     kind = 4;
+                  jjCheckNAdd(4);
+                  break;
+               case 4:
+                  if ((0xffffffffffffdbffL & l) == 0L)
+                     break;
+                  if (kind > 4)
+                     kind = 4;
+                  jjCheckNAdd(4);
+                  break;
+               case 5:
+                  if (curChar == 35)
+                     jjstateSet[jjnewStateCnt++] = 3;
+                  break;
+               case 6:
+                  if (curChar == 42)
+                     jjCheckNAddTwoStates(7, 8);
+                  break;
+               case 7:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(7, 8);
+                  break;
+               case 8:
+                  if (curChar == 42)
+                     jjCheckNAddStates(24, 26);
+                  break;
+               case 9:
+                  if ((0xffff7bffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(10, 8);
+                  break;
+               case 10:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     jjCheckNAddTwoStates(10, 8);
+                  break;
+               case 11:
+                  if (curChar == 47 && kind > 5)
+                     kind = 5;
+                  break;
+               case 12:
+                  if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 6;
+                  break;
+               case 13:
+                  if ((0x2400L & l) != 0L && kind > 108)
+                     kind = 108;
+                  break;
+               case 14:
+                  if (curChar == 10 && kind > 108)
+                     kind = 108;
+                  break;
+               case 15:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 16:
+                  if ((0xf7fffcfeffffd9ffL & l) == 0L)
+                     break;
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  break;
+               case 17:
+               case 20:
+                  if (curChar == 39)
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 18:
+                  if ((0xffffff7fffffdbffL & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 22:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 23;
+                  break;
+               case 23:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 24;
+                  break;
+               case 24:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 25;
+                  break;
+               case 25:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 27:
+                  if (curChar == 39 && kind > 120)
+                     kind = 120;
+                  break;
+               case 30:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(21, 23);
+                  break;
+               case 31:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(31, 32);
+                  break;
+               case 32:
+                  if (curChar == 61 && kind > 49)
+                     kind = 49;
+                  break;
+               case 34:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(16, 20);
+                  break;
+               case 35:
+                  if (curChar == 58)
+                     jjCheckNAddStates(16, 20);
+                  break;
+               case 36:
+                  if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 35;
+                  break;
+               case 37:
+                  if (curChar == 44)
+                     jjCheckNAddTwoStates(38, 39);
+                  break;
+               case 38:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(38, 39);
+                  break;
+               case 40:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(27, 31);
+                  break;
+               case 41:
+                  if (curChar == 58)
+                     jjCheckNAddStates(27, 31);
+                  break;
+               case 42:
+                  if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 41;
+                  break;
+               case 43:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(43, 44);
+                  break;
+               case 44:
+                  if (curChar == 61 && kind > 50)
+                     kind = 50;
+                  break;
+               case 45:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(8, 11);
+                  break;
+               case 47:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddStates(12, 15);
+                  break;
+               case 48:
+                  if (curChar == 58)
+                     jjCheckNAddStates(12, 15);
+                  break;
+               case 49:
+                  if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 48;
+                  break;
+               case 50:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(50, 51);
+                  break;
+               case 51:
+                  if (curChar == 40 && kind > 51)
+                     kind = 51;
+                  break;
+               case 53:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 118)
+                     kind = 118;
+                  jjCheckNAddTwoStates(53, 55);
+                  break;
+               case 54:
+                  if (curChar != 58)
+                     break;
+                  if (kind > 118)
+                     kind = 118;
+                  jjCheckNAddTwoStates(53, 55);
+                  break;
+               case 55:
+                  if (curChar == 58)
+                     jjstateSet[jjnewStateCnt++] = 54;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+               case 16:
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  break;
+               case 56:
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  else if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 21;
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 20;
+                  break;
+               case 2:
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                  {
+                     if (kind > 118)
+                        kind = 118;
+                     jjCheckNAddStates(32, 49);
+                  }
+                  break;
+               case 57:
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 118)
+                        kind = 118;
+                     jjCheckNAddTwoStates(53, 55);
+                  }
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(12, 15);
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(16, 20);
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(21, 23);
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                  {
+                     if (kind > 118)
+                        kind = 118;
+                     jjCheckNAddStates(50, 52);
+                  }
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(53, 57);
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(58, 63);
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(64, 67);
+                  break;
+               case 1:
+                  if (kind > 3)
+                     kind = 3;
+                  jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 4:
+                  if (kind > 4)
+                     kind = 4;
+                  jjstateSet[jjnewStateCnt++] = 4;
+                  break;
+               case 7:
+                  jjCheckNAddTwoStates(7, 8);
+                  break;
+               case 9:
+               case 10:
+                  jjCheckNAddTwoStates(10, 8);
+                  break;
+               case 18:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 19:
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 20;
+                  break;
+               case 20:
+                  if ((0x14404410144044L & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 21:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 22;
+                  break;
+               case 22:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 23;
+                  break;
+               case 23:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 24;
+                  break;
+               case 24:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 25;
+                  break;
+               case 25:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 26:
+                  if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 21;
+                  break;
+               case 28:
+                  if ((0x7fffffe07fffffeL & l) == 0L)
+                     break;
+                  if (kind > 118)
+                     kind = 118;
+                  jjCheckNAddStates(32, 49);
+                  break;
+               case 29:
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(64, 67);
+                  break;
+               case 30:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(21, 23);
+                  break;
+               case 33:
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(58, 63);
+                  break;
+               case 34:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(16, 20);
+                  break;
+               case 39:
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(68, 73);
+                  break;
+               case 40:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(27, 31);
+                  break;
+               case 46:
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                     jjCheckNAddStates(53, 57);
+                  break;
+               case 47:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(12, 15);
+                  break;
+               case 52:
+                  if ((0x7fffffe07fffffeL & l) == 0L)
+                     break;
+                  if (kind > 118)
+                     kind = 118;
+                  jjCheckNAddStates(50, 52);
+                  break;
+               case 53:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 118)
+                     kind = 118;
+                  jjCheckNAddTwoStates(53, 55);
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+               case 16:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  break;
+               case 56:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                  {
+                     if (kind > 119)
+                        kind = 119;
+                     jjCheckNAdd(16);
+                  }
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddStates(4, 7);
+                  break;
+               case 2:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  break;
+               case 57:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 119)
+                     kind = 119;
+                  jjCheckNAdd(16);
+                  break;
+               case 1:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 3)
+                     kind = 3;
+                  jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 4:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 4)
+                     kind = 4;
+                  jjstateSet[jjnewStateCnt++] = 4;
+                  break;
+               case 7:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddTwoStates(7, 8);
+                  break;
+               case 9:
+               case 10:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddTwoStates(10, 8);
+                  break;
+               case 18:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     jjCheckNAddStates(4, 7);
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 56 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_1(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_1(int pos, long active0)
+{
+   return jjMoveNfa_1(jjStopStringLiteralDfa_1(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_1()
+{
+   switch(curChar)
+   {
+      case 59:
+         return jjStopAtPos(0, 41);
+      default :
+         return jjMoveNfa_1(0, 0);
+   }
+}
+private int jjMoveNfa_1(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 42)
+                        kind = 42;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 42)
+                     kind = 42;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_6(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_6(int pos, long active0, long active1)
+{
+   return jjMoveNfa_6(jjStopStringLiteralDfa_6(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_6()
+{
+   switch(curChar)
+   {
+      case 39:
+         return jjStopAtPos(0, 69);
+      case 92:
+         return jjMoveStringLiteralDfa1_6(0x10L);
+      default :
+         return jjMoveNfa_6(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_6(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_6(0, 0L, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 39:
+         if ((active1 & 0x10L) != 0L)
+            return jjStopAtPos(1, 68);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_6(0, 0L, active1);
+}
+private int jjMoveNfa_6(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 70)
+                        kind = 70;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 70)
+                     kind = 70;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_10(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_10(int pos, long active0, long active1)
+{
+   return jjMoveNfa_10(jjStopStringLiteralDfa_10(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_10()
+{
+   switch(curChar)
+   {
+      case 123:
+         return jjStopAtPos(0, 88);
+      case 125:
+         return jjStopAtPos(0, 89);
+      default :
+         return jjMoveNfa_10(0, 0);
+   }
+}
+private int jjMoveNfa_10(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 90)
+                        kind = 90;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 90)
+                     kind = 90;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private final int jjStopStringLiteralDfa_5(int pos, long active0, long active1)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_5(int pos, long active0, long active1)
+{
+   return jjMoveNfa_5(jjStopStringLiteralDfa_5(pos, active0, active1), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_5()
+{
+   switch(curChar)
+   {
+      case 42:
+         return jjMoveStringLiteralDfa1_5(0x2L);
+      default :
+         return jjMoveNfa_5(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_5(long active1)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_5(0, 0L, active1);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 47:
+         if ((active1 & 0x2L) != 0L)
+            return jjStopAtPos(1, 65);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_5(0, 0L, active1);
+}
+private int jjMoveNfa_5(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 66)
+                        kind = 66;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 66)
+                     kind = 66;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_4()
+{
+   return jjMoveNfa_4(0, 0);
+}
+private int jjMoveNfa_4(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 3;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 63)
+                        kind = 63;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 63)
+                     kind = 63;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 3 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+private int jjMoveStringLiteralDfa0_13()
+{
+   return 1;
+}
+private final int jjStopStringLiteralDfa_3(int pos, long active0)
+{
+   switch (pos)
+   {
+      default :
+         return -1;
+   }
+}
+private final int jjStartNfa_3(int pos, long active0)
+{
+   return jjMoveNfa_3(jjStopStringLiteralDfa_3(pos, active0), pos + 1);
+}
+private int jjMoveStringLiteralDfa0_3()
+{
+   switch(curChar)
+   {
+      case 39:
+         return jjStopAtPos(0, 52);
+      case 45:
+         return jjMoveStringLiteralDfa1_3(0x800000000000000L);
+      case 47:
+         return jjMoveStringLiteralDfa1_3(0x1000000000000000L);
+      case 59:
+         return jjStopAtPos(0, 58);
+      case 96:
+         return jjStopAtPos(0, 53);
+      case 123:
+         return jjStopAtPos(0, 56);
+      case 125:
+         return jjStopAtPos(0, 57);
+      default :
+         return jjMoveNfa_3(0, 0);
+   }
+}
+private int jjMoveStringLiteralDfa1_3(long active0)
+{
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_3(0, active0);
+      return 1;
+   }
+   switch(curChar)
+   {
+      case 42:
+         if ((active0 & 0x1000000000000000L) != 0L)
+            return jjStopAtPos(1, 60);
+         break;
+      case 45:
+         if ((active0 & 0x800000000000000L) != 0L)
+            return jjStopAtPos(1, 59);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_3(0, active0);
+}
+private int jjMoveNfa_3(int startState, int curPos)
+{
+   int startsAt = 0;
+   jjnewStateCnt = 18;
+   int i = 1;
+   jjstateSet[0] = startState;
+   int kind = 0x7fffffff;
+   for (;;)
+   {
+      if (++jjround == 0x7fffffff)
+         ReInitRounds();
+      if (curChar < 64)
+      {
+         long l = 1L << curChar;
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 0:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(74, 77);
+                  else if ((0x2400L & l) != 0L)
+                  {
+                     if (kind > 61)
+                        kind = 61;
+                  }
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 1:
+                  if (curChar == 10 && kind > 61)
+                     kind = 61;
+                  break;
+               case 2:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1;
+                  break;
+               case 3:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddStates(74, 77);
+                  break;
+               case 4:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(4, 5);
+                  break;
+               case 7:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 54)
+                     kind = 54;
+                  jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 8:
+                  if ((0x100000200L & l) != 0L)
+                     jjCheckNAddTwoStates(8, 9);
+                  break;
+               case 17:
+                  if ((0x100000200L & l) == 0L)
+                     break;
+                  if (kind > 55)
+                     kind = 55;
+                  jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               case 5:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 6;
+                  break;
+               case 6:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 7;
+                  break;
+               case 9:
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 10;
+                  break;
+               case 10:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 11;
+                  break;
+               case 11:
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 12;
+                  break;
+               case 12:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 13;
+                  break;
+               case 13:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 14:
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 15;
+                  break;
+               case 15:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 16:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (int)(curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
+         {
+            switch(jjstateSet[--i])
+            {
+               default : break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 18 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+static final int[] jjnextStates = {
+   6, 7, 10, 11, 18, 19, 26, 27, 37, 43, 44, 45, 47, 49, 50, 51, 
+   34, 36, 37, 44, 45, 30, 31, 32, 8, 9, 11, 37, 40, 42, 43, 44, 
+   29, 30, 31, 32, 33, 34, 36, 37, 44, 46, 47, 49, 50, 51, 52, 53, 
+   55, 45, 52, 53, 55, 46, 47, 49, 50, 51, 33, 34, 36, 37, 44, 45, 
+   29, 30, 31, 32, 37, 39, 40, 42, 43, 44, 4, 5, 8, 9, 
+};
+private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2)
+{
+   switch(hiByte)
+   {
+      case 0:
+         return ((jjbitVec2[i2] & l2) != 0L);
+      default :
+         if ((jjbitVec0[i1] & l1) != 0L)
+            return true;
+         return false;
+   }
+}
+
+/** Token literal values. */
+public static final String[] jjstrLiteralImages = {
+"", null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, "\47", 
+"\73", null, null, null, null, null, null, null, null, null, null, };
+
+/** Lexer state names. */
+public static final String[] lexStateNames = {
+   "DEFAULT",
+   "SQL_START",
+   "SQL_END",
+   "PIG_START",
+   "SINGLE_LINE_COMMENT",
+   "MULTI_LINE_COMMENT",
+   "IN_STRING",
+   "IN_COMMAND",
+   "GENERATE",
+   "SCHEMA_DEFINITION",
+   "BAG_CONSTANT",
+   "IN_BLOCK",
+   "IN_DOUBLE_QUOTED_STRING",
+   "PIG_END",
+};
+
+/** Lex State array. */
+public static final int[] jjnewLexState = {
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1, 2, -1, -1, 0, 3, 3, 3, 3, 3, 
+   3, 3, 6, 7, 9, 8, 11, -1, 13, 4, 5, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, 10, 9, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 12, 9, 8, -1, -1, 6, 7, 4, 
+   5, -1, -1, -1, -1, -1, -1, 0, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+};
+static final long[] jjtoToken = {
+   0x10ffffffffc1L, 0x1c0780000000000L, 
+};
+static final long[] jjtoSkip = {
+   0x3eL, 0x0L, 
+};
+static final long[] jjtoMore = {
+   0xffffef0000000000L, 0x7ffffffffffL, 
+};
+protected JavaCharStream input_stream;
+private final int[] jjrounds = new int[56];
+private final int[] jjstateSet = new int[112];
+private final StringBuffer jjimage = new StringBuffer();
+private StringBuffer image = jjimage;
+private int jjimageLen;
+private int lengthOfMatch;
+protected char curChar;
+/** Constructor. */
+public PigScriptParserTokenManager(JavaCharStream stream){
+   if (JavaCharStream.staticFlag)
+      throw new Error("ERROR: Cannot use a static CharStream class with a non-static lexical analyzer.");
+   input_stream = stream;
+}
+
+/** Constructor. */
+public PigScriptParserTokenManager(JavaCharStream stream, int lexState){
+   this(stream);
+   SwitchTo(lexState);
+}
+
+/** Reinitialise parser. */
+public void ReInit(JavaCharStream stream)
+{
+   jjmatchedPos = jjnewStateCnt = 0;
+   curLexState = defaultLexState;
+   input_stream = stream;
+   ReInitRounds();
+}
+private void ReInitRounds()
+{
+   int i;
+   jjround = 0x80000001;
+   for (i = 56; i-- > 0;)
+      jjrounds[i] = 0x80000000;
+}
+
+/** Reinitialise parser. */
+public void ReInit(JavaCharStream stream, int lexState)
+{
+   ReInit(stream);
+   SwitchTo(lexState);
+}
+
+/** Switch to specified lex state. */
+public void SwitchTo(int lexState)
+{
+   if (lexState >= 14 || lexState < 0)
+      throw new TokenMgrError("Error: Ignoring invalid lexical state : " + lexState + ". State unchanged.", TokenMgrError.INVALID_LEXICAL_STATE);
+   else
+      curLexState = lexState;
+}
+
+protected Token jjFillToken()
+{
+   final Token t;
+   final String curTokenImage;
+   final int beginLine;
+   final int endLine;
+   final int beginColumn;
+   final int endColumn;
+   if (jjmatchedPos < 0)
+   {
+      if (image == null)
+         curTokenImage = "";
+      else
+         curTokenImage = image.toString();
+      beginLine = endLine = input_stream.getBeginLine();
+      beginColumn = endColumn = input_stream.getBeginColumn();
+   }
+   else
+   {
+      String im = jjstrLiteralImages[jjmatchedKind];
+      curTokenImage = (im == null) ? input_stream.GetImage() : im;
+      beginLine = input_stream.getBeginLine();
+      beginColumn = input_stream.getBeginColumn();
+      endLine = input_stream.getEndLine();
+      endColumn = input_stream.getEndColumn();
+   }
+   t = Token.newToken(jjmatchedKind, curTokenImage);
+
+   t.beginLine = beginLine;
+   t.endLine = endLine;
+   t.beginColumn = beginColumn;
+   t.endColumn = endColumn;
+
+   return t;
+}
+
+int curLexState = 0;
+int defaultLexState = 0;
+int jjnewStateCnt;
+int jjround;
+int jjmatchedPos;
+int jjmatchedKind;
+
+/** Get the next Token. */
+public Token getNextToken() 
+{
+  Token matchedToken;
+  int curPos = 0;
+
+  EOFLoop :
+  for (;;)
+  {
+   try
+   {
+      curChar = input_stream.BeginToken();
+   }
+   catch(java.io.IOException e)
+   {
+      jjmatchedKind = 0;
+      matchedToken = jjFillToken();
+      return matchedToken;
+   }
+   image = jjimage;
+   image.setLength(0);
+   jjimageLen = 0;
+
+   for (;;)
+   {
+     switch(curLexState)
+     {
+       case 0:
+         try { input_stream.backup(0);
+            while (curChar <= 32 && (0x100000200L & (1L << curChar)) != 0L)
+               curChar = input_stream.BeginToken();
+         }
+         catch (java.io.IOException e1) { continue EOFLoop; }
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_0();
+         break;
+       case 1:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_1();
+         if (jjmatchedPos == 0 && jjmatchedKind > 43)
+         {
+            jjmatchedKind = 43;
+         }
+         break;
+       case 2:
+         jjmatchedKind = 44;
+         jjmatchedPos = -1;
+         curPos = 0;
+         curPos = jjMoveStringLiteralDfa0_2();
+         break;
+       case 3:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_3();
+         if (jjmatchedPos == 0 && jjmatchedKind > 62)
+         {
+            jjmatchedKind = 62;
+         }
+         break;
+       case 4:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_4();
+         if (jjmatchedPos == 0 && jjmatchedKind > 64)
+         {
+            jjmatchedKind = 64;
+         }
+         break;
+       case 5:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_5();
+         if (jjmatchedPos == 0 && jjmatchedKind > 67)
+         {
+            jjmatchedKind = 67;
+         }
+         break;
+       case 6:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_6();
+         if (jjmatchedPos == 0 && jjmatchedKind > 71)
+         {
+            jjmatchedKind = 71;
+         }
+         break;
+       case 7:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_7();
+         if (jjmatchedPos == 0 && jjmatchedKind > 75)
+         {
+            jjmatchedKind = 75;
+         }
+         break;
+       case 8:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_8();
+         if (jjmatchedPos == 0 && jjmatchedKind > 80)
+         {
+            jjmatchedKind = 80;
+         }
+         break;
+       case 9:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_9();
+         if (jjmatchedPos == 0 && jjmatchedKind > 87)
+         {
+            jjmatchedKind = 87;
+         }
+         break;
+       case 10:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_10();
+         if (jjmatchedPos == 0 && jjmatchedKind > 91)
+         {
+            jjmatchedKind = 91;
+         }
+         break;
+       case 11:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_11();
+         if (jjmatchedPos == 0 && jjmatchedKind > 102)
+         {
+            jjmatchedKind = 102;
+         }
+         break;
+       case 12:
+         jjmatchedKind = 0x7fffffff;
+         jjmatchedPos = 0;
+         curPos = jjMoveStringLiteralDfa0_12();
+         if (jjmatchedPos == 0 && jjmatchedKind > 106)
+         {
+            jjmatchedKind = 106;
+         }
+         break;
+       case 13:
+         jjmatchedKind = 107;
+         jjmatchedPos = -1;
+         curPos = 0;
+         curPos = jjMoveStringLiteralDfa0_13();
+         break;
+     }
+     if (jjmatchedKind != 0x7fffffff)
+     {
+        if (jjmatchedPos + 1 < curPos)
+           input_stream.backup(curPos - jjmatchedPos - 1);
+        if ((jjtoToken[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L)
+        {
+           matchedToken = jjFillToken();
+           TokenLexicalActions(matchedToken);
+       if (jjnewLexState[jjmatchedKind] != -1)
+         curLexState = jjnewLexState[jjmatchedKind];
+           return matchedToken;
+        }
+        else if ((jjtoSkip[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L)
+        {
+         if (jjnewLexState[jjmatchedKind] != -1)
+           curLexState = jjnewLexState[jjmatchedKind];
+           continue EOFLoop;
+        }
+        MoreLexicalActions();
+      if (jjnewLexState[jjmatchedKind] != -1)
+        curLexState = jjnewLexState[jjmatchedKind];
+        curPos = 0;
+        jjmatchedKind = 0x7fffffff;
+        try {
+           curChar = input_stream.readChar();
+           continue;
+        }
+        catch (java.io.IOException e1) { }
+     }
+     int error_line = input_stream.getEndLine();
+     int error_column = input_stream.getEndColumn();
+     String error_after = null;
+     boolean EOFSeen = false;
+     try { input_stream.readChar(); input_stream.backup(1); }
+     catch (java.io.IOException e1) {
+        EOFSeen = true;
+        error_after = curPos <= 1 ? "" : input_stream.GetImage();
+        if (curChar == '\n' || curChar == '\r') {
+           error_line++;
+           error_column = 0;
+        }
+        else
+           error_column++;
+     }
+     if (!EOFSeen) {
+        input_stream.backup(1);
+        error_after = curPos <= 1 ? "" : input_stream.GetImage();
+     }
+     throw new TokenMgrError(EOFSeen, curLexState, error_line, error_column, error_after, curChar, TokenMgrError.LEXICAL_ERROR);
+   }
+  }
+}
+
+void MoreLexicalActions()
+{
+   jjimageLen += (lengthOfMatch = jjmatchedPos + 1);
+   switch(jjmatchedKind)
+   {
+      case 42 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                              secondary_prompt();
+         break;
+      case 52 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               prevState = PIG_START;
+         break;
+      case 53 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               prevState = PIG_START;
+         break;
+      case 54 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                         prevState = PIG_START;
+         break;
+      case 55 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                                                                           prevState = PIG_START;
+         break;
+      case 56 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               pigBlockLevel = 1;
+         break;
+      case 57 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               if (true) throw new TokenMgrError("Unmatched '}'", TokenMgrError.LEXICAL_ERROR);
+         break;
+      case 59 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                prevState = PIG_START;
+         break;
+      case 60 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                prevState = PIG_START;
+         break;
+      case 61 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 63 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  SwitchTo(prevState); if(prevState != DEFAULT) secondary_prompt();
+         break;
+      case 65 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                SwitchTo(prevState);
+         break;
+      case 66 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 69 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                SwitchTo(prevState);
+         break;
+      case 70 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 73 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                SwitchTo(prevState);
+         break;
+      case 74 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 76 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        bagConstantLevel++;
+        prevState = getState(prevState);
+        saveState(prevState);
+        prevState = GENERATE;
+         break;
+      case 77 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        prevState = getState(prevState);
+        saveState(prevState);
+        prevState = GENERATE;
+         break;
+      case 78 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        prevState = getState(prevState);
+        if(prevState == PIG_START) {
+            input_stream.backup(1);
+            image.deleteCharAt(image.length()-1);
+        }
+        SwitchTo(prevState);
+         break;
+      case 79 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 81 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           tupleSchemaLevel++;
+         break;
+      case 82 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           tupleSchemaLevel--; if ((tupleSchemaLevel == 0) && (bagSchemaLevel == 0)) SwitchTo(prevState);
+         break;
+      case 83 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagSchemaLevel++;
+         break;
+      case 84 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagSchemaLevel--; if ((tupleSchemaLevel == 0) && (bagSchemaLevel == 0)) SwitchTo(prevState);
+         break;
+      case 85 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+        if ((tupleSchemaLevel == 0) && (bagSchemaLevel == 0)) {
+            input_stream.backup(1);
+            image.deleteCharAt(image.length()-1);
+            SwitchTo(prevState);
+        }
+         break;
+      case 86 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 88 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagConstantLevel++;
+         break;
+      case 89 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+           bagConstantLevel--; if (bagConstantLevel == 0) SwitchTo(prevState);
+         break;
+      case 90 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 92 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                prevState = IN_BLOCK;
+         break;
+      case 93 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                         prevState = IN_BLOCK;
+         break;
+      case 94 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                                                                                          prevState = IN_BLOCK;
+         break;
+      case 95 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               pigBlockLevel++;
+         break;
+      case 96 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                     pigBlockLevel--; if (pigBlockLevel == 0) SwitchTo(PIG_END);
+         break;
+      case 97 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               prevState = IN_BLOCK;
+         break;
+      case 98 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+               prevState = IN_BLOCK;
+         break;
+      case 99 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                prevState = IN_BLOCK;
+         break;
+      case 100 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                prevState = IN_BLOCK;
+         break;
+      case 101 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                                  secondary_prompt();
+         break;
+      case 104 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+             SwitchTo(prevState);
+         break;
+      case 105 :
+         image.append(input_stream.GetSuffix(jjimageLen));
+         jjimageLen = 0;
+                              secondary_prompt();
+         break;
+      default :
+         break;
+   }
+}
+void TokenLexicalActions(Token matchedToken)
+{
+   switch(jjmatchedKind)
+   {
+      case 44 :
+        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
+                       matchedToken.image = image.toString();
+         break;
+      case 107 :
+        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
+                        matchedToken.image = image.toString();
+         break;
+      default :
+         break;
+   }
+}
+private void jjCheckNAdd(int state)
+{
+   if (jjrounds[state] != jjround)
+   {
+      jjstateSet[jjnewStateCnt++] = state;
+      jjrounds[state] = jjround;
+   }
+}
+private void jjAddStates(int start, int end)
+{
+   do {
+      jjstateSet[jjnewStateCnt++] = jjnextStates[start];
+   } while (start++ != end);
+}
+private void jjCheckNAddTwoStates(int state1, int state2)
+{
+   jjCheckNAdd(state1);
+   jjCheckNAdd(state2);
+}
+
+private void jjCheckNAddStates(int start, int end)
+{
+   do {
+      jjCheckNAdd(jjnextStates[start]);
+   } while (start++ != end);
+}
+
+}
@@ -17,6 +17,8 @@
  */
 package org.apache.pig;
 
+import java.io.Serializable;
+
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
 
@@ -26,7 +28,9 @@ import org.apache.pig.classification.InterfaceStability;
  */
 @InterfaceAudience.Public
 @InterfaceStability.Evolving
-public abstract class Expression {
+public abstract class Expression implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
  // Operator type                                                                                                                                                                                                                                                                                       
     public static  enum OpType {
@@ -49,6 +53,11 @@ public abstract class Expression {
         //binary logical
         OP_AND(" and "),
         OP_OR(" or "),
+
+        //unary ops
+        OP_NOT(" not "),
+        OP_NULL(" is null"),
+
         TERM_COL(" Column "),
         TERM_CONST(" Constant ");
         
@@ -79,6 +88,8 @@ public abstract class Expression {
     
     
     public static class BinaryExpression extends Expression {
+
+        private static final long serialVersionUID = 1L;
         
         /**
          * left hand operand
@@ -122,7 +133,43 @@ public abstract class Expression {
         }
     }
     
+    public static class UnaryExpression extends Expression {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * the operand
+         */
+        Expression expr;
+
+        /**
+         * @param expr
+         * @param opType either {@link OpType#OP_NOT} or {@link OpType#OP_NULL}
+         */
+        public UnaryExpression(Expression expr, OpType opType) {
+            this.opType = opType;
+            this.expr = expr;
+        }
+
+        /**
+         * @return the operand
+         */
+        public Expression getExpression() {
+            return expr;
+        }
+
+        @Override
+        public String toString() {
+            if (opType == OpType.OP_NULL) {
+                return "(" + expr.toString() + opType.toString() + ")";
+            }
+            return "(" + opType.toString().trim() + " " + expr.toString() + ")";
+        }
+    }
+
     public static class Column extends Expression {
+
+        private static final long serialVersionUID = 1L;
         
         /**
          * name of column
@@ -158,6 +205,8 @@ public abstract class Expression {
     }
     
     public static class Const extends Expression {
+
+        private static final long serialVersionUID = 1L;
         
         /**
          * value of the constant
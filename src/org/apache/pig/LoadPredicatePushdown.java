@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.classification.InterfaceStability;
+
+/**
+ * This interface defines how Pig offers the conditions of a filter that
+ * follows a load to the loader, so that it can skip the records that do not
+ * satisfy them while reading, for instance by narrowing a scan or skipping
+ * blocks of a file. Unlike
+ * {@link LoadMetadata#setPartitionFilter(Expression)}, the conditions can be
+ * on any field the loader names. If a given loader does not implement this
+ * interface it will be assumed that it is unable to accept any predicate for
+ * push down.
+ * @since Pig 0.11
+ */
+@InterfaceAudience.Public
+@InterfaceStability.Evolving
+public interface LoadPredicatePushdown {
+
+    /**
+     * Find what fields of this input can be used in a pushed down predicate.
+     * @param location Location as returned by
+     * {@link LoadFunc#relativeToAbsolutePath(String, org.apache.hadoop.fs.Path)}
+     * @param job The {@link Job} object - this should be used only to obtain
+     * cluster properties through {@link Job#getConfiguration()} and not to set/query
+     * any runtime job information.
+     * @return names of the fields, as given in the schema of the loader, or
+     * as $ followed by their position for the fields the schema does not
+     * name, or null if there are none
+     * @throws IOException if an exception occurs while finding the fields
+     */
+    List<String> getPredicateFields(String location, Job job) throws IOException;
+
+    /**
+     * Find what operators can be used in a pushed down predicate. A
+     * comparison is only offered between a field and a constant, and
+     * {@link OpType#OP_NULL} only on a field.
+     * @return the operators, among the comparison operators,
+     * {@link OpType#OP_AND}, {@link OpType#OP_OR}, {@link OpType#OP_NOT} and
+     * {@link OpType#OP_NULL}
+     */
+    List<OpType> getSupportedExpressionTypes();
+
+    /**
+     * Set the predicate the loader should apply. The predicate is the
+     * conjunction of those conditions of the filter that only use the fields
+     * and operators the loader supports. This method is not called by the Pig
+     * runtime if there are no such conditions. The predicate is given to the
+     * instance of the loader in the front end, so the loader should keep it
+     * in its {@link org.apache.pig.impl.util.UDFContext} properties to use it
+     * when reading.
+     * @param predicate the conditions the records read should satisfy
+     * @return the part of the predicate that the loader does not enforce
+     * exactly, which Pig keeps applying to the records read: null if only
+     * records that satisfy the predicate are returned, the predicate itself
+     * if other records may be returned too, or the conjunction of some of the
+     * conditions that the predicate is a conjunction of, as the same objects
+     * @throws IOException if the predicate cannot be set
+     */
+    Expression setPushdownPredicate(Expression predicate) throws IOException;
+}
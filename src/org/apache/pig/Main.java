@@ -827,6 +827,7 @@ public static void usage()
         System.out.println("            SplitFilter - Split filter conditions");
         System.out.println("            PushUpFilter - Filter as early as possible");
         System.out.println("            MergeFilter - Merge filter conditions");
+        System.out.println("            PredicatePushdownOptimizer - Push filter conditions into the loader");
         System.out.println("            PushDownForeachFlatten - Join or explode as late as possible");
         System.out.println("            LimitOptimizer - Limit as early as possible");
         System.out.println("            ColumnMapKeyPrune - Remove unused data");
@@ -854,6 +855,12 @@ public static void printProperties(){
         System.out.println("    Performance tuning:");
         System.out.println("        pig.cachedbag.memusage=<mem fraction>; default is 0.2 (20% of all memory).");
 	System.out.println("            Note that this memory is shared across all large bags used by the application.");
+        System.out.println("        pig.cachedbag.type=default|offheap; not set by default.");
+        System.out.println("            Type of the bags built by group and cogroup. offheap keeps the tuples serialized,");
+        System.out.println("            mostly outside the heap. default uses bags that the memory manager spills.");
+        System.out.println("        pig.cachedbag.distinct.type=default|hash; not set by default.");
+        System.out.println("            Type of the bags built by distinct. hash spills to files by hash code and never");
+        System.out.println("            sorts. default uses bags that the memory manager spills.");
         System.out.println("        pig.skewedjoin.reduce.memusagea=<mem fraction>; default is 0.3 (30% of all memory).");
         System.out.println("            Specifies the fraction of heap available for the reducer to perform the join.");
         System.out.println("        pig.exec.nocombiner=true|false; default is false. ");
@@ -864,6 +871,32 @@ public static void printProperties(){
         System.out.println("            Determines whether output of intermediate jobs is compressed.");
         System.out.println("        pig.tmpfilecompression.codec=lzo|gzip; default is gzip.");
         System.out.println("            Used in conjunction with pig.tmpfilecompression. Defines compression type.");
+        System.out.println("        pig.tmpfileblocks=true|false; Default is false.");
+        System.out.println("            Determines if uncompressed intermediate data is written in blocks that are");
+        System.out.println("            read whole and deserialized one field at a time, as the fields are used.");
+        System.out.println("        pig.tmpfileblocks.size=<bytes>; Default is 1048576.");
+        System.out.println("            Used in conjunction with pig.tmpfileblocks. Defines the size of a block.");
+        System.out.println("        pig.blockindex.size=<bytes>; Default is 1048576.");
+        System.out.println("            Defines the size of the blocks of records that the files stored by");
+        System.out.println("            BinStorage with -index are indexed by.");
+        System.out.println("        pig.columnar.stripe.size=<bytes>; Default is 16777216.");
+        System.out.println("            Defines the size of the stripes of the files stored by ColumnarStorage.");
+        System.out.println("        pig.spill.compress=true|false; Default is false.");
+        System.out.println("            Determines if the files bags spill to are compressed, with the codec set by");
+        System.out.println("            pig.tmpfilecompression.codec.");
+        System.out.println("        pig.spill.async=true|false; Default is false.");
+        System.out.println("            Determines if spill files are written by a background thread.");
+        System.out.println("        pig.spill.dirs=<comma separated list of local directories>. Default is java.io.tmpdir.");
+        System.out.println("            Spill files are spread over these directories in turn.");
+        System.out.println("        pig.spill.prefetch=true|false; Default is false.");
+        System.out.println("            Determines if spill files are read ahead by a background thread.");
+        System.out.println("        pig.spill.merge.threads=<number>; Default is 1.");
+        System.out.println("            Number of threads merging the spill files of a sorted bag when it has too many.");
+        System.out.println("        pig.spill.predictive=true|false; Default is false.");
+        System.out.println("            Determines if bags are spilled ahead of memory running low, as predicted from");
+        System.out.println("            their growth, and if the memory budgets of bags follow the free memory.");
+        System.out.println("        pig.spill.predictive.interval=<milliseconds>; Default is 500.");
+        System.out.println("            Used in conjunction with pig.spill.predictive. Time between two predictions.");
         System.out.println("        pig.noSplitCombination=true|false. Split combination is on by default.");
         System.out.println("            Determines if multiple small files are combined into a single map.");
         System.out.println("        pig.exec.mapPartAgg=true|false. Default is false.");
@@ -872,6 +905,54 @@ public static void printProperties(){
         System.out.println("        pig.exec.mapPartAgg.minReduction=<min aggregation factor>. Default is 10.");
         System.out.println("            If the in-map partial aggregation does not reduce the output num records");
         System.out.println("            by this factor, it gets disabled.");
+        System.out.println("        pig.exec.topn.max=<num records>. Default is 10000.");
+        System.out.println("            An order by followed by a limit of at most this many records is done in a");
+        System.out.println("            single job that keeps the first records in the map, combiner and reducer.");
+        System.out.println("        pig.exec.batch=true|false. Default is false.");
+        System.out.println("            Determines if foreach and filter operators at the start of the map plan");
+        System.out.println("            process batches of input records rather than one record at a time.");
+        System.out.println("        pig.exec.batch.size=<num records>. Default is 1024.");
+        System.out.println("            Number of input records per batch when pig.exec.batch is on.");
+        System.out.println("        pig.join.replicated.cache=true|false. Default is true.");
+        System.out.println("            Determines if the hash tables built for replicated joins are kept for");
+        System.out.println("            later tasks that run in the same (reused) JVM.");
+        System.out.println("        pig.exec.normalizedkeys=true|false. Default is false.");
+        System.out.println("            Determines if group and order by keys of int, long, float, double and");
+        System.out.println("            chararray fields are encoded so that the shuffle sorts them as plain bytes.");
+        System.out.println("        pig.exec.keydictionary=true|false. Default is false.");
+        System.out.println("            Determines if the chararray group, join and order by keys that are among");
+        System.out.println("            the most common values of the key column in the statistics of the loaders");
+        System.out.println("            are shuffled as codes of a dictionary. Only keys that are a loaded column");
+        System.out.println("            are looked up in the statistics.");
+        System.out.println("        pig.exec.keydictionary.size=<number>. Default is 1000.");
+        System.out.println("            The largest number of strings in the dictionary of a job.");
+        System.out.println("        pig.exec.tuple.reuse=true|false. Default is false.");
+        System.out.println("            Determines if foreach, local rearrange and package operators reuse their");
+        System.out.println("            output tuples when the next operator is done with them right away.");
+        System.out.println("        pig.exec.lazytuples=true|false. Default is false.");
+        System.out.println("            Determines if the fields of the tuples read in reduce and combine are only");
+        System.out.println("            deserialized when used, and written back out as they were read otherwise.");
+        System.out.println("        pig.exec.primitivetuples=true|false. Default is false.");
+        System.out.println("            Determines if tuples whose fields are all int, long, float, double or");
+        System.out.println("            boolean are stored unboxed, for PigStorage loads with a schema and foreach.");
+        System.out.println("        pig.exec.direct=true|false. Default is false.");
+        System.out.println("            Determines if scripts whose inputs are small are run in the client JVM");
+        System.out.println("            rather than as map reduce jobs.");
+        System.out.println("        pig.exec.direct.maxinputsize=<bytes>. Default is 100000000.");
+        System.out.println("            Used in conjunction with pig.exec.direct. Largest total input size of a");
+        System.out.println("            script run in the client JVM.");
+        System.out.println("        pig.exec.direct.threads=<number>. Default is the number of processors.");
+        System.out.println("            Used in conjunction with pig.exec.direct. Number of threads running the");
+        System.out.println("            stores, groups and joins of a script.");
+        System.out.println("        pig.exec.autolocal=true|false. Default is false.");
+        System.out.println("            Determines if each map reduce job whose inputs are small is run in the");
+        System.out.println("            client JVM with the local job runner rather than on the cluster.");
+        System.out.println("        pig.exec.autolocal.maxinputsize=<bytes>. Default is 100000000.");
+        System.out.println("            Used in conjunction with pig.exec.autolocal. Largest total input size of");
+        System.out.println("            a job run with the local job runner.");
+        System.out.println("        pig.exec.maxconcurrentjobs=<number>. Default is 0, no limit.");
+        System.out.println("            Largest number of map reduce jobs run at the same time. Jobs on the");
+        System.out.println("            longest remaining chain of jobs are submitted first.");
         System.out.println("        " + PROP_FILT_SIMPL_OPT + "=true|false; Default is false.");
         System.out.println("            Enable optimizer rules to simplify filter expressions.");
         System.out.println("    Miscellaneous:");
@@ -28,5 +28,12 @@ public enum PigCounters {
     PROACTIVE_SPILL_COUNT_BAGS, 
     
     //total number of records that have been spilled to disk
-    PROACTIVE_SPILL_COUNT_RECS;
+    PROACTIVE_SPILL_COUNT_RECS,
+
+    // total number of spills requested by the memory manager ahead of
+    // memory running low, with pig.spill.predictive
+    PREDICTIVE_SPILL_COUNT,
+
+    // estimated number of bytes freed by those spills
+    PREDICTIVE_SPILL_BYTES;
 }
\ No newline at end of file
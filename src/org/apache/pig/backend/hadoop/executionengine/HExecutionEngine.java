@@ -265,6 +265,7 @@ public class HExecutionEngine {
                 optimizerRules = new HashSet<String>();
             optimizerRules.add("MergeForEach");
             optimizerRules.add("PartitionFilterOptimizer");
+            optimizerRules.add("PredicatePushdownOptimizer");
             optimizerRules.add("LimitOptimizer");
             optimizerRules.add("SplitFilter");
             optimizerRules.add("PushUpFilter");
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.directLayer;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+
+/**
+ * Holds all the tuples of an operator whose output is read by more than one
+ * operator when a plan is run directly, as a split does in map reduce. The
+ * first reader to ask for the tuples reads them all from the operator; the
+ * others wait for it.
+ */
+class DirectBuffer {
+
+    private final PhysicalOperator source;
+    private DataBag tuples;
+    private Result error;
+
+    DirectBuffer(PhysicalOperator source) {
+        this.source = source;
+    }
+
+    /**
+     * Reads all the tuples of the operator, unless a reader already has.
+     * @return the error result the operator returned, or null
+     */
+    synchronized Result fill() throws ExecException {
+        if (tuples == null && error == null) {
+            DataBag bag = BagFactory.getInstance().newDefaultBag();
+            while (true) {
+                Result res = source.getNext((Tuple) null);
+                if (res.returnStatus == POStatus.STATUS_EOP) {
+                    break;
+                } else if (res.returnStatus == POStatus.STATUS_NULL) {
+                    continue;
+                } else if (res.returnStatus != POStatus.STATUS_OK) {
+                    error = res;
+                    return error;
+                }
+                bag.add((Tuple) res.result);
+            }
+            tuples = bag;
+        }
+        return error;
+    }
+
+    /**
+     * @return the tuples of the operator, once {@link #fill()} has read them
+     */
+    synchronized DataBag getTuples() {
+        return tuples;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.directLayer;
+
+import java.util.Iterator;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.plan.VisitorException;
+
+/**
+ * Returns the tuples held by a {@link DirectBuffer} to one of the operators
+ * that read them.
+ */
+class DirectBufferReader extends PhysicalOperator {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DirectBuffer buffer;
+    private transient Iterator<Tuple> it;
+
+    DirectBufferReader(OperatorKey k, DirectBuffer buffer) {
+        super(k);
+        this.buffer = buffer;
+        setResultType(DataType.TUPLE);
+    }
+
+    @Override
+    public Result getNext(Tuple t) throws ExecException {
+        if (it == null) {
+            Result error = buffer.fill();
+            if (error != null) {
+                return error;
+            }
+            it = buffer.getTuples().iterator();
+        }
+        Result res = new Result();
+        if (it.hasNext()) {
+            res.result = it.next();
+            res.returnStatus = POStatus.STATUS_OK;
+        } else {
+            res.returnStatus = POStatus.STATUS_EOP;
+        }
+        return res;
+    }
+
+    @Override
+    public boolean supportsMultipleInputs() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsMultipleOutputs() {
+        return false;
+    }
+
+    @Override
+    public void visit(PhyPlanVisitor v) throws VisitorException {
+        // not part of the plan, so never visited
+    }
+
+    @Override
+    public String name() {
+        return getAliasString() + "DirectBufferReader" + "["
+                + DataType.findTypeName(resultType) + "]" + " - " + mKey.toString();
+    }
+
+    @Override
+    public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+        return null;
+    }
+}
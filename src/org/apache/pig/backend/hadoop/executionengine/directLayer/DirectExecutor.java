@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.directLayer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.pig.PigException;
+import org.apache.pig.PigRunner.ReturnCode;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.UDFFinishVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POGlobalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSort;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POTopN;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
+import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.plan.DependencyOrderWalker;
+import org.apache.pig.impl.plan.NodeIdGenerator;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.util.UDFContext;
+import org.apache.pig.tools.pigstats.JobStats;
+import org.apache.pig.tools.pigstats.PigStats;
+import org.apache.pig.tools.pigstats.PigStatsUtil;
+
+/**
+ * Runs a physical plan in the client JVM. The operators of the plan already
+ * pull their input from the operators before them; what map reduce adds is
+ * the shuffle of each group or join and the split of outputs read more than
+ * once. Here each global rearrange and package is replaced by a
+ * {@link DirectShuffle}, each output read more than once is held in a
+ * {@link DirectBuffer}, and each sort with a limit is done by a
+ * {@link POTopN}. Then each store pulls the tuples through the plan on
+ * a thread of its own.
+ */
+class DirectExecutor {
+
+    private static final Log log = LogFactory.getLog(DirectExecutor.class);
+
+    private final PhysicalPlan plan;
+    private final PigContext pc;
+    private final Configuration conf;
+    private ExecutorService pool;
+
+    DirectExecutor(PhysicalPlan plan, PigContext pc) throws IOException {
+        this.plan = plan;
+        this.pc = pc;
+        conf = ConfigurationUtil.toConfiguration(pc.getProperties());
+        // there is a single reduce, as far as the operators that ask know
+        if (conf.get("mapred.reduce.tasks") == null) {
+            conf.setInt("mapred.reduce.tasks", 1);
+        }
+        // the threads find what the front end set up for the functions
+        // in the UDFContext, as the tasks of a job do
+        UDFContext.getUDFContext().serialize(conf);
+    }
+
+    /**
+     * Runs the plan.
+     * @return the statistics of the run
+     */
+    PigStats run() throws IOException {
+        JobStats js = PigStatsUtil.startDirectCollection(pc, getAliases());
+
+        List<POStore> stores = PlanHelper.getStores(plan);
+        List<String> loadLocations = new ArrayList<String>();
+        for (POLoad ld : PlanHelper.getLoads(plan)) {
+            loadLocations.add(ld.getLFile().getFileName());
+        }
+        rewire();
+
+        int threads = Integer.parseInt(pc.getProperties().getProperty(
+                DirectLauncher.DIRECT_THREADS,
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        pool = Executors.newFixedThreadPool(Math.max(1, threads), new ThreadFactory() {
+            private int n = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "DirectExecutor-" + n++);
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        Map<POStore, Long> storeRecords = new LinkedHashMap<POStore, Long>();
+        Exception failure = null;
+        try {
+            List<Future<Long>> futures = new ArrayList<Future<Long>>();
+            for (final POStore store : stores) {
+                futures.add(pool.submit(setUpThread(new Callable<Long>() {
+                    @Override
+                    public Long call() throws IOException {
+                        return runStore(store);
+                    }
+                })));
+            }
+            for (int i = 0; i < stores.size(); i++) {
+                try {
+                    storeRecords.put(stores.get(i), getResult(futures.get(i)));
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    storeRecords.put(stores.get(i), -1L);
+                }
+            }
+            if (failure == null) {
+                new UDFFinishVisitor(plan,
+                        new DependencyOrderWalker<PhysicalOperator, PhysicalPlan>(plan)).visit();
+            }
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (failure != null) {
+            log.error("Failed to run the plan in process", failure);
+        }
+        PigStatsUtil.addDirectJobStats(js, conf, storeRecords, loadLocations, failure);
+        PigStatsUtil.stopCollection(true);
+        return PigStatsUtil.getPigStats(failure == null ? ReturnCode.SUCCESS
+                : ReturnCode.FAILURE);
+    }
+
+    /**
+     * Pulls all the tuples through a store.
+     * @return the number of records stored
+     */
+    private long runStore(POStore store) throws IOException {
+        store.setStoreImpl(new DirectPOStoreImpl(conf));
+        store.setUp();
+        PhysicalOperator input = store.getInputs().get(0);
+        long records = 0;
+        try {
+            while (true) {
+                Result res = input.getNext((Tuple) null);
+                if (res.returnStatus == POStatus.STATUS_EOP) {
+                    break;
+                } else if (res.returnStatus == POStatus.STATUS_NULL) {
+                    continue;
+                } else if (res.returnStatus == POStatus.STATUS_OK) {
+                    // the store writes the tuple attached to it
+                    store.attachInput((Tuple) res.result);
+                    res = store.getNext((Tuple) null);
+                }
+                if (res.returnStatus == POStatus.STATUS_ERR) {
+                    String msg = "Received error while storing to "
+                            + store.getSFile().getFileName();
+                    if (res.result != null) {
+                        msg += ": " + res.result;
+                    }
+                    throw new ExecException(msg, 2055, PigException.BUG);
+                }
+                records++;
+            }
+        } catch (IOException e) {
+            store.cleanUp();
+            throw e;
+        } catch (RuntimeException e) {
+            store.cleanUp();
+            throw e;
+        }
+        store.tearDown();
+        return records;
+    }
+
+    /**
+     * Runs the tasks on the pool and waits for their results. The tasks
+     * no thread has started yet are run by the calling thread, so that a
+     * thread of the pool that waits for other tasks never waits for threads
+     * that are all waiting themselves.
+     */
+    <T> List<T> invokeAll(List<Callable<T>> tasks) throws ExecException {
+        List<FutureTask<T>> futures = new ArrayList<FutureTask<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            FutureTask<T> future = new FutureTask<T>(setUpThread(task));
+            futures.add(future);
+            if (futures.size() > 1) {
+                pool.execute(future);
+            }
+        }
+        // running a task that has already started does nothing
+        for (FutureTask<T> future : futures) {
+            future.run();
+        }
+        List<T> results = new ArrayList<T>(futures.size());
+        for (FutureTask<T> future : futures) {
+            try {
+                results.add(getResult(future));
+            } catch (ExecException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ExecException("Failed to run the plan in process", 2055,
+                        PigException.BUG, e);
+            }
+        }
+        return results;
+    }
+
+    private static <T> T getResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new ExecException("Failed to run the plan in process", 2055,
+                    PigException.BUG, cause);
+        }
+    }
+
+    /**
+     * Wraps a task so that it sets up the state the operators of the plan
+     * expect of the thread they run in, as a map reduce task does.
+     */
+    private <T> Callable<T> setUpThread(final Callable<T> task) {
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                PigMapReduce.sJobConfInternal.set(conf);
+                MapRedUtil.setupUDFContext(conf);
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * Sets the inputs of the operators so that they read from the shuffles
+     * and buffers that stand in for map reduce. The plan itself is left as
+     * it is, so that it can still be visited.
+     */
+    private void rewire() {
+        // what the operators that read the output of an operator read from
+        Map<PhysicalOperator, PhysicalOperator> outputs =
+            new HashMap<PhysicalOperator, PhysicalOperator>();
+        Map<PhysicalOperator, DirectBuffer> buffers =
+            new HashMap<PhysicalOperator, DirectBuffer>();
+
+        Iterator<PhysicalOperator> it = topologicalOrder().iterator();
+        while (it.hasNext()) {
+            PhysicalOperator op = it.next();
+            if (op instanceof POGlobalRearrange) {
+                continue;
+            }
+            if (op instanceof POPackage) {
+                PhysicalOperator gr = plan.getPredecessors(op).get(0);
+                List<POLocalRearrange> lrs = new ArrayList<POLocalRearrange>();
+                for (PhysicalOperator lr : plan.getPredecessors(gr)) {
+                    lrs.add((POLocalRearrange) lr);
+                }
+                outputs.put(op, new DirectShuffle(newKey(op), (POPackage) op, lrs, this));
+                continue;
+            }
+
+            List<PhysicalOperator> preds = plan.getPredecessors(op);
+            if (preds != null) {
+                List<PhysicalOperator> inputs = new ArrayList<PhysicalOperator>(preds.size());
+                for (PhysicalOperator pred : preds) {
+                    PhysicalOperator output = outputs.get(pred);
+                    if (plan.getSuccessors(pred).size() > 1) {
+                        DirectBuffer buffer = buffers.get(pred);
+                        if (buffer == null) {
+                            buffer = new DirectBuffer(output);
+                            buffers.put(pred, buffer);
+                        }
+                        output = new DirectBufferReader(newKey(pred), buffer);
+                    }
+                    inputs.add(output);
+                }
+                op.setInputs(inputs);
+            }
+            if (op instanceof POSplit) {
+                // a split only passes its input on to each of its outputs
+                outputs.put(op, op.getInputs().get(0));
+            } else if (op instanceof POSort && ((POSort) op).isLimited()) {
+                // the limit merged into a sort is applied by the map reduce
+                // plan, so it is kept here by a top n that stands in for it
+                POSort sort = (POSort) op;
+                POTopN topN = new POTopN(newKey(sort), sort, sort.getLimit());
+                topN.setInputs(sort.getInputs());
+                outputs.put(op, topN);
+            } else {
+                outputs.put(op, op);
+            }
+        }
+    }
+
+    private List<PhysicalOperator> topologicalOrder() {
+        Set<PhysicalOperator> done = new LinkedHashSet<PhysicalOperator>();
+        for (PhysicalOperator leaf : plan.getLeaves()) {
+            addInOrder(leaf, done);
+        }
+        return new ArrayList<PhysicalOperator>(done);
+    }
+
+    private void addInOrder(PhysicalOperator op, Set<PhysicalOperator> done) {
+        if (done.contains(op)) {
+            return;
+        }
+        List<PhysicalOperator> preds = plan.getPredecessors(op);
+        if (preds != null) {
+            for (PhysicalOperator pred : preds) {
+                addInOrder(pred, done);
+            }
+        }
+        done.add(op);
+    }
+
+    private static OperatorKey newKey(PhysicalOperator op) {
+        String scope = op.getOperatorKey().getScope();
+        return new OperatorKey(scope, NodeIdGenerator.getGenerator().getNextNodeId(scope));
+    }
+
+    private String getAliases() {
+        Set<String> aliases = new LinkedHashSet<String>();
+        for (PhysicalOperator op : topologicalOrder()) {
+            if (op.getAlias() != null) {
+                aliases.add(op.getAlias());
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String alias : aliases) {
+            if (sb.length() > 0) {
+                sb.append(",");
+            }
+            sb.append(alias);
+        }
+        return sb.toString();
+    }
+}
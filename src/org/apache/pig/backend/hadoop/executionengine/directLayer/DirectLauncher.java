@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.directLayer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.JobControlCompiler;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.Launcher;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MapReduceLauncher;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POCollectedGroup;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFRJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POGlobalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeCogroup;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.PONative;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSkewedJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStream;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.builtin.ReadScalars;
+import org.apache.pig.impl.plan.DepthFirstWalker;
+import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.UriUtil;
+import org.apache.pig.tools.pigstats.PigStats;
+
+/**
+ * Launches pig by running the physical plan in the client JVM, without
+ * compiling it to map reduce jobs. There are no job submissions, task
+ * start ups, or files between jobs, so small scripts finish in a fraction
+ * of the time. The stores of the plan run in parallel on a pool of threads.
+ * <p>
+ * The whole input of each group, join, order and distinct is held in memory,
+ * so the plan is only run this way when its inputs are no larger than
+ * {@link #DIRECT_MAX_INPUT_SIZE}. Plans with operators that need the map
+ * reduce framework, such as replicated, skewed and merge joins, streaming or
+ * native jobs, are launched as map reduce jobs as well.
+ */
+public class DirectLauncher extends Launcher {
+
+    private static final Log log = LogFactory.getLog(DirectLauncher.class);
+
+    /** Whether small plans are run in the client JVM */
+    public static final String DIRECT = "pig.exec.direct";
+
+    /** The largest total size in bytes of the inputs of a plan run directly */
+    public static final String DIRECT_MAX_INPUT_SIZE = "pig.exec.direct.maxinputsize";
+
+    /** The number of threads the stores of a plan run directly on */
+    public static final String DIRECT_THREADS = "pig.exec.direct.threads";
+
+    static final long DEFAULT_MAX_INPUT_SIZE = 100 * 1000 * 1000L;
+
+    private MapReduceLauncher mrLauncher;
+
+    public DirectLauncher() {
+        mrLauncher = new MapReduceLauncher();
+    }
+
+    /**
+     * @return whether plans are run directly when they are small enough
+     */
+    public static boolean isEnabled(PigContext pc) {
+        return Boolean.valueOf(pc.getProperties().getProperty(DIRECT, "false"));
+    }
+
+    @Override
+    public void reset() {
+        // called by the constructor of Launcher, before the delegate is set
+        if (mrLauncher != null) {
+            mrLauncher.reset();
+        }
+    }
+
+    @Override
+    public PigStats launchPig(PhysicalPlan php, String grpName, PigContext pc)
+            throws Exception {
+        String reason = checkPlan(php, pc);
+        if (reason != null) {
+            log.info("Launching the plan as map reduce jobs: " + reason);
+            return mrLauncher.launchPig(php, grpName, pc);
+        }
+        log.info("Running the plan in process");
+        return new DirectExecutor(php, pc).run();
+    }
+
+    @Override
+    public void explain(PhysicalPlan php, PigContext pc, PrintStream ps,
+            String format, boolean verbose) throws IOException {
+        mrLauncher.explain(php, pc, ps, format, verbose);
+    }
+
+    /**
+     * Checks whether the plan can be run directly.
+     * @return why the plan cannot be run directly, or null if it can
+     */
+    static String checkPlan(PhysicalPlan php, PigContext pc) throws IOException {
+        for (PhysicalOperator leaf : php.getLeaves()) {
+            if (!(leaf instanceof POStore)) {
+                return "leaf " + leaf.name() + " is not a store";
+            }
+            if (((POStore) leaf).isTmpStore()) {
+                return "the plan stores a scalar";
+            }
+        }
+
+        UnsupportedOperatorFinder finder = new UnsupportedOperatorFinder(php);
+        finder.visit();
+        if (finder.getReason() != null) {
+            return finder.getReason();
+        }
+
+        List<POLoad> loads = PlanHelper.getLoads(php);
+        for (POLoad ld : loads) {
+            if (!UriUtil.isHDFSFileOrLocalOrS3N(ld.getLFile().getFileName())) {
+                return "the size of input " + ld.getLFile().getFileName()
+                        + " is unknown";
+            }
+        }
+        long maxSize = Long.parseLong(pc.getProperties().getProperty(
+                DIRECT_MAX_INPUT_SIZE, String.valueOf(DEFAULT_MAX_INPUT_SIZE)));
+        long size = JobControlCompiler.getTotalInputFileSize(
+                ConfigurationUtil.toConfiguration(pc.getProperties()), loads);
+        if (size > maxSize) {
+            return "total input size " + size + " is larger than "
+                    + DIRECT_MAX_INPUT_SIZE + "=" + maxSize;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first operator of a plan that can only run in map reduce.
+     * The global rearranges are checked to be fed by local rearranges only,
+     * and to feed a single package, which is how they are shuffled directly.
+     */
+    private static class UnsupportedOperatorFinder extends PhyPlanVisitor {
+
+        private String reason = null;
+
+        UnsupportedOperatorFinder(PhysicalPlan plan) {
+            super(plan, new DepthFirstWalker<PhysicalOperator, PhysicalPlan>(plan));
+        }
+
+        String getReason() {
+            return reason;
+        }
+
+        private void unsupported(PhysicalOperator op) {
+            if (reason == null) {
+                reason = op.name() + " is not supported in process";
+            }
+        }
+
+        @Override
+        public void visitGlobalRearrange(POGlobalRearrange gr) throws VisitorException {
+            List<PhysicalOperator> preds = mPlan.getPredecessors(gr);
+            List<PhysicalOperator> succs = mPlan.getSuccessors(gr);
+            if (preds == null || succs == null || succs.size() != 1
+                    || succs.get(0).getClass() != POPackage.class) {
+                unsupported(gr);
+                return;
+            }
+            for (PhysicalOperator pred : preds) {
+                if (!(pred instanceof POLocalRearrange)
+                        || mPlan.getSuccessors(pred).size() != 1) {
+                    unsupported(gr);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void visitPackage(POPackage pkg) throws VisitorException {
+            List<PhysicalOperator> preds = mPlan.getPredecessors(pkg);
+            if (pkg.getClass() != POPackage.class || preds == null
+                    || preds.size() != 1 || !(preds.get(0) instanceof POGlobalRearrange)) {
+                unsupported(pkg);
+            }
+        }
+
+        @Override
+        public void visitUserFunc(POUserFunc userFunc) throws VisitorException {
+            // scalars are read from the files the map reduce plan writes
+            // them to, before the jobs that use them
+            if (userFunc.getFuncSpec().getClassName().equals(ReadScalars.class.getName())) {
+                unsupported(userFunc);
+            }
+        }
+
+        @Override
+        public void visitFRJoin(POFRJoin join) throws VisitorException {
+            unsupported(join);
+        }
+
+        @Override
+        public void visitSkewedJoin(POSkewedJoin sk) throws VisitorException {
+            unsupported(sk);
+        }
+
+        @Override
+        public void visitMergeJoin(POMergeJoin join) throws VisitorException {
+            unsupported(join);
+        }
+
+        @Override
+        public void visitMergeCoGroup(POMergeCogroup mergeCoGrp) throws VisitorException {
+            unsupported(mergeCoGrp);
+        }
+
+        @Override
+        public void visitCollectedGroup(POCollectedGroup mg) throws VisitorException {
+            unsupported(mg);
+        }
+
+        @Override
+        public void visitNative(PONative nat) throws VisitorException {
+            unsupported(nat);
+        }
+
+        @Override
+        public void visitStream(POStream stream) throws VisitorException {
+            unsupported(stream);
+        }
+    }
+}
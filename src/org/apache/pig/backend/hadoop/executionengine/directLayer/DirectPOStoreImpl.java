@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.directLayer;
+
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.JobContext;
+import org.apache.hadoop.mapreduce.JobID;
+import org.apache.hadoop.mapreduce.OutputCommitter;
+import org.apache.hadoop.mapreduce.OutputFormat;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.pig.StoreFuncInterface;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MapReduceLauncher;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigOutputCommitter;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigOutputFormat;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStoreImpl;
+import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
+
+/**
+ * This class is used to have a POStore write its output when a plan is run
+ * directly. The store does the work of a whole job: it sets up the output
+ * committer of its output format, writes as a single task, commits, and
+ * stores the schema if the store function keeps one.
+ */
+@SuppressWarnings("unchecked")
+class DirectPOStoreImpl extends POStoreImpl {
+
+    private final Configuration conf;
+
+    private POStore store;
+
+    private JobContext jobContext;
+
+    private TaskAttemptContext context;
+
+    private OutputCommitter committer;
+
+    private RecordWriter writer;
+
+    DirectPOStoreImpl(Configuration conf) {
+        // the store location is set in a copy, so that the stores do not
+        // over-write each other's
+        this.conf = new Configuration(conf);
+    }
+
+    @Override
+    public StoreFuncInterface createStoreFunc(POStore store) throws IOException {
+        this.store = store;
+        StoreFuncInterface storeFunc = store.getStoreFunc();
+
+        jobContext = HadoopShims.createJobContext(conf, new JobID());
+        PigOutputFormat.setLocation(jobContext, store);
+        context = HadoopShims.createTaskAttemptContext(conf,
+                HadoopShims.getNewTaskAttemptID());
+        PigOutputFormat.setLocation(context, store);
+
+        OutputFormat outputFormat = storeFunc.getOutputFormat();
+        try {
+            outputFormat.checkOutputSpecs(jobContext);
+            committer = outputFormat.getOutputCommitter(context);
+            committer.setupJob(jobContext);
+            committer.setupTask(context);
+            writer = outputFormat.getRecordWriter(context);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+        storeFunc.prepareToWrite(writer);
+        return storeFunc;
+    }
+
+    @Override
+    public void tearDown() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close(context);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+        writer = null;
+        if (committer.needsTaskCommit(context)) {
+            committer.commitTask(context);
+        }
+        HadoopShims.commitOrCleanup(committer, jobContext);
+        PigOutputCommitter.storeCleanup(store, conf);
+        createSuccessFile();
+    }
+
+    @Override
+    public void cleanUp() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close(context);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+        writer = null;
+        committer.abortTask(context);
+    }
+
+    private void createSuccessFile() throws IOException {
+        if (conf.getBoolean(MapReduceLauncher.SUCCESSFUL_JOB_OUTPUT_DIR_MARKER, false)) {
+            Path outputPath = new Path(store.getSFile().getFileName());
+            FileSystem fs = outputPath.getFileSystem(conf);
+            if (fs.exists(outputPath)) {
+                Path filePath = new Path(outputPath, MapReduceLauncher.SUCCEEDED_FILE_NAME);
+                if (!fs.exists(filePath)) {
+                    fs.create(filePath).close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.directLayer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.HDataType;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.NullableTuple;
+import org.apache.pig.impl.io.PigNullableWritable;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.plan.VisitorException;
+import org.apache.pig.impl.util.Pair;
+
+/**
+ * Stands in for a global rearrange and the package after it when a plan is
+ * run directly. The first call drains the local rearranges, each on its own
+ * thread, and groups their tuples by key in memory. Each call then attaches
+ * the tuples of one key to the package and returns what it makes of them,
+ * as the reduce of a map reduce job does. The keys are returned in the order
+ * they are first seen in, not sorted.
+ */
+class DirectShuffle extends PhysicalOperator {
+
+    private static final long serialVersionUID = 1L;
+
+    private final POPackage pkg;
+    private final List<POLocalRearrange> rearranges;
+    private final transient DirectExecutor executor;
+
+    private transient Iterator<Map.Entry<PigNullableWritable, List<NullableTuple>>> groups;
+
+    DirectShuffle(OperatorKey k, POPackage pkg, List<POLocalRearrange> rearranges,
+            DirectExecutor executor) {
+        super(k);
+        this.pkg = pkg;
+        this.rearranges = rearranges;
+        this.executor = executor;
+        setAlias(pkg.getAlias());
+        setResultType(DataType.TUPLE);
+
+        // annotate the package as the map reduce compiler does
+        Map<Integer, Pair<Boolean, Map<Integer, Integer>>> keyInfo =
+            new HashMap<Integer, Pair<Boolean, Map<Integer, Integer>>>();
+        for (POLocalRearrange lr : rearranges) {
+            keyInfo.put(Integer.valueOf(lr.getIndex()),
+                    new Pair<Boolean, Map<Integer, Integer>>(
+                            lr.isProjectStar(), lr.getProjectedColsMap()));
+            pkg.setKeyTuple(lr.isKeyTuple());
+        }
+        pkg.setKeyInfo(keyInfo);
+    }
+
+    @Override
+    public Result getNext(Tuple t) throws ExecException {
+        if (groups == null) {
+            Result res = shuffle();
+            if (res != null) {
+                return res;
+            }
+        }
+        while (groups.hasNext()) {
+            Map.Entry<PigNullableWritable, List<NullableTuple>> group = groups.next();
+            groups.remove();
+            pkg.attachInput(group.getKey(), group.getValue().iterator());
+            Result res = pkg.getNext(t);
+            if (res.returnStatus == POStatus.STATUS_NULL) {
+                // an inner join with no tuples from some input
+                continue;
+            }
+            return res;
+        }
+        Result res = new Result();
+        res.returnStatus = POStatus.STATUS_EOP;
+        return res;
+    }
+
+    /**
+     * Groups the tuples of all the local rearranges.
+     * @return an error result, or null if the tuples are grouped
+     */
+    private Result shuffle() throws ExecException {
+        List<Callable<Object>> drains = new ArrayList<Callable<Object>>(rearranges.size());
+        for (final POLocalRearrange lr : rearranges) {
+            drains.add(new Callable<Object>() {
+                @Override
+                public Object call() throws ExecException {
+                    return drain(lr);
+                }
+            });
+        }
+
+        LinkedHashMap<PigNullableWritable, List<NullableTuple>> all = null;
+        for (Object drained : executor.invokeAll(drains)) {
+            if (drained instanceof Result) {
+                return (Result) drained;
+            }
+            @SuppressWarnings("unchecked")
+            LinkedHashMap<PigNullableWritable, List<NullableTuple>> byKey =
+                (LinkedHashMap<PigNullableWritable, List<NullableTuple>>) drained;
+            if (all == null) {
+                all = byKey;
+                continue;
+            }
+            for (Map.Entry<PigNullableWritable, List<NullableTuple>> e : byKey.entrySet()) {
+                List<NullableTuple> values = all.get(e.getKey());
+                if (values == null) {
+                    all.put(e.getKey(), e.getValue());
+                } else {
+                    values.addAll(e.getValue());
+                }
+            }
+        }
+        groups = all.entrySet().iterator();
+        return null;
+    }
+
+    /**
+     * Reads all the tuples of a local rearrange.
+     * @return the tuples by key, or the result if it is an error
+     */
+    private Object drain(POLocalRearrange lr) throws ExecException {
+        LinkedHashMap<PigNullableWritable, List<NullableTuple>> byKey =
+            new LinkedHashMap<PigNullableWritable, List<NullableTuple>>();
+        byte keyType = lr.getKeyType();
+        while (true) {
+            Result res = lr.getNext(dummyTuple);
+            if (res.returnStatus == POStatus.STATUS_EOP) {
+                return byKey;
+            } else if (res.returnStatus == POStatus.STATUS_NULL) {
+                continue;
+            } else if (res.returnStatus != POStatus.STATUS_OK) {
+                return res;
+            }
+            // the tuple is (index, key, value), as in the map of a job
+            Tuple tuple = (Tuple) res.result;
+            byte index = (Byte) tuple.get(0);
+            PigNullableWritable key =
+                HDataType.getWritableComparableTypes(tuple.get(1), keyType);
+            key.setIndex(index);
+            NullableTuple val = new NullableTuple((Tuple) tuple.get(2));
+            val.setIndex(index);
+
+            List<NullableTuple> values = byKey.get(key);
+            if (values == null) {
+                values = new ArrayList<NullableTuple>();
+                byKey.put(key, values);
+            }
+            values.add(val);
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleInputs() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsMultipleOutputs() {
+        return false;
+    }
+
+    @Override
+    public void visit(PhyPlanVisitor v) throws VisitorException {
+        // not part of the plan, so never visited
+    }
+
+    @Override
+    public String name() {
+        return getAliasString() + "DirectShuffle" + "["
+                + DataType.findTypeName(resultType) + "]" + " - " + mKey.toString();
+    }
+
+    @Override
+    public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+        return null;
+    }
+}
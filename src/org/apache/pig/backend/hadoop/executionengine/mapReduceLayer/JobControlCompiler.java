@@ -39,6 +39,7 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.WritableComparable;
 import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.mapred.JobClient;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.JobPriority;
 import org.apache.hadoop.mapred.jobcontrol.Job;
@@ -46,10 +47,13 @@ import org.apache.hadoop.mapred.jobcontrol.JobControl;
 import org.apache.pig.ComparisonFunc;
 import org.apache.pig.ExecType;
 import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
 import org.apache.pig.PigException;
+import org.apache.pig.ResourceStatistics;
 import org.apache.pig.StoreFuncInterface;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.HDataType;
+import org.apache.pig.backend.hadoop.executionengine.HExecutionEngine;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.partitioners.SecondaryKeyPartitioner;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.partitioners.SkewedPartitioner;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.partitioners.WeightedRangePartitioner;
@@ -57,13 +61,21 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROper
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserFunc;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFRJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeCogroup;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMergeJoin;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POMultiQueryPackage;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPreCombinerLocalRearrange;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStream;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POUnion;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataType;
@@ -72,12 +84,14 @@ import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.io.FileLocalizer;
 import org.apache.pig.impl.io.FileSpec;
+import org.apache.pig.impl.io.KeyDictionary;
 import org.apache.pig.impl.io.NullableBooleanWritable;
 import org.apache.pig.impl.io.NullableBytesWritable;
 import org.apache.pig.impl.io.NullableDoubleWritable;
 import org.apache.pig.impl.io.NullableFloatWritable;
 import org.apache.pig.impl.io.NullableIntWritable;
 import org.apache.pig.impl.io.NullableLongWritable;
+import org.apache.pig.impl.io.NullableNormalizedKey;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableText;
 import org.apache.pig.impl.io.NullableTuple;
@@ -128,6 +142,47 @@ public class JobControlCompiler{
     public static final String LOG_DIR = "_logs";
 
     public static final String END_OF_INP_IN_MAP = "pig.invoke.close.in.map";
+
+    /**
+     * Use {@link NullableNormalizedKey} map output keys, which sort as plain
+     * bytes, for the jobs whose keys allow it
+     */
+    public static final String PROP_NORMALIZED_KEYS = "pig.exec.normalizedkeys";
+
+    /**
+     * Set in the job conf of the jobs that use normalized keys
+     */
+    public static final String NORMALIZED_KEYS = "pig.normalizedKeys";
+
+    /**
+     * Encode the chararray map output keys that are among the most common
+     * values in the statistics of the loaders of the job with a
+     * {@link KeyDictionary}
+     */
+    public static final String PROP_KEY_DICTIONARY = "pig.exec.keydictionary";
+
+    /**
+     * The largest number of strings in the dictionary of a job
+     */
+    public static final String PROP_KEY_DICTIONARY_SIZE = "pig.exec.keydictionary.size";
+
+    public static final int DEFAULT_KEY_DICTIONARY_SIZE = 1000;
+
+    /**
+     * Run each job whose inputs are smaller than
+     * {@link #PROP_AUTO_LOCAL_MAX_INPUT_SIZE} in the client JVM with the local
+     * job runner, rather than on the cluster
+     */
+    public static final String PROP_AUTO_LOCAL = "pig.exec.autolocal";
+
+    public static final String PROP_AUTO_LOCAL_MAX_INPUT_SIZE = "pig.exec.autolocal.maxinputsize";
+
+    public static final long DEFAULT_AUTO_LOCAL_MAX_INPUT_SIZE = 100 * 1000 * 1000;
+
+    /**
+     * Set in the job conf of the jobs that are run with the local job runner
+     */
+    public static final String LOCAL_RUNNER = "pig.localRunner";
     
     /**
      * We will serialize the POStore(s) present in map and reduce in lists in
@@ -244,18 +299,34 @@ public class JobControlCompiler{
      * @throws JobCreationException
      */
     public JobControl compile(MROperPlan plan, String grpName) throws JobCreationException{
-        // Assert plan.size() != 0
+        List<MapReduceOper> roots = new LinkedList<MapReduceOper>();
+        roots.addAll(plan.getRoots());
+        for (MapReduceOper mro: roots) {
+            if(mro instanceof NativeMapReduceOper) {
+                return null;
+            }
+        }
+        return compile(plan, grpName, roots);
+    }
+
+    /**
+     * Compiles the given jobs, none of which may depend on a job still in
+     * the plan. They are left in the plan until they are done and passed to
+     * {@link #updateMROpPlan(Job, boolean)}.
+     * @param plan - The MROperPlan the jobs are in
+     * @param grpName - The name given to the JobControl
+     * @param mros - The jobs to compile
+     * @return JobControl object with a job for each of the given MapReduceOper
+     * @throws JobCreationException
+     */
+    public JobControl compile(MROperPlan plan, String grpName,
+            List<MapReduceOper> mros) throws JobCreationException{
         this.plan = plan;
 
         JobControl jobCtrl = new JobControl(grpName);
 
         try {
-            List<MapReduceOper> roots = new LinkedList<MapReduceOper>();
-            roots.addAll(plan.getRoots());
-            for (MapReduceOper mro: roots) {
-                if(mro instanceof NativeMapReduceOper) {
-                    return null;
-                }
+            for (MapReduceOper mro: mros) {
                 Job job = getJob(mro, conf, pigContext);
                 jobMroMap.put(job, mro);
                 jobCtrl.addJob(job);
@@ -298,6 +369,25 @@ public class JobControlCompiler{
         int sizeAfter = plan.size();
         return sizeBefore-sizeAfter;
     }
+
+    /**
+     * Updates the Map-Reduce plan when one job is done. The job is removed
+     * from the plan, and so are all the jobs that depend on it if it
+     * completely failed.
+     * @return the number of MapReduceOper removed from the plan
+     */
+    public int updateMROpPlan(Job job, boolean completeFailed) {
+        MapReduceOper mro = jobMroMap.remove(job);
+        if (mro == null) {
+            return 0;
+        }
+        int sizeBefore = plan.size();
+        if (completeFailed) {
+            plan.trimBelow(mro);
+        }
+        plan.remove(mro);
+        return sizeBefore - plan.size();
+    }
         
     /**
      * The method that creates the Job corresponding to a MapReduceOper.
@@ -402,7 +492,12 @@ public class JobControlCompiler{
                 }
             }
 
-            if (!pigContext.inIllustrator && pigContext.getExecType() != ExecType.LOCAL) 
+            boolean runLocally = runLocally(mro, lds);
+
+            // the local job runner uses the classes of the client, so it
+            // needs no job jar
+            if (!pigContext.inIllustrator && pigContext.getExecType() != ExecType.LOCAL
+                    && !runLocally)
             {
                 //Create the jar of all functions and classes required
                 File submitJarFile = File.createTempFile("Job", ".jar");
@@ -587,6 +682,10 @@ public class JobControlCompiler{
                     conf.set("mapred.reduce.tasks", ""+pigContext.defaultParallel);
                 else
                     estimateNumberOfReducers(conf,lds);
+
+                // the local job runner runs a single reduce
+                if (runLocally)
+                    nwJob.setNumReduceTasks(1);
                 
                 if (mro.customPartitioner != null)
                 	nwJob.setPartitionerClass(PigContext.resolveClassName(mro.customPartitioner));
@@ -620,11 +719,21 @@ public class JobControlCompiler{
                             ObjectSerializer.serialize(mro.getSecondarySortOrder()));
 
                 }
+                else if (useNormalizedKeys(mro, pack)) {
+                    log.info("Using normalized keys");
+                    conf.setBoolean(NORMALIZED_KEYS, true);
+                    nwJob.setOutputKeyClass(NullableNormalizedKey.class);
+                    nwJob.setSortComparatorClass(PigNormalizedKeyComparator.class);
+                    nwJob.setGroupingComparatorClass(PigGroupingNormalizedKeyComparator.class);
+                }
                 else
                 {
                     Class<? extends WritableComparable> keyClass = HDataType.getWritableComparableTypes(pack.getKeyType()).getClass();
                     nwJob.setOutputKeyClass(keyClass);
                     selectComparator(mro, pack.getKeyType(), nwJob);
+                    if (pack.getKeyType() == DataType.CHARARRAY) {
+                        setupKeyDictionary(mro, lds, inpTargets, nwJob);
+                    }
                 }
                 nwJob.setOutputValueClass(NullableTuple.class);
             }
@@ -714,6 +823,12 @@ public class JobControlCompiler{
                         files == null ? newfiles.toString() : files + "," + newfiles);
                 }
             }
+            if (runLocally) {
+                conf.set(HExecutionEngine.JOB_TRACKER_LOCATION, HExecutionEngine.LOCAL);
+                conf.set("mapreduce.framework.name", HExecutionEngine.LOCAL);
+                conf.setBoolean(LOCAL_RUNNER, true);
+            }
+
             // Serialize the UDF specific context info.
             UDFContext.getUDFContext().serialize(conf);
             Job cjob = new Job(new JobConf(nwJob.getConfiguration()), new ArrayList());
@@ -729,6 +844,206 @@ public class JobControlCompiler{
         }
     }
     
+    /**
+     * A job is run with the local job runner if that is turned on, all its
+     * inputs are files whose total size is below the threshold, and it does
+     * not need the distributed cache, which the local job runner does not
+     * support.
+     */
+    private boolean runLocally(MapReduceOper mro, List<POLoad> lds) throws IOException {
+        Properties props = pigContext.getProperties();
+        if (pigContext.inIllustrator || pigContext.getExecType() == ExecType.LOCAL
+                || !"true".equalsIgnoreCase(props.getProperty(PROP_AUTO_LOCAL, "false"))) {
+            return false;
+        }
+        if (mro.isGlobalSort() || mro.isSkewedJoin()
+                || !isEmpty(props.getProperty("pig.streaming.ship.files"))
+                || !isEmpty(props.getProperty("pig.streaming.cache.files"))) {
+            return false;
+        }
+        LocalRunnerCheckVisitor checker = new LocalRunnerCheckVisitor(mro.mapPlan);
+        checker.visit();
+        if (!checker.isSupported()) {
+            return false;
+        }
+        checker = new LocalRunnerCheckVisitor(mro.reducePlan);
+        checker.visit();
+        if (!checker.isSupported()) {
+            return false;
+        }
+
+        if (lds == null || lds.isEmpty()) {
+            return false;
+        }
+        for (POLoad ld : lds) {
+            // the size of other inputs is not known
+            if (!UriUtil.isHDFSFileOrLocalOrS3N(ld.getLFile().getFileName())) {
+                return false;
+            }
+        }
+        long maxSize = DEFAULT_AUTO_LOCAL_MAX_INPUT_SIZE;
+        String tmp = props.getProperty(PROP_AUTO_LOCAL_MAX_INPUT_SIZE);
+        if (tmp != null) {
+            try {
+                maxSize = Long.parseLong(tmp);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid numeric format for " + PROP_AUTO_LOCAL_MAX_INPUT_SIZE
+                        + "; use the default maximum input size");
+            }
+        }
+        long size = getTotalInputFileSize(conf, lds);
+        if (size > maxSize) {
+            return false;
+        }
+        log.info("Total input size " + size + " is not larger than " + maxSize
+                + ", running job with the local job runner");
+        return true;
+    }
+
+    private static boolean isEmpty(String s) {
+        return s == null || s.trim().length() == 0;
+    }
+
+    /**
+     * Returns the client to ask about the given job. A job run with the local
+     * job runner is only known to the client that submitted it.
+     */
+    public static JobClient getJobClient(Job job, JobClient jobClient) {
+        if (job.getJobClient() != null
+                && job.getJobConf().getBoolean(LOCAL_RUNNER, false)) {
+            return job.getJobClient();
+        }
+        return jobClient;
+    }
+
+    /**
+     * Sets the dictionary of the chararray keys of a job, if it is turned on
+     * and the loaders the keys come from have statistics with common values
+     * for the key columns. Only the keys that are a column of a loader,
+     * through filters and foreach projections, are traced; the inputs whose
+     * keys are computed otherwise do not add to the dictionary.
+     */
+    private void setupKeyDictionary(MapReduceOper mro, List<POLoad> lds,
+            List<List<OperatorKey>> inpTargets,
+            org.apache.hadoop.mapreduce.Job job) throws IOException {
+        Properties props = pigContext.getProperties();
+        if (!"true".equalsIgnoreCase(props.getProperty(PROP_KEY_DICTIONARY, "false"))) {
+            return;
+        }
+        List<ResourceStatistics> stats = new ArrayList<ResourceStatistics>();
+        List<Integer> columns = new ArrayList<Integer>();
+        for (PhysicalOperator leaf : mro.mapPlan.getLeaves()) {
+            if (!(leaf instanceof POLocalRearrange)) {
+                continue;
+            }
+            Pair<POLoad, Integer> source = getKeySource(mro.mapPlan, lds,
+                    inpTargets, (POLocalRearrange)leaf);
+            if (source == null) {
+                log.debug("Cannot trace the key of " + leaf + " to a loaded column");
+                continue;
+            }
+            POLoad ld = source.first;
+            LoadFunc lf = ld.getLoadFunc();
+            if (!(lf instanceof LoadMetadata)) {
+                continue;
+            }
+            try {
+                stats.add(((LoadMetadata)lf).getStatistics(ld.getLFile().getFileName(), job));
+                columns.add(source.second);
+            } catch (Exception e) {
+                // loaders that have no statistics may throw
+                log.debug("No statistics for " + ld.getLFile().getFileName(), e);
+            }
+        }
+        int size = Integer.parseInt(props.getProperty(PROP_KEY_DICTIONARY_SIZE,
+                String.valueOf(DEFAULT_KEY_DICTIONARY_SIZE)));
+        String[] strings = KeyDictionary.build(stats, columns, size);
+        if (strings != null) {
+            log.info("Using a dictionary of " + strings.length + " keys");
+            job.getConfiguration().set(KeyDictionary.KEY_DICTIONARY,
+                    ObjectSerializer.serialize(strings));
+        }
+    }
+
+    /**
+     * Follows the key of a local rearrange back to the column of the input
+     * of a loader it is, through filters and foreach projections. The
+     * loaders have been removed from the map plan by then, so the root the
+     * key is followed to is matched with the loader that targets it.
+     * @return the loader and the column, or null if the key is not a column
+     * of a loader
+     */
+    private static Pair<POLoad, Integer> getKeySource(PhysicalPlan plan,
+            List<POLoad> lds, List<List<OperatorKey>> inpTargets,
+            POLocalRearrange lr) throws ExecException {
+        if (lr.getPlans().size() != 1) {
+            return null;
+        }
+        int column = getProjectedColumn(lr.getPlans().get(0));
+        PhysicalOperator op = lr;
+        while (column != -1) {
+            List<PhysicalOperator> preds = plan.getPredecessors(op);
+            if (preds == null) {
+                POLoad ld = null;
+                for (int i = 0; i < lds.size(); i++) {
+                    if (inpTargets.get(i).contains(op.getOperatorKey())) {
+                        if (ld != null) {
+                            return null;
+                        }
+                        ld = lds.get(i);
+                    }
+                }
+                if (ld == null) {
+                    return null;
+                }
+                preds = Collections.<PhysicalOperator>singletonList(ld);
+            }
+            if (preds.size() != 1) {
+                return null;
+            }
+            op = preds.get(0);
+            if (op instanceof POLoad) {
+                List<Integer> required = ((POLoad)op).getRequiredFields();
+                if (required != null) {
+                    // the loader returns the columns it reads in the order
+                    // of its input
+                    required = new ArrayList<Integer>(required);
+                    Collections.sort(required);
+                    if (column >= required.size()) {
+                        return null;
+                    }
+                    column = required.get(column);
+                }
+                return new Pair<POLoad, Integer>((POLoad)op, column);
+            } else if (op instanceof POForEach) {
+                POForEach fe = (POForEach)op;
+                if (fe.getToBeFlattened().contains(true)
+                        || column >= fe.getInputPlans().size()) {
+                    return null;
+                }
+                column = getProjectedColumn(fe.getInputPlans().get(column));
+            } else if (!(op instanceof POFilter)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the column a plan that is a single projection projects, or -1
+     */
+    private static int getProjectedColumn(PhysicalPlan plan) throws ExecException {
+        if (plan.size() != 1 || !(plan.getLeaves().get(0) instanceof POProject)) {
+            return -1;
+        }
+        POProject project = (POProject)plan.getLeaves().get(0);
+        if (project.isStar() || project.isProjectToEnd()
+                || project.getColumns().size() != 1) {
+            return -1;
+        }
+        return project.getColumn();
+    }
+
     /**
      * Currently the estimation of reducer number is only applied to HDFS, The estimation is based on the input size of data storage on HDFS.
      * Two parameters can been configured for the estimation, one is pig.exec.reducers.max which constrain the maximum number of reducer task (default is 999). The other
@@ -762,7 +1077,11 @@ public class JobControlCompiler{
         return reducers;
     }
 
-    private static long getTotalInputFileSize(Configuration conf, List<POLoad> lds) throws IOException {
+    /**
+     * Returns the total size in bytes of the files the given loads read.
+     * Inputs that are not hdfs, local or s3n files are not counted.
+     */
+    public static long getTotalInputFileSize(Configuration conf, List<POLoad> lds) throws IOException {
         List<String> inputs = new ArrayList<String>();
         if(lds!=null && lds.size()>0){
             for (POLoad ld : lds) {
@@ -869,6 +1188,98 @@ public class JobControlCompiler{
         }
     }
     
+    public static class PigNormalizedKeyComparator extends WritableComparator {
+        public PigNormalizedKeyComparator() {
+            super(NullableNormalizedKey.class);
+        }
+
+        @Override
+        public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+            return WritableComparator.compareBytes(b1, s1, l1, b2, s2, l2);
+        }
+    }
+
+    public static class PigGroupingNormalizedKeyComparator extends WritableComparator {
+        public PigGroupingNormalizedKeyComparator() {
+            super(NullableNormalizedKey.class);
+        }
+
+        @Override
+        public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+            return NullableNormalizedKey.compareForGrouping(b1, s1, l1, b2, s2, l2);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public int compare(WritableComparable a, WritableComparable b) {
+            return ((NullableNormalizedKey)a).compareForGrouping((NullableNormalizedKey)b);
+        }
+    }
+
+    /**
+     * @param conf job conf
+     * @return the sort order to build {@link NullableNormalizedKey}s with, or
+     * null if the job does not use normalized keys
+     */
+    public static boolean[] getNormalizedKeySortOrder(Configuration conf) throws IOException {
+        if (!conf.getBoolean(NORMALIZED_KEYS, false)) {
+            return null;
+        }
+        boolean[] asc = (boolean[])ObjectSerializer.deserialize(conf.get("pig.sortOrder"));
+        return asc == null ? new boolean[] { true } : asc;
+    }
+
+    /**
+     * Normalized keys are used if they are turned on and every key field of
+     * every map output is of a type that they support. Jobs that need typed
+     * keys (secondary sort, skewed join, multi-query, custom partitioners and
+     * comparators) keep the regular keys.
+     */
+    private boolean useNormalizedKeys(MapReduceOper mro, POPackage pack) {
+        if (!"true".equalsIgnoreCase(pigContext.getProperties().getProperty(PROP_NORMALIZED_KEYS, "false"))) {
+            return false;
+        }
+        if (mro.isUDFComparatorUsed || mro.isSkewedJoin() || mro.customPartitioner != null
+                || mro.needsDistinctCombiner() || pack instanceof POMultiQueryPackage) {
+            return false;
+        }
+        List<PhysicalOperator> leaves = mro.mapPlan.getLeaves();
+        if (leaves == null || leaves.isEmpty()) {
+            return false;
+        }
+        if (leaves.size() == 1 && leaves.get(0) instanceof POUnion) {
+            // the inputs of a cogroup or join
+            leaves = mro.mapPlan.getPredecessors(leaves.get(0));
+        }
+        for (PhysicalOperator leaf : leaves) {
+            if (!(leaf instanceof POLocalRearrange) || ((POLocalRearrange)leaf).isCross()) {
+                return false;
+            }
+            List<PhysicalPlan> plans = ((POLocalRearrange)leaf).getPlans();
+            if (plans.size() == 1 && ((POLocalRearrange)leaf).getKeyType() == DataType.TUPLE) {
+                // with a combiner the key was built before the combiner
+                // foreach, otherwise it is a single tuple valued expression
+                // such as the whole input
+                PhysicalOperator op = leaf;
+                while (op != null && !(op instanceof POPreCombinerLocalRearrange)) {
+                    List<PhysicalOperator> preds = mro.mapPlan.getPredecessors(op);
+                    op = (preds == null || preds.size() != 1) ? null : preds.get(0);
+                }
+                if (op == null || ((POPreCombinerLocalRearrange)op).getPlans().size() == 1) {
+                    return false;
+                }
+                plans = ((POPreCombinerLocalRearrange)op).getPlans();
+            }
+            for (PhysicalPlan plan : plans) {
+                if (plan.getLeaves().size() != 1
+                        || !NullableNormalizedKey.isSupportedType(plan.getLeaves().get(0).getResultType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public static class PigWritableComparator extends WritableComparator {
         @SuppressWarnings("unchecked")
         protected PigWritableComparator(Class c) {
@@ -1346,6 +1757,51 @@ public class JobControlCompiler{
         }
      }
 
+     /**
+      * Finds the operators that need the distributed cache or the job jar.
+      */
+     private static class LocalRunnerCheckVisitor extends PhyPlanVisitor {
+
+         private boolean supported = true;
+
+         public LocalRunnerCheckVisitor(PhysicalPlan plan) {
+             super(plan, new DepthFirstWalker<PhysicalOperator, PhysicalPlan>(
+                     plan));
+         }
+
+         public boolean isSupported() {
+             return supported;
+         }
+
+         @Override
+         public void visitFRJoin(POFRJoin join) throws VisitorException {
+             supported = false;
+         }
+
+         @Override
+         public void visitMergeJoin(POMergeJoin join) throws VisitorException {
+             supported = false;
+         }
+
+         @Override
+         public void visitMergeCoGroup(POMergeCogroup mergeCoGrp)
+                 throws VisitorException {
+             supported = false;
+         }
+
+         @Override
+         public void visitStream(POStream stream) throws VisitorException {
+             supported = false;
+         }
+
+         @Override
+         public void visitUserFunc(POUserFunc func) throws VisitorException {
+             if (func.getCacheFiles() != null) {
+                 supported = false;
+             }
+         }
+     }
+
      private static class UdfDistributedCacheVisitor extends PhyPlanVisitor {
                  
          private PigContext pigContext = null;
@@ -146,6 +146,7 @@ public abstract class Launcher {
             } 
             throw backendException;
         }
+        jobClient = JobControlCompiler.getJobClient(job, jobClient);
         try {
             TaskReport[] mapRep = jobClient.getMapTaskReports(MRJobID);
             getErrorMessages(mapRep, "map", errNotDbg, pigContext);
@@ -275,7 +276,7 @@ public abstract class Launcher {
      */
     protected double progressOfRunningJob(Job j, JobClient jobClient) throws IOException{
         JobID mrJobID = j.getAssignedJobID();
-        RunningJob rj = jobClient.getJob(mrJobID);
+        RunningJob rj = JobControlCompiler.getJobClient(j, jobClient).getJob(mrJobID);
         if(rj==null && j.getState()==Job.SUCCESS)
             return 1;
         else if(rj==null)
@@ -82,6 +82,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStream;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POTopN;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POUnion;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
@@ -190,9 +191,12 @@ public class MRCompiler extends PhyPlanVisitor {
     
     public static final String FILE_CONCATENATION_THRESHOLD = "pig.files.concatenation.threshold";
     public static final String OPTIMISTIC_FILE_CONCATENATION = "pig.optimistic.files.concatenation";
+    public static final String TOPN_MAX = "pig.exec.topn.max";
     
     private int fileConcatenationThreshold = 100;
     private boolean optimisticFileConcatenation = false;
+    // largest limit of an order by compiled into a single top n job
+    private long topNMax = 10000;
     
     public MRCompiler(PhysicalPlan plan) throws MRCompilerException {
         this(plan,null);
@@ -225,6 +229,7 @@ public class MRCompiler extends PhyPlanVisitor {
                 OPTIMISTIC_FILE_CONCATENATION, "false").equals("true");
         LOG.info("File concatenation threshold: " + fileConcatenationThreshold
                 + " optimistic? " + optimisticFileConcatenation);
+        topNMax = Long.parseLong(pigContext.getProperties().getProperty(TOPN_MAX, "10000"));
     }
     
     public void aggregateScalarsFiles() throws PlanException, IOException {
@@ -2000,6 +2005,14 @@ public class MRCompiler extends PhyPlanVisitor {
     @Override
     public void visitSort(POSort op) throws VisitorException {
         try{
+            if (op.isLimited() && op.getLimit() <= topNMax && !pigContext.inIllustrator) {
+                curMROp = getTopNJob(op);
+                if (op.isUDFComparatorUsed) {
+                    curMROp.UDFs.add(op.getMSortFunc().getFuncSpec().toString());
+                }
+                phyToMROpMap.put(op, curMROp);
+                return;
+            }
             FileSpec fSpec = getTempFileSpec();
             MapReduceOper mro = endSingleInputPlanWithStr(fSpec);
             FileSpec quantFile = getTempFileSpec();
@@ -2023,6 +2036,89 @@ public class MRCompiler extends PhyPlanVisitor {
     }
     
 
+    /**
+     * Compiles a sort with a small limit into a single job, that keeps the
+     * first tuples with a {@link POTopN} in the map, the combiner and a single
+     * reducer, instead of a sampling job and a sort job. All the tuples are
+     * given the same key, so the combiner and the reducer see them together.
+     */
+    private MapReduceOper getTopNJob(POSort sort) throws PlanException, IOException,
+            CloneNotSupportedException {
+        long limit = sort.getLimit();
+        POTopN topN = new POTopN(new OperatorKey(scope,nig.getNextNodeId(scope)), sort, limit);
+        topN.setWaitForEndOfAllInput(true);
+        addToMap(topN);
+        MapReduceOper mro = curMROp;
+        mro.mapPlan.addAsLeaf(getAllLocalRearrange(sort));
+        mro.setMapDone(true);
+
+        mro.combinePlan.add(getAllPackage());
+        mro.combinePlan.addAsLeaf(getFlattenBagForEach());
+        POTopN combineTopN = new POTopN(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                sort.clone(), limit);
+        combineTopN.setAlias(sort.getAlias());
+        mro.combinePlan.addAsLeaf(combineTopN);
+        mro.combinePlan.addAsLeaf(getAllLocalRearrange(sort));
+
+        mro.reducePlan.add(getAllPackage());
+        mro.reducePlan.addAsLeaf(getFlattenBagForEach());
+        POTopN reduceTopN = new POTopN(new OperatorKey(scope,nig.getNextNodeId(scope)),
+                sort.clone(), limit);
+        reduceTopN.setAlias(sort.getAlias());
+        mro.reducePlan.addAsLeaf(reduceTopN);
+        mro.phyToMRMap.put(sort, reduceTopN);
+        mro.requestedParallelism = 1;
+        return mro;
+    }
+
+    private POLocalRearrange getAllLocalRearrange(POSort sort) throws PlanException {
+        PhysicalPlan ep = new PhysicalPlan();
+        ConstantExpression ce = new ConstantExpression(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        ce.setValue("all");
+        ce.setResultType(DataType.CHARARRAY);
+        ep.add(ce);
+        List<PhysicalPlan> eps = new ArrayList<PhysicalPlan>();
+        eps.add(ep);
+
+        POLocalRearrange lr = new POLocalRearrange(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        try {
+            lr.setIndex(0);
+        } catch (ExecException e) {
+            int errCode = 2058;
+            String msg = "Unable to set index on newly created POLocalRearrange.";
+            throw new PlanException(msg, errCode, PigException.BUG, e);
+        }
+        lr.setKeyType(DataType.CHARARRAY);
+        lr.setPlans(eps);
+        lr.setResultType(DataType.TUPLE);
+        lr.setAlias(sort.getAlias());
+        return lr;
+    }
+
+    private POPackageLite getAllPackage() {
+        POPackageLite pkg = new POPackageLite(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        pkg.setKeyType(DataType.CHARARRAY);
+        pkg.setNumInps(1);
+        return pkg;
+    }
+
+    private POForEach getFlattenBagForEach() {
+        PhysicalPlan ep = new PhysicalPlan();
+        POProject prj = new POProject(new OperatorKey(scope,nig.getNextNodeId(scope)));
+        prj.setColumn(1);
+        prj.setOverloaded(false);
+        prj.setResultType(DataType.BAG);
+        ep.add(prj);
+        List<PhysicalPlan> eps = new ArrayList<PhysicalPlan>();
+        eps.add(ep);
+        List<Boolean> flattened = new ArrayList<Boolean>();
+        flattened.add(true);
+        POForEach fe = new POForEach(new OperatorKey(scope,nig.getNextNodeId(scope)), -1, eps,
+                flattened);
+        fe.setResultType(DataType.TUPLE);
+        return fe;
+    }
+
     private Pair<POProject,Byte> [] getSortCols(List<PhysicalPlan> plans) throws PlanException, ExecException {
         if(plans!=null){
             @SuppressWarnings("unchecked")
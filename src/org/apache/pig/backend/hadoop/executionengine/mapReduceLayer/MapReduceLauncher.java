@@ -21,10 +21,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -55,6 +60,7 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.POPack
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POJoinPackage;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.io.FileSpec;
@@ -93,7 +99,14 @@ public class MapReduceLauncher extends Launcher{
 
     private Map<FileSpec, Exception> failureMap;
     
-    private JobControl jc=null;
+    /**
+     * Caps the number of map reduce jobs run at the same time. By default
+     * every job is submitted as soon as the jobs it depends on are done.
+     */
+    public static final String PROP_MAX_CONCURRENT_JOBS = "pig.exec.maxconcurrentjobs";
+    
+    private final List<JobControl> jcs =
+        Collections.synchronizedList(new ArrayList<JobControl>());
     
     private class HangingJobKiller extends Thread {
         public HangingJobKiller() {
@@ -102,12 +115,14 @@ public class MapReduceLauncher extends Launcher{
         public void run() {
             try {
                 log.debug("Receive kill signal");
-                if (jc!=null) {
-                    for (Job job : jc.getRunningJobs()) {
-                        RunningJob runningJob = job.getJobClient().getJob(job.getAssignedJobID());
-                        if (runningJob!=null)
-                            runningJob.killJob();
-                        log.info("Job " + job.getJobID() + " killed");
+                synchronized (jcs) {
+                    for (JobControl jc : jcs) {
+                        for (Job job : jc.getRunningJobs()) {
+                            RunningJob runningJob = job.getJobClient().getJob(job.getAssignedJobID());
+                            if (runningJob!=null)
+                                runningJob.killJob();
+                            log.info("Job " + job.getJobID() + " killed");
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -161,7 +176,6 @@ public class MapReduceLauncher extends Launcher{
         
         List<Job> failedJobs = new LinkedList<Job>();
         List<NativeMapReduceOper> failedNativeMR = new LinkedList<NativeMapReduceOper>();
-        List<Job> completeFailedJobsInThisRun = new LinkedList<Job>();
         List<Job> succJobs = new LinkedList<Job>();
         int totalMRJobs = mrp.size();
         int numMRJobsCompl = 0;
@@ -174,125 +188,123 @@ public class MapReduceLauncher extends Launcher{
         boolean stop_on_failure = 
             pc.getProperties().getProperty("stop.on.failure", "false").equals("true");
         
-        // jc is null only when mrp.size == 0
+        int maxConcurrentJobs = 0;
+        String tmp = pc.getProperties().getProperty(PROP_MAX_CONCURRENT_JOBS);
+        if (tmp != null) {
+            try {
+                maxConcurrentJobs = Integer.parseInt(tmp);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid numeric format for " + PROP_MAX_CONCURRENT_JOBS
+                        + "; the number of concurrent jobs is not capped");
+            }
+        }
+        // when the number of concurrent jobs is capped, the jobs on the
+        // longest remaining chain are submitted first
+        final Map<MapReduceOper, Long> criticalPaths = maxConcurrentJobs > 0
+                ? estimateCriticalPaths(mrp, conf) : new HashMap<MapReduceOper, Long>();
+        Comparator<MapReduceOper> byCriticalPath = new Comparator<MapReduceOper>() {
+            @Override
+            public int compare(MapReduceOper o1, MapReduceOper o2) {
+                Long p1 = criticalPaths.get(o1);
+                Long p2 = criticalPaths.get(o2);
+                long l1 = p1 == null ? 0 : p1;
+                long l2 = p2 == null ? 0 : p2;
+                return l1 > l2 ? -1 : (l1 < l2 ? 1 : 0);
+            }
+        };
+
+        Set<MapReduceOper> launched = new HashSet<MapReduceOper>();
+        Set<Job> finished = new HashSet<Job>();
+        List<Job> jobsWithoutIds = new LinkedList<Job>();
+        int runningJobs = 0;
+
+        // Each job is submitted as soon as all the jobs it depends on are
+        // done, so that independent branches of the plan do not wait for
+        // each other
         while(mrp.size() != 0) {
-            jc = jcc.compile(mrp, grpName);
-            if(jc == null) {
-                List<MapReduceOper> roots = new LinkedList<MapReduceOper>();
-                roots.addAll(mrp.getRoots());
-                
-                // run the native mapreduce roots first then run the rest of the roots
-                for(MapReduceOper mro: roots) {
-                    if(mro instanceof NativeMapReduceOper) {
-                        NativeMapReduceOper natOp = (NativeMapReduceOper)mro;
-                        try {
-                            ScriptState.get().emitJobsSubmittedNotification(1);
-                            natOp.runJob();
-                            numMRJobsCompl++;
-                        } catch (IOException e) {
-                            
-                            mrp.trimBelow(natOp);
-                            failedNativeMR.add(natOp);
-                            
-                            String msg = "Error running native mapreduce" +
-                            " operator job :" + natOp.getJobId() + e.getMessage();
-                            
-                            String stackTrace = getStackStraceStr(e);
-                            LogUtils.writeLog(msg,
-                                    stackTrace,
-                                    pc.getProperties().getProperty("pig.logfile"),
-                                    log
-                            );     
-                            log.info(msg);
-                            
-                            if (stop_on_failure) {
-                                int errCode = 6017;
-                               
-                                throw new ExecException(msg, errCode,
-                                        PigException.REMOTE_ENVIRONMENT);
-                            }
-                            
+            List<MapReduceOper> ready = new ArrayList<MapReduceOper>();
+            for (MapReduceOper mro : mrp.getRoots()) {
+                if (!launched.contains(mro)) {
+                    ready.add(mro);
+                }
+            }
+
+            // run the native mapreduce roots first then run the rest of the roots
+            boolean ranNative = false;
+            for(MapReduceOper mro: ready) {
+                if(mro instanceof NativeMapReduceOper) {
+                    NativeMapReduceOper natOp = (NativeMapReduceOper)mro;
+                    try {
+                        ScriptState.get().emitJobsSubmittedNotification(1);
+                        natOp.runJob();
+                        numMRJobsCompl++;
+                    } catch (IOException e) {
+                        
+                        mrp.trimBelow(natOp);
+                        failedNativeMR.add(natOp);
+                        
+                        String msg = "Error running native mapreduce" +
+                        " operator job :" + natOp.getJobId() + e.getMessage();
+                        
+                        String stackTrace = getStackStraceStr(e);
+                        LogUtils.writeLog(msg,
+                                stackTrace,
+                                pc.getProperties().getProperty("pig.logfile"),
+                                log
+                        );     
+                        log.info(msg);
+                        
+                        if (stop_on_failure) {
+                            int errCode = 6017;
+                            stopRunningJobs();
+                            throw new ExecException(msg, errCode,
+                                    PigException.REMOTE_ENVIRONMENT);
                         }
-                        double prog = ((double)numMRJobsCompl)/totalMRJobs;
-                        notifyProgress(prog, lastProg);
-                        lastProg = prog;
-                        mrp.remove(natOp);
+                        
                     }
+                    double prog = ((double)numMRJobsCompl)/totalMRJobs;
+                    notifyProgress(prog, lastProg);
+                    lastProg = prog;
+                    mrp.remove(natOp);
+                    ranNative = true;
                 }
+            }
+            if (ranNative) {
                 continue;
             }
-        	// Initially, all jobs are in wait state.
-            List<Job> jobsWithoutIds = jc.getWaitingJobs();
-            log.info(jobsWithoutIds.size() +" map-reduce job(s) waiting for submission.");
-            //notify listeners about jobs submitted
-            ScriptState.get().emitJobsSubmittedNotification(jobsWithoutIds.size());
-            
-            // update Pig stats' job DAG with just compiled jobs
-            PigStatsUtil.updateJobMroMap(jcc.getJobMroMap());
-            
-            // determine job tracker url 
-            String jobTrackerLoc;
-            JobConf jobConf = jobsWithoutIds.get(0).getJobConf();
-            try {
-                String port = jobConf.get("mapred.job.tracker.http.address");
-                String jobTrackerAdd = jobConf.get(HExecutionEngine.JOB_TRACKER_LOCATION);
-                
-                jobTrackerLoc = jobTrackerAdd.substring(0,jobTrackerAdd.indexOf(":")) 
-                + port.substring(port.indexOf(":"));
+
+            Collections.sort(ready, byCriticalPath);
+            if (maxConcurrentJobs > 0) {
+                ready = ready.subList(0, Math.max(0, 
+                        Math.min(maxConcurrentJobs - runningJobs, ready.size())));
             }
-            catch(Exception e){
-                // Could not get the job tracker location, most probably we are running in local mode.
-                // If it is the case, we don't print out job tracker location,
-                // because it is meaningless for local mode.
-            	jobTrackerLoc = null;
-                log.debug("Failed to get job tracker location.");
+            if (!ready.isEmpty()) {
+                JobControl jc = jcc.compile(mrp, grpName, ready);
+                launched.addAll(ready);
+                
+                // Initially, all jobs are in wait state.
+                List<Job> waitingJobs = jc.getWaitingJobs();
+                log.info(waitingJobs.size() +" map-reduce job(s) waiting for submission.");
+                //notify listeners about jobs submitted
+                ScriptState.get().emitJobsSubmittedNotification(waitingJobs.size());
+                jobsWithoutIds.addAll(waitingJobs);
+                runningJobs += waitingJobs.size();
+                
+                // update Pig stats' job DAG with just compiled jobs
+                PigStatsUtil.updateJobMroMap(jcc.getJobMroMap());
+                
+                Thread jcThread = new Thread(jc);
+                jcThread.setUncaughtExceptionHandler(jctExceptionHandler);
+                
+                jcThread.setContextClassLoader(PigContext.getClassLoader());
+                
+                //All the setup done, now lets launch the jobs.
+                jcs.add(jc);
+                jcThread.start();
             }
             
-            completeFailedJobsInThisRun.clear();
-            
-            Thread jcThread = new Thread(jc);
-            jcThread.setUncaughtExceptionHandler(jctExceptionHandler);
-            
-            jcThread.setContextClassLoader(PigContext.getClassLoader());
-            
-            //All the setup done, now lets launch the jobs.
-            jcThread.start();
-            
-            // Now wait, till we are finished.
-            while(!jc.allFinished()){
-
-            	try { Thread.sleep(sleepTime); } 
-            	catch (InterruptedException e) {}
-            	
-            	List<Job> jobsAssignedIdInThisRun = new ArrayList<Job>();
-
-            	for(Job job : jobsWithoutIds){
-            		if (job.getAssignedJobID() != null){
-
-            			jobsAssignedIdInThisRun.add(job);
-            			log.info("HadoopJobId: "+job.getAssignedJobID());
-            			if(jobTrackerLoc != null){
-            				log.info("More information at: http://"+ jobTrackerLoc+
-            						"/jobdetails.jsp?jobid="+job.getAssignedJobID());
-            			}  
-            			
-            			ScriptState.get().emitJobStartedNotification(
-                                job.getAssignedJobID().toString());                        
-            		}
-            		else{
-            			// This job is not assigned an id yet.
-            		}
-            	}
-            	jobsWithoutIds.removeAll(jobsAssignedIdInThisRun);
-
-            	double prog = (numMRJobsCompl+calculateProgress(jc, jobClient))/totalMRJobs;
-            	notifyProgress(prog, lastProg);
-            	lastProg = prog;
-            	
-            	// collect job stats by frequently polling of completed jobs (PIG-1829)
-            	PigStatsUtil.accumulateStats(jc);
-            	       	
-            }
+            try { Thread.sleep(sleepTime); } 
+            catch (InterruptedException e) {}
             
             //check for the jobControlException first
             //if the job controller fails before launching the jobs then there are
@@ -314,44 +326,72 @@ public class MapReduceLauncher extends Launcher{
                 }
             }
             
-            if (!jc.getFailedJobs().isEmpty() ) {
-                if (stop_on_failure){
-                    int errCode = 6017;
-                    StringBuilder msg = new StringBuilder();
-                    
-                    for (int i=0; i<jc.getFailedJobs().size(); i++) {
-                        Job j = jc.getFailedJobs().get(i);
-                        msg.append(getFirstLineFromMessage(j.getMessage()));
-                        if (i!=jc.getFailedJobs().size()-1) {
-                            msg.append("\n");
-                        }
-                    }
+            for (Iterator<Job> it = jobsWithoutIds.iterator(); it.hasNext(); ) {
+                Job job = it.next();
+                if (job.getAssignedJobID() != null) {
+                    it.remove();
+                    log.info("HadoopJobId: "+job.getAssignedJobID());
+                    String jobTrackerLoc = getJobTrackerLoc(job.getJobConf());
+                    if(jobTrackerLoc != null){
+                        log.info("More information at: http://"+ jobTrackerLoc+
+                                "/jobdetails.jsp?jobid="+job.getAssignedJobID());
+                    }  
                     
-                    throw new ExecException(msg.toString(), errCode,
-                            PigException.REMOTE_ENVIRONMENT);
+                    ScriptState.get().emitJobStartedNotification(
+                            job.getAssignedJobID().toString());                        
                 }
+            }
+            
+            for (JobControl jc : new ArrayList<JobControl>(jcs)) {
+                // collect job stats by frequently polling of completed jobs (PIG-1829)
+                PigStatsUtil.accumulateStats(jc);
                 
-                // If we only have one store and that job fail, then we sure 
-                // that the job completely fail, and we shall stop dependent jobs
                 for (Job job : jc.getFailedJobs()) {
-                    completeFailedJobsInThisRun.add(job);
+                    if (!finished.add(job)) {
+                        continue;
+                    }
+                    runningJobs--;
+                    jobsWithoutIds.remove(job);
+                    if (stop_on_failure) {
+                        int errCode = 6017;
+                        stopRunningJobs();
+                        throw new ExecException(getFirstLineFromMessage(job.getMessage()),
+                                errCode, PigException.REMOTE_ENVIRONMENT);
+                    }
+                    
+                    // If we only have one store and that job fail, then we sure 
+                    // that the job completely fail, and we shall stop dependent jobs
                     log.info("job " + job.getAssignedJobID() + " has failed! Stop running all dependent jobs"); 
+                    failedJobs.add(job);
+                    numMRJobsCompl += jcc.updateMROpPlan(job, true);
+                }
+                
+                for (Job job : jc.getSuccessfulJobs()) {
+                    if (!finished.add(job)) {
+                        continue;
+                    }
+                    runningJobs--;
+                    jobsWithoutIds.remove(job);
+                    numMRJobsCompl += jcc.updateMROpPlan(job, false);
+                    jcc.moveResults(Collections.singletonList(job));
+                    succJobs.add(job);
+                }
+                
+                if (jc.allFinished()) {
+                    jc.stop();
+                    jcs.remove(jc);
                 }
-                failedJobs.addAll(jc.getFailedJobs());
             }
             
-            int removedMROp = jcc.updateMROpPlan(completeFailedJobsInThisRun);
-            
-            numMRJobsCompl += removedMROp;
-
-            List<Job> jobs = jc.getSuccessfulJobs();
-            jcc.moveResults(jobs);
-            succJobs.addAll(jobs);
-                        
-            // collecting final statistics
-            PigStatsUtil.accumulateStats(jc);
-
-            jc.stop(); 
+            double prog = numMRJobsCompl;
+            for (JobControl jc : jcs) {
+                for (Job job : jc.getRunningJobs()) {
+                    prog += progressOfRunningJob(job, jobClient);
+                }
+            }
+            prog /= totalMRJobs;
+            notifyProgress(prog, lastProg);
+            lastProg = prog;
         }
 
         ScriptState.get().emitProgressUpdatedNotification(100);
@@ -581,6 +621,15 @@ public class MapReduceLauncher extends Launcher{
             AccumulatorOptimizer accum = new AccumulatorOptimizer(plan);
             accum.visit();
         }
+
+        // after AccumulatorOptimizer because packages in accumulative mode
+        // do not reuse their output
+        boolean isTupleReuse = "true".equalsIgnoreCase(pc.getProperties().getProperty(
+                TupleReuseOptimizer.PROP_TUPLE_REUSE, "false"));
+        if (isTupleReuse && !pc.inIllustrator) {
+            TupleReuseOptimizer reuse = new TupleReuseOptimizer(plan);
+            reuse.visit();
+        }
         return plan;
     }
 
@@ -603,6 +652,105 @@ public class MapReduceLauncher extends Launcher{
         } 
     }
     
+    /**
+     * Stops the job controllers still running and kills their running jobs,
+     * so that other branches of the plan do not go on after a failure.
+     */
+    private void stopRunningJobs() {
+        synchronized (jcs) {
+            for (JobControl jc : jcs) {
+                jc.stop();
+                for (Job job : jc.getRunningJobs()) {
+                    try {
+                        RunningJob runningJob = job.getJobClient().getJob(job.getAssignedJobID());
+                        if (runningJob != null) {
+                            runningJob.killJob();
+                            log.info("Job " + job.getAssignedJobID() + " killed");
+                        }
+                    } catch (IOException e) {
+                        log.warn("Failed to kill job " + job.getAssignedJobID() + ": " + e);
+                    }
+                }
+            }
+            jcs.clear();
+        }
+    }
+    
+    /**
+     * Returns the host and port of the job tracker web interface, or null
+     * if the job is run locally.
+     */
+    private static String getJobTrackerLoc(JobConf jobConf) {
+        try {
+            String port = jobConf.get("mapred.job.tracker.http.address");
+            String jobTrackerAdd = jobConf.get(HExecutionEngine.JOB_TRACKER_LOCATION);
+            
+            return jobTrackerAdd.substring(0,jobTrackerAdd.indexOf(":")) 
+            + port.substring(port.indexOf(":"));
+        }
+        catch(Exception e){
+            // Could not get the job tracker location, most probably we are running in local mode.
+            // If it is the case, we don't print out job tracker location,
+            // because it is meaningless for local mode.
+            log.debug("Failed to get job tracker location.");
+            return null;
+        }
+    }
+    
+    /**
+     * Estimates for each job the input left to read on the longest chain of
+     * jobs that starts with it. The input of a job is the size of the files
+     * it loads; the temporary files written by other jobs, which do not exist
+     * yet, are taken to be as large as the input of the jobs that write them.
+     * Each job also counts for one byte, so that chains of jobs whose input
+     * size is not known are ranked by their length.
+     */
+    static Map<MapReduceOper, Long> estimateCriticalPaths(MROperPlan mrp,
+            Configuration conf) throws IOException {
+        Map<MapReduceOper, Long> inputs = new HashMap<MapReduceOper, Long>();
+        Map<MapReduceOper, Long> paths = new HashMap<MapReduceOper, Long>();
+        for (MapReduceOper mro : mrp) {
+            estimateCriticalPath(mrp, mro, conf, inputs, paths);
+        }
+        return paths;
+    }
+    
+    private static long estimateCriticalPath(MROperPlan mrp, MapReduceOper mro,
+            Configuration conf, Map<MapReduceOper, Long> inputs,
+            Map<MapReduceOper, Long> paths) throws IOException {
+        Long path = paths.get(mro);
+        if (path == null) {
+            long longest = 0;
+            List<MapReduceOper> succs = mrp.getSuccessors(mro);
+            if (succs != null) {
+                for (MapReduceOper succ : succs) {
+                    longest = Math.max(longest, 
+                            estimateCriticalPath(mrp, succ, conf, inputs, paths));
+                }
+            }
+            path = estimateInput(mrp, mro, conf, inputs) + longest;
+            paths.put(mro, path);
+        }
+        return path;
+    }
+    
+    private static long estimateInput(MROperPlan mrp, MapReduceOper mro,
+            Configuration conf, Map<MapReduceOper, Long> inputs) throws IOException {
+        Long input = inputs.get(mro);
+        if (input == null) {
+            input = 1 + JobControlCompiler.getTotalInputFileSize(conf,
+                    PlanHelper.getLoads(mro.mapPlan));
+            List<MapReduceOper> preds = mrp.getPredecessors(mro);
+            if (preds != null) {
+                for (MapReduceOper pred : preds) {
+                    input += estimateInput(mrp, pred, conf, inputs);
+                }
+            }
+            inputs.put(mro, input);
+        }
+        return input;
+    }
+    
     /**
      * An exception handler class to handle exceptions thrown by the job controller thread
      * Its a local class. This is the only mechanism to catch unhandled thread exceptions
@@ -628,7 +776,7 @@ public class MapReduceLauncher extends Launcher{
         JobID mapRedJobID = job.getAssignedJobID();
         RunningJob runningJob = null;
         try {
-            runningJob = jobClient.getJob(mapRedJobID);
+            runningJob = JobControlCompiler.getJobClient(job, jobClient).getJob(mapRedJobID);
             if(runningJob != null) {
                 Counters counters = runningJob.getCounters();
                 if (counters==null)
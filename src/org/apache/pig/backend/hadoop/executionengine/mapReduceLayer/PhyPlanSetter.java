@@ -249,6 +249,11 @@ public class PhyPlanSetter extends PhyPlanVisitor {
     public void visitLimit(POLimit lim) throws VisitorException{
         lim.setParentPlan(parent);
     }
+
+    @Override
+    public void visitTopN(POTopN topN) throws VisitorException{
+        topN.setParentPlan(parent);
+    }
     
     @Override
     public void visitFRJoin(POFRJoin join) throws VisitorException {
@@ -39,7 +39,9 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.KeyDictionary;
 import org.apache.pig.impl.io.NullableTuple;
+import org.apache.pig.impl.io.NullableNormalizedKey;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.util.ObjectSerializer;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
@@ -56,6 +58,13 @@ public class PigCombiner {
         private final static Tuple DUMMYTUPLE = null;
         
         private byte keyType;
+
+        // Sort order of the normalized keys, null if the job does not use them
+        private boolean[] normalizedKeyOrder;
+
+        // Value wrapper written for every output record when tuples are
+        // reused, null otherwise
+        private NullableTuple reusedValue;
         
         //The reduce plan
         private PhysicalPlan cp;
@@ -85,6 +94,7 @@ public class PigCombiner {
             super.setup(context);
             sJobContext = context;
             Configuration jConf = context.getConfiguration();
+            KeyDictionary.setup(jConf);
             try {
                 PigContext.setPackageImportList((ArrayList<String>)ObjectSerializer.deserialize(jConf.get("udf.import.list")));
                 pigContext = (PigContext)ObjectSerializer.deserialize(jConf.get("pig.pigContext"));
@@ -104,6 +114,11 @@ public class PigCombiner {
                 }
                 
                 keyType = ((byte[])ObjectSerializer.deserialize(jConf.get("pig.map.keytype")))[0];
+                normalizedKeyOrder = JobControlCompiler.getNormalizedKeySortOrder(jConf);
+                if (jConf.getBoolean(TupleReuseOptimizer.PROP_TUPLE_REUSE, false)
+                        && !pigContext.inIllustrator) {
+                    reusedValue = new NullableTuple();
+                }
                 // till here
                 
                 pigReporter = new ProgressableReporter();
@@ -186,10 +201,19 @@ public class PigCombiner {
                         if(redRes.returnStatus==POStatus.STATUS_OK){
                             Tuple tuple = (Tuple)redRes.result;
                             Byte index = (Byte)tuple.get(0);
-                            PigNullableWritable outKey =
-                                HDataType.getWritableComparableTypes(tuple.get(1), this.keyType);
-                            NullableTuple val =
-                                new NullableTuple((Tuple)tuple.get(2));
+                            PigNullableWritable outKey;
+                            if (normalizedKeyOrder != null) {
+                                outKey = new NullableNormalizedKey(tuple.get(1), normalizedKeyOrder);
+                            } else {
+                                outKey = HDataType.getWritableComparableTypes(tuple.get(1), this.keyType);
+                            }
+                            NullableTuple val;
+                            if (reusedValue != null) {
+                                val = reusedValue;
+                                val.setTuple((Tuple)tuple.get(2));
+                            } else {
+                                val = new NullableTuple((Tuple)tuple.get(2));
+                            }
                             // Both the key and the value need the index.  The key needs it so
                             // that it can be sorted on the index in addition to the key
                             // value.  The value needs it so that POPackage can properly
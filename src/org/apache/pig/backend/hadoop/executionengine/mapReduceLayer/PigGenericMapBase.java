@@ -39,6 +39,7 @@ import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
@@ -47,11 +48,14 @@ import org.apache.pig.data.Tuple;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.KeyDictionary;
+import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.DependencyOrderWalker;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.VisitorException;
 import org.apache.pig.impl.util.ObjectSerializer;
+import org.apache.pig.impl.util.SpillFileManager;
 import org.apache.pig.impl.util.SpillableMemoryManager;
 import org.apache.pig.impl.util.Pair;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
@@ -64,9 +68,32 @@ import org.apache.pig.tools.pigstats.PigStatusReporter;
 public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableWritable, Writable> {
     private static final Tuple DUMMYTUPLE = null;
 
+    /**
+     * Turns on batch execution. When the map plan starts with operators
+     * that support batch mode (foreach and filter with plain expression
+     * plans), input records are buffered and those operators process a
+     * whole batch of records at a time; the rest of the plan still runs a
+     * row at a time.
+     */
+    public static final String PROP_EXEC_BATCH = "pig.exec.batch";
+
+    /**
+     * Number of input records per batch in batch execution mode.
+     */
+    public static final String PROP_EXEC_BATCH_SIZE = "pig.exec.batch.size";
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
     private final Log log = LogFactory.getLog(getClass());
     
     protected byte keyType;
+
+    // Sort order of the normalized keys, null if the job does not use them
+    protected boolean[] normalizedKeyOrder;
+
+    // Value wrapper written for every output record when tuples are reused,
+    // null otherwise
+    protected NullableTuple reusedValue;
         
     //Map Plan
     protected PhysicalPlan mp = null;
@@ -92,6 +119,10 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
 
     PigContext pigContext = null;
     private volatile boolean initialized = false;
+
+    // Root operator and buffered input records in batch execution mode
+    private PhysicalOperator batchRoot = null;
+    private TupleBatch batch = null;
     
     /**
      * for local map/reduce simulation
@@ -112,6 +143,10 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             //error in map - returning
             return;
         }
+
+        if (batch != null && batch.size() > 0) {
+            runBatch();
+        }
             
         if(PigMapReduce.sJobConfInternal.get().get(JobControlCompiler.END_OF_INP_IN_MAP, "false").equals("true")) {
             // If there is a stream in the pipeline or if this map job belongs to merge-join we could 
@@ -147,6 +182,8 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
         }
         
         mp = null;
+        batchRoot = null;
+        batch = null;
 
         PhysicalOperator.setReporter(null);
         initialized = false;
@@ -163,6 +200,8 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
         
         Configuration job = context.getConfiguration();
         SpillableMemoryManager.configure(ConfigurationUtil.toProperties(job));
+        SpillFileManager.configure(ConfigurationUtil.toProperties(job));
+        KeyDictionary.setup(job);
         PigMapReduce.sJobContext = context;
         PigMapReduce.sJobConfInternal.set(context.getConfiguration());
         PigMapReduce.sJobConf = context.getConfiguration();
@@ -187,6 +226,10 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             log.debug(baos.toString());
         }
         keyType = ((byte[])ObjectSerializer.deserialize(job.get("pig.map.keytype")))[0];
+        normalizedKeyOrder = JobControlCompiler.getNormalizedKeySortOrder(job);
+        if (job.getBoolean(TupleReuseOptimizer.PROP_TUPLE_REUSE, false) && !inIllustrator) {
+            reusedValue = new NullableTuple();
+        }
         // till here
         
         pigReporter = new ProgressableReporter();
@@ -204,6 +247,11 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             }
             roots = targetOpsAsList.toArray(new PhysicalOperator[1]);
             leaf = mp.getLeaves().get(0);               
+
+            if (job.getBoolean(PROP_EXEC_BATCH, false) && !inIllustrator
+                    && roots.length == 1 && roots[0].supportsBatch()) {
+                setUpBatchChain(roots[0], job.getInt(PROP_EXEC_BATCH_SIZE, DEFAULT_BATCH_SIZE));
+            }
         }
         
         PigStatusReporter.setContext(context);
@@ -252,6 +300,15 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
             collect(context,inpTuple);
             return;
         }
+
+        if (batch != null) {
+            // the record reader may reuse the tuple, so buffer a copy
+            batch.add(tf.newTuple(inpTuple.getAll()));
+            if (batch.isFull()) {
+                runBatch();
+            }
+            return;
+        }
         
         for (PhysicalOperator root : roots) {
             if (inIllustrator) {
@@ -266,6 +323,40 @@ public abstract class PigGenericMapBase extends Mapper<Text, Tuple, PigNullableW
         runPipeline(leaf);
     }
 
+    /**
+     * Find the longest chain of operators starting at root that support
+     * batch mode and put its last operator in batch mode, so that it hands
+     * out rows to the rest of the plan.
+     */
+    private void setUpBatchChain(PhysicalOperator root, int batchSize) {
+        PhysicalOperator last = root;
+        while (true) {
+            List<PhysicalOperator> succs = mp.getSuccessors(last);
+            if (succs == null || succs.size() != 1) {
+                break;
+            }
+            PhysicalOperator succ = succs.get(0);
+            if (!succ.supportsBatch() || mp.getPredecessors(succ).size() != 1) {
+                break;
+            }
+            last = succ;
+        }
+        last.setBatchMode(true);
+        batchRoot = root;
+        batch = new TupleBatch(batchSize);
+        log.info("Batch execution enabled from " + root.name() + " to "
+                + last.name() + ", batch size " + batchSize);
+    }
+
+    /**
+     * Run the map plan over the buffered batch of input records.
+     */
+    private void runBatch() throws IOException, InterruptedException {
+        batchRoot.attachInput(batch);
+        runPipeline(leaf);
+        batch.clear();
+    }
+
     protected void runPipeline(PhysicalOperator leaf) throws IOException, InterruptedException {
         while(true){
             Result res = leaf.getNext(DUMMYTUPLE);
@@ -55,12 +55,15 @@ import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.KeyDictionary;
 import org.apache.pig.impl.io.NullablePartitionWritable;
 import org.apache.pig.impl.io.NullableTuple;
+import org.apache.pig.impl.io.NullableNormalizedKey;
 import org.apache.pig.impl.io.PigNullableWritable;
 import org.apache.pig.impl.plan.DependencyOrderWalker;
 import org.apache.pig.impl.plan.VisitorException;
 import org.apache.pig.impl.util.ObjectSerializer;
+import org.apache.pig.impl.util.SpillFileManager;
 import org.apache.pig.impl.util.SpillableMemoryManager;
 import org.apache.pig.impl.util.UDFContext;
 import org.apache.pig.impl.util.Pair;
@@ -114,9 +117,19 @@ public class PigGenericMapReduce {
                 throws InterruptedException, IOException {
             
             Byte index = (Byte)tuple.get(0);
-            PigNullableWritable key =
-                HDataType.getWritableComparableTypes(tuple.get(1), keyType);
-            NullableTuple val = new NullableTuple((Tuple)tuple.get(2));
+            PigNullableWritable key;
+            if (normalizedKeyOrder != null) {
+                key = new NullableNormalizedKey(tuple.get(1), normalizedKeyOrder);
+            } else {
+                key = HDataType.getWritableComparableTypes(tuple.get(1), keyType);
+            }
+            NullableTuple val;
+            if (reusedValue != null) {
+                val = reusedValue;
+                val.setTuple((Tuple)tuple.get(2));
+            } else {
+                val = new NullableTuple((Tuple)tuple.get(2));
+            }
             
             // Both the key and the value need the index.  The key needs it so
             // that it can be sorted on the index in addition to the key
@@ -153,7 +166,13 @@ public class PigGenericMapReduce {
             Byte index = (Byte)tuple.get(0);
             PigNullableWritable key =
                 HDataType.getWritableComparableTypes(keyTuple, DataType.TUPLE);
-            NullableTuple val = new NullableTuple((Tuple)tuple.get(2));
+            NullableTuple val;
+            if (reusedValue != null) {
+                val = reusedValue;
+                val.setTuple((Tuple)tuple.get(2));
+            } else {
+                val = new NullableTuple((Tuple)tuple.get(2));
+            }
             
             // Both the key and the value need the index.  The key needs it so
             // that it can be sorted on the index in addition to the key
@@ -313,6 +332,8 @@ public class PigGenericMapReduce {
                 pack = getPack(context);
             Configuration jConf = context.getConfiguration();
             SpillableMemoryManager.configure(ConfigurationUtil.toProperties(jConf));
+            SpillFileManager.configure(ConfigurationUtil.toProperties(jConf));
+            KeyDictionary.setup(jConf);
             sJobContext = context;
             sJobConfInternal.set(context.getConfiguration());
             sJobConf = context.getConfiguration();
@@ -26,8 +26,10 @@ import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.io.WritableUtils;
 import org.apache.hadoop.mapred.JobConf;
 
+import org.apache.pig.impl.io.KeyDictionary;
 import org.apache.pig.impl.io.NullableText;
 import org.apache.pig.impl.util.ObjectSerializer;
 
@@ -36,6 +38,7 @@ public class PigTextRawComparator extends WritableComparator implements Configur
     private final Log mLog = LogFactory.getLog(getClass());
     private boolean[] mAsc;
     private Text.Comparator mWrappedComp;
+    private KeyDictionary mDictionary = null;
 
     public PigTextRawComparator() {
         super(NullableText.class);
@@ -61,6 +64,12 @@ public class PigTextRawComparator extends WritableComparator implements Configur
             mAsc = new boolean[1];
             mAsc[0] = true;
         }
+        try {
+            mDictionary = KeyDictionary.get(jconf);
+        } catch (IOException ioe) {
+            String msg = "Unable to deserialize " + KeyDictionary.KEY_DICTIONARY;
+            throw new RuntimeException(msg, ioe);
+        }
     }
 
     public Configuration getConf() {
@@ -69,25 +78,61 @@ public class PigTextRawComparator extends WritableComparator implements Configur
 
     /**
      * Compare two NullableTextWritables as raw bytes.  If neither are null,
-     * then IntWritable.compare() is used.  If both are null then the indices
-     * are compared.  Otherwise the null one is defined to be less.
+     * then Text.Comparator.compare() is used, or the codes of the strings
+     * compared when they are in the dictionary of the job.  If both are null
+     * then the indices are compared.  Otherwise the null one is defined to
+     * be less.
      */
     public int compare(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
         int rc = 0;
+        boolean null1 = b1[s1] != 0 && b1[s1] != NullableText.CODE;
+        boolean null2 = b2[s2] != 0 && b2[s2] != NullableText.CODE;
 
         // If either are null, handle differently.
-        if (b1[s1] == 0 && b2[s2] == 0) {
-            rc = mWrappedComp.compare(b1, s1 + 1, l1 - 2, b2, s2 + 1, l2 - 2);
+        if (!null1 && !null2) {
+            if (b1[s1] == 0 && b2[s2] == 0) {
+                rc = mWrappedComp.compare(b1, s1 + 1, l1 - 2, b2, s2 + 1, l2 - 2);
+            } else {
+                rc = compareWithDictionary(b1, s1, b2, s2);
+            }
         } else {
             // For sorting purposes two nulls are equal.
-            if (b1[s1] != 0 && b2[s2] != 0) rc = 0;
-            else if (b1[s1] != 0) rc = -1;
+            if (null1 && null2) rc = 0;
+            else if (null1) rc = -1;
             else rc = 1;
         }
         if (!mAsc[0]) rc *= -1;
         return rc;
     }
 
+    private int compareWithDictionary(byte[] b1, int s1, byte[] b2, int s2) {
+        if (mDictionary == null) {
+            throw new IllegalStateException("Unable to compare chararray keys "
+                    + "written with the dictionary of the job: no "
+                    + KeyDictionary.KEY_DICTIONARY + " is set");
+        }
+        boolean code1 = b1[s1] == NullableText.CODE;
+        boolean code2 = b2[s2] == NullableText.CODE;
+        int n1;
+        int n2;
+        try {
+            n1 = readVInt(b1, s1 + 1);
+            n2 = readVInt(b2, s2 + 1);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe);
+        }
+        // codes are in the order of the strings
+        if (code1 && code2) {
+            return n1 == n2 ? 0 : (n1 < n2 ? -1 : 1);
+        }
+        int v1 = WritableUtils.decodeVIntSize(b1[s1 + 1]);
+        int v2 = WritableUtils.decodeVIntSize(b2[s2 + 1]);
+        if (code1) {
+            return mDictionary.compare(n1, b2, s2 + 1 + v2, n2);
+        }
+        return -mDictionary.compare(n2, b1, s1 + 1 + v1, n1);
+    }
+
     public int compare(Object o1, Object o2) {
         NullableText nt1 = (NullableText)o1;
         NullableText nt2 = (NullableText)o2;
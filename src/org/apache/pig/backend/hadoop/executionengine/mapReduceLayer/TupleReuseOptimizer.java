@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.pig.backend.hadoop.executionengine.mapReduceLayer;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROpPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROperPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
+import org.apache.pig.builtin.BinStorage;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.impl.io.InterBlockStorage;
+import org.apache.pig.impl.io.InterStorage;
+import org.apache.pig.impl.io.TFileStorage;
+import org.apache.pig.impl.plan.DepthFirstWalker;
+import org.apache.pig.impl.plan.VisitorException;
+
+/**
+ * A visitor that marks the operators whose output tuples can be reused from
+ * one record to the next, because whatever consumes the output is done with
+ * a tuple before it asks for the next one:
+ * <ul>
+ * <li>a local rearrange that is the leaf of a map or combine plan, whose
+ * output is serialized by the output collector right away,</li>
+ * <li>a foreach whose only successor is such a local rearrange, or a store
+ * that writes tuples out as soon as it gets them,</li>
+ * <li>a package that feeds a single foreach that is marked itself.</li>
+ * </ul>
+ */
+public class TupleReuseOptimizer extends MROpPlanVisitor {
+
+    public static final String PROP_TUPLE_REUSE = "pig.exec.tuple.reuse";
+
+    // Store functions that are done with a tuple when putNext returns
+    private static final Set<String> WRITE_THROUGH_STORE_FUNCS = new HashSet<String>(
+            Arrays.asList(PigStorage.class.getName(), BinStorage.class.getName(),
+                    InterStorage.class.getName(), InterBlockStorage.class.getName(),
+                    TFileStorage.class.getName()));
+
+    public TupleReuseOptimizer(MROperPlan plan) {
+        super(plan, new DepthFirstWalker<MapReduceOper, MROperPlan>(plan));
+    }
+
+    @Override
+    public void visitMROp(MapReduceOper mr) throws VisitorException {
+        markLeaves(mr.mapPlan, true);
+        markLeaves(mr.combinePlan, true);
+        markLeaves(mr.reducePlan, false);
+        markPackage(mr.reducePlan);
+    }
+
+    private void markLeaves(PhysicalPlan plan, boolean collected) {
+        if (plan == null || plan.isEmpty()) {
+            return;
+        }
+        for (PhysicalOperator leaf : plan.getLeaves()) {
+            if (collected && leaf.getClass().equals(POLocalRearrange.class)) {
+                ((POLocalRearrange)leaf).setReuseOutput(true);
+            } else if (!(leaf instanceof POStore && isWriteThrough((POStore)leaf))) {
+                continue;
+            }
+            List<PhysicalOperator> preds = plan.getPredecessors(leaf);
+            if (preds == null) {
+                continue;
+            }
+            for (PhysicalOperator pred : preds) {
+                if (pred instanceof POForEach && plan.getSuccessors(pred).size() == 1) {
+                    ((POForEach)pred).setReuseOutput(true);
+                }
+            }
+        }
+    }
+
+    private boolean isWriteThrough(POStore store) {
+        return WRITE_THROUGH_STORE_FUNCS.contains(store.getStoreFunc().getClass().getName());
+    }
+
+    private void markPackage(PhysicalPlan plan) {
+        List<PhysicalOperator> roots = plan.getRoots();
+        if (roots == null || roots.size() != 1
+                || !roots.get(0).getClass().equals(POPackage.class)) {
+            return;
+        }
+        POPackage pack = (POPackage)roots.get(0);
+        if (pack.isAccumulative()) {
+            return;
+        }
+        List<PhysicalOperator> succs = plan.getSuccessors(pack);
+        if (succs != null && succs.size() == 1 && succs.get(0) instanceof POForEach
+                && ((POForEach)succs.get(0)).isReuseOutput()) {
+            pack.setReuseOutput(true);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.hadoop.mapreduce.Partitioner;
 import org.apache.pig.ExecType;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.HDataType;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.JobControlCompiler;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
 import org.apache.pig.data.DataBag;
@@ -41,12 +42,14 @@ import org.apache.pig.data.InternalMap;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.impl.builtin.FindQuantiles;
+import org.apache.pig.impl.io.InterBlockStorage;
 import org.apache.pig.impl.io.NullableBooleanWritable;
 import org.apache.pig.impl.io.NullableBytesWritable;
 import org.apache.pig.impl.io.NullableDoubleWritable;
 import org.apache.pig.impl.io.NullableFloatWritable;
 import org.apache.pig.impl.io.NullableIntWritable;
 import org.apache.pig.impl.io.NullableLongWritable;
+import org.apache.pig.impl.io.NullableNormalizedKey;
 import org.apache.pig.impl.io.NullableText;
 import org.apache.pig.impl.io.NullableTuple;
 import org.apache.pig.impl.io.PigNullableWritable;
@@ -66,6 +69,9 @@ public class WeightedRangePartitioner extends Partitioner<PigNullableWritable, W
     
     Configuration job;
 
+    // Sort order of the normalized keys, null if the job does not use them
+    boolean[] normalizedKeyOrder;
+
     @SuppressWarnings("unchecked")
     @Override
     public int getPartition(PigNullableWritable key, Writable value,
@@ -106,8 +112,8 @@ public class WeightedRangePartitioner extends Partitioner<PigNullableWritable, W
         }
         
         try{
-            
-            
+            normalizedKeyOrder = JobControlCompiler.getNormalizedKeySortOrder(job);
+
             // use local file system to get the quantilesFile
             Configuration conf;
             if (pigContext.getExecType()==ExecType.MAPREDUCE) {
@@ -125,6 +131,8 @@ public class WeightedRangePartitioner extends Partitioner<PigNullableWritable, W
                 if (configuration.get("pig.tmpfilecompression.codec")!=null)
                     conf.set("pig.tmpfilecompression.codec", configuration.get("pig.tmpfilecompression.codec"));
             }
+            if (configuration.getBoolean(InterBlockStorage.PROP_TMPFILE_BLOCKS, false))
+                conf.setBoolean(InterBlockStorage.PROP_TMPFILE_BLOCKS, true);
             conf.set(MapRedUtil.FILE_SYSTEM_NAME, "file:///");
             
             ReadToEndLoader loader = new ReadToEndLoader(Utils.getTmpFileStorageObject(conf),
@@ -176,7 +184,9 @@ public class WeightedRangePartitioner extends Partitioner<PigNullableWritable, W
             // user comparators work with tuples - so if user comparator
             // is being used OR if there are more than 1 sort cols, use
             // NullableTuple
-            if ("true".equals(job.get("pig.usercomparator")) || t.size() > 1) {
+            if (normalizedKeyOrder != null) {
+                return new NullableNormalizedKey(t.size() > 1 ? t : t.get(0), normalizedKeyOrder);
+            } else if ("true".equals(job.get("pig.usercomparator")) || t.size() > 1) {
                 return new NullableTuple(t);
             } else {
                 Object o = t.get(0);
@@ -196,7 +206,9 @@ public class WeightedRangePartitioner extends Partitioner<PigNullableWritable, W
     private void convertToArray(
             DataBag quantilesListAsBag) {
         ArrayList<PigNullableWritable> quantilesList = getList(quantilesListAsBag);
-        if ("true".equals(job.get("pig.usercomparator")) ||
+        if (normalizedKeyOrder != null) {
+            quantiles = quantilesList.toArray(new NullableNormalizedKey[0]);
+        } else if ("true".equals(job.get("pig.usercomparator")) ||
                 quantilesList.get(0).getClass().equals(NullableTuple.class)) {
             quantiles = quantilesList.toArray(new NullableTuple[0]);
         } else if (quantilesList.get(0).getClass().equals(NullableBytesWritable.class)) {
@@ -137,6 +137,17 @@ public abstract class PhysicalOperator extends Operator<PhyPlanVisitor> implemen
     private boolean accum;
     private transient boolean accumStart;
 
+    // When set, getNext(Tuple) hands out the rows of the batches returned
+    // by getNextBatch, see setBatchMode
+    protected transient boolean batchMode = false;
+
+    // Batch attached directly to this operator in batch mode
+    protected transient TupleBatch attachedBatch = null;
+
+    // Batch whose rows getNext is handing out in batch mode
+    private transient TupleBatch currentBatch = null;
+    private transient int currentBatchPos = 0;
+
     public PhysicalOperator(OperatorKey k) {
         this(k, -1, null);
     }
@@ -296,6 +307,84 @@ public abstract class PhysicalOperator extends Operator<PhyPlanVisitor> implemen
         }
     }
 
+    /**
+     * Whether this operator can consume and produce batches of rows, see
+     * {@link TupleBatch}. Operators that return true implement
+     * {@link #attachInput(TupleBatch)} and {@link #getNextBatch()}.
+     * @return true if this operator supports batch mode
+     */
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    /**
+     * Shorts the input path of this operator by providing a batch of
+     * input rows directly.
+     * @param batch the rows that should be used as input
+     */
+    public void attachInput(TupleBatch batch) {
+        throw new UnsupportedOperationException(name() + " does not support batch mode");
+    }
+
+    /**
+     * Process the next batch of input and return the output rows as a
+     * batch. The returned batch stays valid until the next call.
+     * @return the output batch, or null when the input is exhausted
+     * @throws ExecException
+     */
+    public TupleBatch getNextBatch() throws ExecException {
+        throw new UnsupportedOperationException(name() + " does not support batch mode");
+    }
+
+    /**
+     * Put this operator in batch mode: getNext(Tuple) then pulls batches
+     * with {@link #getNextBatch()} and returns their rows one at a time,
+     * which adapts a chain of batch operators to successors that work a
+     * row at a time.
+     */
+    public void setBatchMode(boolean batchMode) {
+        this.batchMode = batchMode;
+        currentBatch = null;
+    }
+
+    /**
+     * Batch counterpart of {@link #processInput()}: returns the attached
+     * batch if there is one, otherwise pulls the next batch from the
+     * predecessor.
+     * @return the next input batch, or null when there is no more input
+     * @throws ExecException
+     */
+    protected TupleBatch processInputBatch() throws ExecException {
+        if (attachedBatch != null) {
+            TupleBatch b = attachedBatch;
+            attachedBatch = null;
+            return b;
+        }
+        if (inputs == null || inputs.size() == 0) {
+            return null;
+        }
+        return inputs.get(0).getNextBatch();
+    }
+
+    /**
+     * Row at a time view of {@link #getNextBatch()} used by getNext(Tuple)
+     * in batch mode.
+     */
+    protected Result getNextFromBatch() throws ExecException {
+        Result res = new Result();
+        while (currentBatch == null || currentBatchPos >= currentBatch.getSelectedSize()) {
+            currentBatch = getNextBatch();
+            currentBatchPos = 0;
+            if (currentBatch == null) {
+                res.returnStatus = POStatus.STATUS_EOP;
+                return res;
+            }
+        }
+        res.result = currentBatch.get(currentBatch.getSelected()[currentBatchPos++]);
+        res.returnStatus = POStatus.STATUS_OK;
+        return res;
+    }
+
     @Override
     public abstract void visit(PhyPlanVisitor v) throws VisitorException;
 
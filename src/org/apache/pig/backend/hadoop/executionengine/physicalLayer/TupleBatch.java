@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer;
+
+import org.apache.pig.data.Tuple;
+
+/**
+ * A fixed capacity batch of input rows used by the batch (vectorized)
+ * execution mode. Expression operators evaluate a whole batch at a time and
+ * return one column of values, indexed by row position, instead of one
+ * {@link Result} per row.
+ *
+ * The batch carries a selection vector: the positions of the rows that are
+ * still live. Operators only evaluate (and only write results for) the
+ * selected rows, which lets short circuiting operators such as AND and OR
+ * narrow the selection before evaluating their right hand side.
+ */
+public class TupleBatch {
+
+    private final Tuple[] rows;
+
+    private int size = 0;
+
+    private final int[] selected;
+
+    private int selectedSize = 0;
+
+    public TupleBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Batch capacity must be positive");
+        }
+        rows = new Tuple[capacity];
+        selected = new int[capacity];
+    }
+
+    public int capacity() {
+        return rows.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == rows.length;
+    }
+
+    /**
+     * Append a row to the batch. The new row is selected.
+     * @param t row to add
+     */
+    public void add(Tuple t) {
+        selected[selectedSize++] = size;
+        rows[size++] = t;
+    }
+
+    public Tuple get(int i) {
+        return rows[i];
+    }
+
+    /**
+     * Drop all rows so that the batch can be refilled.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            rows[i] = null;
+        }
+        size = 0;
+        selectedSize = 0;
+    }
+
+    /**
+     * @return the selection vector; only the first
+     * {@link #getSelectedSize()} entries are valid
+     */
+    public int[] getSelected() {
+        return selected;
+    }
+
+    public int getSelectedSize() {
+        return selectedSize;
+    }
+
+    /**
+     * Shrink the selection after the caller has compacted the selection
+     * vector in place.
+     * @param selectedSize number of valid entries in the selection vector
+     */
+    public void setSelectedSize(int selectedSize) {
+        this.selectedSize = selectedSize;
+    }
+
+    /**
+     * Select every row in the batch.
+     */
+    public void selectAll() {
+        for (int i = 0; i < size; i++) {
+            selected[i] = i;
+        }
+        selectedSize = size;
+    }
+
+    /**
+     * Copy the current selection into buf so that it can be restored
+     * after a temporary narrowing.
+     * @param buf buffer to reuse, may be null or too small
+     * @return the buffer holding the saved selection
+     */
+    public int[] saveSelection(int[] buf) {
+        if (buf == null || buf.length < selected.length) {
+            buf = new int[selected.length];
+        }
+        System.arraycopy(selected, 0, buf, 0, selectedSize);
+        return buf;
+    }
+
+    /**
+     * Restore a selection saved with {@link #saveSelection(int[])}.
+     */
+    public void restoreSelection(int[] saved, int savedSize) {
+        System.arraycopy(saved, 0, selected, 0, savedSize);
+        selectedSize = savedSize;
+    }
+}
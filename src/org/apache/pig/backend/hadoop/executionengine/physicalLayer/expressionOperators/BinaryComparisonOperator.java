@@ -17,6 +17,10 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators;
 
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
 
@@ -63,6 +67,47 @@ public abstract class BinaryComparisonOperator extends BinaryExpressionOperator
         falseRef = Boolean.valueOf(false);
     }
 
+    /**
+     * Evaluates both operands over the batch and compares them row by row
+     * with {@link #compareBatchValues(Object, Object)}. A null operand gives
+     * a null result, as in the row at a time path.
+     */
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        if (!supportsBatch(plan)) {
+            return super.getNextBatch(plan, batch, dataType);
+        }
+        if (trueRef == null) {
+            initializeRefs();
+        }
+        Object[] left = lhs.getNextBatch(plan, batch, operandType);
+        Object[] right = rhs.getNextBatch(plan, batch, operandType);
+        Object[] values = getBatchValues(batch);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            if (left[i] == null || right[i] == null) {
+                values[i] = null;
+            } else {
+                values[i] = compareBatchValues(left[i], right[i]) ? trueRef : falseRef;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Compare one pair of non-null operands in batch mode. Operators that
+     * return true from supportsBatch must override this.
+     */
+    protected boolean compareBatchValues(Object left, Object right) throws ExecException {
+        int errCode = 2067;
+        String msg = this.getClass().getSimpleName() + " does not know how to " +
+        "compare in batch mode";
+        throw new ExecException(msg, errCode, PigException.BUG);
+    }
+
     protected void cloneHelper(BinaryComparisonOperator op) {
         operandType = op.operandType;
         super.cloneHelper(op);
@@ -20,6 +20,11 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.util.IdentityHashSet;
@@ -37,6 +42,9 @@ public abstract class BinaryExpressionOperator extends ExpressionOperator {
     protected ExpressionOperator lhs;
     protected ExpressionOperator rhs;
     private transient List<ExpressionOperator> child;
+
+    // Selection saved while the rhs is evaluated on a narrowed batch
+    protected transient int[] savedSelection;
     
     public BinaryExpressionOperator(OperatorKey k) {
         this(k,-1);
@@ -79,6 +87,71 @@ public abstract class BinaryExpressionOperator extends ExpressionOperator {
         this.rhs = rhs;
     }
 
+    /**
+     * Batch counterpart of the arithmetic operators' genericGetNext. As in
+     * the row at a time path the rhs is only evaluated for rows where the
+     * lhs is not null, and a null operand gives a null result.
+     */
+    protected Object[] arithmeticBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        Object[] left = lhs.getNextBatch(plan, batch, dataType);
+        Object[] values = getBatchValues(batch);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        savedSelection = batch.saveSelection(savedSelection);
+        int m = 0;
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            if (left[i] == null) {
+                values[i] = null;
+            } else {
+                sel[m++] = i;
+            }
+        }
+        batch.setSelectedSize(m);
+        try {
+            if (m > 0) {
+                Object[] right = rhs.getNextBatch(plan, batch, dataType);
+                for (int j = 0; j < m; j++) {
+                    int i = sel[j];
+                    values[i] = (right[i] == null) ? null
+                        : arithmeticBatchValue((Number)left[i], (Number)right[i], dataType);
+                }
+            }
+        } finally {
+            batch.restoreSelection(savedSelection, n);
+        }
+        return values;
+    }
+
+    /**
+     * Combine one pair of non-null operands in batch mode. Arithmetic
+     * operators that use {@link #arithmeticBatch} must override this.
+     */
+    protected Number arithmeticBatchValue(Number left, Number right, byte dataType)
+    throws ExecException {
+        int errCode = 2067;
+        String msg = this.getClass().getSimpleName() + " does not know how to " +
+        "handle type in batch mode: " + DataType.findTypeName(dataType);
+        throw new ExecException(msg, errCode, PigException.BUG);
+    }
+
+    /**
+     * @return true if dataType is one of the numeric types handled by
+     * the arithmetic operators
+     */
+    protected static boolean isNumericType(byte dataType) {
+        switch (dataType) {
+        case DataType.DOUBLE:
+        case DataType.FLOAT:
+        case DataType.INTEGER:
+        case DataType.LONG:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     protected void cloneHelper(BinaryExpressionOperator op) {
         // Don't clone these, as they are just references to things already in
         // the plan.
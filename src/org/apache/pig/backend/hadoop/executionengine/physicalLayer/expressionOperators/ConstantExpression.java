@@ -23,7 +23,9 @@ import java.util.Map;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataByteArray;
 import org.apache.pig.data.DataType;
@@ -161,6 +163,23 @@ public class ConstantExpression extends ExpressionOperator {
 
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        return true;
+    }
+
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        Object[] values = getBatchValues(batch);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        for (int j = 0; j < n; j++) {
+            values[sel[j]] = value;
+        }
+        return values;
+    }
+
     @Override
     public ConstantExpression clone() throws CloneNotSupportedException {
         ConstantExpression clone =
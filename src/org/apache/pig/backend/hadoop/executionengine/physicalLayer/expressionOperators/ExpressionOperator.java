@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataByteArray;
@@ -33,6 +34,8 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlan
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.impl.plan.VisitorException;
 import org.apache.pig.pen.Illustrator;
 
@@ -46,6 +49,9 @@ public abstract class ExpressionOperator extends PhysicalOperator {
     private static final Log log = LogFactory.getLog(ExpressionOperator.class);
     private static final long serialVersionUID = 1L;
 
+    // Output column reused across batches in batch execution mode
+    protected transient Object[] batchValues;
+
     public ExpressionOperator(OperatorKey k) {
         this(k,-1);
     }
@@ -73,6 +79,68 @@ public abstract class ExpressionOperator extends PhysicalOperator {
     public abstract void visit(PhyPlanVisitor v) throws VisitorException;
 
 
+    /**
+     * Whether this operator evaluates whole batches natively, i.e. without
+     * falling back to calling getNext once per row. Operators that return
+     * true must override {@link #getNextBatch(PhysicalPlan, TupleBatch, byte)}.
+     * @param plan the expression plan this operator belongs to
+     * @return true if batch evaluation is native for this operator
+     */
+    public boolean supportsBatch(PhysicalPlan plan) {
+        return false;
+    }
+
+    /**
+     * Evaluate this expression for every selected row of the batch. The
+     * returned array is indexed by row position and only the entries of
+     * selected rows are meaningful; a null entry means a null result. The
+     * array is owned by this operator and is overwritten by the next call.
+     *
+     * The default implementation is the adapter to the row at a time
+     * interface: it attaches each selected row to the roots of the plan
+     * and calls getNext.
+     * @param plan the expression plan this operator belongs to
+     * @param batch the rows to evaluate
+     * @param dataType the type of the values to produce
+     * @return the evaluated column
+     * @throws ExecException
+     */
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        Object[] values = getBatchValues(batch);
+        Object dummy = getDummy(dataType);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        try {
+            for (int j = 0; j < n; j++) {
+                int i = sel[j];
+                plan.attachInput(batch.get(i));
+                Result r = getNext(dummy, dataType);
+                if (r.returnStatus == POStatus.STATUS_ERR) {
+                    int errCode = 2258;
+                    String msg = "Error while evaluating " + name() + " in batch mode"
+                        + (r.result != null ? ": " + r.result : ".");
+                    throw new ExecException(msg, errCode, PigException.BUG);
+                }
+                values[i] = (r.returnStatus == POStatus.STATUS_OK) ? r.result : null;
+            }
+        } finally {
+            plan.detachInput();
+        }
+        return values;
+    }
+
+    /**
+     * Get the reusable output column for batch evaluation, large enough
+     * for the given batch.
+     */
+    protected Object[] getBatchValues(TupleBatch batch) {
+        if (batchValues == null || batchValues.length < batch.capacity()) {
+            batchValues = new Object[batch.capacity()];
+        }
+        return batchValues;
+    }
+
     /**
      * Make a deep copy of this operator.  This is declared here to make it
      * possible to call clone on ExpressionOperators.
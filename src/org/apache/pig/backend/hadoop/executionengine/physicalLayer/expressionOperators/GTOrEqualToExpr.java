@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.data.DataType;
@@ -117,6 +118,27 @@ public class GTOrEqualToExpr extends BinaryComparisonOperator {
         return left;
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        switch (operandType) {
+        case DataType.BYTEARRAY:
+        case DataType.DOUBLE:
+        case DataType.FLOAT:
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.CHARARRAY:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected boolean compareBatchValues(Object left, Object right) {
+        return ((Comparable)left).compareTo(right) >= 0;
+    }
+
     @Override
     public GTOrEqualToExpr clone() throws CloneNotSupportedException {
         GTOrEqualToExpr clone = new GTOrEqualToExpr(new OperatorKey(mKey.scope,
@@ -20,6 +20,7 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.data.DataType;
@@ -112,6 +113,27 @@ public class GreaterThanExpr extends BinaryComparisonOperator {
         return left;
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        switch (operandType) {
+        case DataType.BYTEARRAY:
+        case DataType.DOUBLE:
+        case DataType.FLOAT:
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.CHARARRAY:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected boolean compareBatchValues(Object left, Object right) {
+        return ((Comparable)left).compareTo(right) > 0;
+    }
+
     @Override
     public GreaterThanExpr clone() throws CloneNotSupportedException {
         GreaterThanExpr clone = new GreaterThanExpr(new OperatorKey(mKey.scope,
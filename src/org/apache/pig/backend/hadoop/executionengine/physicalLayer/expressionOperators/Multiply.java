@@ -20,7 +20,9 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -115,6 +117,26 @@ public class Multiply extends BinaryExpressionOperator {
         return genericGetNext(l, DataType.LONG);
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        return isNumericType(resultType);
+    }
+
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        if (!isNumericType(dataType)) {
+            return super.getNextBatch(plan, batch, dataType);
+        }
+        return arithmeticBatch(plan, batch, dataType);
+    }
+
+    @Override
+    protected Number arithmeticBatchValue(Number left, Number right, byte dataType)
+    throws ExecException {
+        return multiply(left, right, dataType);
+    }
+
     @Override
     public Multiply clone() throws CloneNotSupportedException {
         Multiply clone = new Multiply(new OperatorKey(mKey.scope,
@@ -25,6 +25,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.data.DataType;
@@ -132,6 +133,36 @@ public class NotEqualToExpr extends BinaryComparisonOperator {
         return left;
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        switch (operandType) {
+        case DataType.BYTEARRAY:
+        case DataType.DOUBLE:
+        case DataType.FLOAT:
+        case DataType.BOOLEAN:
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.CHARARRAY:
+        case DataType.TUPLE:
+        case DataType.MAP:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected boolean compareBatchValues(Object left, Object right) throws ExecException {
+        if (left instanceof Comparable && right instanceof Comparable) {
+            return ((Comparable)left).compareTo(right) != 0;
+        } else if (left instanceof HashMap && right instanceof HashMap) {
+            return !((HashMap)left).equals(right);
+        } else {
+            throw new ExecException("The left side and right side has the different types");
+        }
+    }
+
     @Override
     public NotEqualToExpr clone() throws CloneNotSupportedException {
         NotEqualToExpr clone = new NotEqualToExpr(new OperatorKey(mKey.scope,
@@ -21,7 +21,9 @@ import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -92,6 +94,36 @@ public class POIsNull extends UnaryComparisonOperator {
         }
     }
 
+    /**
+     * Only projections and constants are handled natively: they report a
+     * null value with STATUS_OK, which is what getNext turns into true.
+     * Other operands signal null with STATUS_NULL and go through the
+     * row at a time adapter.
+     */
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        return operandType != DataType.BAG
+            && (expr instanceof POProject || expr instanceof ConstantExpression)
+            && expr.supportsBatch(plan);
+    }
+
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        if (!supportsBatch(plan)) {
+            return super.getNextBatch(plan, batch, dataType);
+        }
+        Object[] in = expr.getNextBatch(plan, batch, operandType);
+        Object[] values = getBatchValues(batch);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            values[i] = (in[i] == null) ? Boolean.TRUE : Boolean.FALSE;
+        }
+        return values;
+    }
+
     @Override
     public POIsNull clone() throws CloneNotSupportedException {
         POIsNull clone = new POIsNull(new OperatorKey(mKey.scope,
@@ -20,7 +20,9 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -82,6 +84,29 @@ public class PONot extends UnaryComparisonOperator {
         }
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        return true;
+    }
+
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        Object[] in = expr.getNextBatch(plan, batch, DataType.BOOLEAN);
+        Object[] values = getBatchValues(batch);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            if (in[i] == null) {
+                values[i] = null;
+            } else {
+                values[i] = ((Boolean)in[i]).booleanValue() ? Boolean.FALSE : Boolean.TRUE;
+            }
+        }
+        return values;
+    }
+
     @Override
     public PONot clone() throws CloneNotSupportedException {
         PONot clone = new PONot(new OperatorKey(mKey.scope, 
@@ -20,7 +20,9 @@ package org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOp
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.DataType;
 import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -109,6 +111,54 @@ public class POOr extends BinaryComparisonOperator {
         return right;
     }
 
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        return true;
+    }
+
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        if (trueRef == null) {
+            initializeRefs();
+        }
+        Object[] left = lhs.getNextBatch(plan, batch, DataType.BOOLEAN);
+        Object[] values = getBatchValues(batch);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+
+        // Short circuit - rows where lhs is true are true, only the
+        // remaining rows are handed to the rhs
+        savedSelection = batch.saveSelection(savedSelection);
+        int m = 0;
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            if (left[i] != null && ((Boolean)left[i]).booleanValue()) {
+                values[i] = trueRef;
+            } else {
+                sel[m++] = i;
+            }
+        }
+        batch.setSelectedSize(m);
+        try {
+            if (m > 0) {
+                Object[] right = rhs.getNextBatch(plan, batch, DataType.BOOLEAN);
+                for (int j = 0; j < m; j++) {
+                    int i = sel[j];
+                    // see the truth table in getNext
+                    if (left[i] == null && right[i] != null && !((Boolean)right[i]).booleanValue()) {
+                        values[i] = null;
+                    } else {
+                        values[i] = right[i];
+                    }
+                }
+            }
+        } finally {
+            batch.restoreSelection(savedSelection, n);
+        }
+        return values;
+    }
+
     @Override
     public POOr clone() throws CloneNotSupportedException {
         POOr clone = new POOr(new OperatorKey(mKey.scope, 
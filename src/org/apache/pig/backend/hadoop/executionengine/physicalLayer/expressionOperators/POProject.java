@@ -26,8 +26,11 @@ import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataByteArray;
@@ -539,6 +542,45 @@ public class POProject extends ExpressionOperator {
         }
     }
 
+    /**
+     * A simple projection of one column straight from the plan input can
+     * read its column out of the batch directly.
+     */
+    @Override
+    public boolean supportsBatch(PhysicalPlan plan) {
+        List<PhysicalOperator> preds = plan.getPredecessors(this);
+        return getClass() == POProject.class && (preds == null || preds.isEmpty())
+            && !isProjectToEnd && !overloaded && columns.size() == 1;
+    }
+
+    @Override
+    public Object[] getNextBatch(PhysicalPlan plan, TupleBatch batch, byte dataType)
+    throws ExecException {
+        if (!supportsBatch(plan) || dataType == DataType.BAG || dataType == DataType.TUPLE) {
+            return super.getNextBatch(plan, batch, dataType);
+        }
+        Object[] values = getBatchValues(batch);
+        int col = columns.get(0);
+        int[] sel = batch.getSelected();
+        int n = batch.getSelectedSize();
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            Tuple t = batch.get(i);
+            if (t == null) {
+                values[i] = null;
+            } else if (col >= t.size()) {
+                if(pigLogger != null) {
+                    pigLogger.warn(this,"Attempt to access field " +
+                            "which was not found in the input", PigWarning.ACCESSING_NON_EXISTENT_FIELD);
+                }
+                values[i] = null;
+            } else {
+                values[i] = t.get(col);
+            }
+        }
+        return values;
+    }
+
     @Override
     public POProject clone() throws CloneNotSupportedException {
         ArrayList<Integer> cols = new ArrayList<Integer>(columns.size());
@@ -247,6 +247,10 @@ public class PhyPlanVisitor extends PlanVisitor<PhysicalOperator,PhysicalPlan> {
     public void visitLimit(POLimit lim) throws VisitorException{
         //do nothing
     }
+
+    public void visitTopN(POTopN topN) throws VisitorException{
+        //do nothing
+    }
     
     public void visitCross(POCross cross) throws VisitorException{
         //do nothing
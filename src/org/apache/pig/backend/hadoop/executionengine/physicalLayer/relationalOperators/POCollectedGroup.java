@@ -33,6 +33,7 @@ import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.InternalOffHeapBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -73,6 +74,8 @@ public class POCollectedGroup extends PhysicalOperator {
 
     private boolean useDefaultBag = false;
 
+    private boolean useOffHeapBag = false;
+
     public POCollectedGroup(OperatorKey k) {
         this(k, -1, null);
     }
@@ -178,6 +181,8 @@ public class POCollectedGroup extends PhysicalOperator {
                     String bagType = PigMapReduce.sJobConfInternal.get().get("pig.cachedbag.type");
                     if (bagType != null && bagType.equalsIgnoreCase("default")) {
                         useDefaultBag = true;
+                    } else if (bagType != null && bagType.equalsIgnoreCase(InternalOffHeapBag.BAG_TYPE)) {
+                        useOffHeapBag = true;
                     }
                 }
                 prevKey = curKey;
@@ -190,6 +195,7 @@ public class POCollectedGroup extends PhysicalOperator {
                 // Additionally, if there is a merge join(on a different key) following POCollectedGroup
                 // default bags should be used. But since we don't allow anything
                 // before Merge Join currently we are good.
+                        : useOffHeapBag ? new InternalOffHeapBag(1)
                         : new InternalCachedBag(1);
                 outputBag.add((Tuple)tup.get(1));
                 continue;
@@ -215,6 +221,7 @@ public class POCollectedGroup extends PhysicalOperator {
 
             prevKey = curKey;
             outputBag = useDefaultBag ? BagFactory.getInstance().newDefaultBag()
+                    : useOffHeapBag ? new InternalOffHeapBag(1)
                     : new InternalCachedBag(1);
             outputBag.add((Tuple)tup.get(1));
             return res;
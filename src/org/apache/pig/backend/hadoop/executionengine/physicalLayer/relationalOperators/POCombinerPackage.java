@@ -29,6 +29,7 @@ import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.InternalOffHeapBag;
 import org.apache.pig.data.NonSpillableDataBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
@@ -122,6 +123,9 @@ public class POCombinerPackage extends POPackage {
     	if (bagType != null && bagType.equalsIgnoreCase("default")) {
     		return new NonSpillableDataBag();
     	}
+    	if (bagType != null && bagType.equalsIgnoreCase(InternalOffHeapBag.BAG_TYPE)) {
+    		return new InternalOffHeapBag(numBags);
+    	}
     	return new InternalCachedBag(numBags);  	
     }
     
@@ -36,6 +36,7 @@ import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.DistinctDataBag;
 import org.apache.pig.data.InternalDistinctBag;
+import org.apache.pig.data.InternalHashDistinctBag;
 import org.apache.pig.data.InternalSortedBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.plan.NodeIdGenerator;
@@ -94,6 +95,8 @@ public class PODistinct extends PhysicalOperator implements Cloneable {
        	    }            
             if (bagType != null && bagType.equalsIgnoreCase("default")) {        	    	
             	distinctBag = BagFactory.getInstance().newDistinctBag();    			
+            } else if (InternalHashDistinctBag.BAG_TYPE.equalsIgnoreCase(bagType)) {
+                distinctBag = new InternalHashDistinctBag(3);
        	    } else {
        	    	distinctBag = new InternalDistinctBag(3);
     	    }
@@ -17,12 +17,12 @@
  */
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -31,6 +31,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.filecache.DistributedCache;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.pig.ExecType;
 import org.apache.pig.PigException;
@@ -60,8 +62,8 @@ import org.apache.pig.impl.util.ObjectSerializer;
 /**
  * The operator models the join keys using the Local Rearrange operators which
  * are configured with the plan specified by the user. It also sets up one
- * Hashtable per replicated input which maps the Key(k) stored as a Tuple to a
- * DataBag which holds all the values in the input having the same key(k) The
+ * hash table ({@link ReplicatedJoinTable}) per replicated input which maps the
+ * Key(k) to all the values in the input having the same key(k) The
  * getNext() reads an input from its predecessor and separates them into key &
  * value. It configures a foreach operator with the databags obtained from each
  * Hashtable for the key and also with the value for the fragment input. It then
@@ -76,6 +78,14 @@ public class POFRJoin extends PhysicalOperator {
      * 
      */
     private static final long serialVersionUID = 1L;
+
+    /**
+     * Property that controls whether the hash tables built from the
+     * replicated inputs are kept for later tasks running in the same JVM.
+     * Defaults to true.
+     */
+    public static final String PROP_REPLICATED_CACHE = "pig.join.replicated.cache";
+
     // The number in the input list which denotes the fragmented input
     private int fragment;
     // There can be n inputs each being a List<PhysicalPlan>
@@ -91,10 +101,10 @@ public class POFRJoin extends PhysicalOperator {
     private ConstantExpression[] constExps;
     // Used to produce the cross product of various bags
     private POForEach fe;
-    // The array of Hashtables one per replicated input. replicates[fragment] =
+    // The array of tables one per replicated input. replicates[fragment] =
     // null
     // fragment is the input which is fragmented and not replicated.
-    private Map<Tuple, List<Tuple>> replicates[];
+    private ReplicatedJoinTable replicates[];
     // varaible which denotes whether we are returning tuples from the foreach
     // operator
     private boolean processingPlan;
@@ -121,7 +131,7 @@ public class POFRJoin extends PhysicalOperator {
         this.fragment = fragment;
         this.keyTypes = keyTypes;
         this.replFiles = replFiles;
-        replicates = new Map[ppLists.size()];
+        replicates = new ReplicatedJoinTable[ppLists.size()];
         LRs = new POLocalRearrange[ppLists.size()];
         constExps = new ConstantExpression[ppLists.size()];
         createJoinPlans(k);
@@ -255,8 +265,7 @@ public class POFRJoin extends PhysicalOperator {
                 return new Result();
             }
             Tuple lrOutTuple = (Tuple) lrOut.result;
-            Tuple key = TupleFactory.getInstance().newTuple(1);
-            key.set(0, lrOutTuple.get(1));
+            Object key = lrOutTuple.get(1);
             Tuple value = getValueTuple(lr, lrOutTuple);
             lr.detachInput();
             // Configure the for each operator with the relevant bags
@@ -269,15 +278,15 @@ public class POFRJoin extends PhysicalOperator {
                     ce.setValue(value);
                     continue;
                 }
-                Map<Tuple, List<Tuple>> replicate = replicates[i];
-                if (!replicate.containsKey(key)) {
+                List<Tuple> values = replicates[i].get(key);
+                if (values == null) {
                     if (isLeftOuterJoin) {
                         ce.setValue(nullBag);
                     }
                     noMatch = true;
                     break;
                 }
-                ce.setValue(new NonSpillableDataBag(replicate.get(key)));
+                ce.setValue(new NonSpillableDataBag(values));
             }
 
             // If this is not LeftOuter Join and there was no match we
@@ -300,7 +309,7 @@ public class POFRJoin extends PhysicalOperator {
     }
 
     /**
-     * Builds the HashMaps by reading each replicated input from the DFS using a
+     * Builds the hash tables by reading each replicated input from the DFS using a
      * Load operator
      * 
      * @throws ExecException
@@ -316,22 +325,34 @@ public class POFRJoin extends PhysicalOperator {
                 continue;
             }
 
+            Properties props = ConfigurationUtil.getLocalFSProperties();
+            String cacheKey = null;
+            if (useCache()) {
+                cacheKey = getCacheKey(i, replFile, props);
+                ReplicatedJoinTable cached = cacheKey == null ? null
+                        : ReplicatedJoinTableCache.get(cacheKey);
+                if (cached != null) {
+                    log.info("Reusing hash table for replicated input " + replFile
+                            + " built by an earlier task");
+                    replicates[i] = cached;
+                    continue;
+                }
+            }
+
             POLoad ld = new POLoad(new OperatorKey("Repl File Loader", 1L),
                     replFile);
             
-            Properties props = ConfigurationUtil.getLocalFSProperties();
             PigContext pc = new PigContext(ExecType.LOCAL, props);   
             ld.setPc(pc);
             // We use LocalRearrange Operator to seperate Key and Values
             // eg. ( a, b, c ) would generate a, ( a, b, c )
-            // And we use 'a' as the key to the HashMap
-            // The rest '( a, b, c )' is added to HashMap as value
+            // And we use 'a' as the key to the hash table
+            // The rest '( a, b, c )' is added to the hash table as value
             // We could have manually done this, but LocalRearrange does the
             // same thing, so utilizing its functionality
             POLocalRearrange lr = LRs[i];
             lr.setInputs(Arrays.asList((PhysicalOperator) ld));
-            Map<Tuple, List<Tuple>> replicate = new HashMap<Tuple, List<Tuple>>(
-                    1000);
+            ReplicatedJoinTable replicate = new ReplicatedJoinTable();
             log.debug("Completed setup. Trying to build replication hash table");
             int cnt = 0;
             for (Result res = lr.getNext(dummyTuple);res.returnStatus != POStatus.STATUS_EOP;res = lr.getNext(dummyTuple)) {
@@ -340,20 +361,64 @@ public class POFRJoin extends PhysicalOperator {
                     reporter.progress();               
                 Tuple tuple = (Tuple) res.result;
                 if (isKeyNull(tuple.get(1))) continue;
-                Tuple key = mTupleFactory.newTuple(1);
-                key.set(0, tuple.get(1));
                 Tuple value = getValueTuple(lr, tuple);
-                if (!replicate.containsKey(key))
-                    replicate.put(key, new ArrayList<Tuple>(1));
-                replicate.get(key).add(value);
+                replicate.put(tuple.get(1), value);
             }
             replicates[i] = replicate;
+            if (cacheKey != null) {
+                ReplicatedJoinTableCache.put(cacheKey, replicate);
+            }
+            log.debug("Replicated input " + i + ": " + cnt + " tuples, "
+                    + replicate.size() + " keys, approx. "
+                    + replicate.getMemorySize() + " bytes");
 
         }
         long time2 = System.currentTimeMillis();
         log.debug("Hash Table built. Time taken: " + (time2 - time1));
     }
 
+    private boolean useCache() {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        return conf != null && conf.getBoolean(PROP_REPLICATED_CACHE, true);
+    }
+
+    /*
+     * Builds the key a replicated input's hash table is cached under: the
+     * file and loader, the modification time and size of the file (or of
+     * the files in the directory), and the plans used to extract the join
+     * key. Returns null if the file cannot be looked at, in which case the
+     * table is not cached.
+     */
+    private String getCacheKey(int i, FileSpec replFile, Properties props) {
+        long modTime = 0;
+        long length = 0;
+        try {
+            Path path = new Path(replFile.getFileName());
+            FileSystem fs = path.getFileSystem(ConfigurationUtil.toConfiguration(props));
+            FileStatus status = fs.getFileStatus(path);
+            FileStatus[] files = status.isDir() ? fs.listStatus(path)
+                    : new FileStatus[] { status };
+            for (FileStatus f : files) {
+                modTime = Math.max(modTime, f.getModificationTime());
+                length += f.getLen();
+            }
+        } catch (IOException e) {
+            log.debug("Not caching hash table for " + replFile, e);
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(replFile.toString()).append(':').append(modTime)
+                .append(':').append(length).append(':')
+                .append(keyTypes.get(i)).append('\n');
+        for (PhysicalPlan pp : phyPlanLists.get(i)) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            pp.explain(baos);
+            sb.append(baos.toString());
+        }
+        return sb.toString();
+    }
+
     private boolean isKeyNull(Object key) throws ExecException {
         if (key == null) return true;
         if (key instanceof Tuple) {
@@ -26,6 +26,8 @@ import org.apache.pig.data.Tuple;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.impl.plan.OperatorKey;
@@ -89,6 +91,9 @@ public class POFilter extends PhysicalOperator {
      */
     @Override
     public Result getNext(Tuple t) throws ExecException {
+        if (batchMode) {
+            return getNextFromBatch();
+        }
         Result res = null;
         Result inp = null;
         while (true) {
@@ -160,6 +165,51 @@ public class POFilter extends PhysicalOperator {
         return inp;
     }
 
+    /**
+     * The predicate of this filter can be evaluated a batch at a time when
+     * the root of the expression plan handles batches natively; operators
+     * below it that do not are driven through the row at a time adapter.
+     */
+    @Override
+    public boolean supportsBatch() {
+        return comOp instanceof ExpressionOperator
+            && ((ExpressionOperator)comOp).supportsBatch(plan)
+            && illustrator == null && !isAccumulative();
+    }
+
+    @Override
+    public void attachInput(TupleBatch b) {
+        attachedBatch = b;
+    }
+
+    /**
+     * Evaluates the predicate over the selected rows of the next input
+     * batch and narrows the selection down to the rows that pass. The
+     * input batch is returned, so the rows keep their input order.
+     */
+    @Override
+    public TupleBatch getNextBatch() throws ExecException {
+        TupleBatch b = processInputBatch();
+        if (b == null) {
+            return null;
+        }
+        if(reporter!=null) {
+            reporter.progress();
+        }
+        Object[] values = ((ExpressionOperator)comOp).getNextBatch(plan, b, DataType.BOOLEAN);
+        int[] sel = b.getSelected();
+        int n = b.getSelectedSize();
+        int m = 0;
+        for (int j = 0; j < n; j++) {
+            int i = sel[j];
+            if (values[i] != null && ((Boolean)values[i]).booleanValue()) {
+                sel[m++] = i;
+            }
+        }
+        b.setSelectedSize(m);
+        return b;
+    }
+
     @Override
     public String name() {
         return getAliasString() + "Filter" + "["
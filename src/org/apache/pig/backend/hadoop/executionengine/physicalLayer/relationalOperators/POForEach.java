@@ -21,16 +21,21 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.PigException;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.AccumulativeBag;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.data.SchemaTupleFactory;
 import org.apache.pig.data.TupleFactory;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.ExpressionOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.PORelationToExprProject;
@@ -88,6 +93,22 @@ public class POForEach extends PhysicalOperator {
 
     protected Tuple inpTuple;
 
+    // Output batch and per plan columns reused in batch mode
+    private transient TupleBatch outputBatch;
+    private transient Object[][] batchColumns;
+
+    // Set when whatever consumes our output is done with it before asking
+    // for the next one, in which case the output tuple is reused
+    private boolean reuseOutput = false;
+
+    private transient Result reusedResult;
+    private transient Tuple reusedOutput;
+
+    // Factory for output tuples of primitive fields, set on the first
+    // output when pig.exec.primitivetuples is on
+    private transient SchemaTupleFactory primitiveTupleFactory;
+    private transient boolean primitiveTupleFactoryChecked = false;
+
     public POForEach(OperatorKey k) {
         this(k,-1,null,null);
     }
@@ -198,6 +219,9 @@ public class POForEach extends PhysicalOperator {
      */
     @Override
     public Result getNext(Tuple t) throws ExecException {
+        if (batchMode) {
+            return getNextFromBatch();
+        }
         Result res = null;
         Result inp = null;
         //The nested plan is under processing
@@ -290,8 +314,97 @@ public class POForEach extends PhysicalOperator {
         }
     }
 
+    /**
+     * A foreach can run in batch mode when it does not flatten and its
+     * nested plans are plain expressions, so that every input row gives
+     * exactly one output row.
+     */
+    @Override
+    public boolean supportsBatch() {
+        if (inputPlans == null || isAccumulative() || illustrator != null
+                || !opsToBeReset.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < noItems; i++) {
+            if (isToBeFlattenedArray[i]) {
+                return false;
+            }
+            for (PhysicalOperator op : inputPlans.get(i)) {
+                if (!(op instanceof ExpressionOperator) || op instanceof PORelationToExprProject) {
+                    return false;
+                }
+            }
+            switch (resultTypes[i]) {
+            case DataType.BAG:
+            case DataType.TUPLE :
+            case DataType.BYTEARRAY :
+            case DataType.MAP :
+            case DataType.BOOLEAN :
+            case DataType.INTEGER :
+            case DataType.DOUBLE :
+            case DataType.LONG :
+            case DataType.FLOAT :
+            case DataType.CHARARRAY :
+                break;
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void attachInput(TupleBatch b) {
+        attachedBatch = b;
+    }
+
+    /**
+     * Evaluates each nested plan over the selected rows of the next input
+     * batch and assembles the output tuples from the resulting columns.
+     */
+    @Override
+    public TupleBatch getNextBatch() throws ExecException {
+        TupleBatch in = processInputBatch();
+        if (in == null) {
+            return null;
+        }
+        if (outputBatch == null || outputBatch.capacity() < in.capacity()) {
+            outputBatch = new TupleBatch(in.capacity());
+            batchColumns = new Object[noItems][];
+        } else {
+            outputBatch.clear();
+        }
+        for (int i = 0; i < noItems; i++) {
+            batchColumns[i] = ((ExpressionOperator)planLeafOps[i]).getNextBatch(
+                    inputPlans.get(i), in, resultTypes[i]);
+        }
+        int[] sel = in.getSelected();
+        int n = in.getSelectedSize();
+        for (int j = 0; j < n; j++) {
+            int row = sel[j];
+            Tuple out = mTupleFactory.newTuple(noItems);
+            for (int i = 0; i < noItems; i++) {
+                out.set(i, batchColumns[i][row]);
+            }
+            outputBatch.add(out);
+        }
+        if(reporter!=null) {
+            reporter.progress();
+        }
+        return outputBatch;
+    }
+
     protected Result processPlan() throws ExecException{
-        Result res = new Result();
+        Result res;
+        if (reuseOutput) {
+            if (reusedResult == null) {
+                reusedResult = new Result();
+            }
+            res = reusedResult;
+            res.result = null;
+        } else {
+            res = new Result();
+        }
 
         //We check if all the databags have exhausted the tuples. If so we enforce the reading of new data by setting data and its to null
         if(its != null) {
@@ -436,6 +549,16 @@ public class POForEach extends PhysicalOperator {
      * @return the final flattened tuple
      */
     protected Tuple createTuple(Object[] data) throws ExecException {
+        if (reuseOutput) {
+            return fillReusedTuple(data);
+        }
+        if (!primitiveTupleFactoryChecked) {
+            primitiveTupleFactory = getPrimitiveTupleFactory();
+            primitiveTupleFactoryChecked = true;
+        }
+        if (primitiveTupleFactory != null) {
+            return primitiveTupleFactory.newTuple(data);
+        }
         Tuple out =  mTupleFactory.newTuple();
         for(int i = 0; i < data.length; ++i) {
             Object in = data[i];
@@ -457,6 +580,73 @@ public class POForEach extends PhysicalOperator {
         }
     }
 
+    /**
+     * @return a factory for output tuples of primitive fields, or null if
+     * they are turned off or the output fields are not all primitive
+     */
+    private SchemaTupleFactory getPrimitiveTupleFactory() {
+        Configuration conf = PigMapReduce.sJobConfInternal.get();
+        if (conf == null || !conf.getBoolean(SchemaTupleFactory.PROP_PRIMITIVE_TUPLES, false)
+                || illustrator != null || resultTypes == null) {
+            return null;
+        }
+        for (boolean flatten : isToBeFlattenedArray) {
+            if (flatten) {
+                return null;
+            }
+        }
+        SchemaTupleFactory factory = SchemaTupleFactory.getInstance(resultTypes);
+        return factory.isPrimitive() ? factory : null;
+    }
+
+    /**
+     * Flattens the template into the reused output tuple, which is only
+     * replaced when the number of output fields changes.
+     */
+    private Tuple fillReusedTuple(Object[] data) throws ExecException {
+        int size = 0;
+        for(int i = 0; i < data.length; ++i) {
+            if(isToBeFlattenedArray[i] && data[i] instanceof Tuple) {
+                size += ((Tuple)data[i]).size();
+            } else {
+                size++;
+            }
+        }
+        if (reusedOutput == null || reusedOutput.size() != size) {
+            reusedOutput = mTupleFactory.newTuple(size);
+        }
+        int pos = 0;
+        for(int i = 0; i < data.length; ++i) {
+            Object in = data[i];
+            if(isToBeFlattenedArray[i] && in instanceof Tuple) {
+                Tuple t = (Tuple)in;
+                int tSize = t.size();
+                for(int j = 0; j < tSize; ++j) {
+                    reusedOutput.set(pos++, t.get(j));
+                }
+            } else {
+                reusedOutput.set(pos++, in);
+            }
+        }
+        return reusedOutput;
+    }
+
+    /**
+     * @return true if this operator reuses its output tuples
+     */
+    public boolean isReuseOutput() {
+        return reuseOutput;
+    }
+
+    /**
+     * Reuse the output tuple and result from one call of getNext to the
+     * next. This is only safe when the consumer of the output is done with
+     * it by then. Batch mode is not affected, its output rows are always new
+     * tuples.
+     */
+    public void setReuseOutput(boolean reuseOutput) {
+        this.reuseOutput = reuseOutput;
+    }
 
     protected void attachInputToPlans(Tuple t) {
         //super.attachInput(t);
@@ -499,6 +689,7 @@ public class POForEach extends PhysicalOperator {
             noItems = 0;
             resultTypes = null;
         }
+        primitiveTupleFactoryChecked = false;
 
         if(inputPlans != null) {
             for (PhysicalPlan pp : inputPlans) {
@@ -594,6 +785,7 @@ public class POForEach extends PhysicalOperator {
         clone.setOpsToBeReset(ops);
         clone.setResultType(getResultType());
         clone.setAlias(alias);
+        clone.reuseOutput = reuseOutput;
         return clone;
     }
 
@@ -18,6 +18,7 @@
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -61,6 +62,8 @@ public class POLoad extends PhysicalOperator {
     boolean setUpDone = false;
     // Alias for the POLoad
     private String signature;
+    // The columns of the input the loader reads, or null for all of them
+    private List<Integer> requiredFields = null;
     
     public POLoad(OperatorKey k) {
         this(k,-1, null);
@@ -88,8 +91,13 @@ public class POLoad extends PhysicalOperator {
      * @throws IOException
      */
     public void setUp() throws IOException{
-        loader = new ReadToEndLoader((LoadFunc)
-                PigContext.instantiateFuncFromSpec(lFile.getFuncSpec()), 
+        LoadFunc lf = (LoadFunc) PigContext.instantiateFuncFromSpec(lFile.getFuncSpec());
+        // the loader finds what the front end pushed into it, such as the
+        // required fields, in the UDFContext under its signature
+        if (signature != null) {
+            lf.setUDFContextSignature(signature);
+        }
+        loader = new ReadToEndLoader(lf, 
                 ConfigurationUtil.toConfiguration(pc.getProperties()), 
                 lFile.getFileName(),0);
     }
@@ -193,6 +201,18 @@ public class POLoad extends PhysicalOperator {
         this.signature = signature;
     }
     
+    /**
+     * @return the columns of the input the loader was asked to read, which
+     * it returns in the order of the input, or null if it reads all of them
+     */
+    public List<Integer> getRequiredFields() {
+        return requiredFields;
+    }
+    
+    public void setRequiredFields(List<Integer> requiredFields) {
+        this.requiredFields = requiredFields;
+    }
+    
     public LoadFunc getLoadFunc(){
         return this.loader;
     }
@@ -124,6 +124,16 @@ public class POLocalRearrange extends PhysicalOperator {
     // By default, we strip keys from the value.
     private boolean stripKeyFromValue = true;
 
+    // Set when whatever consumes our output is done with it before asking
+    // for the next one, in which case the output and key tuples are reused
+    private boolean reuseOutput = false;
+
+    private transient List<Result> reusedResLst;
+    private transient Tuple reusedOutput;
+    private transient Tuple reusedKey;
+    private transient Tuple reusedCompoundKey;
+    private transient Tuple reusedValue;
+
     public POLocalRearrange(OperatorKey k) {
         this(k, -1, null);
     }
@@ -265,7 +275,16 @@ public class POLocalRearrange extends PhysicalOperator {
                 ep.attachInput((Tuple)inp.result);
             }
 
-            List<Result> resLst = new ArrayList<Result>();
+            List<Result> resLst;
+            if (reuseOutput) {
+                if (reusedResLst == null) {
+                    reusedResLst = new ArrayList<Result>(leafOps.size());
+                }
+                resLst = reusedResLst;
+                resLst.clear();
+            } else {
+                resLst = new ArrayList<Result>();
+            }
 
             if (secondaryPlans!=null) {
                 for (PhysicalPlan ep : secondaryPlans) {
@@ -391,7 +410,15 @@ public class POLocalRearrange extends PhysicalOperator {
     }
 
     protected Tuple constructLROutput(List<Result> resLst, List<Result> secondaryResLst, Tuple value) throws ExecException{
-        Tuple lrOutput = mTupleFactory.newTuple(3);
+        Tuple lrOutput;
+        if (reuseOutput) {
+            if (reusedOutput == null) {
+                reusedOutput = mTupleFactory.newTuple(3);
+            }
+            lrOutput = reusedOutput;
+        } else {
+            lrOutput = mTupleFactory.newTuple(3);
+        }
         lrOutput.set(0, Byte.valueOf(this.index));
         //Construct key
         Object key;
@@ -401,6 +428,14 @@ public class POLocalRearrange extends PhysicalOperator {
         {
             key = getKeyFromResult(resLst, mainKeyType);
             secondaryKey = getKeyFromResult(secondaryResLst, secondaryKeyType);
+        } else if (reuseOutput && resLst.size() > 1) {
+            if (reusedKey == null) {
+                reusedKey = mTupleFactory.newTuple(resLst.size());
+            }
+            for (int i = 0; i < resLst.size(); i++) {
+                reusedKey.set(i, resLst.get(i).result);
+            }
+            key = reusedKey;
         } else {
             key = getKeyFromResult(resLst, keyType);
         }
@@ -438,7 +473,15 @@ public class POLocalRearrange extends PhysicalOperator {
             //in a tuple and return
             if (useSecondaryKey)
             {
-                Tuple compoundKey = mTupleFactory.newTuple(2);
+                Tuple compoundKey;
+                if (reuseOutput) {
+                    if (reusedCompoundKey == null) {
+                        reusedCompoundKey = mTupleFactory.newTuple(2);
+                    }
+                    compoundKey = reusedCompoundKey;
+                } else {
+                    compoundKey = mTupleFactory.newTuple(2);
+                }
                 compoundKey.set(0, key);
                 compoundKey.set(1, secondaryKey);
                 lrOutput.set(1, compoundKey);
@@ -451,7 +494,9 @@ public class POLocalRearrange extends PhysicalOperator {
             if(mProjectedColsMapSize != 0 || mProjectStar == true) {
 
                 Tuple minimalValue = null;
-                if(!mProjectStar) {
+                if(!mProjectStar && reuseOutput) {
+                    minimalValue = getReusedValue(value);
+                } else if(!mProjectStar) {
                     minimalValue = mTupleFactory.newTuple();
                     // look for individual columns that we are
                     // projecting
@@ -463,6 +508,11 @@ public class POLocalRearrange extends PhysicalOperator {
                         }
                     }
                     minimalValue = illustratorMarkup(value, minimalValue, -1);
+                } else if (reuseOutput) {
+                    if (reusedValue == null) {
+                        reusedValue = mTupleFactory.newTuple(0);
+                    }
+                    minimalValue = reusedValue;
                 } else {
                     // for the project star case
                     // we would send out an empty tuple as
@@ -485,10 +535,50 @@ public class POLocalRearrange extends PhysicalOperator {
         }
     }
 
+    /**
+     * Fill the reused value tuple with the columns of the input that are
+     * not part of the key. The tuple is only replaced when the number of
+     * such columns changes.
+     */
+    private Tuple getReusedValue(Tuple value) throws ExecException {
+        int size = 0;
+        for (int i = 0; i < value.size(); i++) {
+            if(mProjectedColsMap.get(i) == null) {
+                size++;
+            }
+        }
+        if (reusedValue == null || reusedValue.size() != size) {
+            reusedValue = mTupleFactory.newTuple(size);
+        }
+        int j = 0;
+        for (int i = 0; i < value.size(); i++) {
+            if(mProjectedColsMap.get(i) == null) {
+                reusedValue.set(j++, value.get(i));
+            }
+        }
+        return reusedValue;
+    }
+
     public byte getKeyType() {
         return keyType;
     }
 
+    /**
+     * @return true if this operator reuses its output tuples
+     */
+    public boolean isReuseOutput() {
+        return reuseOutput;
+    }
+
+    /**
+     * Reuse the output tuple, and the key and value tuples in it, from one
+     * call of getNext to the next. This is only safe when the consumer of
+     * the output, such as the map output collector, is done with it by then.
+     */
+    public void setReuseOutput(boolean reuseOutput) {
+        this.reuseOutput = reuseOutput;
+    }
+
     public void setKeyType(byte keyType) {
         if (useSecondaryKey) {
             this.mainKeyType = keyType;
@@ -684,6 +774,7 @@ public class POLocalRearrange extends PhysicalOperator {
         clone.secondaryKeyType = secondaryKeyType;
         clone.useSecondaryKey = useSecondaryKey;
         clone.index = index;
+        clone.reuseOutput = reuseOutput;
         // Needs to be called as setDistinct so that the fake index tuple gets
         // created.
         clone.setDistinct(mIsDistinct);
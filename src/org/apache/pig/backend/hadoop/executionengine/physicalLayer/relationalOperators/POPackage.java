@@ -29,6 +29,8 @@ import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.AccumulativeBag;
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.InternalOffHeapBag;
+import org.apache.pig.data.LazyTuple;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
@@ -116,9 +118,18 @@ public class POPackage extends PhysicalOperator {
     private boolean firstTime = true;
     
     private boolean useDefaultBag = false;
+
+    private boolean useOffHeapBag = false;
     
     private PackageType pkgType;
 
+    // Set when whatever consumes our output is done with it before asking
+    // for the next one, in which case the output tuple is reused
+    private boolean reuseOutput = false;
+
+    private transient Result reusedResult;
+    private transient Tuple reusedOutput;
+
     public POPackage(OperatorKey k) {
         this(k, -1, null);
     }
@@ -224,6 +235,8 @@ public class POPackage extends PhysicalOperator {
                 String bagType = PigMapReduce.sJobConfInternal.get().get("pig.cachedbag.type");
                 if (bagType != null && bagType.equalsIgnoreCase("default")) {
                     useDefaultBag = true;
+                } else if (bagType != null && bagType.equalsIgnoreCase(InternalOffHeapBag.BAG_TYPE)) {
+                    useOffHeapBag = true;
                 }
             }
         }
@@ -231,7 +244,7 @@ public class POPackage extends PhysicalOperator {
         if(distinct) {
             // only set the key which has the whole
             // tuple 
-            res = mTupleFactory.newTuple(1);
+            res = newOutputTuple(1);
             res.set(0, key);
         } else {
             //Create numInputs bags
@@ -255,6 +268,7 @@ public class POPackage extends PhysicalOperator {
                     // POPackage in the pipeline and is also blocking the pipeline;
                     // constructor argument should be 2 * numInputs. But for one obscure
                     // case we don't want to pay the penalty all the time.                
+                            : useOffHeapBag ? new InternalOffHeapBag(numInputs)
                             : new InternalCachedBag(numInputs);                    
                 }                               
                 //For each indexed tup in the inp, sort them
@@ -282,7 +296,7 @@ public class POPackage extends PhysicalOperator {
             //Construct the output tuple by appending
             //the key and all the above constructed bags
             //and return it.
-            res = mTupleFactory.newTuple(numInputs+1);
+            res = newOutputTuple(numInputs+1);
             res.set(0,key);
             int i=-1;
             for (DataBag bag : dbs) {
@@ -299,7 +313,15 @@ public class POPackage extends PhysicalOperator {
                 res.set(i+1,bag);
             }
         }
-        Result r = new Result();
+        Result r;
+        if (reuseOutput) {
+            if (reusedResult == null) {
+                reusedResult = new Result();
+            }
+            r = reusedResult;
+        } else {
+            r = new Result();
+        }
         r.returnStatus = POStatus.STATUS_OK;
         if (!isAccumulative())
             r.result = illustratorMarkup(null, res, 0);
@@ -309,6 +331,31 @@ public class POPackage extends PhysicalOperator {
         return r;
     }
 
+    private Tuple newOutputTuple(int size) {
+        if (!reuseOutput) {
+            return mTupleFactory.newTuple(size);
+        }
+        if (reusedOutput == null) {
+            reusedOutput = mTupleFactory.newTuple(size);
+        }
+        return reusedOutput;
+    }
+
+    /**
+     * @return true if this operator reuses its output tuples
+     */
+    public boolean isReuseOutput() {
+        return reuseOutput;
+    }
+
+    /**
+     * Reuse the output tuple and result from one key to the next. This is
+     * only safe when the consumer of the output is done with it by then.
+     */
+    public void setReuseOutput(boolean reuseOutput) {
+        this.reuseOutput = reuseOutput;
+    }
+
     protected Tuple getValueTuple(NullableTuple ntup, int index) throws ExecException {
      // Need to make a copy of the value, as hadoop uses the same ntup
         // to represent each value.
@@ -326,7 +373,20 @@ public class POPackage extends PhysicalOperator {
         Map<Integer, Integer> keyLookup = lrKeyInfo.second;
         int keyLookupSize = keyLookup.size();
 
-        if( keyLookupSize > 0) {
+        if( keyLookupSize > 0 && val instanceof LazyTuple) {
+
+            // same as below, but the fields of the "value"
+            // stay serialized until they are used
+            int finalValueSize = keyLookupSize + val.size();
+            LazyTuple lazyCopy = ((LazyTuple)val).copy();
+            for(int i = 0; i < finalValueSize; i++) {
+                Integer keyIndex = keyLookup.get(i);
+                if(keyIndex != null) {
+                    lazyCopy.insert(i, isKeyTuple ? keyAsTuple.get(keyIndex) : key);
+                }
+            }
+            copy = illustratorMarkup2(val, lazyCopy);
+        } else if( keyLookupSize > 0) {
         
             // we have some fields of the "value" in the
             // "key".
@@ -364,7 +424,11 @@ public class POPackage extends PhysicalOperator {
             // there is no field of the "value" in the
             // "key" - so just make a copy of what we got
             // as the "value"
-            copy = mTupleFactory.newTuple(val.getAll());
+            if (val instanceof LazyTuple) {
+                copy = ((LazyTuple)val).copy();
+            } else {
+                copy = mTupleFactory.newTuple(val.getAll());
+            }
             copy = illustratorMarkup2(val, copy);
         }
         return copy;
@@ -385,6 +449,8 @@ public class POPackage extends PhysicalOperator {
     @Override
     public POPackage clone() throws CloneNotSupportedException {
         POPackage clone = (POPackage)super.clone();
+        clone.reusedResult = null;
+        clone.reusedOutput = null;
         clone.mKey = new OperatorKey(mKey.scope, NodeIdGenerator.getGenerator().getNextNodeId(mKey.scope));
         clone.requestedParallelism = requestedParallelism;
         clone.resultType = resultType;
@@ -18,8 +18,8 @@
 package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -49,6 +49,13 @@ import org.apache.pig.impl.plan.VisitorException;
  * consecutive records have same key, it will aggregate those without adding
  * them to the hash-map. As future optimization, the use of hash-map could be
  * disabled when input data is sorted on group-by keys
+ * <p>
+ * The hash-map is kept in least recently used order; when it is full, the
+ * least recently used tenth of the entries is written out, so that keys that
+ * keep showing up stay in the map. The reduction in number of records is
+ * checked over every window of input records, and aggregation is disabled
+ * while it is not worth its cost. Once disabled, it is tried again after an
+ * interval that doubles every time it gets disabled.
  */
 public class POPartialAgg extends PhysicalOperator {
 
@@ -90,10 +97,29 @@ public class POPartialAgg extends PhysicalOperator {
 
     private static final int DEFAULT_MIN_REDUCTION = 10;
 
+    // number of input records in each later window over which the
+    // reduction is checked again
+    private static final int NUM_INPRECS_TO_REEVALUATE_SZ_REDUCTION = 10000;
+
+    // number of records passed through unaggregated before map aggregation
+    // is tried again, doubled every time it gets disabled
+    private static final int NUM_INPRECS_TO_RETRY_MAP_AGG = 100000;
+
     private boolean disableMapAgg = false;
     private int num_inp_recs;
     private boolean sizeReductionChecked = false;
 
+    // input records and new hash-map entries (each of which will
+    // eventually be an output record) in the current window
+    private transient int windowInpRecs;
+    private transient int windowNewKeys;
+
+    // input records passed through since map aggregation got disabled, and
+    // how many to pass through before trying again; 0 until map aggregation
+    // first gets disabled in this task
+    private transient int numPassedThrough;
+    private transient int retryInterval;
+
     private transient int maxHashMapSize;
 
     private transient TupleFactory tupleFact;
@@ -125,13 +151,23 @@ public class POPartialAgg extends PhysicalOperator {
                 return getNextResFromMap();
             } else {
                 Result inp = processInput();
-                if (disableMapAgg) {
-                    // the in-map partial aggregation is an optional step, just
-                    // like the combiner.
-                    // act as if this operator was never there, by just 
-                    // returning the input
-                    return inp;
+                if (inp.returnStatus == POStatus.STATUS_OK
+                        && ++numPassedThrough >= retryInterval) {
+                    // the data might aggregate better further on, try again
+                    log.info("Re-enabling in-map partial aggregation after "
+                            + numPassedThrough + " records");
+                    disableMapAgg = false;
+                    sizeReductionChecked = false;
+                    retryInterval = retryInterval > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE
+                            : retryInterval * 2;
+                    windowInpRecs = 0;
+                    windowNewKeys = 0;
                 }
+                // the in-map partial aggregation is an optional step, just
+                // like the combiner.
+                // act as if this operator was never there, by just 
+                // returning the input
+                return inp;
             }
         }
 
@@ -195,14 +231,12 @@ public class POPartialAgg extends PhysicalOperator {
             // check if this operator is doing a good job of reducing the number
             // of records going to output to justify the costs of itself
             // if not , disable map partial agg
-            if ((!sizeReductionChecked)) {
-                checkSizeReduction();
+            checkSizeReduction();
 
-                if (disableMapAgg) {
-                    // in-map partial aggregation just got disabled
-                    // return the new input record, it has not been aggregated
-                    return inp;
-                }
+            if (disableMapAgg) {
+                // in-map partial aggregation just got disabled
+                // return the new input record, it has not been aggregated
+                return inp;
             }
 
             // we have some real input data
@@ -252,14 +286,17 @@ public class POPartialAgg extends PhysicalOperator {
                     resetCurrentValues();
                     addToCurrentValues(inpTuple);
 
-                    // get existing result from map (if any) and add it to
-                    // current values
-                    Tuple existingResult = aggMap.get(key);
+                    // take existing result out of the map (if any) and add
+                    // it to current values. It goes back in, as the most
+                    // recently used entry, when the key changes again
+                    Tuple existingResult = aggMap.remove(key);
 
                     // existingResult will be null only if key is absent in
                     // aggMap
                     if (existingResult != null) {
                         addToCurrentValues(existingResult);
+                    } else {
+                        windowNewKeys++;
                     }
 
                     // storing a new entry in the map, so update estimate of
@@ -268,20 +305,19 @@ public class POPartialAgg extends PhysicalOperator {
                         updateMaxMapSize(output.result);
                     }
 
+                    // store the output in the hashmap, as its most recently
+                    // used entry
+                    addOutputToAggMap(output);
+
                     // check if it is time to dump some aggs from the hashmap
-                    if (aggMap.size() >= maxHashMapSize) {
-                        // dump 10% of max hash size because dumping just one
-                        // record at a time might result in most group key being
-                        // dumped (depending on hashmap implementation)
-                        // TODO: dump the least recently/frequently used entries
-                        numToDump = maxHashMapSize / 10;
+                    if (aggMap.size() > maxHashMapSize) {
+                        // dump the least recently used 10% of max hash size,
+                        // dumping just one record at a time would mean
+                        // dumping on almost every key change
+                        numToDump = Math.max(1, maxHashMapSize / 10);
                         mapDumpIterator = aggMap.values().iterator();
-
-                        return output;
-                    } else {
-                        // there is space available in the hashmap, store the
-                        // output there
-                        addOutputToAggMap(output);
+                        --numToDump;
+                        return getNextResFromMap();
                     }
 
                     continue;
@@ -338,7 +374,10 @@ public class POPartialAgg extends PhysicalOperator {
         // set current key, add value
         currentKey = key;
         addToCurrentValues(inpTuple);
-        aggMap = new HashMap<Object, Tuple>();
+        windowNewKeys++;
+        // insertion order is least recently used order, as entries are
+        // removed while their key is the current key
+        aggMap = new LinkedHashMap<Object, Tuple>();
 
         // TODO: keep track of actual number of objects that share the
         // memory limit. For now using a default of 3, which is what is
@@ -360,28 +399,37 @@ public class POPartialAgg extends PhysicalOperator {
     private void checkSizeReduction() throws ExecException {
 
         num_inp_recs++;
-        if (num_inp_recs == NUM_INPRECS_TO_SAMPLE_SZ_REDUCTION
-                || (aggMap != null && aggMap.size() == maxHashMapSize - 1)) {
+        windowInpRecs++;
+        int windowSize = sizeReductionChecked ? NUM_INPRECS_TO_REEVALUATE_SZ_REDUCTION
+                : NUM_INPRECS_TO_SAMPLE_SZ_REDUCTION;
+        if (windowInpRecs == windowSize
+                || (!sizeReductionChecked && aggMap != null
+                        && aggMap.size() == maxHashMapSize - 1)) {
             // the above check for the hashmap current size is
-            // done to avoid having to keep track of any dumps that
-            // could
-            // happen before NUM_INPRECS_TO_SAMPLE_SZ_REDUCTION is
-            // reached
+            // done to check before the first dump of the hashmap
 
             sizeReductionChecked = true;
 
             // find out how many output records we have for this many
-            // input records
+            // input records. Every new entry in the hashmap results in
+            // an output record sooner or later
 
-            int outputReduction = aggMap.size() == 0 ? Integer.MAX_VALUE
-                    : num_inp_recs / aggMap.size();
+            int outputReduction = windowNewKeys == 0 ? Integer.MAX_VALUE
+                    : windowInpRecs / windowNewKeys;
+            windowInpRecs = 0;
+            windowNewKeys = 0;
             int min_output_reduction = getMinOutputReductionFromProp();
             if (outputReduction < min_output_reduction) {
                 disableMapAgg = true;
+                numPassedThrough = 0;
+                if (retryInterval == 0) {
+                    retryInterval = NUM_INPRECS_TO_RETRY_MAP_AGG;
+                }
                 log.info("Disabling in-map partial aggregation because the "
                         + "reduction in tuples (" + outputReduction
                         + ") is lower than threshold (" + min_output_reduction
-                        + ")");
+                        + "), trying again after " + retryInterval
+                        + " records");
                 logCapacityOfAggMap();
                 // get current key vals output
                 Result output = getOutput();
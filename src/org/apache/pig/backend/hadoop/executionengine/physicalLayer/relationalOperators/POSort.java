@@ -346,6 +346,10 @@ public class POSort extends PhysicalOperator {
         return mAscCols;
     }
 
+    public Comparator<Tuple> getMComparator() {
+        return mComparator;
+    }
+
     public void setLimit(long l)
     {
     	limit = l;
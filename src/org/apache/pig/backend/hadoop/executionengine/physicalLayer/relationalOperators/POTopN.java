@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhyPlanVisitor;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.plan.NodeIdGenerator;
+import org.apache.pig.impl.plan.OperatorKey;
+import org.apache.pig.impl.plan.VisitorException;
+
+/**
+ * Keeps the first n tuples of its input in the order of a limited
+ * {@link POSort}, with a heap of n tuples instead of a sort of all of them.
+ * It is used by the map, combine and reduce plans of an ORDER BY followed
+ * by a small LIMIT, which then need a single map reduce job.
+ * <p>
+ * This is a blocking operator. Once its input is used up, it returns the
+ * tuples it kept in order. In a map plan it is set to wait for the end of
+ * all input, so that a map task keeps n tuples overall; elsewhere it keeps n
+ * tuples of each input, that is of each key in a combine or reduce plan.
+ */
+public class POTopN extends PhysicalOperator {
+
+    private static final long serialVersionUID = 1L;
+
+    private POSort sort;
+    private long limit;
+    private boolean waitForEndOfAllInput = false;
+
+    // the worst of the tuples kept at the head
+    private transient PriorityQueue<Tuple> heap;
+    private transient Iterator<Tuple> it;
+
+    public POTopN(OperatorKey k, POSort sort, long limit) {
+        super(k, sort.getRequestedParallelism());
+        if (limit < 0 || limit > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid limit for top n: " + limit);
+        }
+        this.sort = sort;
+        this.limit = limit;
+        setAlias(sort.getAlias());
+        setResultType(DataType.TUPLE);
+    }
+
+    public POSort getSort() {
+        return sort;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @param waitForEndOfAllInput whether the tuples are returned only once
+     * all the input of the plan is used up, rather than the current input
+     */
+    public void setWaitForEndOfAllInput(boolean waitForEndOfAllInput) {
+        this.waitForEndOfAllInput = waitForEndOfAllInput;
+    }
+
+    public boolean isWaitForEndOfAllInput() {
+        return waitForEndOfAllInput;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public Result getNext(Tuple t) throws ExecException {
+        if (it == null) {
+            if (heap == null) {
+                heap = new PriorityQueue<Tuple>((int) Math.min(limit, 1024) + 1,
+                        Collections.reverseOrder(sort.getMComparator()));
+            }
+            while (true) {
+                Result res = processInput();
+                if (res.returnStatus == POStatus.STATUS_ERR) {
+                    return res;
+                } else if (res.returnStatus == POStatus.STATUS_NULL) {
+                    continue;
+                } else if (res.returnStatus == POStatus.STATUS_EOP) {
+                    if (waitForEndOfAllInput && !parentPlan.endOfAllInput) {
+                        // keep the tuples for the next input
+                        return res;
+                    }
+                    break;
+                }
+                offer((Tuple) res.result);
+            }
+            Tuple[] top = heap.toArray(new Tuple[heap.size()]);
+            Arrays.sort(top, sort.getMComparator());
+            heap = null;
+            it = Arrays.asList(top).iterator();
+        }
+        Result res = new Result();
+        if (it.hasNext()) {
+            res.result = it.next();
+            res.returnStatus = POStatus.STATUS_OK;
+        } else {
+            res.returnStatus = POStatus.STATUS_EOP;
+            reset();
+        }
+        return res;
+    }
+
+    private void offer(Tuple t) {
+        if (heap.size() < limit) {
+            heap.add(t);
+        } else if (limit > 0 && heap.comparator().compare(t, heap.peek()) > 0) {
+            // better than the worst tuple kept
+            heap.poll();
+            heap.add(t);
+        }
+    }
+
+    @Override
+    public void reset() {
+        heap = null;
+        it = null;
+    }
+
+    @Override
+    public boolean supportsMultipleInputs() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsMultipleOutputs() {
+        return false;
+    }
+
+    @Override
+    public void visit(PhyPlanVisitor v) throws VisitorException {
+        v.visitTopN(this);
+    }
+
+    @Override
+    public String name() {
+        return getAliasString() + "POTopN" + "["
+                + DataType.findTypeName(resultType) + "]" + "(" + limit + ")"
+                + " - " + mKey.toString();
+    }
+
+    @Override
+    public POTopN clone() throws CloneNotSupportedException {
+        POTopN topN = new POTopN(new OperatorKey(mKey.scope,
+                NodeIdGenerator.getGenerator().getNextNodeId(mKey.scope)),
+                sort.clone(), limit);
+        topN.setAlias(alias);
+        topN.setWaitForEndOfAllInput(waitForEndOfAllInput);
+        return topN;
+    }
+
+    @Override
+    public Tuple illustratorMarkup(Object in, Object out, int eqClassIndex) {
+        return null;
+    }
+}
@@ -0,0 +1,540 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+
+/**
+ * A compact multimap from join key to the tuples of a replicated input, used
+ * by {@link POFRJoin} to hold the replicated relations in memory.
+ *
+ * Rather than a key tuple and a list of value tuples per entry, the table
+ * keeps a few large arrays: value tuples are serialized with
+ * {@link BinInterSedes} into byte pages and chained per key, and the keys are
+ * found through an open addressing index. Integer and long keys are held in
+ * primitive arrays; any other key (chararray, bytearray, tuple, ...) is
+ * serialized into the pages and compared byte by byte. Equal maps and bags
+ * need not serialize to the same bytes, so keys that are or hold a map or a
+ * bag are serialized too but hashed and compared as objects, like the keys
+ * of a HashMap. If keys of a different kind show up after the table has
+ * picked a layout, the table switches to the more general one.
+ *
+ * Values are deserialized each time a key is looked up, except when the same
+ * key is looked up repeatedly, in which case the last list is handed back.
+ */
+public class ReplicatedJoinTable {
+
+    private static final int EMPTY = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int MIN_PAGE_SIZE = 4 * 1024;
+
+    private static final int MAX_PAGE_SIZE = 1024 * 1024;
+
+    // Key layouts
+    private static final byte KEYS_NONE = 0;
+    private static final byte KEYS_INT = 1;
+    private static final byte KEYS_LONG = 2;
+    private static final byte KEYS_BYTES = 3;
+    private static final byte KEYS_OBJECTS = 4;
+
+    private static final BinInterSedes sedes = new BinInterSedes();
+
+    private byte keyLayout = KEYS_NONE;
+
+    // Open addressing index: slot -> key id
+    private int[] slots;
+
+    // Per key arrays, indexed by key id
+    private int numKeys = 0;
+    private int[] intKeys;
+    private long[] longKeys;
+    private long[] keyAddrs;
+    private int[] keyLens;
+    private int[] keyHashes;
+    private int[] firstValues;
+    private int[] lastValues;
+
+    // Per value arrays, indexed by value id
+    private int numValues = 0;
+    private long[] valueAddrs;
+    private int[] valueLens;
+    private int[] nextValues;
+
+    // Serialized keys and values. An address is the page number in the
+    // high 32 bits and the offset in the page in the low 32 bits
+    private List<byte[]> pages = new ArrayList<byte[]>();
+    private byte[] curPage = null;
+    private int curPageUsed = 0;
+    private long pageBytes = 0;
+
+    private DataOutputBuffer keyBuf = new DataOutputBuffer();
+    private DataOutputBuffer valueBuf = new DataOutputBuffer();
+    private DataInputBuffer inBuf = new DataInputBuffer();
+
+    // Last lookup, handed back when the same key is asked for again
+    private int lastKeyId = EMPTY;
+    private List<Tuple> lastValueList = null;
+
+    public ReplicatedJoinTable() {
+        this(true);
+    }
+
+    private ReplicatedJoinTable(boolean allocate) {
+        if (!allocate) {
+            return;
+        }
+        slots = new int[INITIAL_CAPACITY * 2];
+        Arrays.fill(slots, EMPTY);
+        keyHashes = new int[INITIAL_CAPACITY];
+        firstValues = new int[INITIAL_CAPACITY];
+        lastValues = new int[INITIAL_CAPACITY];
+        valueAddrs = new long[INITIAL_CAPACITY];
+        valueLens = new int[INITIAL_CAPACITY];
+        nextValues = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns a table that shares the keys and values of this one but does
+     * its own lookups, so that the two can be used from different threads.
+     * Neither table may be added to afterwards.
+     * @return a read only view of this table
+     */
+    public ReplicatedJoinTable duplicate() {
+        ReplicatedJoinTable t = new ReplicatedJoinTable(false);
+        t.keyLayout = keyLayout;
+        t.slots = slots;
+        t.numKeys = numKeys;
+        t.intKeys = intKeys;
+        t.longKeys = longKeys;
+        t.keyAddrs = keyAddrs;
+        t.keyLens = keyLens;
+        t.keyHashes = keyHashes;
+        t.firstValues = firstValues;
+        t.lastValues = lastValues;
+        t.numValues = numValues;
+        t.valueAddrs = valueAddrs;
+        t.valueLens = valueLens;
+        t.nextValues = nextValues;
+        t.pages = pages;
+        t.curPage = curPage;
+        t.curPageUsed = curPageUsed;
+        t.pageBytes = pageBytes;
+        return t;
+    }
+
+    /**
+     * Add a value for a key. Values of a key are returned by
+     * {@link #get(Object)} in the order they were added.
+     * @param key join key, must not be null
+     * @param value value tuple
+     * @throws ExecException
+     */
+    public void put(Object key, Tuple value) throws ExecException {
+        if (keyLayout == KEYS_NONE) {
+            keyLayout = layoutFor(key);
+            if (keyLayout == KEYS_INT) {
+                intKeys = new int[keyHashes.length];
+            } else if (keyLayout == KEYS_LONG) {
+                longKeys = new long[keyHashes.length];
+            } else {
+                keyAddrs = new long[keyHashes.length];
+                keyLens = new int[keyHashes.length];
+            }
+        } else if (!fitsLayout(key)) {
+            convertKeys(layoutFor(key));
+        }
+
+        int hash = hashKey(key);
+        int keyId = findKey(key, hash);
+        if (keyId == EMPTY) {
+            keyId = addKey(key, hash);
+        }
+
+        int valueId = addValue(value);
+        if (firstValues[keyId] == EMPTY) {
+            firstValues[keyId] = valueId;
+        } else {
+            nextValues[lastValues[keyId]] = valueId;
+        }
+        lastValues[keyId] = valueId;
+        lastKeyId = EMPTY;
+        lastValueList = null;
+    }
+
+    /**
+     * @param key join key
+     * @return the values added for key, or null if there are none. The list
+     * must not be modified.
+     * @throws ExecException
+     */
+    public List<Tuple> get(Object key) throws ExecException {
+        if (key == null || keyLayout == KEYS_NONE || !fitsLayout(key)) {
+            return null;
+        }
+        int keyId = findKey(key, hashKey(key));
+        if (keyId == EMPTY) {
+            return null;
+        }
+        if (keyId == lastKeyId) {
+            return lastValueList;
+        }
+        List<Tuple> values = new ArrayList<Tuple>();
+        for (int v = firstValues[keyId]; v != EMPTY; v = nextValues[v]) {
+            values.add((Tuple) read(valueAddrs[v], valueLens[v]));
+        }
+        lastKeyId = keyId;
+        lastValueList = values;
+        return values;
+    }
+
+    public boolean containsKey(Object key) throws ExecException {
+        if (key == null || keyLayout == KEYS_NONE || !fitsLayout(key)) {
+            return false;
+        }
+        return findKey(key, hashKey(key)) != EMPTY;
+    }
+
+    /**
+     * @return number of distinct keys
+     */
+    public int size() {
+        return numKeys;
+    }
+
+    /**
+     * @return number of values across all keys
+     */
+    public int getNumValues() {
+        return numValues;
+    }
+
+    /**
+     * @return approximate number of bytes held by the table
+     */
+    public long getMemorySize() {
+        long size = pageBytes;
+        size += slots.length * 4L;
+        // key hash, first and last value, plus the key itself
+        size += keyHashes.length * 12L;
+        if (intKeys != null) size += intKeys.length * 4L;
+        if (longKeys != null) size += longKeys.length * 8L;
+        if (keyAddrs != null) size += keyAddrs.length * 12L;
+        // address, length and next pointer
+        size += valueAddrs.length * 16L;
+        return size;
+    }
+
+    private static byte layoutFor(Object key) throws ExecException {
+        if (key instanceof Integer) {
+            return KEYS_INT;
+        } else if (key instanceof Long) {
+            return KEYS_LONG;
+        } else if (isUnordered(key)) {
+            return KEYS_OBJECTS;
+        }
+        return KEYS_BYTES;
+    }
+
+    /*
+     * Whether a key is or holds a map or a bag, whose equal values can be
+     * serialized in a different order.
+     */
+    private static boolean isUnordered(Object key) throws ExecException {
+        switch (DataType.findType(key)) {
+        case DataType.MAP:
+        case DataType.BAG:
+            return true;
+        case DataType.TUPLE:
+            Tuple t = (Tuple) key;
+            for (int i = 0; i < t.size(); i++) {
+                if (isUnordered(t.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        default:
+            return false;
+        }
+    }
+
+    private boolean fitsLayout(Object key) throws ExecException {
+        switch (keyLayout) {
+        case KEYS_INT:
+            return key instanceof Integer;
+        case KEYS_LONG:
+            return key instanceof Long;
+        case KEYS_BYTES:
+            return !isUnordered(key);
+        default:
+            return true;
+        }
+    }
+
+    private int hashKey(Object key) throws ExecException {
+        switch (keyLayout) {
+        case KEYS_INT:
+            return mix(((Integer) key).intValue());
+        case KEYS_LONG:
+            long l = ((Long) key).longValue();
+            return mix((int) (l ^ (l >>> 32)));
+        case KEYS_OBJECTS:
+            serializeKey(key);
+            return mix(key.hashCode());
+        default:
+            serializeKey(key);
+            return hashBytes(keyBuf.getData(), 0, keyBuf.getLength());
+        }
+    }
+
+    // Final mixing step of murmur3, spreads the bits of sequential keys
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int hashBytes(byte[] b, int off, int len) {
+        int h = 1;
+        for (int i = off; i < off + len; i++) {
+            h = 31 * h + b[i];
+        }
+        return mix(h);
+    }
+
+    private void serializeKey(Object key) throws ExecException {
+        keyBuf.reset();
+        try {
+            sedes.writeDatum(keyBuf, key);
+        } catch (IOException e) {
+            int errCode = 2257;
+            String msg = "Unable to serialize replicated join key.";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    /*
+     * Returns the id of key or EMPTY. For serialized keys, keyBuf has to
+     * hold the serialized key, which hashKey takes care of.
+     */
+    private int findKey(Object key, int hash) throws ExecException {
+        int mask = slots.length - 1;
+        for (int s = hash & mask; ; s = (s + 1) & mask) {
+            int id = slots[s];
+            if (id == EMPTY) {
+                return EMPTY;
+            }
+            if (keyHashes[id] == hash && keyEquals(id, key)) {
+                return id;
+            }
+        }
+    }
+
+    private boolean keyEquals(int id, Object key) throws ExecException {
+        switch (keyLayout) {
+        case KEYS_INT:
+            return intKeys[id] == ((Integer) key).intValue();
+        case KEYS_LONG:
+            return longKeys[id] == ((Long) key).longValue();
+        case KEYS_OBJECTS:
+            return key.equals(read(keyAddrs[id], keyLens[id]));
+        default:
+            int len = keyLens[id];
+            if (len != keyBuf.getLength()) {
+                return false;
+            }
+            long addr = keyAddrs[id];
+            byte[] page = pages.get((int) (addr >>> 32));
+            int off = (int) addr;
+            byte[] probe = keyBuf.getData();
+            for (int i = 0; i < len; i++) {
+                if (page[off + i] != probe[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private int addKey(Object key, int hash) {
+        if (numKeys == keyHashes.length) {
+            growKeys();
+        }
+        int id = numKeys++;
+        switch (keyLayout) {
+        case KEYS_INT:
+            intKeys[id] = ((Integer) key).intValue();
+            break;
+        case KEYS_LONG:
+            longKeys[id] = ((Long) key).longValue();
+            break;
+        default:
+            keyAddrs[id] = store(keyBuf.getData(), keyBuf.getLength());
+            keyLens[id] = keyBuf.getLength();
+        }
+        keyHashes[id] = hash;
+        firstValues[id] = EMPTY;
+        lastValues[id] = EMPTY;
+
+        // keep the load factor at or below one half
+        if (numKeys * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            insertSlot(id);
+        }
+        return id;
+    }
+
+    private void insertSlot(int id) {
+        int mask = slots.length - 1;
+        int s = keyHashes[id] & mask;
+        while (slots[s] != EMPTY) {
+            s = (s + 1) & mask;
+        }
+        slots[s] = id;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        for (int id = 0; id < numKeys; id++) {
+            insertSlot(id);
+        }
+    }
+
+    private void growKeys() {
+        int n = keyHashes.length * 2;
+        keyHashes = grow(keyHashes, n);
+        firstValues = grow(firstValues, n);
+        lastValues = grow(lastValues, n);
+        if (intKeys != null) intKeys = grow(intKeys, n);
+        if (longKeys != null) longKeys = grow(longKeys, n);
+        if (keyAddrs != null) {
+            keyAddrs = grow(keyAddrs, n);
+            keyLens = grow(keyLens, n);
+        }
+    }
+
+    /*
+     * Called when a key does not fit the layout picked from the keys so far:
+     * switch to serialized keys, or to keys compared as objects if the new
+     * key calls for it, and rebuild the index.
+     */
+    private void convertKeys(byte newLayout) throws ExecException {
+        byte oldLayout = keyLayout;
+        keyLayout = newLayout == KEYS_OBJECTS ? KEYS_OBJECTS : KEYS_BYTES;
+        if (oldLayout == KEYS_BYTES) {
+            // the keys are serialized already, only their hashes change
+            for (int id = 0; id < numKeys; id++) {
+                keyHashes[id] = mix(read(keyAddrs[id], keyLens[id]).hashCode());
+            }
+        } else {
+            keyAddrs = new long[keyHashes.length];
+            keyLens = new int[keyHashes.length];
+            for (int id = 0; id < numKeys; id++) {
+                Object key;
+                if (oldLayout == KEYS_INT) {
+                    key = Integer.valueOf(intKeys[id]);
+                } else {
+                    key = Long.valueOf(longKeys[id]);
+                }
+                keyHashes[id] = hashKey(key);
+                keyAddrs[id] = store(keyBuf.getData(), keyBuf.getLength());
+                keyLens[id] = keyBuf.getLength();
+            }
+            intKeys = null;
+            longKeys = null;
+        }
+        rehash(slots.length);
+    }
+
+    private int addValue(Tuple value) throws ExecException {
+        if (numValues == valueAddrs.length) {
+            int n = valueAddrs.length * 2;
+            valueAddrs = grow(valueAddrs, n);
+            valueLens = grow(valueLens, n);
+            nextValues = grow(nextValues, n);
+        }
+        valueBuf.reset();
+        try {
+            sedes.writeDatum(valueBuf, value, DataType.TUPLE);
+        } catch (IOException e) {
+            int errCode = 2257;
+            String msg = "Unable to serialize replicated join value.";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+        int id = numValues++;
+        valueAddrs[id] = store(valueBuf.getData(), valueBuf.getLength());
+        valueLens[id] = valueBuf.getLength();
+        nextValues[id] = EMPTY;
+        return id;
+    }
+
+    private long store(byte[] data, int len) {
+        if (curPage == null || curPage.length - curPageUsed < len) {
+            int pageSize = curPage == null ? MIN_PAGE_SIZE
+                    : Math.min(MAX_PAGE_SIZE, curPage.length * 2);
+            curPage = new byte[Math.max(pageSize, len)];
+            curPageUsed = 0;
+            pages.add(curPage);
+            pageBytes += curPage.length;
+        }
+        long addr = ((long) (pages.size() - 1) << 32) | curPageUsed;
+        System.arraycopy(data, 0, curPage, curPageUsed, len);
+        curPageUsed += len;
+        return addr;
+    }
+
+    private Object read(long addr, int len) throws ExecException {
+        inBuf.reset(pages.get((int) (addr >>> 32)), (int) addr, len);
+        try {
+            return sedes.readDatum(inBuf);
+        } catch (IOException e) {
+            int errCode = 2257;
+            String msg = "Unable to deserialize replicated join key or value.";
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    private static int[] grow(int[] a, int n) {
+        int[] b = new int[n];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    private static long[] grow(long[] a, int n) {
+        long[] b = new long[n];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+}
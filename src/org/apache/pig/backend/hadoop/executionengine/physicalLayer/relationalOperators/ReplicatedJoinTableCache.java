@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.impl.util.Spillable;
+import org.apache.pig.impl.util.SpillableMemoryManager;
+
+/**
+ * Keeps the hash tables built by {@link POFRJoin} for the lifetime of the
+ * JVM, so that when task JVMs are reused later tasks of a job do not have to
+ * read the replicated inputs and build the tables again.
+ *
+ * Every cached table is registered with the {@link SpillableMemoryManager};
+ * when memory runs low the manager asks the biggest tables to spill, which
+ * drops them from the cache. Tasks that are using a dropped table keep it
+ * until they are done.
+ */
+public class ReplicatedJoinTableCache {
+
+    private static final Log log = LogFactory.getLog(ReplicatedJoinTableCache.class);
+
+    // Upper bound on the number of cached tables, the least recently used
+    // one is dropped first
+    private static final int MAX_ENTRIES = 8;
+
+    private static final Map<String, Entry> cache =
+        new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+    private static class Entry implements Spillable {
+        private final String key;
+        private final ReplicatedJoinTable table;
+
+        Entry(String key, ReplicatedJoinTable table) {
+            this.key = key;
+            this.table = table;
+        }
+
+        public long spill() {
+            if (remove(key, this)) {
+                log.info("Dropped replicated join table from cache under memory pressure: "
+                        + table.getMemorySize() + " bytes");
+                return table.getNumValues();
+            }
+            return 0;
+        }
+
+        public long getMemorySize() {
+            return table.getMemorySize();
+        }
+    }
+
+    private ReplicatedJoinTableCache() {
+    }
+
+    /**
+     * @param key identifies the replicated input and the way it is joined
+     * @return a view of the cached table, or null if there is none
+     */
+    public static synchronized ReplicatedJoinTable get(String key) {
+        Entry e = cache.get(key);
+        return e == null ? null : e.table.duplicate();
+    }
+
+    /**
+     * Cache a table. The table must not be added to afterwards.
+     * @param key identifies the replicated input and the way it is joined
+     * @param table fully built table
+     */
+    public static void put(String key, ReplicatedJoinTable table) {
+        Entry e = new Entry(key, table);
+        synchronized (ReplicatedJoinTableCache.class) {
+            cache.put(key, e);
+        }
+        SpillableMemoryManager.getInstance().registerSpillable(e);
+    }
+
+    /**
+     * @return number of cached tables
+     */
+    public static synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Drop all cached tables
+     */
+    public static synchronized void clear() {
+        cache.clear();
+    }
+
+    private static synchronized boolean remove(String key, Entry e) {
+        if (cache.get(key) == e) {
+            cache.remove(key);
+            return true;
+        }
+        return false;
+    }
+}
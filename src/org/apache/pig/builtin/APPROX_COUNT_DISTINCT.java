@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.IOException;
+
+import org.apache.pig.Accumulator;
+import org.apache.pig.Algebraic;
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+
+/**
+ * Estimates the number of distinct values in a bag, with a HyperLogLog
+ * sketch. Like COUNT, null values are not counted. If the tuples of the bag
+ * have more than one field, the distinct tuples are counted.
+ * <p>
+ * The precision p can be given to the constructor, between 4 and 16; the
+ * default is 12. The sketch takes 2^p bytes, and the standard error of the
+ * count is about 1.04 / sqrt(2^p), 1.6% by default.
+ * <p>
+ * This class implements {@link org.apache.pig.Algebraic}, so the sketches are
+ * built in the map and merged in the combiner, and only the sketches are
+ * shuffled, as well as {@link org.apache.pig.Accumulator}.
+ * <p>
+ * Sample usage:
+ * define approx_distinct APPROX_COUNT_DISTINCT('14');
+ * A = load 'visits' as (day: chararray, user: chararray);
+ * B = group A by day;
+ * C = foreach B generate group, approx_distinct(A.user);
+ */
+public class APPROX_COUNT_DISTINCT extends EvalFunc<Long> implements Algebraic, Accumulator<Long> {
+    private static TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    private final int precision;
+
+    public APPROX_COUNT_DISTINCT() {
+        this(String.valueOf(HLLSketch.DEFAULT_PRECISION));
+    }
+
+    /**
+     * @param precision number of bits of the hash that choose a register
+     */
+    public APPROX_COUNT_DISTINCT(String precision) {
+        this.precision = Integer.parseInt(precision);
+        // fail early on a bad precision
+        new HLLSketch(this.precision);
+    }
+
+    @Override
+    public Long exec(Tuple input) throws IOException {
+        try {
+            HLLSketch sketch = new HLLSketch(precision);
+            addAll(sketch, (DataBag) input.get(0));
+            return sketch.estimate();
+        } catch (ExecException ee) {
+            throw ee;
+        } catch (Exception e) {
+            int errCode = 2106;
+            String msg = "Error while computing approximate count distinct in "
+                + this.getClass().getSimpleName();
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    public String getInitial() {
+        return Initial.class.getName();
+    }
+
+    public String getIntermed() {
+        return Intermediate.class.getName();
+    }
+
+    public String getFinal() {
+        return Final.class.getName();
+    }
+
+    static public class Initial extends EvalFunc<Tuple> {
+        private final int precision;
+
+        public Initial() {
+            this(String.valueOf(HLLSketch.DEFAULT_PRECISION));
+        }
+
+        public Initial(String precision) {
+            this.precision = Integer.parseInt(precision);
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            HLLSketch sketch = new HLLSketch(precision);
+            addAll(sketch, (DataBag) input.get(0));
+            return mTupleFactory.newTuple(sketch.toBytes());
+        }
+    }
+
+    static public class Intermediate extends EvalFunc<Tuple> {
+
+        public Intermediate() {
+        }
+
+        public Intermediate(String precision) {
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            HLLSketch sketch = merge(input);
+            return mTupleFactory.newTuple(sketch == null ? null : sketch.toBytes());
+        }
+    }
+
+    static public class Final extends EvalFunc<Long> {
+
+        public Final() {
+        }
+
+        public Final(String precision) {
+        }
+
+        @Override
+        public Long exec(Tuple input) throws IOException {
+            HLLSketch sketch = merge(input);
+            return sketch == null ? 0L : sketch.estimate();
+        }
+    }
+
+    static private void addAll(HLLSketch sketch, DataBag bag) throws ExecException {
+        for (Tuple t : bag) {
+            if (t == null || t.size() == 0) {
+                continue;
+            }
+            if (t.size() == 1) {
+                Object o = t.get(0);
+                if (o != null) {
+                    sketch.add(DataType.toBytes(o));
+                }
+            } else {
+                sketch.add(DataType.toBytes(t, DataType.TUPLE));
+            }
+        }
+    }
+
+    /**
+     * @return the merge of the sketches of a bag, null if it is empty
+     */
+    static private HLLSketch merge(Tuple input) throws ExecException {
+        HLLSketch sketch = null;
+        for (Tuple t : (DataBag) input.get(0)) {
+            DataByteArray b = (DataByteArray) t.get(0);
+            if (b == null) {
+                continue;
+            }
+            if (sketch == null) {
+                sketch = new HLLSketch(b);
+            } else {
+                sketch.merge(new HLLSketch(b));
+            }
+        }
+        return sketch;
+    }
+
+    @Override
+    public Schema outputSchema(Schema input) {
+        return new Schema(new Schema.FieldSchema(null, DataType.LONG));
+    }
+
+    /* Accumulator interface implementation */
+    private HLLSketch intermediateSketch = null;
+
+    @Override
+    public void accumulate(Tuple b) throws IOException {
+        if (intermediateSketch == null) {
+            intermediateSketch = new HLLSketch(precision);
+        }
+        addAll(intermediateSketch, (DataBag) b.get(0));
+    }
+
+    @Override
+    public void cleanup() {
+        intermediateSketch = null;
+    }
+
+    @Override
+    public Long getValue() {
+        return intermediateSketch == null ? 0L : intermediateSketch.estimate();
+    }
+}
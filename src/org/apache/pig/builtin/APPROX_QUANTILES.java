@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.IOException;
+
+import org.apache.pig.Accumulator;
+import org.apache.pig.Algebraic;
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+
+/**
+ * Estimates quantiles of the numbers in a bag, without sorting it, with a
+ * sketch that keeps a few thousand of them. The quantiles, between 0 and 1,
+ * are given to the constructor; the default is the median. The result is a
+ * tuple of one double per quantile, or of nulls if the bag has no numbers.
+ * Null values are ignored. The error in the rank of each estimate is about a
+ * percent of the number of values.
+ * <p>
+ * This class implements {@link org.apache.pig.Algebraic}, so the sketches are
+ * built in the map and merged in the combiner, and only the sketches are
+ * shuffled, as well as {@link org.apache.pig.Accumulator}.
+ * <p>
+ * Sample usage:
+ * define percentiles APPROX_QUANTILES('0.5', '0.9', '0.99');
+ * A = load 'requests' as (url: chararray, latency: double);
+ * B = group A by url;
+ * C = foreach B generate group, flatten(percentiles(A.latency));
+ */
+public class APPROX_QUANTILES extends EvalFunc<Tuple> implements Algebraic, Accumulator<Tuple> {
+    private static TupleFactory mTupleFactory = TupleFactory.getInstance();
+
+    private final double[] quantiles;
+
+    public APPROX_QUANTILES() {
+        this(new String[0]);
+    }
+
+    /**
+     * @param quantiles the quantiles to estimate, between 0 and 1
+     */
+    public APPROX_QUANTILES(String... quantiles) {
+        this.quantiles = parse(quantiles);
+    }
+
+    static private double[] parse(String[] quantiles) {
+        if (quantiles.length == 0) {
+            return new double[] { 0.5 };
+        }
+        double[] qs = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            qs[i] = Double.parseDouble(quantiles[i]);
+            if (qs[i] < 0 || qs[i] > 1) {
+                throw new IllegalArgumentException("Quantiles must be between 0 and 1, not "
+                        + quantiles[i]);
+            }
+        }
+        return qs;
+    }
+
+    @Override
+    public Tuple exec(Tuple input) throws IOException {
+        try {
+            QuantileSketch sketch = new QuantileSketch();
+            addAll(sketch, (DataBag) input.get(0));
+            return toTuple(sketch.quantiles(quantiles));
+        } catch (ExecException ee) {
+            throw ee;
+        } catch (Exception e) {
+            int errCode = 2106;
+            String msg = "Error while computing approximate quantiles in "
+                + this.getClass().getSimpleName();
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    public String getInitial() {
+        return Initial.class.getName();
+    }
+
+    public String getIntermed() {
+        return Intermediate.class.getName();
+    }
+
+    public String getFinal() {
+        return Final.class.getName();
+    }
+
+    static public class Initial extends EvalFunc<Tuple> {
+
+        public Initial() {
+        }
+
+        public Initial(String... quantiles) {
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            QuantileSketch sketch = new QuantileSketch();
+            addAll(sketch, (DataBag) input.get(0));
+            return mTupleFactory.newTuple(sketch.toBytes());
+        }
+    }
+
+    static public class Intermediate extends EvalFunc<Tuple> {
+
+        public Intermediate() {
+        }
+
+        public Intermediate(String... quantiles) {
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            return mTupleFactory.newTuple(merge(input).toBytes());
+        }
+    }
+
+    static public class Final extends EvalFunc<Tuple> {
+        private final double[] quantiles;
+
+        public Final() {
+            this(new String[0]);
+        }
+
+        public Final(String... quantiles) {
+            this.quantiles = parse(quantiles);
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            return toTuple(merge(input).quantiles(quantiles));
+        }
+    }
+
+    static private void addAll(QuantileSketch sketch, DataBag bag) throws ExecException {
+        for (Tuple t : bag) {
+            if (t == null || t.size() == 0) {
+                continue;
+            }
+            Double d = DataType.toDouble(t.get(0));
+            if (d != null) {
+                sketch.add(d);
+            }
+        }
+    }
+
+    static private QuantileSketch merge(Tuple input) throws IOException {
+        QuantileSketch sketch = new QuantileSketch();
+        for (Tuple t : (DataBag) input.get(0)) {
+            DataByteArray b = (DataByteArray) t.get(0);
+            if (b != null) {
+                sketch.merge(new QuantileSketch(b));
+            }
+        }
+        return sketch;
+    }
+
+    static private Tuple toTuple(Double[] values) throws ExecException {
+        Tuple t = mTupleFactory.newTuple(values.length);
+        for (int i = 0; i < values.length; i++) {
+            t.set(i, values[i]);
+        }
+        return t;
+    }
+
+    @Override
+    public Schema outputSchema(Schema input) {
+        Schema quantileSchema = new Schema();
+        for (int i = 0; i < quantiles.length; i++) {
+            quantileSchema.add(new Schema.FieldSchema(null, DataType.DOUBLE));
+        }
+        try {
+            return new Schema(new Schema.FieldSchema(null, quantileSchema, DataType.TUPLE));
+        } catch (FrontendException e) {
+            // we are specifying TUPLE explicitly, so this should not happen.
+            throw new RuntimeException(e);
+        }
+    }
+
+    /* Accumulator interface implementation */
+    private QuantileSketch intermediateSketch = null;
+
+    @Override
+    public void accumulate(Tuple b) throws IOException {
+        if (intermediateSketch == null) {
+            intermediateSketch = new QuantileSketch();
+        }
+        addAll(intermediateSketch, (DataBag) b.get(0));
+    }
+
+    @Override
+    public void cleanup() {
+        intermediateSketch = null;
+    }
+
+    @Override
+    public Tuple getValue() {
+        QuantileSketch sketch = intermediateSketch == null ? new QuantileSketch() : intermediateSketch;
+        try {
+            return toTuple(sketch.quantiles(quantiles));
+        } catch (ExecException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
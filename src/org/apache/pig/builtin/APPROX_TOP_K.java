@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.pig.Accumulator;
+import org.apache.pig.Algebraic;
+import org.apache.pig.EvalFunc;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+
+/**
+ * Finds the most frequent values in a bag, and about how many times each
+ * occurs, without grouping by them. The number k of values to return is given
+ * to the constructor, 10 by default, as well as, optionally, the number of
+ * values the sketch counts, 10 * k by default and at least 100. The result is
+ * a bag of (value, count) tuples, most frequent first. A value that makes up
+ * more than 1 / (capacity + 1) of the bag is always found, and its count is
+ * under by no more than that fraction of the bag. Null values are ignored; if
+ * the tuples of the bag have more than one field, the most frequent tuples
+ * are found.
+ * <p>
+ * This class implements {@link org.apache.pig.Algebraic}, so the sketches are
+ * built in the map and merged in the combiner, and only the sketches are
+ * shuffled, as well as {@link org.apache.pig.Accumulator}.
+ * <p>
+ * Sample usage:
+ * define top_pages APPROX_TOP_K('20');
+ * A = load 'visits' as (day: chararray, url: chararray);
+ * B = group A by day;
+ * C = foreach B generate group, top_pages(A.url);
+ */
+public class APPROX_TOP_K extends EvalFunc<DataBag> implements Algebraic, Accumulator<DataBag> {
+    private static TupleFactory mTupleFactory = TupleFactory.getInstance();
+    private static BagFactory mBagFactory = BagFactory.getInstance();
+
+    static final int DEFAULT_K = 10;
+
+    private final int k;
+    private final int capacity;
+
+    public APPROX_TOP_K() {
+        this(String.valueOf(DEFAULT_K));
+    }
+
+    /**
+     * @param k number of values to return
+     */
+    public APPROX_TOP_K(String k) {
+        this(k, String.valueOf(defaultCapacity(Integer.parseInt(k))));
+    }
+
+    /**
+     * @param k number of values to return
+     * @param capacity number of values the sketch counts
+     */
+    public APPROX_TOP_K(String k, String capacity) {
+        this.k = Integer.parseInt(k);
+        this.capacity = Integer.parseInt(capacity);
+        if (this.k < 1 || this.capacity < this.k) {
+            throw new IllegalArgumentException("APPROX_TOP_K needs 0 < k <= capacity, not k = "
+                    + k + " and capacity = " + capacity);
+        }
+    }
+
+    static private int defaultCapacity(int k) {
+        return Math.max(10 * k, 100);
+    }
+
+    @Override
+    public DataBag exec(Tuple input) throws IOException {
+        try {
+            HeavyHittersSketch sketch = new HeavyHittersSketch(capacity);
+            addAll(sketch, (DataBag) input.get(0));
+            return toBag(sketch, k);
+        } catch (ExecException ee) {
+            throw ee;
+        } catch (Exception e) {
+            int errCode = 2106;
+            String msg = "Error while computing approximate top k in "
+                + this.getClass().getSimpleName();
+            throw new ExecException(msg, errCode, PigException.BUG, e);
+        }
+    }
+
+    public String getInitial() {
+        return Initial.class.getName();
+    }
+
+    public String getIntermed() {
+        return Intermediate.class.getName();
+    }
+
+    public String getFinal() {
+        return Final.class.getName();
+    }
+
+    static public class Initial extends EvalFunc<Tuple> {
+        private final int capacity;
+
+        public Initial() {
+            this(String.valueOf(DEFAULT_K));
+        }
+
+        public Initial(String k) {
+            this(k, String.valueOf(defaultCapacity(Integer.parseInt(k))));
+        }
+
+        public Initial(String k, String capacity) {
+            this.capacity = Integer.parseInt(capacity);
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            HeavyHittersSketch sketch = new HeavyHittersSketch(capacity);
+            addAll(sketch, (DataBag) input.get(0));
+            return mTupleFactory.newTuple(sketch.toBytes());
+        }
+    }
+
+    static public class Intermediate extends EvalFunc<Tuple> {
+        private final int capacity;
+
+        public Intermediate() {
+            this(String.valueOf(DEFAULT_K));
+        }
+
+        public Intermediate(String k) {
+            this(k, String.valueOf(defaultCapacity(Integer.parseInt(k))));
+        }
+
+        public Intermediate(String k, String capacity) {
+            this.capacity = Integer.parseInt(capacity);
+        }
+
+        @Override
+        public Tuple exec(Tuple input) throws IOException {
+            return mTupleFactory.newTuple(merge(input, capacity).toBytes());
+        }
+    }
+
+    static public class Final extends EvalFunc<DataBag> {
+        private final int k;
+        private final int capacity;
+
+        public Final() {
+            this(String.valueOf(DEFAULT_K));
+        }
+
+        public Final(String k) {
+            this(k, String.valueOf(defaultCapacity(Integer.parseInt(k))));
+        }
+
+        public Final(String k, String capacity) {
+            this.k = Integer.parseInt(k);
+            this.capacity = Integer.parseInt(capacity);
+        }
+
+        @Override
+        public DataBag exec(Tuple input) throws IOException {
+            return toBag(merge(input, capacity), k);
+        }
+    }
+
+    static private void addAll(HeavyHittersSketch sketch, DataBag bag) throws ExecException {
+        for (Tuple t : bag) {
+            if (t == null || t.size() == 0) {
+                continue;
+            }
+            if (t.size() == 1) {
+                Object o = t.get(0);
+                if (o != null) {
+                    sketch.add(o, 1);
+                }
+            } else {
+                sketch.add(t, 1);
+            }
+        }
+    }
+
+    static private HeavyHittersSketch merge(Tuple input, int capacity) throws IOException {
+        HeavyHittersSketch sketch = new HeavyHittersSketch(capacity);
+        for (Tuple t : (DataBag) input.get(0)) {
+            DataByteArray b = (DataByteArray) t.get(0);
+            if (b != null) {
+                sketch.merge(new HeavyHittersSketch(b));
+            }
+        }
+        return sketch;
+    }
+
+    static private DataBag toBag(HeavyHittersSketch sketch, int k) {
+        DataBag bag = mBagFactory.newDefaultBag();
+        for (Map.Entry<Object, long[]> e : sketch.top(k)) {
+            Tuple t = mTupleFactory.newTuple(2);
+            try {
+                t.set(0, e.getKey());
+                t.set(1, e.getValue()[0]);
+            } catch (ExecException ee) {
+                // the tuple has two fields, so this should not happen.
+                throw new RuntimeException(ee);
+            }
+            bag.add(t);
+        }
+        return bag;
+    }
+
+    @Override
+    public Schema outputSchema(Schema input) {
+        Schema tupleSchema = new Schema();
+        Schema.FieldSchema valueSchema = new Schema.FieldSchema("value", DataType.BYTEARRAY);
+        try {
+            Schema.FieldSchema bagSchema = input == null ? null : input.getField(0);
+            Schema inner = bagSchema == null ? null : bagSchema.schema;
+            if (inner != null && inner.size() == 1 && inner.getField(0).type == DataType.TUPLE) {
+                // the inner schema of a bag is a tuple
+                inner = inner.getField(0).schema;
+            }
+            if (inner != null && inner.size() == 1) {
+                valueSchema = new Schema.FieldSchema("value", inner.getField(0).schema,
+                        inner.getField(0).type);
+            } else if (inner != null && inner.size() > 1) {
+                valueSchema = new Schema.FieldSchema("value", inner, DataType.TUPLE);
+            }
+            tupleSchema.add(valueSchema);
+            tupleSchema.add(new Schema.FieldSchema("count", DataType.LONG));
+            return new Schema(new Schema.FieldSchema(null,
+                    new Schema(new Schema.FieldSchema(null, tupleSchema, DataType.TUPLE)),
+                    DataType.BAG));
+        } catch (FrontendException e) {
+            // we are specifying BAG and TUPLE explicitly, so this should not happen.
+            throw new RuntimeException(e);
+        }
+    }
+
+    /* Accumulator interface implementation */
+    private HeavyHittersSketch intermediateSketch = null;
+
+    @Override
+    public void accumulate(Tuple b) throws IOException {
+        if (intermediateSketch == null) {
+            intermediateSketch = new HeavyHittersSketch(capacity);
+        }
+        addAll(intermediateSketch, (DataBag) b.get(0));
+    }
+
+    @Override
+    public void cleanup() {
+        intermediateSketch = null;
+    }
+
+    @Override
+    public DataBag getValue() {
+        return toBag(intermediateSketch == null ? new HeavyHittersSketch(capacity)
+                : intermediateSketch, k);
+    }
+}
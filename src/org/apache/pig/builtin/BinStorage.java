@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -40,10 +41,12 @@ import org.apache.hadoop.mapreduce.RecordWriter;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 import org.apache.pig.Expression;
+import org.apache.pig.Expression.OpType;
 import org.apache.pig.FileInputLoadFunc;
 import org.apache.pig.LoadCaster;
 import org.apache.pig.LoadFunc;
 import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPredicatePushdown;
 import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.ResourceSchema;
@@ -59,21 +62,25 @@ import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataReaderWriter;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.io.BinStorageInputFormat;
+import org.apache.pig.impl.io.BlockIndex;
 import org.apache.pig.impl.io.BinStorageOutputFormat;
 import org.apache.pig.impl.io.BinStorageRecordReader;
 import org.apache.pig.impl.io.BinStorageRecordWriter;
 import org.apache.pig.impl.io.FileLocalizer;
 import org.apache.pig.impl.logicalLayer.FrontendException;
 import org.apache.pig.impl.util.LogUtils;
+import org.apache.pig.impl.util.UDFContext;
 import org.apache.pig.impl.util.Utils;
 
 /**
  * Load and store data in a binary format.  This class is used by Pig to move
  * data between MapReduce jobs.  Use of this function for storing user data is
- * supported.
+ * supported.  The files stored can be indexed by columns, see
+ * {@link BlockIndex}, so that a filter following a load of them skips the
+ * blocks of records with no record satisfying it.
  */
 public class BinStorage extends FileInputLoadFunc 
-implements StoreFuncInterface, LoadMetadata {
+implements StoreFuncInterface, LoadMetadata, LoadPredicatePushdown {
 
     static class UnImplementedLoadCaster implements LoadCaster {
 
@@ -140,6 +147,11 @@ implements StoreFuncInterface, LoadMetadata {
     
     private BinStorageRecordReader recReader = null;
     private BinStorageRecordWriter recWriter = null;
+
+    private String signature;
+    private String storeSignature;
+    private String indexColumns = null;
+    private String bloomColumns = null;
     
     public BinStorage() {
     }
@@ -153,6 +165,28 @@ implements StoreFuncInterface, LoadMetadata {
         this.casterString = casterString;
     }
 
+    /**
+     * Understands the following options, which can be specified in the
+     * second parameter:
+     * <ul>
+     * <li><code>-index</code> Indexes the files stored by the given columns,
+     * comma separated, by name or as $ followed by their position.
+     * <li><code>-bloom</code> Also keeps bloom filters of the given columns,
+     * for equality conditions.
+     * </ul>
+     * @param casterString the class name of the caster, or an empty string
+     * for none
+     * @param options the options of the files stored
+     */
+    public BinStorage(String casterString, String options) {
+        if (casterString.length() > 0) {
+            BinStorage.casterString = casterString;
+        }
+        String[] columns = BlockIndex.parseOptions(options, "BinStorage('[caster]', '[options]')");
+        indexColumns = columns[0];
+        bloomColumns = columns[1];
+    }
+
     @Override
     public Tuple getNext() throws IOException {
         if(recReader.nextKeyValue()) {
@@ -339,6 +373,20 @@ implements StoreFuncInterface, LoadMetadata {
     @Override
     public void setLocation(String location, Job job) throws IOException {
         FileInputFormat.setInputPaths(job, location);
+        BlockIndex.setLocation(getUDFProperties(signature), job.getConfiguration());
+    }
+
+    @Override
+    public void setUDFContextSignature(String signature) {
+        this.signature = signature;
+    }
+
+    private Properties getUDFProperties(String signature) {
+        if (signature == null) {
+            return new Properties();
+        }
+        return UDFContext.getUDFContext().getUDFProperties(getClass(),
+                new String[] { signature });
     }
 
     @Override
@@ -354,11 +402,14 @@ implements StoreFuncInterface, LoadMetadata {
     @Override
     public void setStoreLocation(String location, Job job) throws IOException {
         FileOutputFormat.setOutputPath(job, new Path(location));
+        BlockIndex.setStoreLocation(indexColumns, bloomColumns,
+                getUDFProperties(storeSignature), job.getConfiguration());
     }
 
     @Override
     public void checkSchema(ResourceSchema s) throws IOException {
-        
+        BlockIndex.checkSchema(indexColumns, bloomColumns, s,
+                getUDFProperties(storeSignature));
     }
 
     @Override
@@ -413,8 +464,28 @@ implements StoreFuncInterface, LoadMetadata {
         throw new UnsupportedOperationException();
     }
     
+    @Override
+    public List<String> getPredicateFields(String location, Job job)
+            throws IOException {
+        return BlockIndex.getIndexedColumns(location, job.getConfiguration());
+    }
+
+    @Override
+    public List<OpType> getSupportedExpressionTypes() {
+        return BlockIndex.SUPPORTED_OPS;
+    }
+
+    @Override
+    public Expression setPushdownPredicate(Expression predicate)
+            throws IOException {
+        BlockIndex.setPredicate(predicate, getUDFProperties(signature));
+        // whole blocks are skipped, the records read still need filtering
+        return predicate;
+    }
+    
     @Override
     public void setStoreFuncUDFContextSignature(String signature) {
+        this.storeSignature = signature;
     }
 
     @Override
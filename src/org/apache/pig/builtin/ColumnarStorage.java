@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.GnuParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.OutputFormat;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+import org.apache.pig.Expression;
+import org.apache.pig.FileInputLoadFunc;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPushDown;
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.ResourceStatistics.ResourceFieldStatistics;
+import org.apache.pig.StoreFunc;
+import org.apache.pig.StoreFuncInterface;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSplit;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.ColumnarFile;
+import org.apache.pig.impl.io.ColumnarInputFormat;
+import org.apache.pig.impl.io.ColumnarOutputFormat;
+import org.apache.pig.impl.io.ColumnarRecordReader;
+import org.apache.pig.impl.io.ColumnarRecordWriter;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.apache.pig.impl.util.UDFContext;
+import org.apache.pig.impl.util.Utils;
+
+/**
+ * Loads and stores data in a columnar format. The records are stored in
+ * stripes, and in each stripe the values of a column are encoded together,
+ * by a dictionary, run lengths or deltas as suits them (see
+ * {@link ColumnarFile}). A load that needs only some of the columns reads
+ * only their values, and the schema and statistics of the data are kept in
+ * the files.
+ * <p>
+ * The relation stored must have a schema. The constructor accepts the
+ * option <code>-compress</code>, which compresses each column of a stripe
+ * on its own. The size of the stripes is set by the property
+ * <code>pig.columnar.stripe.size</code>.
+ * @since Pig 0.11
+ */
+public class ColumnarStorage extends FileInputLoadFunc
+implements StoreFuncInterface, LoadMetadata, LoadPushDown {
+
+    private static final String REQUIRED_COLUMNS = "columnar.required.columns";
+    private static final String SCHEMA = "columnar.schema";
+
+    private ColumnarRecordReader reader = null;
+    private ColumnarRecordWriter writer = null;
+
+    private String signature;
+    private String storeSignature;
+    private boolean compress = false;
+
+    public ColumnarStorage() {
+    }
+
+    /**
+     * Understands the following options:
+     * <ul>
+     * <li><code>-compress</code> Compresses the values of each column of a
+     * stripe, when that makes them smaller.
+     * </ul>
+     * @param options the options of the files stored
+     */
+    public ColumnarStorage(String options) {
+        Options validOptions = new Options();
+        validOptions.addOption("compress", false, "Compresses the columns.");
+        try {
+            CommandLine line = new GnuParser().parse(validOptions, options.trim().split("\\s+"));
+            compress = line.hasOption("compress");
+        } catch (ParseException e) {
+            new HelpFormatter().printHelp("ColumnarStorage('[options]')", validOptions);
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Tuple getNext() throws IOException {
+        if (reader.nextKeyValue()) {
+            return reader.getCurrentValue();
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void putNext(Tuple t) throws IOException {
+        try {
+            writer.write(null, t);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public InputFormat getInputFormat() {
+        return new ColumnarInputFormat();
+    }
+
+    @Override
+    public void prepareToRead(RecordReader reader, PigSplit split) throws IOException {
+        this.reader = (ColumnarRecordReader)reader;
+        String required = getUDFProperties(signature).getProperty(REQUIRED_COLUMNS);
+        if (required != null) {
+            this.reader.setRequiredColumns((boolean[])ObjectSerializer.deserialize(required));
+        }
+    }
+
+    @Override
+    public void setLocation(String location, Job job) throws IOException {
+        FileInputFormat.setInputPaths(job, location);
+    }
+
+    @Override
+    public void setUDFContextSignature(String signature) {
+        this.signature = signature;
+    }
+
+    private Properties getUDFProperties(String signature) {
+        if (signature == null) {
+            return new Properties();
+        }
+        return UDFContext.getUDFContext().getUDFProperties(getClass(),
+                new String[] { signature });
+    }
+
+    @Override
+    public List<OperatorSet> getFeatures() {
+        return Arrays.asList(LoadPushDown.OperatorSet.PROJECTION);
+    }
+
+    @Override
+    public RequiredFieldResponse pushProjection(RequiredFieldList requiredFieldList)
+            throws FrontendException {
+        if (requiredFieldList == null || requiredFieldList.getFields() == null) {
+            return null;
+        }
+        int lastColumn = -1;
+        for (RequiredField rf : requiredFieldList.getFields()) {
+            lastColumn = Math.max(lastColumn, rf.getIndex());
+        }
+        boolean[] requiredColumns = new boolean[lastColumn + 1];
+        for (RequiredField rf : requiredFieldList.getFields()) {
+            if (rf.getIndex() != -1) {
+                requiredColumns[rf.getIndex()] = true;
+            }
+        }
+        try {
+            getUDFProperties(signature).setProperty(REQUIRED_COLUMNS,
+                    ObjectSerializer.serialize(requiredColumns));
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot serialize the required columns");
+        }
+        return new RequiredFieldResponse(true);
+    }
+
+    @Override
+    public ResourceSchema getSchema(String location, Job job) throws IOException {
+        Configuration conf = job.getConfiguration();
+        for (FileStatus file : ColumnarFile.getFiles(location, conf)) {
+            Path path = file.getPath();
+            ColumnarFile columnarFile = ColumnarFile.read(path.getFileSystem(conf), path);
+            return new ResourceSchema(Utils.getSchemaFromString(columnarFile.getSchema()));
+        }
+        // At compile time in batch mode, the file may not exist (such as an
+        // intermediate file)
+        return null;
+    }
+
+    /**
+     * Gets the number of records and bytes of the files, the smallest and
+     * largest value of the columns of simple types, as the value histogram
+     * of their field statistics, and for the columns of chararrays with few
+     * distinct values the number of distinct values and the most common
+     * values with their frequencies.
+     */
+    @Override
+    public ResourceStatistics getStatistics(String location, Job job) throws IOException {
+        Configuration conf = job.getConfiguration();
+        long rows = 0;
+        long bytes = 0;
+        Object[] min = null;
+        Object[] max = null;
+        boolean[] known = null;
+        List<Map<String, Long>> valueCounts = null;
+        for (FileStatus file : ColumnarFile.getFiles(location, conf)) {
+            Path path = file.getPath();
+            ColumnarFile columnarFile = ColumnarFile.read(path.getFileSystem(conf), path);
+            rows += columnarFile.getRows();
+            bytes += file.getLen();
+            if (valueCounts == null) {
+                valueCounts = new ArrayList<Map<String, Long>>();
+                int columns = Utils.getSchemaFromString(columnarFile.getSchema()).size();
+                for (int i = 0; i < columns; i++) {
+                    valueCounts.add(new HashMap<String, Long>());
+                }
+            }
+            for (int i = 0; i < valueCounts.size(); i++) {
+                Map<String, Long> counts = columnarFile.getValueCounts(i);
+                if (counts == null || valueCounts.get(i) == null) {
+                    valueCounts.set(i, null);
+                    continue;
+                }
+                for (Map.Entry<String, Long> entry : counts.entrySet()) {
+                    Long count = valueCounts.get(i).get(entry.getKey());
+                    valueCounts.get(i).put(entry.getKey(),
+                            count == null ? entry.getValue() : count + entry.getValue());
+                }
+            }
+            for (ColumnarFile.Stripe stripe : columnarFile.getStripes()) {
+                ColumnarFile.Chunk[] chunks = stripe.getChunks();
+                if (known == null) {
+                    min = new Object[chunks.length];
+                    max = new Object[chunks.length];
+                    known = new boolean[chunks.length];
+                    Arrays.fill(known, true);
+                }
+                for (int i = 0; i < known.length; i++) {
+                    if (i >= chunks.length) {
+                        known[i] = false;
+                        continue;
+                    }
+                    ColumnarFile.Chunk chunk = chunks[i];
+                    if (chunk.getNullCount() == stripe.getRows()) {
+                        continue;
+                    }
+                    if (chunk.getMin() == null) {
+                        known[i] = false;
+                        continue;
+                    }
+                    if (min[i] == null || DataType.compare(chunk.getMin(), min[i]) < 0) {
+                        min[i] = chunk.getMin();
+                    }
+                    if (max[i] == null || DataType.compare(chunk.getMax(), max[i]) > 0) {
+                        max[i] = chunk.getMax();
+                    }
+                }
+            }
+        }
+        ResourceStatistics stats = new ResourceStatistics();
+        stats.setNumRecords(rows);
+        stats.setmBytes(bytes / (1024 * 1024));
+        if (rows > 0) {
+            stats.setAvgRecordSize(bytes / rows);
+        }
+        if (known != null) {
+            ResourceFieldStatistics[] fields = new ResourceFieldStatistics[known.length];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = new ResourceFieldStatistics();
+                if (known[i] && min[i] != null) {
+                    fields[i].setValueHistogram(new Object[] { min[i], max[i] });
+                }
+                if (i < valueCounts.size() && valueCounts.get(i) != null) {
+                    setMostCommonValues(fields[i], valueCounts.get(i), rows);
+                }
+            }
+            stats.setFields(fields);
+        }
+        return stats;
+    }
+
+    private static void setMostCommonValues(ResourceFieldStatistics field,
+            final Map<String, Long> counts, long rows) {
+        List<String> values = new ArrayList<String>(counts.keySet());
+        Collections.sort(values, new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return counts.get(o2).compareTo(counts.get(o1));
+            }
+        });
+        float[] freqs = new float[values.size()];
+        for (int i = 0; i < freqs.length; i++) {
+            freqs[i] = counts.get(values.get(i)) / (float)rows;
+        }
+        field.setNumDistinctValues((long)values.size());
+        field.setMostCommonValues(values.toArray());
+        field.setMostCommonValuesFreq(freqs);
+    }
+
+    @Override
+    public String[] getPartitionKeys(String location, Job job) throws IOException {
+        return null;
+    }
+
+    @Override
+    public void setPartitionFilter(Expression partitionFilter) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public OutputFormat getOutputFormat() {
+        return new ColumnarOutputFormat();
+    }
+
+    @Override
+    public void prepareToWrite(RecordWriter writer) {
+        this.writer = (ColumnarRecordWriter)writer;
+    }
+
+    @Override
+    public void checkSchema(ResourceSchema s) throws IOException {
+        getUDFProperties(storeSignature).setProperty(SCHEMA, s.toString());
+    }
+
+    @Override
+    public void setStoreLocation(String location, Job job) throws IOException {
+        FileOutputFormat.setOutputPath(job, new Path(location));
+        String schema = getUDFProperties(storeSignature).getProperty(SCHEMA);
+        if (schema == null) {
+            throw new FrontendException("ColumnarStorage can only store a relation with a schema");
+        }
+        Configuration conf = job.getConfiguration();
+        conf.set(ColumnarFile.PROP_SCHEMA, schema);
+        conf.setBoolean(ColumnarFile.PROP_COMPRESS, compress);
+    }
+
+    @Override
+    public String relToAbsPathForStoreLocation(String location, Path curDir)
+            throws IOException {
+        return LoadFunc.getAbsolutePath(location, curDir);
+    }
+
+    @Override
+    public void setStoreFuncUDFContextSignature(String signature) {
+        this.storeSignature = signature;
+    }
+
+    @Override
+    public void cleanupOnFailure(String location, Job job) throws IOException {
+        StoreFunc.cleanupOnFailureImpl(location, job);
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce
 import org.apache.pig.data.BagFactory;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.InternalDistinctBag;
+import org.apache.pig.data.InternalHashDistinctBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 
@@ -123,6 +124,8 @@ public class Distinct  extends EvalFunc<DataBag> implements Algebraic {
                       
     	if (bagType != null && bagType.equalsIgnoreCase("default")) {        	    	
         	return BagFactory.getInstance().newDistinctBag();    			
+        } else if (InternalHashDistinctBag.BAG_TYPE.equalsIgnoreCase(bagType)) {
+            return new InternalHashDistinctBag(3);
    	    } else {   	    	
    	    	return new InternalDistinctBag(3);
 	    }
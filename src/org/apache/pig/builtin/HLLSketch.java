@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataByteArray;
+
+/**
+ * A HyperLogLog sketch, that estimates the number of distinct values added to
+ * it. It has 2^precision registers of one byte, each of which keeps the
+ * longest run of leading zeros seen in the hashes of the values it is chosen
+ * for. The standard error of the estimate is about 1.04 / sqrt(2^precision).
+ * Two sketches of the same precision are merged by keeping the largest value
+ * of each register.
+ * <p>
+ * A sketch with few registers set, such as the sketch of a single value, is
+ * serialized as the indexes and values of those registers only.
+ */
+class HLLSketch {
+
+    static final int DEFAULT_PRECISION = 12;
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 16;
+
+    // set in the first byte of a sketch serialized sparsely
+    private static final int SPARSE = 0x80;
+
+    private final int precision;
+    // the precision followed by the registers, as the sketch is
+    // serialized when many registers are set
+    private final byte[] bytes;
+
+    HLLSketch(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision of HyperLogLog must be between "
+                    + MIN_PRECISION + " and " + MAX_PRECISION + ", not " + precision);
+        }
+        this.precision = precision;
+        bytes = new byte[1 + (1 << precision)];
+        bytes[0] = (byte) precision;
+    }
+
+    /**
+     * @param b a sketch serialized with {@link #toBytes()}
+     */
+    HLLSketch(DataByteArray b) throws ExecException {
+        byte[] data = b.get();
+        int first = data.length > 0 ? data[0] & 0xff : 0;
+        boolean sparse = (first & SPARSE) != 0;
+        precision = first & ~SPARSE;
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION
+                || (sparse ? (data.length - 1) % 3 != 0 : data.length != 1 + (1 << precision))) {
+            throw new ExecException("Invalid HyperLogLog sketch of " + data.length + " bytes");
+        }
+        if (!sparse) {
+            bytes = data.clone();
+            return;
+        }
+        bytes = new byte[1 + (1 << precision)];
+        bytes[0] = (byte) precision;
+        for (int i = 1; i < data.length; i += 3) {
+            int index = (data[i] & 0xff) << 8 | (data[i + 1] & 0xff);
+            if (index >= 1 << precision) {
+                throw new ExecException("Invalid HyperLogLog sketch register " + index);
+            }
+            bytes[1 + index] = data[i + 2];
+        }
+    }
+
+    void add(byte[] value) {
+        long hash = hash64(value);
+        int index = (int) (hash >>> (64 - precision));
+        // the bit set marks the end of the hash, so the run is never longer
+        // than the bits left after the index
+        long rest = (hash << precision) | (1L << (precision - 1));
+        int rank = Long.numberOfLeadingZeros(rest) + 1;
+        if (bytes[1 + index] < rank) {
+            bytes[1 + index] = (byte) rank;
+        }
+    }
+
+    void merge(HLLSketch other) throws ExecException {
+        if (other.precision != precision) {
+            throw new ExecException("Cannot merge HyperLogLog sketches of precision "
+                    + precision + " and " + other.precision);
+        }
+        for (int i = 1; i < bytes.length; i++) {
+            if (bytes[i] < other.bytes[i]) {
+                bytes[i] = other.bytes[i];
+            }
+        }
+    }
+
+    long estimate() {
+        int m = 1 << precision;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 1; i < bytes.length; i++) {
+            sum += 1.0 / (1L << bytes[i]);
+            if (bytes[i] == 0) {
+                zeros++;
+            }
+        }
+        double alpha;
+        switch (m) {
+        case 16: alpha = 0.673; break;
+        case 32: alpha = 0.697; break;
+        case 64: alpha = 0.709; break;
+        default: alpha = 0.7213 / (1 + 1.079 / m);
+        }
+        double estimate = alpha * m * m / sum;
+        // linear counting is more accurate for small cardinalities
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    DataByteArray toBytes() {
+        int set = 0;
+        for (int i = 1; i < bytes.length; i++) {
+            if (bytes[i] != 0) {
+                set++;
+            }
+        }
+        // three bytes a register set
+        if (3 * set >= bytes.length - 1) {
+            return new DataByteArray(bytes.clone());
+        }
+        byte[] data = new byte[1 + 3 * set];
+        data[0] = (byte) (precision | SPARSE);
+        int o = 1;
+        for (int i = 1; i < bytes.length; i++) {
+            if (bytes[i] != 0) {
+                data[o++] = (byte) ((i - 1) >>> 8);
+                data[o++] = (byte) (i - 1);
+                data[o++] = bytes[i];
+            }
+        }
+        return new DataByteArray(data);
+    }
+
+    /**
+     * 64 bit MurmurHash2, as the 32 bit hashes of Hadoop collide too often
+     * for hundreds of millions of values.
+     */
+    @SuppressWarnings("fallthrough")
+    static long hash64(byte[] data) {
+        final long m = 0xc6a4a7935bd1e995L;
+        final int r = 47;
+        int length = data.length;
+        long h = 0x9747b28cL ^ (length * m);
+
+        int blocks = length / 8;
+        for (int i = 0; i < blocks; i++) {
+            int o = i * 8;
+            long k = (data[o] & 0xffL) | (data[o + 1] & 0xffL) << 8
+                    | (data[o + 2] & 0xffL) << 16 | (data[o + 3] & 0xffL) << 24
+                    | (data[o + 4] & 0xffL) << 32 | (data[o + 5] & 0xffL) << 40
+                    | (data[o + 6] & 0xffL) << 48 | (data[o + 7] & 0xffL) << 56;
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h ^= k;
+            h *= m;
+        }
+
+        int o = blocks * 8;
+        switch (length & 7) {
+        case 7: h ^= (data[o + 6] & 0xffL) << 48;
+        case 6: h ^= (data[o + 5] & 0xffL) << 40;
+        case 5: h ^= (data[o + 4] & 0xffL) << 32;
+        case 4: h ^= (data[o + 3] & 0xffL) << 24;
+        case 3: h ^= (data[o + 2] & 0xffL) << 16;
+        case 2: h ^= (data[o + 1] & 0xffL) << 8;
+        case 1: h ^= (data[o] & 0xffL);
+            h *= m;
+        }
+
+        h ^= h >>> r;
+        h *= m;
+        h ^= h >>> r;
+        return h;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+
+/**
+ * A Misra-Gries sketch of the most frequent values added to it. It counts up
+ * to a number of values; when there are twice as many, the count of the one
+ * ranked just past that number is taken off all counts, and the values whose
+ * count drops to zero are forgotten. A value added more than n / (capacity +
+ * 1) times out of n is always kept, and its count is under by no more than
+ * that. Sketches are merged by adding up their counts, in the same way.
+ */
+class HeavyHittersSketch {
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    private final int capacity;
+    private final HashMap<Object, long[]> counts = new HashMap<Object, long[]>();
+
+    HeavyHittersSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity of heavy hitters sketch must be positive, not "
+                    + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    HeavyHittersSketch(DataByteArray b) throws IOException {
+        DataInputBuffer in = new DataInputBuffer();
+        in.reset(b.get(), b.size());
+        capacity = in.readInt();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            long count = in.readLong();
+            counts.put(SEDES.readDatum(in), new long[] { count });
+        }
+    }
+
+    void add(Object value, long count) {
+        long[] c = counts.get(value);
+        if (c == null) {
+            counts.put(value, new long[] { count });
+            if (counts.size() >= 2 * capacity) {
+                reduce();
+            }
+        } else {
+            c[0] += count;
+        }
+    }
+
+    void merge(HeavyHittersSketch other) {
+        for (Map.Entry<Object, long[]> e : other.counts.entrySet()) {
+            add(e.getKey(), e.getValue()[0]);
+        }
+    }
+
+    /**
+     * Take the count of the value ranked capacity + 1 off all counts.
+     */
+    private void reduce() {
+        long[] sorted = new long[counts.size()];
+        int i = 0;
+        for (long[] c : counts.values()) {
+            sorted[i++] = c[0];
+        }
+        Arrays.sort(sorted);
+        long cut = sorted[sorted.length - capacity - 1];
+        for (Iterator<long[]> it = counts.values().iterator(); it.hasNext();) {
+            long[] c = it.next();
+            c[0] -= cut;
+            if (c[0] <= 0) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the values with the highest counts, at most k of them, and
+     * their counts, highest first
+     */
+    List<Map.Entry<Object, long[]>> top(int k) {
+        List<Map.Entry<Object, long[]>> entries =
+            new ArrayList<Map.Entry<Object, long[]>>(counts.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<Object, long[]>>() {
+            public int compare(Map.Entry<Object, long[]> e1, Map.Entry<Object, long[]> e2) {
+                long c1 = e1.getValue()[0];
+                long c2 = e2.getValue()[0];
+                return c1 == c2 ? 0 : (c1 < c2 ? 1 : -1);
+            }
+        });
+        return entries.subList(0, Math.min(k, entries.size()));
+    }
+
+    DataByteArray toBytes() throws IOException {
+        if (counts.size() > capacity) {
+            reduce();
+        }
+        DataOutputBuffer out = new DataOutputBuffer();
+        out.writeInt(capacity);
+        out.writeInt(counts.size());
+        for (Map.Entry<Object, long[]> e : counts.entrySet()) {
+            out.writeLong(e.getValue()[0]);
+            SEDES.writeDatum(out, e.getKey());
+        }
+        return new DataByteArray(out.getData(), 0, out.getLength());
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.compress.BZip2Codec;
@@ -63,6 +64,8 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextInput
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextOutputFormat;
 import org.apache.pig.bzip2r.Bzip2TextInputFormat;
 import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.SchemaTupleFactory;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.logicalLayer.FrontendException;
@@ -122,7 +125,6 @@ LoadPushDown, LoadMetadata, StoreMetadata {
     protected String signature;
 
     private byte fieldDel = '\t';
-    private ArrayList<Object> mProtoTuple = null;
     private TupleFactory mTupleFactory = TupleFactory.getInstance();
     private String loadLocation;
 
@@ -138,6 +140,19 @@ LoadPushDown, LoadMetadata, StoreMetadata {
     protected boolean[] mRequiredColumns = null;
     private boolean mRequiredColumnsInitialized = false;
 
+    // Factory for tuples of the required fields of the schema, when they are
+    // all primitive and pig.exec.primitivetuples is on
+    private SchemaTupleFactory primitiveTupleFactory = null;
+    private boolean primitiveTupleFactoryChecked = false;
+
+    // State of the typed parse of the records, set up once from the schema
+    private boolean schemaInitialized = false;
+    private ResourceFieldSchema[] fieldSchemas;
+    private boolean utf8Caster = false;
+    private int lastRequiredColumn;
+    private int requiredSchemaFields;
+    private Object[] mFields;
+
     private void populateValidOptions() {
         validOptions.addOption("schema", false, "Loads / Stores the schema of the relation using a hidden JSON file.");
         validOptions.addOption("noschema", false, "Disable attempting to load data schema from the filesystem.");
@@ -190,7 +205,6 @@ LoadPushDown, LoadMetadata, StoreMetadata {
 
     @Override
     public Tuple getNext() throws IOException {
-        mProtoTuple = new ArrayList<Object>();
         if (!mRequiredColumnsInitialized) {
             if (signature!=null) {
                 Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass());
@@ -206,23 +220,18 @@ LoadPushDown, LoadMetadata, StoreMetadata {
             Text value = (Text) in.getCurrentValue();
             byte[] buf = value.getBytes();
             int len = value.getLength();
-            int start = 0;
-            int fieldID = 0;
-            for (int i = 0; i < len; i++) {
-                if (buf[i] == fieldDel) {
-                    if (mRequiredColumns==null || (mRequiredColumns.length>fieldID && mRequiredColumns[fieldID]))
-                        readField(buf, start, i);
-                    start = i + 1;
-                    fieldID++;
-                }
+            if (dontLoadSchema) {
+                return parseFields(buf, len);
             }
-            // pick up the last field
-            if (start <= len && (mRequiredColumns==null || (mRequiredColumns.length>fieldID && mRequiredColumns[fieldID]))) {
-                readField(buf, start, len);
+            if (!schemaInitialized) {
+                initSchema();
             }
-            Tuple t =  mTupleFactory.newTupleNoCopy(mProtoTuple);
-
-            return dontLoadSchema ? t : applySchema(t);
+            if (schema == null) {
+                return parseFields(buf, len);
+            }
+            Tuple t = parseTypedFields(buf, len);
+            // a record with fewer fields than the schema is cast as before
+            return t != null ? t : applySchema(parseFields(buf, len));
         } catch (InterruptedException e) {
             int errCode = 6018;
             String errMsg = "Error while reading input";
@@ -231,6 +240,164 @@ LoadPushDown, LoadMetadata, StoreMetadata {
         }
     }
 
+    private boolean isRequired(int fieldID) {
+        return mRequiredColumns == null
+                || (mRequiredColumns.length > fieldID && mRequiredColumns[fieldID]);
+    }
+
+    /**
+     * Splits a record into bytearray fields, keeping only the required ones.
+     */
+    private Tuple parseFields(byte[] buf, int len) {
+        ArrayList<Object> protoTuple = new ArrayList<Object>();
+        int start = 0;
+        int fieldID = 0;
+        for (int i = 0; i < len; i++) {
+            if (buf[i] == fieldDel) {
+                if (isRequired(fieldID))
+                    readField(protoTuple, buf, start, i);
+                start = i + 1;
+                fieldID++;
+            }
+        }
+        // pick up the last field
+        if (start <= len && isRequired(fieldID)) {
+            readField(protoTuple, buf, start, len);
+        }
+        return mTupleFactory.newTupleNoCopy(protoTuple);
+    }
+
+    /**
+     * Splits a record and decodes the required fields to the types of the
+     * schema as it goes, without making a bytearray of each field first. The
+     * scan stops after the last required field.
+     * @return the tuple, or null if the record has fewer fields than the schema
+     */
+    private Tuple parseTypedFields(byte[] buf, int len) throws IOException {
+        int numFields = 0;
+        int numSchemaFields = 0;
+        int start = 0;
+        int fieldID = 0;
+        for (int i = 0; i <= len && fieldID <= lastRequiredColumn; i++) {
+            if (i < len && buf[i] != fieldDel) {
+                continue;
+            }
+            if (isRequired(fieldID)) {
+                Object val;
+                if (fieldID < fieldSchemas.length) {
+                    val = decodeField(buf, start, i, fieldSchemas[fieldID]);
+                    numSchemaFields++;
+                } else {
+                    // fields past the end of the schema stay bytearrays
+                    val = start == i ? null : new DataByteArray(buf, start, i);
+                }
+                if (numFields == mFields.length) {
+                    mFields = Arrays.copyOf(mFields, numFields * 2 + 1);
+                }
+                mFields[numFields++] = val;
+            }
+            start = i + 1;
+            fieldID++;
+        }
+        if (numSchemaFields < requiredSchemaFields) {
+            return null;
+        }
+        if (primitiveTupleFactory != null && numFields == requiredSchemaFields) {
+            // the factory copies the fields, so the buffer can be reused
+            return primitiveTupleFactory.newTuple(numFields == mFields.length
+                    ? mFields : Arrays.copyOf(mFields, numFields));
+        }
+        ArrayList<Object> protoTuple = new ArrayList<Object>(numFields);
+        for (int i = 0; i < numFields; i++) {
+            protoTuple.add(mFields[i]);
+        }
+        return mTupleFactory.newTupleNoCopy(protoTuple);
+    }
+
+    private Object decodeField(byte[] buf, int start, int end, ResourceFieldSchema fieldSchema)
+            throws IOException {
+        if (start == end) {
+            // NULL value
+            return null;
+        }
+        byte type = fieldSchema.getType();
+        if (utf8Caster) {
+            Object val = null;
+            switch (type) {
+            case DataType.INTEGER:
+                val = Utf8StorageConverter.parseInteger(buf, start, end);
+                break;
+            case DataType.LONG:
+                val = Utf8StorageConverter.parseLong(buf, start, end);
+                break;
+            case DataType.FLOAT:
+                val = Utf8StorageConverter.parseFloat(buf, start, end);
+                break;
+            case DataType.DOUBLE:
+                val = Utf8StorageConverter.parseDouble(buf, start, end);
+                break;
+            case DataType.CHARARRAY:
+                return new String(buf, start, end - start, "UTF-8");
+            case DataType.BYTEARRAY:
+                return new DataByteArray(buf, start, end);
+            }
+            if (val != null) {
+                return val;
+            }
+        }
+        // anything the fast paths do not handle goes through the caster
+        return CastUtils.convertToType(caster, Arrays.copyOfRange(buf, start, end),
+                fieldSchema, type);
+    }
+
+    /**
+     * Reads the schema and sets up the typed parse of the records once, rather
+     * than for every record.
+     */
+    private void initSchema() throws IOException {
+        schemaInitialized = true;
+        if (caster == null) {
+            caster = getLoadCaster();
+        }
+        if (signature != null && schema == null) {
+            Properties p = UDFContext.getUDFContext().getUDFProperties(this.getClass(),
+                    new String[] {signature});
+            String serializedSchema = p.getProperty(signature+".schema");
+            if (serializedSchema == null) return;
+            try {
+                schema = new ResourceSchema(Utils.getSchemaFromString(serializedSchema));
+            } catch (ParserException e) {
+                mLog.error("Unable to parse serialized schema " + serializedSchema, e);
+                return;
+            }
+        }
+        if (schema == null) {
+            return;
+        }
+        fieldSchemas = schema.getFields();
+        // a subclass may cast differently, so only the default caster's
+        // parsing is done in place
+        utf8Caster = caster != null && caster.getClass() == Utf8StorageConverter.class;
+        if (mRequiredColumns == null) {
+            lastRequiredColumn = Integer.MAX_VALUE;
+            requiredSchemaFields = fieldSchemas.length;
+        } else {
+            lastRequiredColumn = -1;
+            requiredSchemaFields = 0;
+            for (int i = 0; i < mRequiredColumns.length; i++) {
+                if (mRequiredColumns[i]) {
+                    lastRequiredColumn = i;
+                    if (i < fieldSchemas.length) {
+                        requiredSchemaFields++;
+                    }
+                }
+            }
+        }
+        mFields = new Object[requiredSchemaFields];
+        primitiveTupleFactory = getPrimitiveTupleFactory(fieldSchemas);
+        primitiveTupleFactoryChecked = true;
+    }
+
     private Tuple applySchema(Tuple tup) throws IOException {
         if ( caster == null) {
             caster = getLoadCaster();
@@ -267,10 +434,36 @@ LoadPushDown, LoadMetadata, StoreMetadata {
                     tupleIdx++;
                 }
             }
+            if (!primitiveTupleFactoryChecked) {
+                primitiveTupleFactory = getPrimitiveTupleFactory(fieldSchemas);
+                primitiveTupleFactoryChecked = true;
+            }
+            if (primitiveTupleFactory != null && tup.size() == tupleIdx) {
+                return primitiveTupleFactory.newTuple(tup.getAll().toArray());
+            }
         }
         return tup;
     }
 
+    private SchemaTupleFactory getPrimitiveTupleFactory(ResourceFieldSchema[] fieldSchemas) {
+        Configuration conf = UDFContext.getUDFContext().getJobConf();
+        if (conf == null || !conf.getBoolean(SchemaTupleFactory.PROP_PRIMITIVE_TUPLES, false)) {
+            return null;
+        }
+        List<Byte> types = new ArrayList<Byte>();
+        for (int i = 0; i < fieldSchemas.length; i++) {
+            if (mRequiredColumns == null || (mRequiredColumns.length>i && mRequiredColumns[i])) {
+                types.add(fieldSchemas[i].getType());
+            }
+        }
+        byte[] typeArray = new byte[types.size()];
+        for (int i = 0; i < typeArray.length; i++) {
+            typeArray[i] = types.get(i);
+        }
+        SchemaTupleFactory factory = SchemaTupleFactory.getInstance(typeArray);
+        return factory.isPrimitive() ? factory : null;
+    }
+
     @Override
     public void putNext(Tuple f) throws IOException {
         try {
@@ -280,12 +473,12 @@ LoadPushDown, LoadMetadata, StoreMetadata {
         }
     }
 
-    private void readField(byte[] buf, int start, int end) {
+    private void readField(ArrayList<Object> protoTuple, byte[] buf, int start, int end) {
         if (start == end) {
             // NULL value
-            mProtoTuple.add(null);
+            protoTuple.add(null);
         } else {
-            mProtoTuple.add(new DataByteArray(buf, start, end));
+            protoTuple.add(new DataByteArray(buf, start, end));
         }
     }
 
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.builtin;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.pig.data.DataByteArray;
+
+/**
+ * A sketch of the distribution of the numbers added to it, that estimates
+ * their quantiles. Numbers are kept in levels; every number at level h stands
+ * for 2^h of the numbers added. When a level holds {@link #CAPACITY} numbers,
+ * they are sorted and every other one moves up a level, so the sketch keeps
+ * about CAPACITY numbers per level, and a logarithmic number of levels. The
+ * error in the rank of an estimated quantile is about a percent of the count.
+ * Sketches are merged by concatenating their levels.
+ */
+class QuantileSketch {
+
+    static final int CAPACITY = 256;
+
+    private final List<double[]> levels = new ArrayList<double[]>();
+    private final List<Integer> sizes = new ArrayList<Integer>();
+    private long count = 0;
+    // alternates the half of a level that moves up, so ranks are not biased
+    private boolean odd = false;
+
+    QuantileSketch() {
+    }
+
+    QuantileSketch(DataByteArray b) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(b.get()));
+        count = in.readLong();
+        int numLevels = in.readInt();
+        for (int h = 0; h < numLevels; h++) {
+            int size = in.readInt();
+            double[] level = new double[Math.max(CAPACITY, size)];
+            for (int i = 0; i < size; i++) {
+                level[i] = in.readDouble();
+            }
+            levels.add(level);
+            sizes.add(size);
+        }
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    void add(double value) {
+        append(0, value);
+        count++;
+        compact();
+    }
+
+    void merge(QuantileSketch other) {
+        for (int h = 0; h < other.levels.size(); h++) {
+            double[] level = other.levels.get(h);
+            int size = other.sizes.get(h);
+            for (int i = 0; i < size; i++) {
+                append(h, level[i]);
+            }
+        }
+        count += other.count;
+        compact();
+    }
+
+    private void append(int h, double value) {
+        while (levels.size() <= h) {
+            levels.add(new double[CAPACITY]);
+            sizes.add(0);
+        }
+        double[] level = levels.get(h);
+        int size = sizes.get(h);
+        if (size == level.length) {
+            level = Arrays.copyOf(level, level.length * 2);
+            levels.set(h, level);
+        }
+        level[size] = value;
+        sizes.set(h, size + 1);
+    }
+
+    /**
+     * Move half of the numbers of every full level up a level.
+     */
+    private void compact() {
+        for (int h = 0; h < levels.size(); h++) {
+            int size = sizes.get(h);
+            if (size < CAPACITY) {
+                continue;
+            }
+            double[] level = levels.get(h);
+            Arrays.sort(level, 0, size);
+            // an odd one out stays at this level, so no weight is lost
+            int even = size & ~1;
+            for (int i = odd ? 1 : 0; i < even; i += 2) {
+                append(h + 1, level[i]);
+            }
+            odd = !odd;
+            if (even < size) {
+                level[0] = level[size - 1];
+            }
+            sizes.set(h, size - even);
+        }
+    }
+
+    /**
+     * @return the numbers of all levels sorted, and the weight up to and
+     * including each of them
+     */
+    private double[][] weighted() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        final double[] values = new double[total];
+        int[] heights = new int[total];
+        Integer[] order = new Integer[total];
+        int n = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            double[] level = levels.get(h);
+            int size = sizes.get(h);
+            for (int i = 0; i < size; i++) {
+                values[n] = level[i];
+                heights[n] = h;
+                order[n] = n;
+                n++;
+            }
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer a, Integer b) {
+                return Double.compare(values[a], values[b]);
+            }
+        });
+        double[] sorted = new double[total];
+        double[] cumulative = new double[total];
+        double weight = 0;
+        for (int i = 0; i < total; i++) {
+            sorted[i] = values[order[i]];
+            weight += 1L << heights[order[i]];
+            cumulative[i] = weight;
+        }
+        return new double[][] { sorted, cumulative };
+    }
+
+    private static double quantile(double[][] weighted, double q) {
+        double[] values = weighted[0];
+        double[] cumulative = weighted[1];
+        double target = q * cumulative[cumulative.length - 1];
+        int i = Arrays.binarySearch(cumulative, target);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return values[Math.min(i, values.length - 1)];
+    }
+
+    /**
+     * @param qs between 0 and 1
+     * @return the estimated qs-quantiles, nulls if no numbers were added
+     */
+    Double[] quantiles(double[] qs) {
+        double[][] weighted = weighted();
+        Double[] result = new Double[qs.length];
+        if (weighted[0].length > 0) {
+            for (int i = 0; i < qs.length; i++) {
+                result[i] = quantile(weighted, qs[i]);
+            }
+        }
+        return result;
+    }
+
+    DataByteArray toBytes() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeLong(count);
+        out.writeInt(levels.size());
+        for (int h = 0; h < levels.size(); h++) {
+            double[] level = levels.get(h);
+            int size = sizes.get(h);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeDouble(level[i]);
+            }
+        }
+        out.flush();
+        return new DataByteArray(baos.toByteArray());
+    }
+}
@@ -58,10 +58,187 @@ public class Utf8StorageConverter implements LoadStoreCaster {
     private static final Long mMaxLong = Long.valueOf(Long.MAX_VALUE);
     private static final Long mMinLong = Long.valueOf(Long.MIN_VALUE);
     private static final int BUFFER_SIZE = 1024;
+
+    // Doubles and floats are parsed from the bytes when the digits and the
+    // power of ten are both exact, so that a single multiplication or
+    // division rounds the value correctly, as Double.valueOf does
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final long NOT_A_LONG = Long.MIN_VALUE;
         
     public Utf8StorageConverter() {
     }
 
+    /**
+     * Parses a decimal integer with an optional sign from b[start..end).
+     * @return the value, or {@link #NOT_A_LONG} if the bytes are anything
+     * else, in which case the value is left to the String based conversion
+     */
+    private static long parseDecimal(byte[] b, int start, int end) {
+        int i = start;
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            i++;
+        }
+        if (i == end) {
+            return NOT_A_LONG;
+        }
+        // accumulate negatively, as Long.parseLong does
+        long limit = -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = b[i] - '0';
+            if (digit < 0 || digit > 9 || result < multmin) {
+                return NOT_A_LONG;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return NOT_A_LONG;
+            }
+            result -= digit;
+        }
+        return b[start] == '-' ? result : -result;
+    }
+
+    /**
+     * Parses an integer from b[start..end) without making a String.
+     * @return the value, or null if it is not a plain decimal integer
+     */
+    static Integer parseInteger(byte[] b, int start, int end) {
+        long l = parseDecimal(b, start, end);
+        if (l == NOT_A_LONG || l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+            return null;
+        }
+        return Integer.valueOf((int)l);
+    }
+
+    /**
+     * Parses a long from b[start..end) without making a String.
+     * @return the value, or null if it is not a plain decimal integer
+     */
+    static Long parseLong(byte[] b, int start, int end) {
+        long l = parseDecimal(b, start, end);
+        return l == NOT_A_LONG ? null : Long.valueOf(l);
+    }
+
+    /**
+     * Parses a double from b[start..end) without making a String.
+     * @return the value, or null if it is not a plain decimal number whose
+     * digits and power of ten are both exact
+     */
+    static Double parseDouble(byte[] b, int start, int end) {
+        long number = parseDecimalNumber(b, start, end,
+                MAX_EXACT_DOUBLE_MANTISSA, DOUBLE_POWERS_OF_TEN.length - 1);
+        if (number < 0) {
+            return null;
+        }
+        double value = number >> 8;
+        int exponent = (int)(number & 0xff) - 128;
+        if (exponent > 0) {
+            value *= DOUBLE_POWERS_OF_TEN[exponent];
+        } else if (exponent < 0) {
+            value /= DOUBLE_POWERS_OF_TEN[-exponent];
+        }
+        return Double.valueOf(b[start] == '-' ? -value : value);
+    }
+
+    /**
+     * Parses a float from b[start..end) without making a String.
+     * @return the value, or null if it is not a plain decimal number whose
+     * digits and power of ten are both exact
+     */
+    static Float parseFloat(byte[] b, int start, int end) {
+        long number = parseDecimalNumber(b, start, end,
+                MAX_EXACT_FLOAT_MANTISSA, FLOAT_POWERS_OF_TEN.length - 1);
+        if (number < 0) {
+            return null;
+        }
+        float value = number >> 8;
+        int exponent = (int)(number & 0xff) - 128;
+        if (exponent > 0) {
+            value *= FLOAT_POWERS_OF_TEN[exponent];
+        } else if (exponent < 0) {
+            value /= FLOAT_POWERS_OF_TEN[-exponent];
+        }
+        return Float.valueOf(b[start] == '-' ? -value : value);
+    }
+
+    /**
+     * Splits a number of the form [sign]digits[.digits][(e|E)[sign]digits]
+     * into its digits and a power of ten.
+     * @return the digits shifted left by 8 bits, with the power of ten plus
+     * 128 in the low 8 bits, or -1 if the number is of another form, its
+     * digits are larger than maxMantissa or the power of ten is out of
+     * [-maxExponent, maxExponent]
+     */
+    private static long parseDecimalNumber(byte[] b, int start, int end,
+            long maxMantissa, int maxExponent) {
+        int i = start;
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        for (; i < end && b[i] >= '0' && b[i] <= '9'; i++) {
+            mantissa = mantissa * 10 + (b[i] - '0');
+            if (mantissa > maxMantissa) {
+                return -1;
+            }
+            digits++;
+        }
+        if (i < end && b[i] == '.') {
+            for (i++; i < end && b[i] >= '0' && b[i] <= '9'; i++) {
+                mantissa = mantissa * 10 + (b[i] - '0');
+                if (mantissa > maxMantissa) {
+                    return -1;
+                }
+                digits++;
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            return -1;
+        }
+        int exponent = 0;
+        if (i < end && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean negative = false;
+            if (i < end && (b[i] == '-' || b[i] == '+')) {
+                negative = b[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            for (; i < end && b[i] >= '0' && b[i] <= '9'; i++) {
+                exponent = exponent * 10 + (b[i] - '0');
+                if (exponent > 1000) {
+                    return -1;
+                }
+            }
+            if (i == expStart) {
+                return -1;
+            }
+            if (negative) {
+                exponent = -exponent;
+            }
+        }
+        if (i != end) {
+            return -1;
+        }
+        exponent -= scale;
+        if (exponent > maxExponent || exponent < -maxExponent) {
+            return -1;
+        }
+        return (mantissa << 8) | (exponent + 128);
+    }
+
     private char findStartChar(char start) throws IOException{
         switch (start) {
         case ')': return '(';
@@ -345,6 +522,9 @@ public class Utf8StorageConverter implements LoadStoreCaster {
     public Double bytesToDouble(byte[] b) {
         if(b == null)
             return null;
+        Double d = parseDouble(b, 0, b.length);
+        if (d != null)
+            return d;
         try {
             return Double.valueOf(new String(b));
         } catch (NumberFormatException nfe) {
@@ -362,8 +542,14 @@ public class Utf8StorageConverter implements LoadStoreCaster {
             return null;
         String s;
         if (b.length > 0 && (b[b.length - 1] == 'F' || b[b.length - 1] == 'f')) {
+            Float f = parseFloat(b, 0, b.length - 1);
+            if (f != null)
+                return f;
             s = new String(b, 0, b.length - 1);
         } else {
+            Float f = parseFloat(b, 0, b.length);
+            if (f != null)
+                return f;
             s = new String(b);
         }
 
@@ -397,6 +583,9 @@ public class Utf8StorageConverter implements LoadStoreCaster {
     public Integer bytesToInteger(byte[] b) throws IOException {
         if(b == null)
             return null;
+        Integer i = parseInteger(b, 0, b.length);
+        if (i != null)
+            return i;
         String s = new String(b);
         try {
             return Integer.valueOf(s);
@@ -431,8 +620,14 @@ public class Utf8StorageConverter implements LoadStoreCaster {
             return null;
         String s;
         if (b.length > 0 && (b[b.length - 1] == 'L' || b[b.length - 1] == 'l')) {
+            Long l = parseLong(b, 0, b.length - 1);
+            if (l != null)
+                return l;
             s = new String(b, 0, b.length - 1);
         } else {
+            Long l = parseLong(b, 0, b.length);
+            if (l != null)
+                return l;
             s = new String(b);
         }
         
@@ -120,7 +120,7 @@ public abstract class BagFactory {
      * Construct a new BagFactory
      */
     protected BagFactory() {
-        gMemMgr = new SpillableMemoryManager();
+        gMemMgr = SpillableMemoryManager.getInstance();
     }
 
     /**
@@ -21,9 +21,12 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -121,6 +124,38 @@ public class BinInterSedes implements InterSedes {
 
     }
 
+    /**
+     * Read a tuple as a {@link LazyTuple}, which copies its serialized bytes
+     * and deserializes its fields when they are used. Tuples written by a
+     * {@link TypeAwareTuple} in their own format are read as usual.
+     * 
+     * @param in
+     *            input positioned at the type byte of the tuple
+     * @return the tuple
+     * @throws IOException
+     */
+    public Tuple readLazyTuple(DataInputBuffer in) throws IOException {
+        int start = in.getPosition();
+        byte type = in.readByte();
+        switch (type) {
+        case TUPLE:
+        case TINYTUPLE:
+        case SMALLTUPLE:
+            break;
+        default:
+            return (Tuple) readDatum(in, type);
+        }
+        int sz = getTupleSize(in, type);
+        int fieldsStart = in.getPosition() - start;
+        int[] offsets = new int[sz];
+        for (int i = 0; i < sz; i++) {
+            offsets[i] = in.getPosition() - start;
+            skipDatum(in);
+        }
+        byte[] bytes = Arrays.copyOfRange(in.getData(), start, in.getPosition());
+        return new LazyTuple(bytes, fieldsStart, offsets);
+    }
+
     private Tuple readPrimitiveTuple(DataInput in) throws IOException {
         PrimitiveTuple t = new PrimitiveTuple();
         t.readFields(in);
@@ -154,59 +189,59 @@ public class BinInterSedes implements InterSedes {
 
     private DataBag readBag(DataInput in, byte type) throws IOException {
         DataBag bag = mBagFactory.newDefaultBag();
-        long size;
+        long size = getBagSize(in, type);
+
+        for (long i = 0; i < size; i++) {
+            try {
+                Object o = readDatum(in);
+                bag.add((Tuple) o);
+            } catch (ExecException ee) {
+                throw ee;
+            }
+        }
+        return bag;
+    }
+
+    private long getBagSize(DataInput in, byte type) throws IOException {
         // determine size of bag
         switch (type) {
         case TINYBAG:
-            size = in.readUnsignedByte();
-            break;
+            return in.readUnsignedByte();
         case SMALLBAG:
-            size = in.readUnsignedShort();
-            break;
+            return in.readUnsignedShort();
         case BAG:
-            size = in.readLong();
-            break;
+            return in.readLong();
         default:
             int errCode = 2219;
             String msg = "Unexpected data while reading bag " + "from binary file.";
             throw new ExecException(msg, errCode, PigException.BUG);
         }
+    }
 
-        for (long i = 0; i < size; i++) {
-            try {
-                Object o = readDatum(in);
-                bag.add((Tuple) o);
-            } catch (ExecException ee) {
-                throw ee;
-            }
+    private Map<String, Object> readMap(DataInput in, byte type) throws IOException {
+        int size = getMapSize(in, type);
+        Map<String, Object> m = new HashMap<String, Object>(size);
+        for (int i = 0; i < size; i++) {
+            String key = (String) readDatum(in);
+            m.put(key, readDatum(in));
         }
-        return bag;
+        return m;
     }
 
-    private Map<String, Object> readMap(DataInput in, byte type) throws IOException {
-        int size;
+    private int getMapSize(DataInput in, byte type) throws IOException {
         switch (type) {
         case TINYMAP:
-            size = in.readUnsignedByte();
-            break;
+            return in.readUnsignedByte();
         case SMALLMAP:
-            size = in.readUnsignedShort();
-            break;
+            return in.readUnsignedShort();
         case MAP:
-            size = in.readInt();
-            break;
+            return in.readInt();
         default: {
             int errCode = 2220;
             String msg = "Unexpected data while reading map" + "from binary file.";
             throw new ExecException(msg, errCode, PigException.BUG);
         }
         }
-        Map<String, Object> m = new HashMap<String, Object>(size);
-        for (int i = 0; i < size; i++) {
-            String key = (String) readDatum(in);
-            m.put(key, readDatum(in));
-        }
-        return m;
     }
 
     private InternalMap readInternalMap(DataInput in) throws IOException {
@@ -386,6 +421,112 @@ public class BinInterSedes implements InterSedes {
         }
     }
 
+    /**
+     * Reads past a datum without creating objects for it. Tuples written by a
+     * {@link TypeAwareTuple} in their own format and writables are read as
+     * usual and dropped.
+     * 
+     * @param in
+     *            input positioned at the type byte of the datum
+     * @throws IOException
+     */
+    public void skipDatum(DataInput in) throws IOException {
+        byte b = in.readByte();
+        skipDatum(in, b);
+    }
+
+    private void skipDatum(DataInput in, byte type) throws IOException {
+        switch (type) {
+        case TUPLE:
+        case TINYTUPLE:
+        case SMALLTUPLE: {
+            int sz = getTupleSize(in, type);
+            for (int i = 0; i < sz; i++) {
+                skipDatum(in);
+            }
+            break;
+        }
+
+        case BAG:
+        case TINYBAG:
+        case SMALLBAG: {
+            long size = getBagSize(in, type);
+            for (long i = 0; i < size; i++) {
+                skipDatum(in);
+            }
+            break;
+        }
+
+        case MAP:
+        case TINYMAP:
+        case SMALLMAP: {
+            int size = getMapSize(in, type);
+            for (int i = 0; i < size; i++) {
+                skipDatum(in);
+                skipDatum(in);
+            }
+            break;
+        }
+
+        case INTERNALMAP: {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                skipDatum(in);
+                skipDatum(in);
+            }
+            break;
+        }
+
+        case INTEGER_0:
+        case INTEGER_1:
+        case BOOLEAN_TRUE:
+        case BOOLEAN_FALSE:
+        case NULL:
+            break;
+
+        case BYTE:
+        case INTEGER_INBYTE:
+            skipFully(in, 1);
+            break;
+        case INTEGER_INSHORT:
+            skipFully(in, 2);
+            break;
+        case INTEGER:
+        case FLOAT:
+            skipFully(in, 4);
+            break;
+        case LONG:
+        case DOUBLE:
+            skipFully(in, 8);
+            break;
+
+        case TINYBYTEARRAY:
+            skipFully(in, in.readUnsignedByte());
+            break;
+        case SMALLBYTEARRAY:
+        case SMALLCHARARRAY:
+            skipFully(in, in.readUnsignedShort());
+            break;
+        case BYTEARRAY:
+        case CHARARRAY:
+            skipFully(in, in.readInt());
+            break;
+
+        default:
+            readDatum(in, type);
+        }
+    }
+
+    private static void skipFully(DataInput in, int n) throws IOException {
+        while (n > 0) {
+            int skipped = in.skipBytes(n);
+            if (skipped <= 0) {
+                throw new EOFException("Unexpected end of input while skipping " + n + " bytes");
+            }
+            n -= skipped;
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -576,6 +717,8 @@ public class BinInterSedes implements InterSedes {
     private void writeTuple(DataOutput out, Tuple t) throws IOException {
         if (t instanceof TypeAwareTuple) {
             t.write(out);
+        } else if (t instanceof LazyTuple && ((LazyTuple) t).writeSerialized(out)) {
+            return;
         } else {
         final int sz = t.size();
         if (sz < UNSIGNED_BYTE_MAX) {
@@ -605,7 +748,17 @@ public class BinInterSedes implements InterSedes {
         byte type = in.readByte();
         switch (type) {
         case PRIMITIVE_TUPLE:
-            t.readFields(in);
+        case PINT_TUPLE:
+        case PFLOAT_TUPLE:
+        case PLONG_TUPLE:
+        case PDOUBLE_TUPLE:
+        case PSTRING_TUPLE:
+        case PBOOL_TUPLE:
+            // written by a TypeAwareTuple in its own format
+            Tuple typed = (Tuple) readDatum(in, type);
+            for (int i = 0; i < typed.size(); i++) {
+                t.append(typed.get(i));
+            }
             break;
         default:
         int sz = getTupleSize(in, type);
@@ -697,6 +850,10 @@ public class BinInterSedes implements InterSedes {
             // store the position in case of deserialization
             int s1 = bb1.position();
             int s2 = bb2.position();
+            if (!isRawComparable(bb1.get(s1)) || !isRawComparable(bb2.get(s2))) {
+                // a tuple written in its own format, deserialize both and delegate to compare()
+                return compare((Tuple) readDatum(bb1), (Tuple) readDatum(bb2));
+            }
             // treat the outermost tuple differently because we have to deal with sort order
             int result = 0;
             try {
@@ -748,6 +905,18 @@ public class BinInterSedes implements InterSedes {
             byte type1, type2;
             byte dt1 = bb1.get();
             byte dt2 = bb2.get();
+            if (!isRawComparable(dt1) || !isRawComparable(dt2)) {
+                // no raw comparison for this type, deserialize just this datum
+                bb1.position(bb1.position() - 1);
+                bb2.position(bb2.position() - 1);
+                Object o1 = readDatum(bb1);
+                Object o2 = readDatum(bb2);
+                boolean hasNullField = mHasNullField;
+                rc = compareDatum(o1, o2, asc);
+                if (asc == null) // only the top-level Tuple records null fields
+                    mHasNullField = hasNullField;
+                return rc;
+            }
             switch (dt1) {
             case BinInterSedes.NULL: {
                 type1 = DataType.NULL;
@@ -832,11 +1001,9 @@ public class BinInterSedes implements InterSedes {
                 if (type1 == type2) {
                     int basz1 = readSize(bb1, dt1);
                     int basz2 = readSize(bb2, dt2);
-                    byte[] ba1 = new byte[basz1];
-                    byte[] ba2 = new byte[basz2];
-                    bb1.get(ba1);
-                    bb2.get(ba2);
-                    rc = DataByteArray.compare(ba1, ba2);
+                    rc = compareByteArrays(bb1.array(), bb1.position(), basz1, bb2.array(), bb2.position(), basz2);
+                    bb1.position(bb1.position() + basz1);
+                    bb2.position(bb2.position() + basz2);
                 }
                 break;
             }
@@ -847,20 +1014,9 @@ public class BinInterSedes implements InterSedes {
                 if (type1 == type2) {
                     int casz1 = readSize(bb1, dt1);
                     int casz2 = readSize(bb2, dt2);
-                    byte[] ca1 = new byte[casz1];
-                    byte[] ca2 = new byte[casz2];
-                    bb1.get(ca1);
-                    bb2.get(ca2);
-                    String str1 = null, str2 = null;
-                    try {
-                        str1 = new String(ca1, BinInterSedes.UTF8);
-                        str2 = new String(ca2, BinInterSedes.UTF8);
-                    } catch (UnsupportedEncodingException uee) {
-                        mLog.warn("Unsupported string encoding", uee);
-                        uee.printStackTrace();
-                    }
-                    if (str1 != null && str2 != null)
-                        rc = str1.compareTo(str2);
+                    rc = compareCharArray(bb1.array(), bb1.position(), casz1, bb2.array(), bb2.position(), casz2);
+                    bb1.position(bb1.position() + casz1);
+                    bb2.position(bb2.position() + casz2);
                 }
                 break;
             }
@@ -1018,39 +1174,38 @@ public class BinInterSedes implements InterSedes {
             return writable1.compareTo(writable2);
         }
 
-        @SuppressWarnings("unchecked")
+        /**
+         * Compare two serialized bags the way {@link DefaultAbstractBag#compareTo(Object)} does: by size, then
+         * tuple by tuple in sorted order. The serialized tuples of each bag are sorted in place by their offsets.
+         */
         private int compareBinInterSedesBag(ByteBuffer bb1, ByteBuffer bb2, byte dt1, byte dt2) throws IOException {
-            int s1 = bb1.position();
-            int s2 = bb2.position();
-            int l1 = bb1.remaining();
-            int l2 = bb2.remaining();
             // first compare sizes
-            int bsz1 = readSize(bb1, dt1);
-            int bsz2 = readSize(bb2, dt2);
+            long bsz1 = readBagSize(bb1, dt1);
+            long bsz2 = readBagSize(bb2, dt2);
             if (bsz1 > bsz2)
                 return 1;
             else if (bsz1 < bsz2)
                 return -1;
             else {
-                DataInputBuffer buffer1 = new DataInputBuffer();
-                DataInputBuffer buffer2 = new DataInputBuffer();
-                buffer1.reset(bb1.array(), s1, l1);
-                buffer2.reset(bb2.array(), s2, l2);
-                DataBag bag1 = (DataBag) mSedes.readDatum(buffer1, dt1);
-                DataBag bag2 = (DataBag) mSedes.readDatum(buffer2, dt2);
-                bb1.position(buffer1.getPosition());
-                bb2.position(buffer2.getPosition());
-                return bag1.compareTo(bag2);
+                Integer[] offsets1 = getDatumOffsets(bb1, (int) bsz1, 1);
+                Integer[] offsets2 = getDatumOffsets(bb2, (int) bsz2, 1);
+                Arrays.sort(offsets1, new DatumOffsetComparator(bb1.array()));
+                Arrays.sort(offsets2, new DatumOffsetComparator(bb2.array()));
+                for (int i = 0; i < offsets1.length; i++) {
+                    int rc = compareDatumAt(bb1.array(), offsets1[i], bb2.array(), offsets2[i]);
+                    if (rc != 0)
+                        return rc;
+                }
+                return 0;
             }
         }
 
-        @SuppressWarnings("unchecked")
+        /**
+         * Compare two serialized maps the way {@link DataType#compare(Object, Object)} does: by size, then entry by
+         * entry in key order, comparing the keys and then the values.
+         */
         private int compareBinInterSedesMap(ByteBuffer bb1, ByteBuffer bb2, byte dt1, byte dt2) throws ExecException,
                 IOException {
-            int s1 = bb1.position();
-            int s2 = bb2.position();
-            int l1 = bb1.remaining();
-            int l2 = bb2.remaining();
             // first compare sizes
             int bsz1 = readSize(bb1, dt1);
             int bsz2 = readSize(bb2, dt2);
@@ -1059,16 +1214,227 @@ public class BinInterSedes implements InterSedes {
             else if (bsz1 < bsz2)
                 return -1;
             else {
-                DataInputBuffer buffer1 = new DataInputBuffer();
-                DataInputBuffer buffer2 = new DataInputBuffer();
-                buffer1.reset(bb1.array(), s1, l1);
-                buffer2.reset(bb2.array(), s2, l2);
-                Map<String, Object> map1 = (Map<String, Object>) mSedes.readDatum(buffer1, dt1);
-                Map<String, Object> map2 = (Map<String, Object>) mSedes.readDatum(buffer2, dt2);
-                bb1.position(buffer1.getPosition());
-                bb2.position(buffer2.getPosition());
-                return DataType.compare(map1, map2, DataType.MAP, DataType.MAP);
+                // offsets of the keys, each value follows its key
+                Integer[] offsets1 = getDatumOffsets(bb1, bsz1, 2);
+                Integer[] offsets2 = getDatumOffsets(bb2, bsz2, 2);
+                Arrays.sort(offsets1, new DatumOffsetComparator(bb1.array()));
+                Arrays.sort(offsets2, new DatumOffsetComparator(bb2.array()));
+                ByteBuffer e1 = ByteBuffer.wrap(bb1.array());
+                ByteBuffer e2 = ByteBuffer.wrap(bb2.array());
+                for (int i = 0; i < offsets1.length; i++) {
+                    e1.position(offsets1[i]);
+                    e2.position(offsets2[i]);
+                    // key, then value
+                    int rc = compareBinInterSedesDatum(e1, e2, null);
+                    if (rc == 0)
+                        rc = compareBinInterSedesDatum(e1, e2, null);
+                    if (rc != 0)
+                        return rc;
+                }
+                return 0;
+            }
+        }
+
+        /**
+         * Skips over numDatums datums and returns the offsets of every datumsPerEntry-th one.
+         */
+        private Integer[] getDatumOffsets(ByteBuffer bb, int numDatums, int datumsPerEntry) throws IOException {
+            Integer[] offsets = new Integer[numDatums];
+            for (int i = 0; i < numDatums; i++) {
+                offsets[i] = bb.position();
+                for (int j = 0; j < datumsPerEntry; j++)
+                    skipDatum(bb);
+            }
+            return offsets;
+        }
+
+        private int compareDatumAt(byte[] b1, int off1, byte[] b2, int off2) throws IOException {
+            ByteBuffer e1 = ByteBuffer.wrap(b1);
+            ByteBuffer e2 = ByteBuffer.wrap(b2);
+            e1.position(off1);
+            e2.position(off2);
+            return compareBinInterSedesDatum(e1, e2, null);
+        }
+
+        /**
+         * Orders offsets of serialized datums in one buffer by the datums they point to.
+         */
+        private class DatumOffsetComparator implements Comparator<Integer> {
+            private final byte[] buf;
+
+            DatumOffsetComparator(byte[] buf) {
+                this.buf = buf;
+            }
+
+            public int compare(Integer o1, Integer o2) {
+                try {
+                    return compareDatumAt(buf, o1, buf, o2);
+                } catch (IOException ioe) {
+                    throw new RuntimeException(ioe.getMessage(), ioe);
+                }
+            }
+        }
+
+        /**
+         * Advance bb past one serialized datum, including its type.
+         */
+        private void skipDatum(ByteBuffer bb) throws IOException {
+            byte dt = bb.get();
+            switch (dt) {
+            case BinInterSedes.NULL:
+            case BinInterSedes.BOOLEAN_TRUE:
+            case BinInterSedes.BOOLEAN_FALSE:
+            case BinInterSedes.INTEGER_0:
+            case BinInterSedes.INTEGER_1:
+                break;
+            case BinInterSedes.BYTE:
+            case BinInterSedes.INTEGER_INBYTE:
+                bb.position(bb.position() + 1);
+                break;
+            case BinInterSedes.INTEGER_INSHORT:
+                bb.position(bb.position() + 2);
+                break;
+            case BinInterSedes.INTEGER:
+            case BinInterSedes.FLOAT:
+                bb.position(bb.position() + 4);
+                break;
+            case BinInterSedes.LONG:
+            case BinInterSedes.DOUBLE:
+                bb.position(bb.position() + 8);
+                break;
+            case BinInterSedes.TINYBYTEARRAY:
+            case BinInterSedes.SMALLBYTEARRAY:
+            case BinInterSedes.BYTEARRAY:
+            case BinInterSedes.SMALLCHARARRAY:
+            case BinInterSedes.CHARARRAY: {
+                int sz = readSize(bb, dt);
+                bb.position(bb.position() + sz);
+                break;
+            }
+            case BinInterSedes.TINYTUPLE:
+            case BinInterSedes.SMALLTUPLE:
+            case BinInterSedes.TUPLE: {
+                int sz = readSize(bb, dt);
+                for (int i = 0; i < sz; i++)
+                    skipDatum(bb);
+                break;
+            }
+            case BinInterSedes.TINYBAG:
+            case BinInterSedes.SMALLBAG:
+            case BinInterSedes.BAG: {
+                long sz = readBagSize(bb, dt);
+                for (long i = 0; i < sz; i++)
+                    skipDatum(bb);
+                break;
+            }
+            case BinInterSedes.TINYMAP:
+            case BinInterSedes.SMALLMAP:
+            case BinInterSedes.MAP: {
+                int sz = readSize(bb, dt);
+                for (int i = 0; i < 2 * sz; i++)
+                    skipDatum(bb);
+                break;
+            }
+            default:
+                bb.position(bb.position() - 1);
+                readDatum(bb);
+            }
+        }
+
+        private Object readDatum(ByteBuffer bb) throws IOException {
+            DataInputBuffer buffer = new DataInputBuffer();
+            buffer.reset(bb.array(), bb.position(), bb.remaining());
+            Object o = mSedes.readDatum(buffer);
+            bb.position(buffer.getPosition());
+            return o;
+        }
+
+        /**
+         * @return false for the types that are compared by deserializing them
+         */
+        private static boolean isRawComparable(byte type) {
+            switch (type) {
+            case BinInterSedes.INTERNALMAP:
+            case BinInterSedes.PINT_TUPLE:
+            case BinInterSedes.PFLOAT_TUPLE:
+            case BinInterSedes.PLONG_TUPLE:
+            case BinInterSedes.PDOUBLE_TUPLE:
+            case BinInterSedes.PSTRING_TUPLE:
+            case BinInterSedes.PBOOL_TUPLE:
+            case BinInterSedes.PRIMITIVE_TUPLE:
+                return false;
+            default:
+                return true;
+            }
+        }
+
+        /**
+         * Same as {@link DataByteArray#compare(byte[], byte[])}, on ranges of arrays.
+         */
+        private static int compareByteArrays(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+            int n = Math.min(l1, l2);
+            for (int i = 0; i < n; i++) {
+                if (b1[s1 + i] != b2[s2 + i])
+                    return b1[s1 + i] < b2[s2 + i] ? -1 : 1;
+            }
+            return l1 == l2 ? 0 : (l1 < l2 ? -1 : 1);
+        }
+
+        /**
+         * Compare two encoded chararrays the way {@link String#compareTo(String)} compares the strings. Runs of
+         * equal bytes and differences between ASCII characters are decided on the bytes; otherwise the two strings
+         * are decoded.
+         */
+        private static int compareCharArray(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+            int n = Math.min(l1, l2);
+            for (int i = 0; i < n; i++) {
+                int c1 = b1[s1 + i] & 0xff;
+                int c2 = b2[s2 + i] & 0xff;
+                if (c1 != c2) {
+                    // the bytes so far are the same, so an ASCII byte on both
+                    // sides is a whole character on both sides
+                    if (c1 < 0x80 && c2 < 0x80)
+                        return c1 - c2;
+                    return decodeUTF8(b1, s1, l1).compareTo(decodeUTF8(b2, s2, l2));
+                }
             }
+            // equal up to the length of the shorter one
+            return l1 - l2;
+        }
+
+        /**
+         * Decodes both UTF-8 and the modified UTF-8 written by {@link DataOutput#writeUTF(String)}, which encodes
+         * the null character in two bytes and supplementary characters as two three byte surrogates.
+         */
+        private static String decodeUTF8(byte[] b, int s, int l) {
+            char[] chars = new char[l];
+            int n = 0;
+            int end = s + l;
+            int i = s;
+            while (i < end) {
+                int c = b[i] & 0xff;
+                if (c < 0x80) {
+                    chars[n++] = (char) c;
+                    i++;
+                } else if ((c >> 5) == 0x6 && i + 1 < end) {
+                    chars[n++] = (char) (((c & 0x1f) << 6) | (b[i + 1] & 0x3f));
+                    i += 2;
+                } else if ((c >> 4) == 0xe && i + 2 < end) {
+                    chars[n++] = (char) (((c & 0x0f) << 12) | ((b[i + 1] & 0x3f) << 6) | (b[i + 2] & 0x3f));
+                    i += 3;
+                } else if ((c >> 3) == 0x1e && i + 3 < end) {
+                    int cp = ((c & 0x07) << 18) | ((b[i + 1] & 0x3f) << 12) | ((b[i + 2] & 0x3f) << 6)
+                            | (b[i + 3] & 0x3f);
+                    cp -= 0x10000;
+                    chars[n++] = (char) (0xd800 + (cp >> 10));
+                    chars[n++] = (char) (0xdc00 + (cp & 0x3ff));
+                    i += 4;
+                } else {
+                    chars[n++] = '\ufffd';
+                    i++;
+                }
+            }
+            return new String(chars, 0, n);
         }
 
         private static byte getGeneralizedDataType(byte type) {
@@ -1175,6 +1541,24 @@ public class BinInterSedes implements InterSedes {
             }
         }
 
+        /**
+         * @param bb ByteBuffer having a serialized bag, minus the type information
+         * @param type serialized type information
+         * @return the number of tuples in the bag
+         */
+        private static long readBagSize(ByteBuffer bb, byte type) {
+            switch (type) {
+            case BinInterSedes.TINYBAG:
+                return getUnsignedByte(bb);
+            case BinInterSedes.SMALLBAG:
+                return getUnsignedShort(bb);
+            case BinInterSedes.BAG:
+                return bb.getLong();
+            default:
+                throw new RuntimeException("Unexpected data type " + type + " found in stream.");
+            }
+        }
+
         //same as format used by DataInput/DataOutput for unsigned short
         private static int getUnsignedShort(ByteBuffer bb) {
             return (((bb.get() & 0xff) << 8) | (bb.get() & 0xff));
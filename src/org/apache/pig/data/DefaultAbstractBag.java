@@ -17,10 +17,8 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
@@ -29,13 +27,13 @@ import java.util.Iterator;
 import java.util.ArrayList;
 
 import org.apache.pig.PigCounters;
-import org.apache.pig.PigException;
 import org.apache.pig.PigWarning;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigHadoopLogger;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PigLogger;
 import org.apache.pig.impl.util.BagFormat;
+import org.apache.pig.impl.util.SpillFileManager;
 import org.apache.pig.impl.util.Spillable;
 import org.apache.pig.tools.pigstats.PigStatusReporter;
 import org.apache.commons.logging.Log;
@@ -227,7 +225,7 @@ public abstract class DefaultAbstractBag implements DataBag {
             DataBag otherClone;
             BagFactory factory = BagFactory.getInstance();
             
-            if (this.isSorted() || this.isDistinct()) {
+            if (isOrdered(this)) {
                 thisClone = this;
             } else {
                 thisClone = factory.newSortedBag(null);
@@ -235,7 +233,7 @@ public abstract class DefaultAbstractBag implements DataBag {
                 while (i.hasNext()) thisClone.add(i.next());
                 
             }
-            if (((DataBag) other).isSorted() || ((DataBag)other).isDistinct()) {
+            if (isOrdered(bOther)) {
                 otherClone = bOther;
             } else {
                 otherClone = factory.newSortedBag(null);
@@ -258,6 +256,14 @@ public abstract class DefaultAbstractBag implements DataBag {
         }
     }
 
+    /**
+     * @return true if the tuples of a bag are iterated over in order; the
+     * distinct bags sort their tuples, except for InternalHashDistinctBag
+     */
+    private static boolean isOrdered(DataBag b) {
+        return b.isSorted() || (b.isDistinct() && !(b instanceof InternalHashDistinctBag));
+    }
+
     @Override
     public boolean equals(Object other) {
         return compareTo(other) == 0;
@@ -318,7 +324,8 @@ public abstract class DefaultAbstractBag implements DataBag {
 
     /**
      * Get a file to spill contents to.  The file will be registered in the
-     * mSpillFiles array.
+     * mSpillFiles array.  It is created and written as configured in
+     * {@link SpillFileManager}.
      * @return stream to write tuples to.
      */
     protected DataOutputStream getSpillFile() throws IOException {
@@ -327,38 +334,9 @@ public abstract class DefaultAbstractBag implements DataBag {
             mSpillFiles = new FileList(1);
         }
 
-        String tmpDirName= System.getProperties().getProperty("java.io.tmpdir") ;                
-        File tmpDir = new File(tmpDirName);
-  
-        // if the directory does not exist, create it.
-        if (!tmpDir.exists()){
-            log.info("Temporary directory doesn't exists. Trying to create: " + tmpDir.getAbsolutePath());
-          // Create the directory and see if it was successful
-          if (tmpDir.mkdir()){
-            log.info("Successfully created temporary directory: " + tmpDir.getAbsolutePath());
-          } else {
-              // If execution reaches here, it means that we needed to create the directory but
-              // were not successful in doing so.
-              // 
-              // If this directory is created recently then we can simply 
-              // skip creation. This is to address a rare issue occuring in a cluster despite the
-              // the fact that spill() makes call to getSpillFile() in a synchronized 
-              // block. 
-              if (tmpDir.exists()) {
-                log.info("Temporary directory already exists: " + tmpDir.getAbsolutePath());
-              } else {
-                int errCode = 2111;
-                String msg = "Unable to create temporary directory: " + tmpDir.getAbsolutePath();
-                throw new ExecException(msg, errCode, PigException.BUG);                  
-              }
-          }
-        }
-        
-        File f = File.createTempFile("pigbag", null);
-        f.deleteOnExit();
+        File f = SpillFileManager.createSpillFile();
         mSpillFiles.add(f);
-        return new DataOutputStream(new BufferedOutputStream(
-            new FileOutputStream(f)));
+        return SpillFileManager.openForWrite(f);
     }
 
     /**
@@ -17,11 +17,9 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -32,6 +30,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.pig.PigCounters;
 import org.apache.pig.PigWarning;
+import org.apache.pig.impl.util.SpillFileManager;
 
 
 /**
@@ -203,14 +202,17 @@ public class DefaultDataBag extends DefaultAbstractBag {
                 // we know to read from the file next time we come
                 // through.
                 try {
-                    mIn = new DataInputStream(new BufferedInputStream(
-                        new FileInputStream(mSpillFiles.get(mFilePtr++))));
+                    mIn = SpillFileManager.openForRead(mSpillFiles.get(mFilePtr++));
                 } catch (FileNotFoundException fnfe) {
                     // We can't find our own spill file?  That should never
                     // happen.
                     String msg = "Unable to find our spill file."; 
                     log.fatal(msg, fnfe);
                     throw new RuntimeException(msg, fnfe);
+                } catch (IOException ioe) {
+                    String msg = "Unable to open our spill file.";
+                    log.fatal(msg, ioe);
+                    throw new RuntimeException(msg, ioe);
                 }
                 for (int i = 0; i < mMemoryPtr; i++) {
                     try {
@@ -282,14 +284,17 @@ public class DefaultDataBag extends DefaultAbstractBag {
             // Open the next file, then call ourselves again as it
             // will enter the if above.
             try {
-                mIn = new DataInputStream(new BufferedInputStream(
-                    new FileInputStream(mSpillFiles.get(mFilePtr++))));
+                mIn = SpillFileManager.openForRead(mSpillFiles.get(mFilePtr++));
             } catch (FileNotFoundException fnfe) {
                 // We can't find our own spill file?  That should never
                 // happen.
                 String msg = "Unable to find our spill file.";
                 log.fatal(msg, fnfe);
                 throw new RuntimeException(msg, fnfe);
+            } catch (IOException ioe) {
+                String msg = "Unable to open our spill file.";
+                log.fatal(msg, ioe);
+                throw new RuntimeException(msg, ioe);
             }
             return readFromFile();
         }
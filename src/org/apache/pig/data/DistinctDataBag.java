@@ -17,12 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -38,6 +36,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.pig.PigCounters;
 import org.apache.pig.PigWarning;
+import org.apache.pig.impl.util.SpillFileManager;
 
 
 
@@ -295,9 +294,8 @@ public class DistinctDataBag extends DefaultAbstractBag {
                 // because we don't support calls to add() after calls to
                 // iterator(), and spill() won't create empty files.
                 try {
-                    in = new DataInputStream(new BufferedInputStream(
-                        new FileInputStream(mSpillFiles.get(
-                                mSpillFiles.size() - 1))));
+                    in = SpillFileManager.openForRead(mSpillFiles.get(
+                            mSpillFiles.size() - 1));
                     if (mStreams == null) {
                         mMergeTree = new TreeSet<TContainer>();
                         // We didn't have any files before this spill.
@@ -310,6 +308,10 @@ public class DistinctDataBag extends DefaultAbstractBag {
                     String msg = "Unable to find our spill file."; 
                     log.fatal(msg, fnfe);
                     throw new RuntimeException(msg, fnfe);
+                } catch (IOException ioe) {
+                    String msg = "Unable to open our spill file.";
+                    log.fatal(msg, ioe);
+                    throw new RuntimeException(msg, ioe);
                 }
 
                 // Fast forward past the tuples we've already put in the
@@ -359,8 +361,7 @@ public class DistinctDataBag extends DefaultAbstractBag {
                 while (i.hasNext()) {
                     try {
                         DataInputStream in = 
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
+                            SpillFileManager.openForRead(i.next());
                         mStreams.add(in);
                         // Add the first tuple from this file into the
                         // merge queue.
@@ -371,6 +372,10 @@ public class DistinctDataBag extends DefaultAbstractBag {
                         String msg = "Unable to find our spill file.";
                         log.fatal(msg, fnfe);
                         throw new RuntimeException(msg, fnfe);
+                    } catch (IOException ioe) {
+                        String msg = "Unable to open our spill file.";
+                        log.fatal(msg, ioe);
+                        throw new RuntimeException(msg, ioe);
                     }
                 }
 
@@ -508,8 +513,7 @@ public class DistinctDataBag extends DefaultAbstractBag {
                         try {
                             File f = i.next();
                             DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
+                                SpillFileManager.openForRead(f);
                             mStreams.add(in);
                             addToQueue(null, mStreams.size() - 1);
                             i.remove();
@@ -521,6 +525,10 @@ public class DistinctDataBag extends DefaultAbstractBag {
                             String msg = "Unable to find our spill file.";
                             log.fatal(msg, fnfe);
                             throw new RuntimeException(msg, fnfe);
+                        } catch (IOException ioe) {
+                            String msg = "Unable to open our spill file.";
+                            log.fatal(msg, ioe);
+                            throw new RuntimeException(msg, ioe);
                         }
                     }
 
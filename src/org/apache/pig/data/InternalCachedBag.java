@@ -17,12 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -35,6 +33,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.PigCounters;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.SpillFileManager;
 
 @InterfaceAudience.Private
 @InterfaceStability.Evolving
@@ -195,12 +194,16 @@ public class InternalCachedBag extends SelfSpillBag {
             if(mSpillFiles != null && mSpillFiles.size() > 0) {
                 File file = mSpillFiles.get(0);
                 try {
-                    in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                    in = SpillFileManager.openForRead(file);
                 }
                 catch(FileNotFoundException fnfe) {
                     String msg = "Unable to find our spill file.";
                     throw new RuntimeException(msg, fnfe);
                 }
+                catch(IOException ioe) {
+                    String msg = "Unable to open our spill file.";
+                    throw new RuntimeException(msg, ioe);
+                }
             }
         }
 
@@ -17,12 +17,10 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -39,6 +37,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.SpillFileManager;
 
 
 
@@ -261,8 +260,7 @@ public class InternalDistinctBag extends SortedSpillBag {
                 while (i.hasNext()) {
                     try {
                         DataInputStream in = 
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
+                            SpillFileManager.openForRead(i.next());
                         mStreams.add(in);
                         // Add the first tuple from this file into the
                         // merge queue.
@@ -273,6 +271,10 @@ public class InternalDistinctBag extends SortedSpillBag {
                         String msg = "Unable to find our spill file.";
                         log.fatal(msg, fnfe);
                         throw new RuntimeException(msg, fnfe);
+                    } catch (IOException ioe) {
+                        String msg = "Unable to open our spill file.";
+                        log.fatal(msg, ioe);
+                        throw new RuntimeException(msg, ioe);
                     }
                 }
 
@@ -407,8 +409,7 @@ public class InternalDistinctBag extends SortedSpillBag {
                         try {
                             File f = i.next();
                             DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
+                                SpillFileManager.openForRead(f);
                             mStreams.add(in);
                             addToQueue(null, mStreams.size() - 1);
                             i.remove();
@@ -419,6 +420,10 @@ public class InternalDistinctBag extends SortedSpillBag {
                             String msg = "Unable to find our spill file.";
                             log.fatal(msg, fnfe);
                             throw new RuntimeException(msg, fnfe);
+                        } catch (IOException ioe) {
+                            String msg = "Unable to open our spill file.";
+                            log.fatal(msg, ioe);
+                            throw new RuntimeException(msg, ioe);
                         }
                     }
 
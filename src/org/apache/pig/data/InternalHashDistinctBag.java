@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigCounters;
+import org.apache.pig.PigWarning;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.SpillFileManager;
+
+/**
+ * An unordered collection of Tuples with no multiples, like
+ * {@link InternalDistinctBag}, that never sorts. Tuples are kept in a
+ * HashSet; when it holds as many as memory allows, they are spilled to one of
+ * {@link #NUM_PARTITIONS} files chosen by their hash code, so the copies of a
+ * tuple all end up in the same file. When the bag is read, the partitions
+ * are made distinct one at a time, in memory. A partition that does not fit
+ * in memory is split again, with a different hash.
+ * <p>
+ * Tuples are returned in no particular order, and cannot be added once the
+ * bag has been read. Selected with pig.cachedbag.distinct.type=hash.
+ */
+@InterfaceAudience.Private
+@InterfaceStability.Evolving
+public class InternalHashDistinctBag extends SelfSpillBag {
+    private static final long serialVersionUID = 1L;
+
+    private static final Log log = LogFactory.getLog(InternalHashDistinctBag.class);
+
+    /**
+     * Value of pig.cachedbag.distinct.type that selects this bag.
+     */
+    public static final String BAG_TYPE = "hash";
+
+    static final int NUM_PARTITIONS = 16;
+
+    // a partition split this many times is read into memory whatever its
+    // size, its tuples are likely to have the same hash code
+    private static final int MAX_SPLITS = 3;
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    // the streams of the partition files, while tuples are added
+    private transient DataOutputStream[] mPartitionOuts;
+    // the tuples in memory when the bag was first read, by partition
+    private transient ArrayList<Tuple>[] mMemPartitions;
+    private transient boolean mReadStarted = false;
+
+    public InternalHashDistinctBag() {
+        this(1, -1.0f);
+    }
+
+    public InternalHashDistinctBag(int bagCount) {
+        this(bagCount, -1.0f);
+    }
+
+    public InternalHashDistinctBag(int bagCount, float percent) {
+        super(bagCount, percent);
+        mContents = new HashSet<Tuple>();
+    }
+
+    /**
+     * @return the partition of a tuple, after it has been split level times
+     */
+    static int getPartition(Tuple t, int level) {
+        // mix the bits of the hash code differently at every level, as all
+        // the tuples of a partition have the same partition at the levels
+        // above
+        int h = t.hashCode() + level * 0x9e3779b9;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % NUM_PARTITIONS;
+    }
+
+    @Override
+    public boolean isSorted() {
+        return false;
+    }
+
+    @Override
+    public boolean isDistinct() {
+        return true;
+    }
+
+    @Override
+    public long size() {
+        if (mSpillFiles != null && mSpillFiles.size() > 0) {
+            // We need to recalculate size to guarantee a count of unique
+            // entries including those on disk
+            Iterator<Tuple> iter = iterator();
+            int newSize = 0;
+            while (iter.hasNext()) {
+                newSize++;
+                iter.next();
+            }
+
+            mSize = newSize;
+        }
+        return mSize;
+    }
+
+    @Override
+    public void add(Tuple t) {
+        if (mReadStarted) {
+            throw new IllegalStateException("InternalHashDistinctBag is closed for adding new tuples");
+        }
+
+        if (mContents.size() > memLimit.getCacheLimit()) {
+            spill();
+        }
+
+        if (mContents.add(t)) {
+            mSize++;
+
+            // check how many tuples memory can hold by getting average
+            // size of first 100 tuples
+            if (mSize < 100 && (mSpillFiles == null || mSpillFiles.isEmpty())) {
+                memLimit.addNewObjSize(t.getMemorySize());
+            }
+        }
+    }
+
+    @Override
+    public void addAll(DataBag b) {
+        Iterator<Tuple> iter = b.iterator();
+        while (iter.hasNext()) {
+            add(iter.next());
+        }
+    }
+
+    @Override
+    public void addAll(Collection<Tuple> c) {
+        Iterator<Tuple> iter = c.iterator();
+        while (iter.hasNext()) {
+            add(iter.next());
+        }
+    }
+
+    /**
+     * Write the tuples in memory to the partition files, without sorting
+     * them.
+     * @return number of tuples spilled
+     */
+    @Override
+    public long spill() {
+        // Make sure we have something to spill.
+        if (mContents.size() == 0 || mReadStarted) return 0;
+
+        if (mPartitionOuts == null) {
+            //count for number of objects that have spilled
+            incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_BAGS);
+            mPartitionOuts = new DataOutputStream[NUM_PARTITIONS];
+            try {
+                for (int i = 0; i < NUM_PARTITIONS; i++) {
+                    mPartitionOuts[i] = getSpillFile();
+                }
+            } catch (IOException ioe) {
+                warn("Unable to create tmp file to spill to disk",
+                        PigWarning.UNABLE_TO_CREATE_FILE_TO_SPILL, ioe);
+                closePartitions();
+                clearSpillFiles();
+                return 0;
+            }
+        }
+
+        long spilled = 0;
+        try {
+            for (Tuple t : mContents) {
+                SEDES.writeDatum(mPartitionOuts[getPartition(t, 0)], t, DataType.TUPLE);
+                spilled++;
+                // This will report progress every 16383 records.
+                if ((spilled & 0x3fff) == 0) reportProgress();
+            }
+        } catch (IOException ioe) {
+            // the tuples written before the failure are in the files and in
+            // memory, which does no harm to a distinct bag
+            warn("Unable to spill contents to disk", PigWarning.UNABLE_TO_SPILL, ioe);
+            return 0;
+        }
+        mContents.clear();
+
+        incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_RECS, spilled);
+
+        return spilled;
+    }
+
+    private void closePartitions() {
+        if (mPartitionOuts == null) {
+            return;
+        }
+        for (DataOutputStream out : mPartitionOuts) {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    warn("Error closing spill", PigWarning.UNABLE_TO_CLOSE_SPILL_FILE, e);
+                }
+            }
+        }
+        mPartitionOuts = null;
+    }
+
+    private void clearSpillFiles() {
+        if (mSpillFiles != null) {
+            for (File f : mSpillFiles) {
+                f.delete();
+            }
+            mSpillFiles.clear();
+        }
+    }
+
+    @Override
+    public void clear() {
+        closePartitions();
+        super.clear();
+        mMemPartitions = null;
+        mReadStarted = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Iterator<Tuple> iterator() {
+        if (!mReadStarted) {
+            mReadStarted = true;
+            if (mPartitionOuts != null) {
+                closePartitions();
+                // the tuples left in memory are made distinct with the
+                // partition they belong to
+                mMemPartitions = new ArrayList[NUM_PARTITIONS];
+                for (int i = 0; i < NUM_PARTITIONS; i++) {
+                    mMemPartitions[i] = new ArrayList<Tuple>();
+                }
+                for (Tuple t : mContents) {
+                    mMemPartitions[getPartition(t, 0)].add(t);
+                }
+                mContents = new ArrayList<Tuple>(0);
+            }
+        }
+        return new HashDistinctBagIterator();
+    }
+
+    /**
+     * A partition still to be read.
+     */
+    private static class Partition {
+        final File file;
+        final int level;
+        // the tuples of the partition that are in memory, if any
+        final Collection<Tuple> inMemory;
+        // whether the file was written while reading, and has to be deleted
+        // once it is read
+        final boolean temporary;
+
+        Partition(File file, int level, Collection<Tuple> inMemory, boolean temporary) {
+            this.file = file;
+            this.level = level;
+            this.inMemory = inMemory;
+            this.temporary = temporary;
+        }
+    }
+
+    /**
+     * An iterator that makes the partitions distinct, one at a time.
+     */
+    private class HashDistinctBagIterator implements Iterator<Tuple> {
+        private LinkedList<Partition> mPending = new LinkedList<Partition>();
+        private Iterator<Tuple> mCurrent = null;
+        private int mCntr = 0;
+
+        HashDistinctBagIterator() {
+            if (mMemPartitions == null) {
+                // nothing was spilled
+                mCurrent = mContents.iterator();
+                return;
+            }
+            for (int i = 0; i < NUM_PARTITIONS; i++) {
+                mPending.add(new Partition(mSpillFiles.get(i), 0, mMemPartitions[i], false));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (mCurrent == null || !mCurrent.hasNext()) {
+                if (mPending.isEmpty()) {
+                    return false;
+                }
+                try {
+                    mCurrent = readPartition(mPending.removeFirst());
+                } catch (IOException ioe) {
+                    String msg = "Unable to read our spill file.";
+                    log.fatal(msg, ioe);
+                    throw new RuntimeException(msg, ioe);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the next tuple, or null if there are no more, like the
+         * iterators of the other distinct bags
+         */
+        @Override
+        public Tuple next() {
+            if (!hasNext()) {
+                return null;
+            }
+            // This will report progress every 1024 times through next.
+            if ((mCntr++ & 0x3ff) == 0) reportProgress();
+            return mCurrent.next();
+        }
+
+        /**
+         * Not implemented.
+         */
+        @Override
+        public void remove() {}
+
+        /**
+         * Read the tuples of a partition into memory. If there are too
+         * many, split the partition instead, and leave the parts to be read
+         * next.
+         * @return the distinct tuples of the partition, empty if it was split
+         */
+        private Iterator<Tuple> readPartition(Partition p) throws IOException {
+            HashSet<Tuple> set = new HashSet<Tuple>();
+            if (p.inMemory != null) {
+                set.addAll(p.inMemory);
+            }
+            DataInputStream in = SpillFileManager.openForRead(p.file);
+            try {
+                boolean split = false;
+                while (true) {
+                    Tuple t;
+                    try {
+                        t = (Tuple) SEDES.readDatum(in);
+                    } catch (EOFException eof) {
+                        break;
+                    }
+                    set.add(t);
+                    if (set.size() > memLimit.getCacheLimit() && p.level < MAX_SPLITS) {
+                        split = true;
+                        break;
+                    }
+                }
+                if (split) {
+                    split(p, set, in);
+                    set.clear();
+                }
+            } finally {
+                in.close();
+                if (p.temporary && !p.file.delete()) {
+                    log.warn("Failed to delete spill file: " + p.file.getPath());
+                }
+            }
+            return set.iterator();
+        }
+
+        private void split(Partition p, HashSet<Tuple> set, DataInputStream in)
+                throws IOException {
+            int level = p.level + 1;
+            if (log.isDebugEnabled()) {
+                log.debug("Splitting a partition too big for memory, at level " + level);
+            }
+            File[] files = new File[NUM_PARTITIONS];
+            DataOutputStream[] outs = new DataOutputStream[NUM_PARTITIONS];
+            try {
+                for (int i = 0; i < NUM_PARTITIONS; i++) {
+                    files[i] = SpillFileManager.createSpillFile();
+                    outs[i] = SpillFileManager.openForWrite(files[i]);
+                }
+                for (Tuple t : set) {
+                    SEDES.writeDatum(outs[getPartition(t, level)], t, DataType.TUPLE);
+                }
+                while (true) {
+                    Tuple t;
+                    try {
+                        t = (Tuple) SEDES.readDatum(in);
+                    } catch (EOFException eof) {
+                        break;
+                    }
+                    SEDES.writeDatum(outs[getPartition(t, level)], t, DataType.TUPLE);
+                }
+            } finally {
+                for (DataOutputStream out : outs) {
+                    if (out != null) {
+                        out.close();
+                    }
+                }
+            }
+            // read the parts before the other partitions, so that at most
+            // one partition is split at a time
+            for (int i = NUM_PARTITIONS - 1; i >= 0; i--) {
+                mPending.addFirst(new Partition(files[i], level, null, true));
+            }
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.PigCounters;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.SpillFileManager;
+
+/**
+ * A bag like {@link InternalCachedBag}, that keeps its tuples serialized in
+ * pages of memory and deserializes them when it is iterated over. The
+ * memory used is counted in bytes of pages rather than estimated from the
+ * sizes of the first tuples, and serialized tuples take a fraction of the
+ * memory of their objects, so many more tuples are held before the rest are
+ * spilled to disk. Tuples cannot be added once the bag has been read.
+ * <p>
+ * Pages start small and double in size. Pages of {@link #DIRECT_PAGE_SIZE}
+ * bytes or more are direct buffers, out of the heap, so the tuples of big
+ * bags are not looked at by the garbage collector. The heap pages and the
+ * direct pages are each held to the memory limit of the bag, and only the
+ * heap pages count for {@link #getMemorySize()}. When the bag is read, the
+ * pages with much unused room are copied into pages of the size needed.
+ */
+@InterfaceAudience.Private
+@InterfaceStability.Evolving
+public class InternalOffHeapBag extends SelfSpillBag {
+    private static final long serialVersionUID = 1L;
+
+    private static final Log log = LogFactory.getLog(InternalOffHeapBag.class);
+
+    /**
+     * Value of pig.cachedbag.type that selects this bag.
+     */
+    public static final String BAG_TYPE = "offheap";
+
+    private static final int FIRST_PAGE_SIZE = 1024;
+    public static final int DIRECT_PAGE_SIZE = 64 * 1024;
+    private static final int MAX_PAGE_SIZE = 1024 * 1024;
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    private transient ArrayList<ByteBuffer> pages;
+    // the page tuples are added to
+    private transient ByteBuffer page;
+    // bytes of the heap pages and of the direct pages
+    private transient long memUsed;
+    private transient long directUsed;
+    private transient DataOutputBuffer buffer;
+    private transient DataOutputStream out;
+    private transient boolean addDone;
+
+    // used to store number of tuples spilled until counter is incremented
+    private transient int numTuplesSpilled = 0;
+
+    public InternalOffHeapBag() {
+        this(1, -1f);
+    }
+
+    public InternalOffHeapBag(int bagCount) {
+        this(bagCount, -1f);
+    }
+
+    public InternalOffHeapBag(int bagCount, float percent) {
+        super(bagCount, percent);
+        init();
+    }
+
+    private void init() {
+        // nothing is kept in mContents, but DefaultAbstractBag synchronizes on it
+        mContents = new ArrayList<Tuple>(0);
+        pages = new ArrayList<ByteBuffer>();
+        page = null;
+        memUsed = 0;
+        directUsed = 0;
+        buffer = new DataOutputBuffer();
+        addDone = false;
+    }
+
+    /**
+     * Make room for a record in the current page, or in a new page if it
+     * does not fit and the memory limit allows it.
+     * @return false if the record does not fit in memory
+     */
+    private boolean reserve(int length) {
+        if (page != null && page.remaining() >= length) {
+            return true;
+        }
+        long size = page == null ? FIRST_PAGE_SIZE : Math.min(page.capacity() * 2, MAX_PAGE_SIZE);
+        size = Math.max(size, length);
+        boolean direct = size >= DIRECT_PAGE_SIZE;
+        size = Math.min(size, memLimit.getMaxMemUsage() - (direct ? directUsed : memUsed));
+        if (size < length) {
+            return false;
+        }
+        page = allocate((int) size, direct);
+        pages.add(page);
+        return true;
+    }
+
+    private ByteBuffer allocate(int size, boolean direct) {
+        if (direct) {
+            directUsed += size;
+            return ByteBuffer.allocateDirect(size);
+        }
+        memUsed += size;
+        return ByteBuffer.allocate(size);
+    }
+
+    /**
+     * Copy the pages of which at least a quarter is unused into pages of
+     * the size of what they hold, so that the unused room is freed.
+     */
+    private void shrinkPages() {
+        for (int i = 0; i < pages.size(); i++) {
+            ByteBuffer p = pages.get(i);
+            if (p.remaining() < p.capacity() / 4) {
+                continue;
+            }
+            ByteBuffer written = p.duplicate();
+            written.flip();
+            if (p.isDirect()) {
+                directUsed -= p.capacity();
+            } else {
+                memUsed -= p.capacity();
+            }
+            ByteBuffer shrunk = allocate(written.remaining(),
+                    written.remaining() >= DIRECT_PAGE_SIZE);
+            shrunk.put(written);
+            pages.set(i, shrunk);
+        }
+        page = null;
+    }
+
+    @Override
+    public void add(Tuple t) {
+        if(addDone) {
+            throw new IllegalStateException("InternalOffHeapBag is closed for adding new tuples");
+        }
+
+        try {
+            buffer.reset();
+            SEDES.writeDatum(buffer, t, DataType.TUPLE);
+            int length = buffer.getLength();
+            // once tuples are spilled, they all are, to keep them in order
+            if (out == null && reserve(length + 4)) {
+                page.putInt(length);
+                page.put(buffer.getData(), 0, length);
+            } else {
+                if (out == null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Memory can hold " + mSize + " records in " + memUsed
+                                + " bytes, put the rest in spill file.");
+                    }
+                    out = getSpillFile();
+                    incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_BAGS);
+                }
+                out.write(buffer.getData(), 0, length);
+
+                //periodically update number of tuples spilled
+                numTuplesSpilled++;
+                if(numTuplesSpilled > 1000){
+                    updateSpillRecCounter();
+                }
+            }
+        }
+        catch(IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        mSize++;
+    }
+
+    private void updateSpillRecCounter() {
+        incSpillCount(PigCounters.PROACTIVE_SPILL_COUNT_RECS, numTuplesSpilled);
+        numTuplesSpilled = 0;
+    }
+
+    @Override
+    public void addAll(DataBag b) {
+        Iterator<Tuple> iter = b.iterator();
+        while(iter.hasNext()) {
+            add(iter.next());
+        }
+    }
+
+    @Override
+    public void addAll(Collection<Tuple> c) {
+        Iterator<Tuple> iter = c.iterator();
+        while(iter.hasNext()) {
+            add(iter.next());
+        }
+    }
+
+    private void addDone() {
+        if(out != null) {
+            try {
+                out.flush();
+                out.close();
+            }
+            catch(IOException e) {
+                // ignore
+            }
+        }
+        if(numTuplesSpilled > 0)
+            updateSpillRecCounter();
+        shrinkPages();
+        addDone = true;
+    }
+
+    @Override
+    public void clear() {
+        if (!addDone) {
+            addDone();
+        }
+        super.clear();
+        // the direct buffers are freed once they are garbage collected
+        pages = new ArrayList<ByteBuffer>();
+        page = null;
+        memUsed = 0;
+        directUsed = 0;
+        addDone = false;
+        out = null;
+    }
+
+    /**
+     * @return the number of bytes of the heap pages of the bag
+     */
+    @Override
+    public long getMemorySize() {
+        return memUsed;
+    }
+
+    /**
+     * @return the number of bytes of the direct pages of the bag
+     */
+    public long getDirectMemorySize() {
+        return directUsed;
+    }
+
+    @Override
+    public boolean isDistinct() {
+        return false;
+    }
+
+    @Override
+    public boolean isSorted() {
+        return false;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        if(!addDone) {
+            // close the spill file and mark adding is done
+            // so further adding is disallowed.
+            addDone();
+        }
+        return new OffHeapBagIterator();
+    }
+
+    @Override
+    public long spill()
+    {
+        throw new RuntimeException("InternalOffHeapBag.spill() should not be called");
+    }
+
+    private class OffHeapBagIterator implements Iterator<Tuple> {
+        int pageIndex = 0;
+        // what is left to read of the current page
+        ByteBuffer current;
+        byte[] record = new byte[256];
+        DataInputBuffer recordIn = new DataInputBuffer();
+        DataInputStream in;
+        Tuple next;
+
+        long numTuplesRead = 0;
+
+        public OffHeapBagIterator() {
+            if(mSpillFiles != null && mSpillFiles.size() > 0) {
+                File file = mSpillFiles.get(0);
+                try {
+                    in = SpillFileManager.openForRead(file);
+                }
+                catch(IOException ioe) {
+                    String msg = "Unable to open our spill file.";
+                    throw new RuntimeException(msg, ioe);
+                }
+            }
+        }
+
+        private Tuple readFromPages() throws IOException {
+            while (current == null || !current.hasRemaining()) {
+                if (pageIndex == pages.size()) {
+                    return null;
+                }
+                // a view of the written part of the page
+                current = pages.get(pageIndex++).duplicate();
+                current.flip();
+            }
+            int length = current.getInt();
+            if (record.length < length) {
+                record = new byte[Math.max(length, record.length * 2)];
+            }
+            current.get(record, 0, length);
+            recordIn.reset(record, length);
+            return (Tuple) SEDES.readDatum(recordIn);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+
+            try {
+                next = readFromPages();
+                if (next != null) {
+                    return true;
+                }
+            }catch(IOException e) {
+                throw new RuntimeException("Unable to read tuple from memory", e);
+            }
+
+            if(in == null) {
+                return false;
+            }
+
+            try {
+                next = (Tuple) SEDES.readDatum(in);
+                return true;
+            }catch(EOFException eof) {
+                try{
+                    in.close();
+                }catch(IOException e) {
+
+                }
+                in = null;
+                return false;
+            }catch(IOException e) {
+                String msg = "Unable to read our spill file.";
+                throw new RuntimeException(msg, e);
+            }
+        }
+
+        @Override
+        public Tuple next() {
+            if (next == null) {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more elements from iterator");
+                }
+            }
+            Tuple t = next;
+            next = null;
+
+            numTuplesRead++;
+            // This will report progress every 16383 records.
+            if ((numTuplesRead & 0x3fff) == 0) reportProgress();
+
+            return t;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove is not supported for OffHeapBagIterator");
+        }
+    }
+}
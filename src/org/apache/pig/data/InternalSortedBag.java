@@ -17,12 +17,7 @@
  */
 package org.apache.pig.data;
 
-import java.io.BufferedInputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -31,12 +26,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.ListIterator;
-import java.util.PriorityQueue;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.impl.util.SpillFileManager;
 
 
 /**
@@ -161,29 +156,12 @@ public class InternalSortedBag extends SortedSpillBag{
     private class SortedDataBagIterator implements Iterator<Tuple> {
 
         /**
-         * A container to hold tuples in a priority queue.  Stores the
-         * file number the tuple came from, so that when the tuple is read
-         * out of the queue, we know which file to read its replacement
-         * tuple from.
+         * Reads the tuples in memory, as a source of the merge with the
+         * spill files.
          */
-        private class PQContainer implements Comparable<PQContainer> {
-            public Tuple tuple;
-            public int fileNum;
-
-            public int compareTo(PQContainer other) {
-                return mComp.compare(tuple, other.tuple);
-            }
-            
-            public boolean equals(Object obj) {
-            	if (obj instanceof PQContainer) {
-            		return compareTo((PQContainer)obj) == 0;
-            	}
-            	
-            	return false;
-            }
-            
-            public int hashCode() {
-            	return tuple.hashCode();
+        private class MemorySource implements LoserTree.Source {
+            public Tuple next() {
+                return readFromMemory();
             }
         }
 
@@ -192,8 +170,7 @@ public class InternalSortedBag extends SortedSpillBag{
         // than to read it.
         private Tuple mBuf = null;
         private int mMemoryPtr = 0;
-        private PriorityQueue<PQContainer> mMergeQ = null;
-        private ArrayList<DataInputStream> mStreams = null;
+        private LoserTree mMergeTree = null;
         private int mCntr = 0;
 
         SortedDataBagIterator() {
@@ -229,7 +206,7 @@ public class InternalSortedBag extends SortedSpillBag{
 
             // We have spill files, so we need to read the next tuple from
             // one of those files or from memory.
-            return readFromPriorityQ();
+            return readFromMergeTree();
         }
 
         /**
@@ -237,95 +214,36 @@ public class InternalSortedBag extends SortedSpillBag{
          */
         public void remove() {}
 
-        private Tuple readFromPriorityQ() {
-            if (mMergeQ == null) {
-                // First read, we need to set up the queue and the array of
-                // file streams
-                // Add one to the size for the list in memory.
-                mMergeQ =
-                    new PriorityQueue<PQContainer>(mSpillFiles.size() + 1);
-
-                // Add one to the size in case we spill later.
-                mStreams =
-                    new ArrayList<DataInputStream>(mSpillFiles.size() + 1);
-
-                Iterator<File> i = mSpillFiles.iterator();
-                while (i.hasNext()) {
-                    try {
-                        DataInputStream in = 
-                            new DataInputStream(new BufferedInputStream(
-                                new FileInputStream(i.next())));
-                        mStreams.add(in);
-                        // Add the first tuple from this file into the
-                        // merge queue.
-                        addToQueue(null, mStreams.size() - 1);
-                    } catch (FileNotFoundException fnfe) {
-                        // We can't find our own spill file?  That should
-                        // never happen.
-                        String msg = "Unable to find our spill file."; 
-                        log.fatal(msg, fnfe);
-                        throw new RuntimeException(msg, fnfe);
-                    }
-                }
-
-                // Prime one from memory too
-                if (mContents.size() > 0) {
-                    addToQueue(null, -1);
-                }
-            }
-
-            // Pop the top one off the queue
-            PQContainer c = mMergeQ.poll();
-            if (c == null) return null;
-
-            // Add the next tuple from whereever we read from into the
-            // queue.  Buffer the tuple we're returning, as we'll be
-            // reusing c.
-            Tuple t = c.tuple;
-            addToQueue(c, c.fileNum);
-
-            return t;
-        }
-
-        private void addToQueue(PQContainer c, int fileNum) {
-            if (c == null) {
-                c = new PQContainer();
-            }
-            c.fileNum = fileNum;
-
-            if (fileNum == -1) {
-                // Need to read from memory.  
-                 c.tuple = readFromMemory();
-                if (c.tuple != null) {
-                    mMergeQ.add(c);
-                }
-                return;
-            }
-
-            // Read the next tuple from the indicated file
-            DataInputStream in = mStreams.get(fileNum);
-            if (in != null) {
-                // There's still data in this file
-                c.tuple = gTupleFactory.newTuple();
-                try {
-                    c.tuple.readFields(in);
-                    mMergeQ.add(c);
-                } catch (EOFException eof) {
-                    // Out of tuples in this file.  Set our slot in the
-                    // array to null so we don't keep trying to read from
-                    // this file.
-                    try {
-                        in.close();
-                    }catch(IOException e) {
-                        log.warn("Failed to close spill file.", e);
+        private Tuple readFromMergeTree() {
+            try {
+                if (mMergeTree == null) {
+                    // First read, we need to set up the merge of the
+                    // files and what is in memory.
+                    List<LoserTree.Source> sources =
+                        new ArrayList<LoserTree.Source>(mSpillFiles.size() + 1);
+                    Iterator<File> i = mSpillFiles.iterator();
+                    while (i.hasNext()) {
+                        try {
+                            sources.add(new LoserTree.FileSource(
+                                    SpillFileManager.openForRead(i.next()),
+                                    gTupleFactory));
+                        } catch (FileNotFoundException fnfe) {
+                            // We can't find our own spill file?  That should
+                            // never happen.
+                            String msg = "Unable to find our spill file."; 
+                            log.fatal(msg, fnfe);
+                            throw new RuntimeException(msg, fnfe);
+                        }
                     }
-                    mStreams.set(fileNum, null);
-                } catch (IOException ioe) {
-                    String msg = "Unable to find our spill file.";
-                    log.fatal(msg, ioe);
-                    throw new RuntimeException(msg, ioe);
+                    sources.add(new MemorySource());
+                    mMergeTree = new LoserTree(mComp, sources);
                 }
 
+                return mMergeTree.poll();
+            } catch (IOException ioe) {
+                String msg = "Unable to find our spill file.";
+                log.fatal(msg, ioe);
+                throw new RuntimeException(msg, ioe);
             }
         }
 
@@ -358,80 +276,21 @@ public class InternalSortedBag extends SortedSpillBag{
                 return;
             }
 
-            // While there are more than max spill files, gather max spill
-            // files together and merge them into one file.  Then remove the others
-            // from mSpillFiles.  The new spill files are attached at the
-            // end of the list, so I can just keep going until I get a
-            // small enough number without too much concern over uneven
-            // size merges.  Convert mSpillFiles to a linked list since
-            // we'll be removing pieces from the middle and we want to do
-            // it efficiently.
             try {
-                LinkedList<File> ll = new LinkedList<File>(mSpillFiles);
-                LinkedList<File> filesToDelete = new LinkedList<File>();
-                while (ll.size() > MAX_SPILL_FILES) {
-                    ListIterator<File> i = ll.listIterator();
-                    mStreams =
-                        new ArrayList<DataInputStream>(MAX_SPILL_FILES);
-                    mMergeQ = new PriorityQueue<PQContainer>(MAX_SPILL_FILES);
-
-                    for (int j = 0; j < MAX_SPILL_FILES; j++) {
-                        try {
-                            File f = i.next();
-                            DataInputStream in =
-                                new DataInputStream(new BufferedInputStream(
-                                    new FileInputStream(f)));
-                            mStreams.add(in);
-                            addToQueue(null, mStreams.size() - 1);
-                            i.remove();
-                            filesToDelete.add(f);
-                            
-                        } catch (FileNotFoundException fnfe) {
-                            // We can't find our own spill file?  That should
-                            // neer happen.
-                            String msg = "Unable to find our spill file.";
-                            log.fatal(msg, fnfe);
-                            throw new RuntimeException(msg, fnfe);
-                        }
-                    }
+                LinkedList<File> ll = SpillFileMerger.merge(mSpillFiles,
+                        MAX_SPILL_FILES, mComp, mComp instanceof DefaultComparator,
+                        gTupleFactory);
 
-                    // Get a new spill file.  This adds one to the end of
-                    // the spill files list.  So I need to append it to my
-                    // linked list as well so that it's still there when I
-                    // move my linked list back to the spill files.
-                    try {
-                        DataOutputStream out = getSpillFile();
-                        ll.add(mSpillFiles.get(mSpillFiles.size() - 1));
-                        Tuple t;
-                        while ((t = readFromPriorityQ()) != null) {
-                            t.write(out);
-                        }
-                        out.flush();
-                        out.close();
-                    } catch (IOException ioe) {
-                        String msg = "Unable to find our spill file.";
-                        log.fatal(msg, ioe);
-                        throw new RuntimeException(msg, ioe);
-                    }
-                }
-                // delete files that have been merged into new files
-                for(File f : filesToDelete){
-                    if( f.delete() == false){
-                        log.warn("Failed to delete spill file: " + f.getPath());
-                    }
-                }
-                
                 // clear the list, so that finalize does not delete any files,
                 // when mSpillFiles is assigned a new value
                 mSpillFiles.clear();
 
                 // Now, move our new list back to the spill files array.
                 mSpillFiles = new FileList(ll);
-            } finally {
-                // Reset mStreams and mMerge so that they'll be allocated
-                // properly for regular merging.
-                mStreams = null;
-                mMergeQ = null;
+            } catch (IOException ioe) {
+                String msg = "Unable to find our spill file.";
+                log.fatal(msg, ioe);
+                throw new RuntimeException(msg, ioe);
             }
         }
     }
@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.impl.util.TupleFormat;
+
+/**
+ * A tuple that keeps the bytes it was serialized to by {@link BinInterSedes}
+ * and only deserializes a field the first time it is asked for. Fields that
+ * are never looked at, such as columns projected away by the next operator,
+ * are never deserialized. Until the tuple is changed, writing it out copies
+ * the bytes as they are.
+ * <p>
+ * The bytes are dropped once every field has been deserialized. Appending to
+ * the tuple deserializes all its fields first. A bag, tuple or map field can
+ * be changed in place once it is deserialized, so from then on the tuple is
+ * serialized again rather than copied.
+ * <p>
+ * This is for internal pig use only, like {@link BinSedesTuple}.
+ */
+@InterfaceAudience.Private
+public class LazyTuple implements Tuple {
+
+    /**
+     * Property to read the values of the shuffle as lazy tuples
+     */
+    public static final String PROP_LAZY_TUPLES = "pig.exec.lazytuples";
+
+    private static final long serialVersionUID = 1L;
+    private static final BinInterSedes sedes = (BinInterSedes) InterSedesFactory.getInterSedesInstance();
+
+    // serialized tuple, null once all the fields are deserialized
+    private transient byte[] buf;
+    // offset of every field in buf, computed on the first field access.
+    // Never changed in place, as copies of the tuple share it.
+    private transient int[] offsets;
+    // start and end of the serialized tuple in buf
+    private transient int start;
+    private transient int end;
+    // offset of the first field in buf
+    private transient int fieldsStart;
+    // which fields of mFields hold their deserialized value
+    private transient boolean[] decoded;
+    private transient DataInputBuffer in;
+    // true once the fields differ from the serialized tuple
+    private transient boolean modified = false;
+
+    private List<Object> mFields;
+
+    /**
+     * Default constructor, for hadoop.
+     */
+    public LazyTuple() {
+        mFields = new ArrayList<Object>();
+    }
+
+    /**
+     * Wrap a tuple serialized by {@link BinInterSedes}. The array is not
+     * copied, so it must not be changed while the tuple is in use.
+     *
+     * @param buf
+     *            array holding the serialized tuple
+     * @param start
+     *            offset of the type byte of the tuple
+     * @param length
+     *            number of bytes of the serialized tuple
+     * @throws IOException
+     *             if the bytes do not start with a tuple
+     */
+    public LazyTuple(byte[] buf, int start, int length) throws IOException {
+        this.buf = buf;
+        this.start = start;
+        this.end = start + length;
+        in = new DataInputBuffer();
+        in.reset(buf, start, length);
+        int sz;
+        byte type = in.readByte();
+        switch (type) {
+        case BinInterSedes.TINYTUPLE:
+            sz = in.readUnsignedByte();
+            break;
+        case BinInterSedes.SMALLTUPLE:
+            sz = in.readUnsignedShort();
+            break;
+        case BinInterSedes.TUPLE:
+            sz = in.readInt();
+            break;
+        default: {
+            int errCode = 2112;
+            String msg = "Unexpected datatype " + type + " while reading tuple" + "from binary file.";
+            throw new ExecException(msg, errCode, PigException.BUG);
+        }
+        }
+        fieldsStart = in.getPosition();
+        mFields = new ArrayList<Object>(sz);
+        for (int i = 0; i < sz; i++) {
+            mFields.add(null);
+        }
+        decoded = new boolean[sz];
+        if (sz == 0) {
+            release();
+        }
+    }
+
+    /**
+     * Wrap a tuple serialized by {@link BinInterSedes} whose field offsets
+     * are known.
+     *
+     * @param buf
+     *            array holding only the serialized tuple
+     * @param fieldsStart
+     *            offset of the first field
+     * @param offsets
+     *            offset of every field
+     */
+    LazyTuple(byte[] buf, int fieldsStart, int[] offsets) {
+        this.buf = buf;
+        this.start = 0;
+        this.end = buf.length;
+        this.fieldsStart = fieldsStart;
+        this.offsets = offsets;
+        mFields = new ArrayList<Object>(offsets.length);
+        for (int i = 0; i < offsets.length; i++) {
+            mFields.add(null);
+        }
+        decoded = new boolean[offsets.length];
+        if (offsets.length == 0) {
+            release();
+        }
+    }
+
+    /**
+     * Make a copy of this tuple that shares its serialized bytes, without
+     * deserializing the fields that are not yet.
+     *
+     * @return a copy of the tuple
+     */
+    public LazyTuple copy() {
+        LazyTuple t = new LazyTuple();
+        t.mFields = new ArrayList<Object>(mFields);
+        if (buf != null) {
+            t.buf = buf;
+            t.start = start;
+            t.end = end;
+            t.fieldsStart = fieldsStart;
+            t.offsets = offsets;
+            t.decoded = decoded.clone();
+            t.modified = modified;
+        }
+        return t;
+    }
+
+    /**
+     * Insert a field, moving the fields from fieldNum on one place to the
+     * right. The other fields are not deserialized.
+     *
+     * @param fieldNum
+     *            number of the new field
+     * @param val
+     *            value of the new field
+     * @throws ExecException
+     *             if fieldNum is greater than the number of fields
+     */
+    public void insert(int fieldNum, Object val) throws ExecException {
+        if (fieldNum < 0 || fieldNum > mFields.size()) {
+            throw new ExecException("Can't insert field " + fieldNum + " in a tuple of " + mFields.size() + " fields.");
+        }
+        if (buf != null) {
+            if (offsets == null) {
+                try {
+                    findOffsets();
+                } catch (IOException ioe) {
+                    int errCode = 2112;
+                    String msg = "Unable to deserialize a tuple";
+                    throw new ExecException(msg, errCode, PigException.BUG, ioe);
+                }
+            }
+            int[] newOffsets = new int[offsets.length + 1];
+            boolean[] newDecoded = new boolean[decoded.length + 1];
+            System.arraycopy(offsets, 0, newOffsets, 0, fieldNum);
+            System.arraycopy(offsets, fieldNum, newOffsets, fieldNum + 1, offsets.length - fieldNum);
+            System.arraycopy(decoded, 0, newDecoded, 0, fieldNum);
+            System.arraycopy(decoded, fieldNum, newDecoded, fieldNum + 1, decoded.length - fieldNum);
+            newOffsets[fieldNum] = -1;
+            newDecoded[fieldNum] = true;
+            offsets = newOffsets;
+            decoded = newDecoded;
+        }
+        mFields.add(fieldNum, val);
+        modified = true;
+    }
+
+    /**
+     * Write the serialized tuple as it is, if it has not been changed.
+     *
+     * @param out
+     *            output to write to
+     * @return false if the tuple has to be serialized again
+     * @throws IOException
+     */
+    boolean writeSerialized(DataOutput out) throws IOException {
+        if (buf == null || modified) {
+            return false;
+        }
+        out.write(buf, start, end - start);
+        return true;
+    }
+
+    private void decode(int fieldNum) throws ExecException {
+        if (buf == null || decoded[fieldNum]) {
+            return;
+        }
+        try {
+            if (offsets == null) {
+                findOffsets();
+            }
+            if (in == null) {
+                in = new DataInputBuffer();
+            }
+            in.reset(buf, offsets[fieldNum], end - offsets[fieldNum]);
+            Object val = sedes.readDatum(in);
+            mFields.set(fieldNum, val);
+            if (val instanceof DataBag || val instanceof Tuple || val instanceof Map) {
+                // callers can change these in place, so the bytes may no
+                // longer match the tuple
+                modified = true;
+            }
+        } catch (ExecException ee) {
+            throw ee;
+        } catch (IOException ioe) {
+            int errCode = 2112;
+            String msg = "Unable to deserialize field " + fieldNum + " of a tuple";
+            throw new ExecException(msg, errCode, PigException.BUG, ioe);
+        }
+        decoded[fieldNum] = true;
+        for (boolean d : decoded) {
+            if (!d) {
+                return;
+            }
+        }
+        release();
+    }
+
+    private void findOffsets() throws IOException {
+        int[] newOffsets = new int[decoded.length];
+        if (in == null) {
+            in = new DataInputBuffer();
+        }
+        in.reset(buf, fieldsStart, end - fieldsStart);
+        for (int i = 0; i < newOffsets.length; i++) {
+            newOffsets[i] = in.getPosition();
+            sedes.skipDatum(in);
+        }
+        offsets = newOffsets;
+    }
+
+    private void decodeAll() throws ExecException {
+        for (int i = 0; buf != null && i < decoded.length; i++) {
+            decode(i);
+        }
+    }
+
+    private void release() {
+        buf = null;
+        offsets = null;
+        decoded = null;
+        in = null;
+    }
+
+    @Override
+    public void reference(Tuple t) {
+        release();
+        mFields = t.getAll();
+    }
+
+    @Override
+    public int size() {
+        return mFields.size();
+    }
+
+    @Override
+    public boolean isNull(int fieldNum) throws ExecException {
+        return get(fieldNum) == null;
+    }
+
+    @Override
+    public byte getType(int fieldNum) throws ExecException {
+        return DataType.findType(get(fieldNum));
+    }
+
+    @Override
+    public Object get(int fieldNum) throws ExecException {
+        decode(fieldNum);
+        return mFields.get(fieldNum);
+    }
+
+    @Override
+    public List<Object> getAll() {
+        try {
+            decodeAll();
+        } catch (ExecException e) {
+            throw new RuntimeException("Unable to deserialize tuple", e);
+        }
+        // the list can be changed through
+        modified = true;
+        return mFields;
+    }
+
+    @Override
+    public void set(int fieldNum, Object val) throws ExecException {
+        mFields.set(fieldNum, val);
+        if (buf != null) {
+            decoded[fieldNum] = true;
+        }
+        modified = true;
+    }
+
+    @Override
+    public void append(Object val) {
+        getAll();
+        mFields.add(val);
+        modified = true;
+    }
+
+    @Override
+    public long getMemorySize() {
+        // same fixed overhead as DefaultTuple
+        long sum = 8 + 8 + 8 + 32 + Math.max(40, SizeUtil.roundToEight(4 + 4 * mFields.size()));
+        if (buf != null) {
+            // the serialized tuple, and what has been deserialized of it
+            sum += SizeUtil.roundToEight(end - fieldsStart) + decoded.length
+                + (offsets == null ? 0 : 4 * offsets.length);
+            for (int i = 0; i < decoded.length; i++) {
+                if (decoded[i]) {
+                    sum += SizeUtil.getPigObjMemSize(mFields.get(i));
+                }
+            }
+            return sum;
+        }
+        for (Iterator<Object> it = mFields.iterator(); it.hasNext();) {
+            sum += SizeUtil.getPigObjMemSize(it.next());
+        }
+        return sum;
+    }
+
+    @Override
+    public String toDelimitedString(String delim) throws ExecException {
+        StringBuilder buf = new StringBuilder();
+        for (Iterator<Object> it = getAll().iterator(); it.hasNext();) {
+            Object field = it.next();
+            buf.append(field == null ? "" : field.toString());
+            if (it.hasNext())
+                buf.append(delim);
+        }
+        return buf.toString();
+    }
+
+    @Override
+    public String toString() {
+        return TupleFormat.format(this);
+    }
+
+    @Override
+    public int compareTo(Object other) {
+        if (other instanceof Tuple) {
+            Tuple t = (Tuple) other;
+            int mySz = size();
+            int tSz = t.size();
+            if (tSz < mySz) {
+                return 1;
+            } else if (tSz > mySz) {
+                return -1;
+            } else {
+                for (int i = 0; i < mySz; i++) {
+                    try {
+                        int c = DataType.compare(get(i), t.get(i));
+                        if (c != 0) {
+                            return c;
+                        }
+                    } catch (ExecException e) {
+                        throw new RuntimeException("Unable to compare tuples", e);
+                    }
+                }
+                return 0;
+            }
+        } else {
+            return DataType.compare(this, other);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return (compareTo(other) == 0);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Iterator<Object> it = getAll().iterator(); it.hasNext();) {
+            Object o = it.next();
+            if (o != null) {
+                hash = 31 * hash + o.hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        sedes.writeDatum(out, this, DataType.TUPLE);
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+        release();
+        mFields = new ArrayList<Object>();
+        sedes.addColsToTuple(in, this);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the serialized bytes are transient
+        decodeAll();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    @Deprecated
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    @Deprecated
+    public void setNull(boolean isNull) {
+    }
+}
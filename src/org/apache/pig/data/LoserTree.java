@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Merges sorted sources of tuples. Each internal node of the tree holds the
+ * source that lost the comparison there, and the overall winner is kept
+ * apart, so taking a tuple costs one comparison per level of the tree on
+ * the path of the source it came from, about half of what a binary heap
+ * needs. Ties go to the source added first.
+ */
+class LoserTree {
+
+    private static final Log log = LogFactory.getLog(LoserTree.class);
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    /**
+     * A sorted source of tuples.
+     */
+    interface Source {
+        /**
+         * @return the next tuple, or null if there are no more
+         */
+        Tuple next() throws IOException;
+    }
+
+    /**
+     * A source reading the tuples of a spill file.
+     */
+    static class FileSource implements Source {
+        private DataInputStream in;
+        private final TupleFactory factory;
+
+        /**
+         * Read tuples written with {@link InterSedes#writeDatum}.
+         */
+        FileSource(DataInputStream in) {
+            this(in, null);
+        }
+
+        /**
+         * Read tuples written with {@link Tuple#write}, into tuples of the
+         * given factory.
+         */
+        FileSource(DataInputStream in, TupleFactory factory) {
+            this.in = in;
+            this.factory = factory;
+        }
+
+        public Tuple next() throws IOException {
+            if (in == null) {
+                return null;
+            }
+            try {
+                if (factory == null) {
+                    return (Tuple) SEDES.readDatum(in);
+                }
+                Tuple t = factory.newTuple();
+                t.readFields(in);
+                return t;
+            } catch (EOFException eof) {
+                close();
+                return null;
+            }
+        }
+
+        void close() {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close spill file.", e);
+                }
+                in = null;
+            }
+        }
+    }
+
+    private final Comparator<Tuple> mComp;
+    private Source[] mSources;
+    // the current tuple of each source, null once it is exhausted
+    private Tuple[] mHeads;
+    // mTree[0] is the winner, mTree[1..k-1] the losers of the inner nodes;
+    // the leaves are the sources, at k..2k-1
+    private int[] mTree;
+
+    LoserTree(Comparator<Tuple> comp, List<? extends Source> sources) throws IOException {
+        mComp = comp;
+        mSources = sources.toArray(new Source[sources.size()]);
+        mHeads = new Tuple[mSources.length];
+        for (int i = 0; i < mSources.length; i++) {
+            mHeads[i] = mSources[i].next();
+        }
+        build();
+    }
+
+    /**
+     * @return true if the head of source a comes before the head of source b
+     */
+    private boolean before(int a, int b) {
+        if (mHeads[a] == null) {
+            return false;
+        }
+        if (mHeads[b] == null) {
+            return true;
+        }
+        int c = mComp.compare(mHeads[a], mHeads[b]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    private void build() {
+        int k = mSources.length;
+        mTree = new int[Math.max(k, 1)];
+        if (k == 0) {
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int n = k - 1; n >= 1; n--) {
+            int l = winners[2 * n];
+            int r = winners[2 * n + 1];
+            if (before(l, r)) {
+                winners[n] = l;
+                mTree[n] = r;
+            } else {
+                winners[n] = r;
+                mTree[n] = l;
+            }
+        }
+        mTree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    /**
+     * Add a source to merge. The tree is built again.
+     */
+    void add(Source source) throws IOException {
+        int k = mSources.length;
+        Source[] sources = new Source[k + 1];
+        System.arraycopy(mSources, 0, sources, 0, k);
+        sources[k] = source;
+        Tuple[] heads = new Tuple[k + 1];
+        System.arraycopy(mHeads, 0, heads, 0, k);
+        heads[k] = source.next();
+        mSources = sources;
+        mHeads = heads;
+        build();
+    }
+
+    /**
+     * @return the next tuple of the merge, or null once all the sources are
+     * exhausted
+     */
+    Tuple poll() throws IOException {
+        int k = mSources.length;
+        if (k == 0) {
+            return null;
+        }
+        int winner = mTree[0];
+        Tuple t = mHeads[winner];
+        if (t == null) {
+            return null;
+        }
+        mHeads[winner] = mSources[winner].next();
+        // replay the matches on the path from the leaf to the root
+        for (int n = (winner + k) / 2; n >= 1; n /= 2) {
+            if (before(mTree[n], winner)) {
+                int loser = winner;
+                winner = mTree[n];
+                mTree[n] = loser;
+            }
+        }
+        mTree[0] = winner;
+        return t;
+    }
+}
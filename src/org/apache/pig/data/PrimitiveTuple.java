@@ -13,6 +13,7 @@ import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.logicalLayer.schema.Schema;
 import org.apache.pig.impl.logicalLayer.schema.Schema.FieldSchema;
+import org.apache.pig.impl.util.TupleFormat;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
@@ -65,6 +66,9 @@ public class PrimitiveTuple implements TypeAwareTuple {
     private ByteBuffer buffer;
     private boolean[] nulls;
     private byte[] types;
+    // Byte offset of every field in the buffer. Like types, this can be
+    // shared by all the tuples of a schema.
+    private int[] offsets;
     private static final InterSedes sedes = InterSedesFactory.getInterSedesInstance();
 
     /**
@@ -81,15 +85,18 @@ public class PrimitiveTuple implements TypeAwareTuple {
         buffer = ByteBuffer.allocate(0);
         nulls = new boolean[0];
         types = new byte[0];
+        offsets = new int[0];
     }
 
     public PrimitiveTuple(Schema schema) {
         nulls = new boolean[schema.size()];
         types = new byte[schema.size()];
         int slabsize = 0;
+        offsets = new int[schema.size()];
         List<FieldSchema> fieldSchemas = schema.getFields();
         for (int i = 0; i < fieldSchemas.size(); i++) {
             FieldSchema fs = fieldSchemas.get(i);
+            offsets[i] = slabsize;
             slabsize += sizeOf(fs.type);
             types[i] = fs.type;
             if (sizeOf(fs.type) == 0) {
@@ -102,13 +109,36 @@ public class PrimitiveTuple implements TypeAwareTuple {
     }
 
     public PrimitiveTuple(byte... types) {
-        this.nulls = new boolean[types.length];
+        reset(types);
+    }
+
+    /**
+     * Constructs a tuple with a layout computed beforehand, see
+     * {@link #computeOffsets(byte[])}. The arrays are not copied, so that
+     * tuples of the same schema can share them.
+     */
+    PrimitiveTuple(byte[] types, int[] offsets) {
         this.types = types;
-        int slabsize = 0;
+        this.offsets = offsets;
+        this.nulls = new boolean[types.length];
+        int slabsize = types.length == 0 ? 0
+                : offsets[types.length - 1] + sizeOf(types[types.length - 1]);
+        buffer = ByteBuffer.allocate(slabsize);
+    }
+
+    /**
+     * @param types types of the fields
+     * @return the byte offset of every field in the buffer of a tuple
+     * with these types
+     */
+    static int[] computeOffsets(byte[] types) {
+        int[] offsets = new int[types.length];
+        int offset = 0;
         for (int i = 0; i < types.length; i++) {
-            slabsize += sizeOf(types[i]);
+            offsets[i] = offset;
+            offset += sizeOf(types[i]);
         }
-        buffer = ByteBuffer.allocate(slabsize);
+        return offsets;
     }
 
     /**
@@ -119,6 +149,7 @@ public class PrimitiveTuple implements TypeAwareTuple {
     public void reset(byte... types) {
         this.nulls = new boolean[types.length];
         this.types = types;
+        this.offsets = computeOffsets(types);
         int slabsize = 0;
         for (int i = 0; i < types.length; i++) {
             slabsize += sizeOf(types[i]);
@@ -165,11 +196,12 @@ public class PrimitiveTuple implements TypeAwareTuple {
     public void write(DataOutput out) throws IOException {
         int size = size();
         out.writeByte(BinInterSedes.PRIMITIVE_TUPLE);
-        while (size > Byte.MAX_VALUE) {
+        int remaining = size;
+        while (remaining > Byte.MAX_VALUE) {
             out.write(Byte.MIN_VALUE);
-            size -= Byte.MAX_VALUE;
+            remaining -= Byte.MAX_VALUE;
         }
-        out.write((byte) size);
+        out.write((byte) remaining);
 
         for (int i = 0; i < size; i++) {
             out.writeByte(getType(i));
@@ -179,6 +211,10 @@ public class PrimitiveTuple implements TypeAwareTuple {
         }
 
         for (int i = 0; i < size; i++) {
+            if (nulls[i]) {
+                // readFields does not expect a value for null fields
+                continue;
+            }
             switch (getType(i)) {
             case DataType.INTEGER: out.writeInt(getInteger(i)); break;
             case DataType.FLOAT: out.writeFloat(getFloat(i)); break;
@@ -190,7 +226,7 @@ public class PrimitiveTuple implements TypeAwareTuple {
     }
 
     //TODO add optimizations from BinSedes?
-    private int sizeOf(byte type) {
+    private static int sizeOf(byte type) {
         switch (type) {
         case DataType.INTEGER: return 4;
         case DataType.DOUBLE: return 8;
@@ -257,6 +293,8 @@ public class PrimitiveTuple implements TypeAwareTuple {
         byte type = DataType.findType(obj);
         int idx = types.length;
         types = Arrays.copyOf(types, types.length + 1);
+        types[idx] = type;
+        offsets = computeOffsets(types);
         nulls = Arrays.copyOf(nulls, nulls.length + 1);
 
         buffer = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.capacity() + sizeOf(type)));
@@ -282,11 +320,7 @@ public class PrimitiveTuple implements TypeAwareTuple {
     }
 
     private int findByteOffset(int idx) {
-        int offset = 0;
-        for (int i = 0; i < idx; i++) {
-            offset += sizeOf(types[i]);
-        }
-        return offset;
+        return offsets[idx];
     }
 
     private Object readField(int offset, int length, byte type) {
@@ -309,10 +343,8 @@ public class PrimitiveTuple implements TypeAwareTuple {
     @Override
     public List<Object> getAll() {
         List<Object> list = Lists.newArrayListWithExpectedSize(types.length);
-        int offset = 0;
-        for (byte type : types) {
-            list.add(readField(offset, sizeOf(type), type));
-            offset += sizeOf(type);
+        for (int i = 0; i < types.length; i++) {
+            list.add(nulls[i] ? null : readField(offsets[i], sizeOf(types[i]), types[i]));
         }
         return list;
     }
@@ -362,30 +394,35 @@ public class PrimitiveTuple implements TypeAwareTuple {
     public void setInt(int idx, int val) throws ExecException {
         int offset = findByteOffset(idx);
         buffer.putInt(offset, val);
+        nulls[idx] = false;
     }
 
     @Override
     public void setFloat(int idx, float val) throws ExecException {
         int offset = findByteOffset(idx);
         buffer.putFloat(offset, val);
+        nulls[idx] = false;
     }
 
     @Override
     public void setLong(int idx, long val) throws ExecException {
         int offset = findByteOffset(idx);
         buffer.putLong(offset, val);
+        nulls[idx] = false;
     }
 
     @Override
     public void setDouble(int idx, double val) throws ExecException {
         int offset = findByteOffset(idx);
         buffer.putDouble(offset, val);
+        nulls[idx] = false;
     }
 
     @Override
     public void setBoolean(int idx, boolean val) throws ExecException {
         int offset = findByteOffset(idx);
         buffer.put(offset, (byte) ((val) ? 1 : 0));
+        nulls[idx] = false;
     }
 
     public void set(int idx, Object obj, byte type) throws ExecException {
@@ -411,11 +448,41 @@ public class PrimitiveTuple implements TypeAwareTuple {
             case DataType.BOOLEAN:
                 buffer.put(offset, (byte) (((Boolean) obj) ? 1 : 0)); break;
             }
+            nulls[idx] = false;
         } catch (IndexOutOfBoundsException e) {
             throw new ExecException("Can't set field " + idx + " in a tuple of " + types.length + " fields.", e);
         }
     }
 
+    void setNull(int idx) {
+        nulls[idx] = true;
+    }
+
+    /**
+     * Like {@link #set(int, Object)}, for a value already known to be null
+     * or of the field's type.
+     */
+    void setField(int idx, Object obj) {
+        if (obj == null) {
+            nulls[idx] = true;
+            return;
+        }
+        int offset = offsets[idx];
+        switch(types[idx]) {
+        case DataType.INTEGER:
+            buffer.putInt(offset, (Integer) obj); break;
+        case DataType.LONG:
+            buffer.putLong(offset, (Long) obj); break;
+        case DataType.FLOAT:
+            buffer.putFloat(offset, (Float) obj); break;
+        case DataType.DOUBLE:
+            buffer.putDouble(offset, (Double) obj); break;
+        case DataType.BOOLEAN:
+            buffer.put(offset, (byte) (((Boolean) obj) ? 1 : 0)); break;
+        }
+        nulls[idx] = false;
+    }
+
     @Override
     public int size() {
         return types.length;
@@ -440,26 +507,31 @@ public class PrimitiveTuple implements TypeAwareTuple {
 
     @Override
     public Integer getInteger(int idx) throws ExecException {
+        if (nulls[idx]) return null;
         return buffer.getInt(findByteOffset(idx));
     }
 
     @Override
     public Float getFloat(int idx) throws ExecException {
+        if (nulls[idx]) return null;
         return buffer.getFloat(findByteOffset(idx));
     }
 
     @Override
     public Double getDouble(int idx) throws ExecException {
+        if (nulls[idx]) return null;
         return buffer.getDouble(findByteOffset(idx));
     }
 
     @Override
     public Long getLong(int idx) throws ExecException {
+        if (nulls[idx]) return null;
         return buffer.getLong(findByteOffset(idx));
     }
 
     @Override
     public Boolean getBoolean(int idx) throws ExecException {
+        if (nulls[idx]) return null;
         return buffer.get(findByteOffset(idx)) == 1;
     }
 
@@ -476,6 +548,26 @@ public class PrimitiveTuple implements TypeAwareTuple {
         return (compareTo(other) == 0);
     }
 
+    /**
+     * Same as {@link DefaultTuple#hashCode()}, so that equal tuples hash the
+     * same whatever their class.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < types.length; i++) {
+            if (!nulls[i]) {
+                hash = 31 * hash + readField(offsets[i], sizeOf(types[i]), types[i]).hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return TupleFormat.format(this);
+    }
+
     @Override
     @Deprecated
     public boolean isNull() {
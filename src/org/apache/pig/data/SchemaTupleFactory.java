@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.util.Arrays;
+
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceSchema.ResourceFieldSchema;
+import org.apache.pig.classification.InterfaceAudience;
+import org.apache.pig.classification.InterfaceStability;
+
+/**
+ * A factory for the tuples of one known schema. When every field of the
+ * schema is an int, long, float, double or boolean, the tuples are
+ * {@link PrimitiveTuple}s, which keep their fields unboxed in a single buffer
+ * and share the field layout computed here. Tuples whose values do not match
+ * the schema, and tuples of any other schema, come from the default
+ * {@link TupleFactory}, so callers can use this factory without checking the
+ * schema first.
+ */
+@InterfaceAudience.Private
+@InterfaceStability.Evolving
+public class SchemaTupleFactory {
+
+    /**
+     * Property to turn on primitive tuples for the schemas that allow them
+     */
+    public static final String PROP_PRIMITIVE_TUPLES = "pig.exec.primitivetuples";
+
+    private static final TupleFactory mDefaultFactory = TupleFactory.getInstance();
+
+    private final byte[] types;
+    private final int[] offsets;
+    private final boolean primitive;
+
+    private SchemaTupleFactory(byte[] types) {
+        this.types = types;
+        boolean allPrimitive = true;
+        for (byte type : types) {
+            allPrimitive &= isPrimitive(type);
+        }
+        primitive = allPrimitive && types.length > 0;
+        offsets = primitive ? PrimitiveTuple.computeOffsets(types) : null;
+    }
+
+    /**
+     * @param types types of the fields, as bytes from {@link DataType}
+     * @return a factory for tuples with these field types
+     */
+    public static SchemaTupleFactory getInstance(byte... types) {
+        return new SchemaTupleFactory(types.clone());
+    }
+
+    /**
+     * @param schema schema of the tuples
+     * @return a factory for tuples of this schema
+     */
+    public static SchemaTupleFactory getInstance(ResourceSchema schema) {
+        ResourceFieldSchema[] fields = schema.getFields();
+        byte[] types = new byte[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            types[i] = fields[i].getType();
+        }
+        return new SchemaTupleFactory(types);
+    }
+
+    /**
+     * @param type a type from {@link DataType}
+     * @return true if {@link PrimitiveTuple} can hold fields of this type
+     */
+    public static boolean isPrimitive(byte type) {
+        switch (type) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+        case DataType.BOOLEAN:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the tuples of this factory's schema are
+     * {@link PrimitiveTuple}s
+     */
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * @return the class of the tuples made for this factory's schema
+     */
+    public Class<? extends Tuple> tupleClass() {
+        return primitive ? PrimitiveTuple.class : mDefaultFactory.tupleClass();
+    }
+
+    /**
+     * Create a tuple of this factory's schema with all its fields null.
+     * @return an empty tuple
+     */
+    public Tuple newTuple() {
+        if (!primitive) {
+            return mDefaultFactory.newTuple(types.length);
+        }
+        PrimitiveTuple t = new PrimitiveTuple(types, offsets);
+        for (int i = 0; i < types.length; i++) {
+            t.setNull(i);
+        }
+        return t;
+    }
+
+    /**
+     * Create a tuple of this factory's schema holding the given fields. The
+     * array is not referenced by the tuple.
+     * @param fields values of the fields, in schema order
+     * @return a tuple holding the fields
+     */
+    public Tuple newTuple(Object... fields) {
+        if (!primitive || !matches(fields)) {
+            return mDefaultFactory.newTuple(Arrays.asList(fields));
+        }
+        PrimitiveTuple t = new PrimitiveTuple(types, offsets);
+        for (int i = 0; i < fields.length; i++) {
+            t.setField(i, fields[i]);
+        }
+        return t;
+    }
+
+    private boolean matches(Object[] fields) {
+        if (fields.length != types.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null && DataType.findType(fields[i]) != types[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
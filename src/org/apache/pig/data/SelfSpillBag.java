@@ -20,6 +20,7 @@ package org.apache.pig.data;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.classification.InterfaceStability;
+import org.apache.pig.impl.util.SpillableMemoryManager;
 
 /**
  * Class to hold code common to self spilling bags such as InternalCachedBag
@@ -79,7 +80,8 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
             }
 
             long max = Runtime.getRuntime().maxMemory();
-            maxMemUsage = (long) (((float) max * percent) / (float) bagCount);
+            long budget = SpillableMemoryManager.getMemoryBudget((long) ((float) max * percent));
+            maxMemUsage = (long) ((float) budget / (float) bagCount);
 
             // set limit to 0, if memusage is 0 or really really small.
             // then all tuples are put into disk
@@ -104,6 +106,13 @@ public abstract class SelfSpillBag extends DefaultAbstractBag {
             return cacheLimit;
         }
 
+        /**
+         * @return the number of bytes of memory the objects may use
+         */
+        public long getMaxMemUsage() {
+            return maxMemUsage;
+        }
+
         /**
          * Submit information about size of another object
          * 
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.data;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.pig.impl.util.SpillFileManager;
+
+/**
+ * Merges the sorted spill files of a bag into fewer files, so that no more
+ * than a given number of files are merged when the bag is read. Merges run
+ * on up to {@link SpillFileManager#getMergeThreads()} threads.
+ */
+class SpillFileMerger {
+
+    private static final Log log = LogFactory.getLog(SpillFileMerger.class);
+
+    private static final InterSedes SEDES = InterSedesFactory.getInterSedesInstance();
+
+    /**
+     * Merge spill files until there are no more than fanIn of them. The
+     * files that are merged are deleted, and the new files are at the end
+     * of the returned list.
+     * @param files sorted spill files
+     * @param fanIn number of files to be left with
+     * @param comp comparator the files are sorted with
+     * @param threadSafe whether comp can be used by several threads at once;
+     * if not, parallel merges take turns comparing tuples
+     * @param factory null if the tuples are written with
+     * {@link InterSedes#writeDatum}, else the factory to read tuples written
+     * with {@link Tuple#write} into
+     */
+    static LinkedList<File> merge(List<File> files, int fanIn,
+            final Comparator<Tuple> comp, boolean threadSafe,
+            final TupleFactory factory) throws IOException {
+        LinkedList<File> result = new LinkedList<File>(files);
+        while (result.size() > fanIn) {
+            // Merging m files into one leaves m - 1 files less. Merge just
+            // as many files as are needed to be left with fanIn files, in
+            // groups of about the same size so they take about as long, in
+            // one pass. With more than fanIn * fanIn files that takes more
+            // than fanIn groups of fanIn files, so merge as many as can be
+            // and make another pass.
+            int excess = result.size() - fanIn;
+            int groups = (excess + fanIn - 2) / (fanIn - 1);
+            int toMerge = excess + groups;
+            if (groups > fanIn) {
+                groups = fanIn;
+                toMerge = fanIn * fanIn;
+            }
+            mergePass(result, groups, toMerge, comp, threadSafe, factory);
+        }
+        return result;
+    }
+
+    /**
+     * Merge the first toMerge files into groups files, which are added at
+     * the end of the list.
+     */
+    private static void mergePass(LinkedList<File> result, int groups, int toMerge,
+            final Comparator<Tuple> comp, boolean threadSafe,
+            final TupleFactory factory) throws IOException {
+        final List<List<File>> work = new ArrayList<List<File>>(groups);
+        for (int g = 0; g < groups; g++) {
+            int size = toMerge / groups + (g < toMerge % groups ? 1 : 0);
+            List<File> group = new ArrayList<File>(size);
+            for (int j = 0; j < size; j++) {
+                group.add(result.removeFirst());
+            }
+            work.add(group);
+        }
+
+        int threads = Math.min(SpillFileManager.getMergeThreads(), groups);
+        List<File> merged = new ArrayList<File>(groups);
+        if (threads <= 1) {
+            for (List<File> group : work) {
+                merged.add(mergeGroup(group, comp, factory));
+            }
+        } else {
+            final Comparator<Tuple> c = threadSafe ? comp : new Comparator<Tuple>() {
+                public int compare(Tuple t1, Tuple t2) {
+                    synchronized (comp) {
+                        return comp.compare(t1, t2);
+                    }
+                }
+            };
+            ExecutorService pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "SpillFileMerger");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            try {
+                List<Future<File>> futures = new ArrayList<Future<File>>(groups);
+                for (final List<File> group : work) {
+                    futures.add(pool.submit(new Callable<File>() {
+                        public File call() throws IOException {
+                            return mergeGroup(group, c, factory);
+                        }
+                    }));
+                }
+                for (Future<File> f : futures) {
+                    merged.add(f.get());
+                }
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted while merging spill files", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("Unable to merge spill files", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        // delete files that have been merged into new files
+        for (List<File> group : work) {
+            for (File f : group) {
+                if (!f.delete()) {
+                    log.warn("Failed to delete spill file: " + f.getPath());
+                }
+            }
+        }
+        result.addAll(merged);
+    }
+
+    private static File mergeGroup(List<File> group, Comparator<Tuple> comp,
+            TupleFactory factory) throws IOException {
+        List<LoserTree.FileSource> sources = new ArrayList<LoserTree.FileSource>(group.size());
+        try {
+            for (File f : group) {
+                sources.add(new LoserTree.FileSource(SpillFileManager.openForRead(f), factory));
+            }
+            File f = SpillFileManager.createSpillFile();
+            DataOutputStream out = SpillFileManager.openForWrite(f);
+            try {
+                LoserTree tree = new LoserTree(comp, sources);
+                Tuple t;
+                while ((t = tree.poll()) != null) {
+                    if (factory == null) {
+                        SEDES.writeDatum(out, t, DataType.TUPLE);
+                    } else {
+                        t.write(out);
+                    }
+                }
+            } finally {
+                out.close();
+            }
+            return f;
+        } finally {
+            for (LoserTree.FileSource source : sources) {
+                source.close();
+            }
+        }
+    }
+}
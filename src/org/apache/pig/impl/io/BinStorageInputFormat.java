@@ -18,9 +18,11 @@
 package org.apache.pig.impl.io;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigFileInputFormat;
@@ -41,4 +43,12 @@ public class BinStorageInputFormat extends PigFileInputFormat<Text, Tuple> {
         return new BinStorageRecordReader();
     }
 
+    /* (non-Javadoc)
+     * @see org.apache.hadoop.mapreduce.lib.input.FileInputFormat#getSplits(org.apache.hadoop.mapreduce.JobContext)
+     */
+    @Override
+    public List<InputSplit> getSplits(JobContext job) throws IOException {
+        return BlockIndex.pruneSplits(super.getSplits(job), job.getConfiguration());
+    }
+
 }
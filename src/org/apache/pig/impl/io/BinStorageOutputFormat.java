@@ -45,6 +45,7 @@ public class BinStorageOutputFormat extends
         Path file = getDefaultWorkFile(job, "");
         FileSystem fs = file.getFileSystem(conf);
         FSDataOutputStream fileOut = fs.create(file, false);
-        return new BinStorageRecordWriter(fileOut);
+        return new BinStorageRecordWriter(fileOut,
+                BlockIndex.Writer.create(conf, file, fileOut));
     }
 }
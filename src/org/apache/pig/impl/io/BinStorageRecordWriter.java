@@ -41,6 +41,11 @@ public class BinStorageRecordWriter extends
      * the outputstream to write out on
      */
     private DataOutputStream out;
+
+    /**
+     * the index of the blocks of records written, or null
+     */
+    private BlockIndex.Writer index = null;
     
     /**
      * 
@@ -49,12 +54,24 @@ public class BinStorageRecordWriter extends
         this.out = out;
     }
 
+    /**
+     * @param index the writer of the index of the blocks of records
+     * written, or null to write none
+     */
+    public BinStorageRecordWriter(DataOutputStream out, BlockIndex.Writer index) {
+        this.out = out;
+        this.index = index;
+    }
+
     /* (non-Javadoc)
      * @see org.apache.hadoop.mapreduce.RecordWriter#close(org.apache.hadoop.mapreduce.TaskAttemptContext)
      */
     @Override
     public void close(TaskAttemptContext arg0) throws IOException,
             InterruptedException {
+        if (index != null) {
+            index.close();
+        }
         out.close();        
     }
 
@@ -65,6 +82,9 @@ public class BinStorageRecordWriter extends
     public void write(WritableComparable wc, Tuple t) throws IOException,
             InterruptedException {
         // we really only want to write the tuple (value) out here
+        if (index != null) {
+            index.add(t);
+        }
         out.write(RECORD_1);
         out.write(RECORD_2);
         out.write(RECORD_3);
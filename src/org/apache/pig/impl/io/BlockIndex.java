@@ -0,0 +1,893 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.GnuParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.util.bloom.BloomFilter;
+import org.apache.hadoop.util.bloom.Key;
+import org.apache.hadoop.util.hash.Hash;
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.BinaryExpression;
+import org.apache.pig.Expression.Column;
+import org.apache.pig.Expression.Const;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.Expression.UnaryExpression;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceSchema.ResourceFieldSchema;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataReaderWriter;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.util.ObjectSerializer;
+
+/**
+ * An index of the blocks of records of a file written by
+ * {@link BinStorageRecordWriter} or {@link InterRecordWriter}, kept in a
+ * hidden file next to it. For each block it has the smallest and largest
+ * value, the number of nulls and optionally a bloom filter of the values of
+ * the indexed columns, so that the readers can skip the blocks, and the
+ * input format the splits, that have no record satisfying a predicate pushed
+ * down to the loader.
+ */
+public class BlockIndex {
+
+    /**
+     * Property for the positions of the columns to index, set by the store
+     * function of the file
+     */
+    public static final String PROP_COLUMNS = "pig.blockindex.columns";
+
+    /**
+     * Property for the positions of the indexed columns to keep a bloom
+     * filter of, set by the store function of the file
+     */
+    public static final String PROP_BLOOM_COLUMNS = "pig.blockindex.bloom.columns";
+
+    /**
+     * Property for the number of bytes of records in a block
+     */
+    public static final String PROP_BLOCK_SIZE = "pig.blockindex.size";
+
+    public static final long DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    /**
+     * Property for the predicate the records read should satisfy, set by the
+     * load function of the file
+     */
+    public static final String PROP_PREDICATE = "pig.blockindex.predicate";
+
+    /**
+     * The operators the index can evaluate a predicate with
+     */
+    public static final List<OpType> SUPPORTED_OPS = Arrays.asList(
+            OpType.OP_EQ, OpType.OP_NE, OpType.OP_GT, OpType.OP_GE,
+            OpType.OP_LT, OpType.OP_LE, OpType.OP_AND, OpType.OP_OR,
+            OpType.OP_NOT, OpType.OP_NULL);
+
+    private static final Log LOG = LogFactory.getLog(BlockIndex.class);
+
+    private static final int VERSION = 1;
+
+    private static final String INDEX_SUFFIX = ".pig_index";
+
+    // bits of a bloom filter per distinct value and number of hash functions,
+    // for about one percent false positives
+    private static final int BLOOM_BITS_PER_KEY = 10;
+    private static final int BLOOM_HASHES = 7;
+
+    private long length;
+    private int[] columns;
+    private boolean[] bloomColumns;
+    private List<Block> blocks = new ArrayList<Block>();
+
+    private BlockIndex(int[] columns, boolean[] bloomColumns) {
+        this.columns = columns;
+        this.bloomColumns = bloomColumns;
+    }
+
+    /**
+     * A block of consecutive records of the file, starting at a record.
+     */
+    public static class Block {
+        private long start;
+        private long end;
+        private long records;
+        private ColumnStats[] stats;
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+    }
+
+    private static class ColumnStats {
+        long nullCount;
+        // whether all the values were comparable, so min and max are known
+        boolean ranged = true;
+        Object min;
+        Object max;
+        BloomFilter bloom;
+        // the bloom filter keys of the values while the block is written,
+        // null once a value has no key
+        Set<ByteBuffer> keys;
+
+        void add(Object value) {
+            if (value == null) {
+                nullCount++;
+                return;
+            }
+            if (keys != null) {
+                byte[] key = getBloomKey(value);
+                if (key == null) {
+                    keys = null;
+                } else {
+                    keys.add(ByteBuffer.wrap(key));
+                }
+            }
+            if (!ranged) {
+                return;
+            }
+            if (!isRanged(value)) {
+                ranged = false;
+                min = max = null;
+            } else if (min == null) {
+                min = max = copy(value);
+            } else {
+                Integer toMin = compare(value, min);
+                Integer toMax = compare(value, max);
+                if (toMin == null || toMax == null) {
+                    ranged = false;
+                    min = max = null;
+                } else if (toMin < 0) {
+                    min = copy(value);
+                } else if (toMax > 0) {
+                    max = copy(value);
+                }
+            }
+        }
+
+        void finish() {
+            if (keys != null) {
+                bloom = new BloomFilter(Math.max(64, keys.size() * BLOOM_BITS_PER_KEY),
+                        BLOOM_HASHES, Hash.MURMUR_HASH);
+                for (ByteBuffer key : keys) {
+                    bloom.add(new Key(key.array()));
+                }
+                keys = null;
+            }
+        }
+
+        boolean mightContain(Object value) {
+            if (bloom == null) {
+                return true;
+            }
+            byte[] key = getBloomKey(value);
+            return key == null || bloom.membershipTest(new Key(key));
+        }
+    }
+
+    /**
+     * Writes the index of a file as its records are written.
+     */
+    public static class Writer {
+        private FileSystem fs;
+        private Path indexFile;
+        private FSDataOutputStream out;
+        private long blockSize;
+        private BlockIndex index;
+        private Block current = null;
+
+        private Writer(FileSystem fs, Path file, FSDataOutputStream out,
+                long blockSize, BlockIndex index) {
+            this.fs = fs;
+            this.indexFile = getIndexFile(file);
+            this.out = out;
+            this.blockSize = blockSize;
+            this.index = index;
+        }
+
+        /**
+         * @param conf the configuration the store function set the
+         * columns to index in
+         * @param file the file written
+         * @param out the stream the file is written with
+         * @return the writer of the index of the file, or null if it should
+         * not be indexed
+         */
+        public static Writer create(Configuration conf, Path file, FSDataOutputStream out)
+        throws IOException {
+            int[] columns = parsePositions(conf.get(PROP_COLUMNS, ""));
+            if (columns.length == 0) {
+                return null;
+            }
+            int[] bloomPositions = parsePositions(conf.get(PROP_BLOOM_COLUMNS, ""));
+            boolean[] bloomColumns = new boolean[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                for (int position : bloomPositions) {
+                    bloomColumns[i] |= columns[i] == position;
+                }
+            }
+            return new Writer(file.getFileSystem(conf), file, out,
+                    conf.getLong(PROP_BLOCK_SIZE, DEFAULT_BLOCK_SIZE),
+                    new BlockIndex(columns, bloomColumns));
+        }
+
+        /**
+         * Adds a record to the index, before it is written to the file.
+         */
+        public void add(Tuple t) throws IOException {
+            long pos = out.getPos();
+            if (current != null && pos - current.start >= blockSize) {
+                finishBlock(pos);
+            }
+            if (current == null) {
+                current = index.newBlock(pos);
+            }
+            current.records++;
+            for (int i = 0; i < index.columns.length; i++) {
+                current.stats[i].add(
+                        index.columns[i] < t.size() ? t.get(index.columns[i]) : null);
+            }
+        }
+
+        private void finishBlock(long pos) {
+            current.end = pos;
+            for (ColumnStats stats : current.stats) {
+                stats.finish();
+            }
+            index.blocks.add(current);
+            current = null;
+        }
+
+        /**
+         * Writes the index, before the file is closed.
+         */
+        public void close() throws IOException {
+            long pos = out.getPos();
+            if (current != null) {
+                finishBlock(pos);
+            }
+            index.length = pos;
+            FSDataOutputStream indexOut = fs.create(indexFile, true);
+            try {
+                index.write(indexOut);
+            } finally {
+                indexOut.close();
+            }
+        }
+    }
+
+    private Block newBlock(long start) {
+        Block block = new Block();
+        block.start = start;
+        block.stats = new ColumnStats[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            block.stats[i] = new ColumnStats();
+            if (bloomColumns[i]) {
+                block.stats[i].keys = new HashSet<ByteBuffer>();
+            }
+        }
+        return block;
+    }
+
+    /**
+     * @return the file the index of the given file is kept in, which is
+     * hidden from the input formats
+     */
+    public static Path getIndexFile(Path file) {
+        return new Path(file.getParent(), "." + file.getName() + INDEX_SUFFIX);
+    }
+
+    /**
+     * Reads the index of a file.
+     * @return the index, or null if the file has none
+     */
+    public static BlockIndex read(FileSystem fs, Path file) throws IOException {
+        return read(fs, file, false);
+    }
+
+    private static BlockIndex read(FileSystem fs, Path file, boolean columnsOnly)
+    throws IOException {
+        Path indexFile = getIndexFile(file);
+        if (!fs.exists(indexFile)) {
+            return null;
+        }
+        DataInputStream in = fs.open(indexFile);
+        try {
+            BlockIndex index = readFields(in, columnsOnly);
+            // an index left from another file of the same name is no use
+            if (index == null || index.length != fs.getFileStatus(file).getLen()) {
+                LOG.warn("Ignoring index " + indexFile + " which does not match " + file);
+                return null;
+            }
+            return index;
+        } finally {
+            in.close();
+        }
+    }
+
+    private void write(DataOutput out) throws IOException {
+        out.writeInt(VERSION);
+        out.writeLong(length);
+        out.writeInt(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            out.writeInt(columns[i]);
+            out.writeBoolean(bloomColumns[i]);
+        }
+        out.writeInt(blocks.size());
+        for (Block block : blocks) {
+            out.writeLong(block.start);
+            out.writeLong(block.end);
+            out.writeLong(block.records);
+            for (ColumnStats stats : block.stats) {
+                out.writeLong(stats.nullCount);
+                out.writeBoolean(stats.ranged && stats.min != null);
+                if (stats.ranged && stats.min != null) {
+                    DataReaderWriter.writeDatum(out, stats.min);
+                    DataReaderWriter.writeDatum(out, stats.max);
+                }
+                out.writeBoolean(stats.bloom != null);
+                if (stats.bloom != null) {
+                    stats.bloom.write(out);
+                }
+            }
+        }
+    }
+
+    private static BlockIndex readFields(DataInput in, boolean columnsOnly) throws IOException {
+        if (in.readInt() != VERSION) {
+            return null;
+        }
+        long length = in.readLong();
+        int[] columns = new int[in.readInt()];
+        boolean[] bloomColumns = new boolean[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = in.readInt();
+            bloomColumns[i] = in.readBoolean();
+        }
+        BlockIndex index = new BlockIndex(columns, bloomColumns);
+        index.length = length;
+        if (columnsOnly) {
+            return index;
+        }
+        int blocks = in.readInt();
+        for (int i = 0; i < blocks; i++) {
+            Block block = new Block();
+            block.start = in.readLong();
+            block.end = in.readLong();
+            block.records = in.readLong();
+            block.stats = new ColumnStats[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                ColumnStats stats = new ColumnStats();
+                stats.nullCount = in.readLong();
+                stats.ranged = in.readBoolean();
+                if (stats.ranged) {
+                    stats.min = DataReaderWriter.readDatum(in);
+                    stats.max = DataReaderWriter.readDatum(in);
+                }
+                if (in.readBoolean()) {
+                    stats.bloom = new BloomFilter();
+                    stats.bloom.readFields(in);
+                }
+                block.stats[j] = stats;
+            }
+            index.blocks.add(block);
+        }
+        return index;
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * @return the names of the indexed columns, as $ followed by their
+     * positions
+     */
+    public List<String> getColumnNames() {
+        List<String> names = new ArrayList<String>(columns.length);
+        for (int column : columns) {
+            names.add("$" + column);
+        }
+        return names;
+    }
+
+    /**
+     * Finds the blocks with records starting between the given offsets that
+     * cannot satisfy the predicate.
+     * @return the blocks, in the order of the file
+     */
+    public List<Block> getSkippedBlocks(Expression predicate, long start, long end) {
+        List<Block> skipped = new ArrayList<Block>();
+        for (Block block : blocks) {
+            if (block.end > start && block.start < end && !mightMatch(block, predicate, false)) {
+                skipped.add(block);
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * @return whether any of the records starting between the given offsets
+     * might satisfy the predicate
+     */
+    public boolean mightMatch(Expression predicate, long start, long end) {
+        for (Block block : blocks) {
+            if (block.end > start && block.start < end && mightMatch(block, predicate, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds whether a block might have records satisfying the predicate, or
+     * the negation of it. Comparisons and is null are false on the records
+     * where the column is null, and so are their negations.
+     */
+    private boolean mightMatch(Block block, Expression expr, boolean negated) {
+        switch (expr.getOpType()) {
+        case OP_AND:
+        case OP_OR:
+            BinaryExpression binary = (BinaryExpression)expr;
+            boolean lhs = mightMatch(block, binary.getLhs(), negated);
+            boolean rhs = mightMatch(block, binary.getRhs(), negated);
+            return (expr.getOpType() == OpType.OP_AND) != negated ? lhs && rhs : lhs || rhs;
+        case OP_NOT:
+            return mightMatch(block, ((UnaryExpression)expr).getExpression(), !negated);
+        case OP_NULL:
+            ColumnStats stats = getStats(block, ((UnaryExpression)expr).getExpression());
+            if (stats == null) {
+                return true;
+            }
+            return negated ? stats.nullCount < block.records : stats.nullCount > 0;
+        case OP_EQ:
+        case OP_NE:
+        case OP_GT:
+        case OP_GE:
+        case OP_LT:
+        case OP_LE:
+            return mightCompare(block, (BinaryExpression)expr, negated);
+        default:
+            return true;
+        }
+    }
+
+    private boolean mightCompare(Block block, BinaryExpression expr, boolean negated) {
+        OpType op = negated ? negate(expr.getOpType()) : expr.getOpType();
+        Expression lhs = expr.getLhs();
+        Expression rhs = expr.getRhs();
+        if (lhs instanceof Const && rhs instanceof Column) {
+            lhs = expr.getRhs();
+            rhs = expr.getLhs();
+            op = reverse(op);
+        }
+        if (!(lhs instanceof Column) || !(rhs instanceof Const)) {
+            return true;
+        }
+        ColumnStats stats = getStats(block, lhs);
+        if (stats == null) {
+            return true;
+        }
+        if (stats.nullCount == block.records) {
+            return false;
+        }
+        Object value = ((Const)rhs).getValue();
+        if (op == OpType.OP_EQ && !stats.mightContain(value)) {
+            return false;
+        }
+        if (!stats.ranged || !isRanged(value)) {
+            return true;
+        }
+        Integer toMin = compare(value, stats.min);
+        Integer toMax = compare(value, stats.max);
+        if (toMin == null || toMax == null) {
+            return true;
+        }
+        switch (op) {
+        case OP_EQ:
+            return toMin >= 0 && toMax <= 0;
+        case OP_NE:
+            return toMin != 0 || toMax != 0;
+        case OP_GT:
+            return toMax < 0;
+        case OP_GE:
+            return toMax <= 0;
+        case OP_LT:
+            return toMin > 0;
+        case OP_LE:
+            return toMin >= 0;
+        default:
+            return true;
+        }
+    }
+
+    private static OpType negate(OpType op) {
+        switch (op) {
+        case OP_EQ: return OpType.OP_NE;
+        case OP_NE: return OpType.OP_EQ;
+        case OP_GT: return OpType.OP_LE;
+        case OP_GE: return OpType.OP_LT;
+        case OP_LT: return OpType.OP_GE;
+        case OP_LE: return OpType.OP_GT;
+        default: return op;
+        }
+    }
+
+    private static OpType reverse(OpType op) {
+        switch (op) {
+        case OP_GT: return OpType.OP_LT;
+        case OP_GE: return OpType.OP_LE;
+        case OP_LT: return OpType.OP_GT;
+        case OP_LE: return OpType.OP_GE;
+        default: return op;
+        }
+    }
+
+    private ColumnStats getStats(Block block, Expression expr) {
+        if (!(expr instanceof Column)) {
+            return null;
+        }
+        String name = ((Column)expr).getName();
+        if (!name.startsWith("$")) {
+            return null;
+        }
+        int position;
+        try {
+            position = Integer.parseInt(name.substring(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == position) {
+                return block.stats[i];
+            }
+        }
+        return null;
+    }
+
+    private static boolean isRanged(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            return !Double.isNaN(((Number)value).doubleValue());
+        }
+        return value instanceof Number || value instanceof String
+            || value instanceof DataByteArray || value instanceof Boolean;
+    }
+
+    private static boolean isFloating(Object value) {
+        return value instanceof Double || value instanceof Float;
+    }
+
+    /**
+     * Compares two values the way the filter does, numbers of different
+     * types by value.
+     * @return the comparison, or null if the values are not comparable
+     */
+    private static Integer compare(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number) {
+            if (isFloating(a) || isFloating(b)) {
+                double da = ((Number)a).doubleValue();
+                double db = ((Number)b).doubleValue();
+                return da < db ? -1 : (da > db ? 1 : 0);
+            }
+            long la = ((Number)a).longValue();
+            long lb = ((Number)b).longValue();
+            return la < lb ? -1 : (la > lb ? 1 : 0);
+        }
+        if (a instanceof String && b instanceof String) {
+            return ((String)a).compareTo((String)b);
+        }
+        if (a instanceof DataByteArray && b instanceof DataByteArray) {
+            return ((DataByteArray)a).compareTo(b);
+        }
+        if (a instanceof Boolean && b instanceof Boolean) {
+            return ((Boolean)a).compareTo((Boolean)b);
+        }
+        return null;
+    }
+
+    private static Object copy(Object value) {
+        // byte arrays can be reused by the caller once the record is written
+        if (value instanceof DataByteArray) {
+            byte[] bytes = ((DataByteArray)value).get();
+            return new DataByteArray(Arrays.copyOf(bytes, bytes.length));
+        }
+        return value;
+    }
+
+    /**
+     * @return the key of a value in a bloom filter, the same for numbers
+     * equal in value, or null if the value cannot be in one
+     */
+    private static byte[] getBloomKey(Object value) {
+        if (value instanceof Number) {
+            ByteBuffer key = ByteBuffer.allocate(9);
+            if (isFloating(value)) {
+                double d = ((Number)value).doubleValue();
+                if (d == Math.rint(d) && Math.abs(d) < 0x1p63) {
+                    key.putLong((long)d);
+                } else {
+                    key.put((byte)1).putLong(Double.doubleToLongBits(d));
+                }
+            } else {
+                key.putLong(((Number)value).longValue());
+            }
+            return key.array();
+        }
+        if (value instanceof String) {
+            try {
+                return ((String)value).getBytes("UTF-8");
+            } catch (java.io.UnsupportedEncodingException e) {
+                return null;
+            }
+        }
+        if (value instanceof DataByteArray) {
+            byte[] bytes = ((DataByteArray)value).get();
+            return Arrays.copyOf(bytes, bytes.length);
+        }
+        if (value instanceof Boolean) {
+            return new byte[] { (byte)(((Boolean)value) ? 1 : 0) };
+        }
+        return null;
+    }
+
+    /**
+     * Parses the options of a store function for the columns to index:
+     * <ul>
+     * <li><code>-index</code> the columns to index, comma separated, by name
+     * in the schema of the relation stored or as $ followed by their position
+     * <li><code>-bloom</code> the columns to index and keep a bloom filter of
+     * </ul>
+     * @param usage the use of the store function, for the help given if the
+     * options are not valid
+     * @return the columns to index and to keep a bloom filter of, each null
+     * if not given
+     */
+    public static String[] parseOptions(String options, String usage) {
+        Options validOptions = new Options();
+        validOptions.addOption("index", true, "Indexes the blocks of records by the given columns.");
+        validOptions.addOption("bloom", true, "Also keeps bloom filters of the given columns.");
+        try {
+            CommandLine line = new GnuParser().parse(validOptions, options.trim().split("\\s+"));
+            return new String[] { line.getOptionValue("index"), line.getOptionValue("bloom") };
+        } catch (ParseException e) {
+            new HelpFormatter().printHelp(usage, validOptions);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int[] parsePositions(String positions) {
+        if (positions.length() == 0) {
+            return new int[0];
+        }
+        String[] parts = positions.split(",");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Integer.parseInt(parts[i].trim());
+        }
+        return result;
+    }
+
+    /**
+     * Resolves columns given by name in the schema or as $ followed by their
+     * position into a comma separated list of positions.
+     * @param schema the schema of the stored relation, or null if unknown
+     */
+    private static String resolveColumns(String columns, ResourceSchema schema)
+    throws FrontendException {
+        StringBuilder sb = new StringBuilder();
+        for (String column : columns.split(",")) {
+            column = column.trim();
+            int position = -1;
+            if (column.startsWith("$")) {
+                try {
+                    position = Integer.parseInt(column.substring(1));
+                } catch (NumberFormatException e) {
+                }
+            } else if (schema != null) {
+                ResourceFieldSchema[] fields = schema.getFields();
+                for (int i = 0; i < fields.length; i++) {
+                    if (column.equals(fields[i].getName())) {
+                        position = i;
+                        break;
+                    }
+                }
+            }
+            if (position < 0) {
+                throw new FrontendException("Cannot index column " + column
+                        + ", it is not a field of the schema of the relation stored", 1025);
+            }
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(position);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Resolves the columns to index given to a store function against the
+     * schema of the relation stored, in the front end.
+     * @param columns the columns to index, comma separated, or null
+     * @param bloomColumns the columns to also keep a bloom filter of, or null
+     * @param p the UDFContext properties of the store function
+     */
+    public static void checkSchema(String columns, String bloomColumns,
+            ResourceSchema schema, Properties p) throws FrontendException {
+        if (columns != null) {
+            p.setProperty(PROP_COLUMNS, resolveColumns(columns, schema));
+        }
+        if (bloomColumns != null) {
+            p.setProperty(PROP_BLOOM_COLUMNS, resolveColumns(bloomColumns, schema));
+        }
+    }
+
+    /**
+     * Sets the columns to index for the writer of the files stored, or that
+     * none is, as the configuration is shared by the stores of a job.
+     * @see #checkSchema(String, String, ResourceSchema, Properties)
+     */
+    public static void setStoreLocation(String columns, String bloomColumns,
+            Properties p, Configuration conf) throws FrontendException {
+        String positions = columns == null ? "" : p.getProperty(PROP_COLUMNS);
+        if (positions == null) {
+            positions = resolveColumns(columns, null);
+        }
+        String bloomPositions = bloomColumns == null ? "" : p.getProperty(PROP_BLOOM_COLUMNS);
+        if (bloomPositions == null) {
+            bloomPositions = resolveColumns(bloomColumns, null);
+        }
+        // the columns with a bloom filter are indexed too
+        if (bloomPositions.length() > 0) {
+            positions = positions.length() == 0 ? bloomPositions : positions + "," + bloomPositions;
+        }
+        conf.set(PROP_COLUMNS, positions);
+        conf.set(PROP_BLOOM_COLUMNS, bloomPositions);
+    }
+
+    /**
+     * Finds the indexed columns of the input of a load function, from the
+     * index of its first file.
+     * @return the names of the columns, as $ followed by their position, or
+     * null if the input is not indexed
+     */
+    public static List<String> getIndexedColumns(String location, Configuration conf)
+    throws IOException {
+        for (String loc : LoadFunc.getPathStrings(location)) {
+            Path path = new Path(loc);
+            FileSystem fs = path.getFileSystem(conf);
+            FileStatus[] matches = fs.globStatus(path);
+            if (matches == null) {
+                continue;
+            }
+            for (FileStatus match : matches) {
+                FileStatus[] files = match.isDir() ? fs.listStatus(match.getPath())
+                        : new FileStatus[] { match };
+                for (FileStatus file : files) {
+                    String name = file.getPath().getName();
+                    if (file.isDir() || name.startsWith("_") || name.startsWith(".")) {
+                        continue;
+                    }
+                    BlockIndex index = read(fs, file.getPath(), true);
+                    return index == null ? null : index.getColumnNames();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets the predicate pushed down to a load function for its input
+     * format and record reader, or that there is none, as the configuration
+     * is shared by the loads of a job.
+     * @param p the UDFContext properties of the load function
+     */
+    public static void setLocation(Properties p, Configuration conf) {
+        conf.set(PROP_PREDICATE, p.getProperty(PROP_PREDICATE, ""));
+    }
+
+    /**
+     * Keeps the predicate pushed down to a load function in its UDFContext
+     * properties.
+     */
+    public static void setPredicate(Expression predicate, Properties p) throws IOException {
+        p.setProperty(PROP_PREDICATE, ObjectSerializer.serialize(predicate));
+    }
+
+    /**
+     * @return the predicate pushed down to the load function of the input
+     * read, or null if there is none
+     */
+    public static Expression getPredicate(Configuration conf) throws IOException {
+        String predicate = conf.get(PROP_PREDICATE, "");
+        if (predicate.length() == 0) {
+            return null;
+        }
+        return (Expression)ObjectSerializer.deserialize(predicate);
+    }
+
+    /**
+     * Removes the splits that have no record satisfying the predicate pushed
+     * down to the load function, if any.
+     */
+    public static List<InputSplit> pruneSplits(List<InputSplit> splits, Configuration conf)
+    throws IOException {
+        Expression predicate = getPredicate(conf);
+        if (predicate == null) {
+            return splits;
+        }
+        Map<Path, BlockIndex> indexes = new HashMap<Path, BlockIndex>();
+        List<InputSplit> result = new ArrayList<InputSplit>(splits.size());
+        for (InputSplit split : splits) {
+            if (split instanceof FileSplit) {
+                FileSplit fileSplit = (FileSplit)split;
+                Path file = fileSplit.getPath();
+                if (!indexes.containsKey(file)) {
+                    indexes.put(file, read(file.getFileSystem(conf), file));
+                }
+                BlockIndex index = indexes.get(file);
+                if (index != null && !index.mightMatch(predicate, fileSplit.getStart(),
+                        fileSplit.getStart() + fileSplit.getLength())) {
+                    continue;
+                }
+            }
+            result.add(split);
+        }
+        if (result.size() < splits.size()) {
+            LOG.info("Skipped " + (splits.size() - result.size()) + " of " + splits.size()
+                    + " splits with no record satisfying " + predicate);
+        }
+        return result;
+    }
+}
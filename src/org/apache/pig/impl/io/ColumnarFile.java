@@ -0,0 +1,801 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.WritableUtils;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.backend.hadoop.executionengine.util.MapRedUtil;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataReaderWriter;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.SizeUtil;
+import org.apache.pig.data.Tuple;
+
+/**
+ * The layout of the files of {@link org.apache.pig.builtin.ColumnarStorage}.
+ * A file is a sequence of stripes of rows followed by a footer. In a stripe
+ * the values of each column are kept together in a chunk, so that a reader
+ * only reads the chunks of the columns it needs. Each chunk is encoded by
+ * the type of its values:
+ * <ul>
+ * <li>integers, longs and booleans with the smallest of a plain, a delta and
+ * a run length encoding
+ * <li>chararrays with a dictionary, its codes encoded as integers, unless
+ * plain strings are smaller
+ * <li>other values plainly
+ * </ul>
+ * and compressed on its own if that makes it smaller. The footer has the
+ * schema, the position of the chunks and, for each chunk, the number of
+ * nulls and the smallest and largest value. For the columns of chararrays
+ * with few distinct values it also has the number of times each value
+ * occurs in the file.
+ */
+public class ColumnarFile {
+
+    /**
+     * Property for the schema of the rows written, set by the store function
+     */
+    public static final String PROP_SCHEMA = "pig.columnar.schema";
+
+    /**
+     * Property for whether to compress the chunks written, set by the store
+     * function
+     */
+    public static final String PROP_COMPRESS = "pig.columnar.compress";
+
+    /**
+     * Property for the number of bytes of values in a stripe, before they are
+     * encoded
+     */
+    public static final String PROP_STRIPE_SIZE = "pig.columnar.stripe.size";
+
+    public static final long DEFAULT_STRIPE_SIZE = 16 * 1024 * 1024;
+
+    private static final int MAGIC = 0x50434f4c; // PCOL
+
+    // version 1 has no counts of the values of the columns
+    private static final int VERSION = 2;
+
+    /**
+     * The largest number of distinct values of a column of chararrays that
+     * the occurrences of the values are counted for
+     */
+    public static final int MAX_COUNTED_VALUES = 1000;
+
+    // the length of the end of the file, with the position of the footer
+    private static final int TAIL_LENGTH = 12;
+
+    // encodings of integral values
+    static final byte PLAIN = 0;
+    static final byte DELTA = 1;
+    static final byte RUN_LENGTH = 2;
+
+    // encodings of chararrays, other than plain
+    static final byte DICTIONARY = 3;
+
+    private String schema;
+    private List<Stripe> stripes = new ArrayList<Stripe>();
+    private List<Map<String, Long>> valueCounts = new ArrayList<Map<String, Long>>();
+
+    public ColumnarFile(String schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * @return the schema of the rows, as a string
+     */
+    public String getSchema() {
+        return schema;
+    }
+
+    public List<Stripe> getStripes() {
+        return stripes;
+    }
+
+    /**
+     * @return the number of times each value of a column occurs, or null if
+     * the column is not of chararrays or has too many distinct values
+     */
+    public Map<String, Long> getValueCounts(int column) {
+        return column < valueCounts.size() ? valueCounts.get(column) : null;
+    }
+
+    /**
+     * Sets the number of times each value of each column occurs, see
+     * {@link #getValueCounts(int)}.
+     */
+    public void setValueCounts(List<Map<String, Long>> valueCounts) {
+        this.valueCounts = valueCounts;
+    }
+
+    /**
+     * @return the number of rows of the file
+     */
+    public long getRows() {
+        long rows = 0;
+        for (Stripe stripe : stripes) {
+            rows += stripe.rows;
+        }
+        return rows;
+    }
+
+    /**
+     * A stripe of rows, with a chunk for each column.
+     */
+    public static class Stripe {
+        long offset;
+        int rows;
+        Chunk[] chunks;
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public Chunk[] getChunks() {
+            return chunks;
+        }
+    }
+
+    /**
+     * The values of a column in a stripe.
+     */
+    public static class Chunk {
+        long offset;
+        int length;
+        // the length before compression, or -1 if not compressed
+        int rawLength = -1;
+        // the type of all the values, or DataType.UNKNOWN if they differ
+        byte type = DataType.NULL;
+        int nullCount;
+        Object min;
+        Object max;
+
+        public int getNullCount() {
+            return nullCount;
+        }
+
+        /**
+         * @return the smallest value, or null if unknown
+         */
+        public Object getMin() {
+            return min;
+        }
+
+        /**
+         * @return the largest value, or null if unknown
+         */
+        public Object getMax() {
+            return max;
+        }
+
+        public boolean isCompressed() {
+            return rawLength >= 0;
+        }
+    }
+
+    /**
+     * Writes the start of a file.
+     */
+    public static void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+    }
+
+    /**
+     * Writes the footer of a file, once all its stripes are written.
+     * @param offset the position of the footer in the file
+     */
+    public void writeFooter(DataOutput out, long offset) throws IOException {
+        out.writeInt(VERSION);
+        DataReaderWriter.writeDatum(out, schema);
+        out.writeInt(stripes.size());
+        for (Stripe stripe : stripes) {
+            out.writeLong(stripe.offset);
+            out.writeInt(stripe.rows);
+            out.writeInt(stripe.chunks.length);
+            for (Chunk chunk : stripe.chunks) {
+                out.writeLong(chunk.offset);
+                out.writeInt(chunk.length);
+                out.writeInt(chunk.rawLength);
+                out.writeByte(chunk.type);
+                out.writeInt(chunk.nullCount);
+                DataReaderWriter.writeDatum(out, chunk.min);
+                DataReaderWriter.writeDatum(out, chunk.max);
+            }
+        }
+        out.writeInt(valueCounts.size());
+        for (Map<String, Long> counts : valueCounts) {
+            if (counts == null) {
+                out.writeInt(-1);
+                continue;
+            }
+            out.writeInt(counts.size());
+            for (Map.Entry<String, Long> entry : counts.entrySet()) {
+                DataReaderWriter.writeDatum(out, entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        }
+        out.writeLong(offset);
+        out.writeInt(MAGIC);
+    }
+
+    /**
+     * Reads the footer of a file.
+     */
+    public static ColumnarFile read(FileSystem fs, Path file) throws IOException {
+        long length = fs.getFileStatus(file).getLen();
+        FSDataInputStream in = fs.open(file);
+        try {
+            return read(in, length, file);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Lists the data files of a location, the way they are read by the
+     * input format.
+     * @param location the location given to the load function, which can
+     * be a comma separated list of paths and globs
+     * @return the files, or an empty list if the location does not exist
+     */
+    public static List<FileStatus> getFiles(String location, Configuration conf)
+    throws IOException {
+        List<FileStatus> matches = new ArrayList<FileStatus>();
+        for (String loc : LoadFunc.getPathStrings(location)) {
+            Path path = new Path(loc);
+            FileStatus[] statuses = path.getFileSystem(conf).globStatus(path);
+            if (statuses != null) {
+                for (FileStatus status : statuses) {
+                    matches.add(status);
+                }
+            }
+        }
+        return MapRedUtil.getAllFileRecursively(matches, conf);
+    }
+
+    static ColumnarFile read(FSDataInputStream in, long length, Path file) throws IOException {
+        if (length < TAIL_LENGTH + 4) {
+            throw new IOException(file + " is not a columnar file");
+        }
+        in.seek(length - TAIL_LENGTH);
+        long offset = in.readLong();
+        if (in.readInt() != MAGIC) {
+            throw new IOException(file + " is not a columnar file");
+        }
+        in.seek(offset);
+        int version = in.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException(file + " has a version of the columnar layout not supported");
+        }
+        ColumnarFile columnarFile = new ColumnarFile((String)DataReaderWriter.readDatum(in));
+        int stripes = in.readInt();
+        for (int i = 0; i < stripes; i++) {
+            Stripe stripe = new Stripe();
+            stripe.offset = in.readLong();
+            stripe.rows = in.readInt();
+            stripe.chunks = new Chunk[in.readInt()];
+            for (int j = 0; j < stripe.chunks.length; j++) {
+                Chunk chunk = new Chunk();
+                chunk.offset = in.readLong();
+                chunk.length = in.readInt();
+                chunk.rawLength = in.readInt();
+                chunk.type = in.readByte();
+                chunk.nullCount = in.readInt();
+                chunk.min = DataReaderWriter.readDatum(in);
+                chunk.max = DataReaderWriter.readDatum(in);
+                stripe.chunks[j] = chunk;
+            }
+            columnarFile.stripes.add(stripe);
+        }
+        if (version >= 2) {
+            int columns = in.readInt();
+            for (int i = 0; i < columns; i++) {
+                int size = in.readInt();
+                Map<String, Long> counts = null;
+                if (size >= 0) {
+                    counts = new HashMap<String, Long>();
+                    for (int j = 0; j < size; j++) {
+                        counts.put((String)DataReaderWriter.readDatum(in), in.readLong());
+                    }
+                }
+                columnarFile.valueCounts.add(counts);
+            }
+        }
+        return columnarFile;
+    }
+
+    /**
+     * Collects the values of a column for a stripe and encodes them into a
+     * chunk.
+     */
+    public static class ColumnWriter {
+        private List<Object> values = new ArrayList<Object>();
+        private long size = 0;
+        private Map<String, Long> counts = new HashMap<String, Long>();
+
+        public void add(Object value) {
+            values.add(value);
+            if (counts != null && value != null) {
+                if (value instanceof String && (counts.size() < MAX_COUNTED_VALUES
+                        || counts.containsKey(value))) {
+                    Long count = counts.get(value);
+                    counts.put((String)value, count == null ? 1 : count + 1);
+                } else {
+                    counts = null;
+                }
+            }
+            if (value instanceof String) {
+                size += ((String)value).length();
+            } else if (value instanceof DataByteArray) {
+                size += ((DataByteArray)value).size();
+            } else if (value instanceof DataBag || value instanceof Tuple
+                    || value instanceof Map) {
+                // the values are kept until the stripe is written, so
+                // complex ones count for the memory they hold
+                size += SizeUtil.getPigObjMemSize(value);
+            } else {
+                size += 8;
+            }
+        }
+
+        /**
+         * @return the number of times each value added occurs, or null if
+         * they are not all chararrays or there are too many distinct ones
+         */
+        public Map<String, Long> getValueCounts() {
+            return counts;
+        }
+
+        /**
+         * @return an estimate of the size of the values collected
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Encodes the values collected, and forgets them.
+         * @param compress whether to compress the chunk if that makes it
+         * smaller
+         * @return the encoded chunk, with its offset and length unset
+         */
+        public Chunk write(DataOutputStream out, boolean compress) throws IOException {
+            Chunk chunk = new Chunk();
+            int rows = values.size();
+            byte[] nulls = new byte[(rows + 7) / 8];
+            for (int i = 0; i < rows; i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    nulls[i / 8] |= 1 << (i % 8);
+                    chunk.nullCount++;
+                    continue;
+                }
+                byte type = DataType.findType(value);
+                if (chunk.type == DataType.NULL) {
+                    chunk.type = type;
+                } else if (chunk.type != type) {
+                    chunk.type = DataType.UNKNOWN;
+                }
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(bytes);
+            if (chunk.nullCount > 0) {
+                data.write(nulls);
+            }
+            writeValues(data, chunk);
+            data.flush();
+            byte[] raw = bytes.toByteArray();
+            if (compress && raw.length > 0) {
+                byte[] compressed = compress(raw);
+                if (compressed.length < raw.length) {
+                    chunk.rawLength = raw.length;
+                    raw = compressed;
+                }
+            }
+            out.write(raw);
+            chunk.length = raw.length;
+            values.clear();
+            size = 0;
+            return chunk;
+        }
+
+        private void writeValues(DataOutputStream out, Chunk chunk) throws IOException {
+            int count = values.size() - chunk.nullCount;
+            switch (chunk.type) {
+            case DataType.NULL:
+                return;
+            case DataType.INTEGER:
+            case DataType.LONG:
+            case DataType.BOOLEAN: {
+                long[] longs = new long[count];
+                int i = 0;
+                for (Object value : values) {
+                    if (value instanceof Boolean) {
+                        longs[i++] = ((Boolean)value) ? 1 : 0;
+                    } else if (value != null) {
+                        longs[i++] = ((Number)value).longValue();
+                    }
+                }
+                writeLongs(out, longs, count);
+                setRange(chunk);
+                return;
+            }
+            case DataType.CHARARRAY:
+                writeStrings(out, count);
+                setRange(chunk);
+                return;
+            case DataType.DOUBLE:
+                for (Object value : values) {
+                    if (value != null) {
+                        out.writeDouble((Double)value);
+                    }
+                }
+                setRange(chunk);
+                return;
+            case DataType.FLOAT:
+                for (Object value : values) {
+                    if (value != null) {
+                        out.writeFloat((Float)value);
+                    }
+                }
+                setRange(chunk);
+                return;
+            case DataType.BYTEARRAY:
+                for (Object value : values) {
+                    if (value != null) {
+                        byte[] b = ((DataByteArray)value).get();
+                        WritableUtils.writeVInt(out, b.length);
+                        out.write(b);
+                    }
+                }
+                return;
+            default:
+                for (Object value : values) {
+                    if (value != null) {
+                        DataReaderWriter.writeDatum(out, value);
+                    }
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setRange(Chunk chunk) {
+            for (Object value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (chunk.min == null || ((Comparable<Object>)value).compareTo(chunk.min) < 0) {
+                    chunk.min = value;
+                }
+                if (chunk.max == null || ((Comparable<Object>)value).compareTo(chunk.max) > 0) {
+                    chunk.max = value;
+                }
+            }
+        }
+
+        private void writeStrings(DataOutputStream out, int count) throws IOException {
+            Map<String, Integer> codes = new HashMap<String, Integer>();
+            List<byte[]> dictionary = new ArrayList<byte[]>();
+            List<Integer> counts = new ArrayList<Integer>();
+            long[] encoded = new long[count];
+            int i = 0;
+            for (Object value : values) {
+                if (value == null) {
+                    continue;
+                }
+                Integer code = codes.get(value);
+                if (code == null) {
+                    code = dictionary.size();
+                    codes.put((String)value, code);
+                    dictionary.add(((String)value).getBytes("UTF-8"));
+                    counts.add(0);
+                }
+                counts.set(code, counts.get(code) + 1);
+                encoded[i++] = code;
+            }
+            long plainSize = 0;
+            long dictionarySize = WritableUtils.getVIntSize(dictionary.size())
+                + getLongsSize(encoded, count);
+            for (int code = 0; code < dictionary.size(); code++) {
+                int length = dictionary.get(code).length;
+                int size = WritableUtils.getVIntSize(length) + length;
+                plainSize += (long)size * counts.get(code);
+                dictionarySize += size;
+            }
+            if (dictionarySize < plainSize) {
+                out.writeByte(DICTIONARY);
+                WritableUtils.writeVInt(out, dictionary.size());
+                for (byte[] b : dictionary) {
+                    WritableUtils.writeVInt(out, b.length);
+                    out.write(b);
+                }
+                writeLongs(out, encoded, count);
+            } else {
+                out.writeByte(PLAIN);
+                for (i = 0; i < count; i++) {
+                    byte[] b = dictionary.get((int)encoded[i]);
+                    WritableUtils.writeVInt(out, b.length);
+                    out.write(b);
+                }
+            }
+        }
+    }
+
+    private static long getLongsSize(long[] values, int count) {
+        return Math.min(Math.min(getPlainSize(values, count), getDeltaSize(values, count)),
+                getRunLengthSize(values, count)) + 1;
+    }
+
+    private static long getPlainSize(long[] values, int count) {
+        long size = 0;
+        for (int i = 0; i < count; i++) {
+            size += WritableUtils.getVIntSize(values[i]);
+        }
+        return size;
+    }
+
+    private static long getDeltaSize(long[] values, int count) {
+        long size = 0;
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            size += WritableUtils.getVIntSize(values[i] - previous);
+            previous = values[i];
+        }
+        return size;
+    }
+
+    private static long getRunLengthSize(long[] values, int count) {
+        long size = 0;
+        for (int i = 0; i < count; ) {
+            int run = getRun(values, count, i);
+            size += WritableUtils.getVIntSize(run) + WritableUtils.getVIntSize(values[i]);
+            i += run;
+        }
+        return size;
+    }
+
+    private static int getRun(long[] values, int count, int start) {
+        int end = start + 1;
+        while (end < count && values[end] == values[start]) {
+            end++;
+        }
+        return end - start;
+    }
+
+    /**
+     * Writes integral values with the encoding that takes the least space.
+     */
+    static void writeLongs(DataOutput out, long[] values, int count) throws IOException {
+        long plain = getPlainSize(values, count);
+        long delta = getDeltaSize(values, count);
+        long runLength = getRunLengthSize(values, count);
+        if (runLength < plain && runLength <= delta) {
+            out.writeByte(RUN_LENGTH);
+            for (int i = 0; i < count; ) {
+                int run = getRun(values, count, i);
+                WritableUtils.writeVInt(out, run);
+                WritableUtils.writeVLong(out, values[i]);
+                i += run;
+            }
+        } else if (delta < plain) {
+            out.writeByte(DELTA);
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                // the differences can overflow, and wrap back when read
+                WritableUtils.writeVLong(out, values[i] - previous);
+                previous = values[i];
+            }
+        } else {
+            out.writeByte(PLAIN);
+            for (int i = 0; i < count; i++) {
+                WritableUtils.writeVLong(out, values[i]);
+            }
+        }
+    }
+
+    static long[] readLongs(DataInput in, int count) throws IOException {
+        long[] values = new long[count];
+        byte encoding = in.readByte();
+        switch (encoding) {
+        case RUN_LENGTH:
+            for (int i = 0; i < count; ) {
+                int run = WritableUtils.readVInt(in);
+                long value = WritableUtils.readVLong(in);
+                for (int j = 0; j < run; j++) {
+                    values[i++] = value;
+                }
+            }
+            break;
+        case DELTA:
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                previous += WritableUtils.readVLong(in);
+                values[i] = previous;
+            }
+            break;
+        case PLAIN:
+            for (int i = 0; i < count; i++) {
+                values[i] = WritableUtils.readVLong(in);
+            }
+            break;
+        default:
+            throw new IOException("Unknown encoding " + encoding + " of a column");
+        }
+        return values;
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+        byte[] raw = new byte[rawLength];
+        try {
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                length += inflater.inflate(raw, length, rawLength - length);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+        return raw;
+    }
+
+    /**
+     * Reads and decodes a chunk.
+     * @param in the file, at the position of the chunk
+     * @param rows the number of rows of the stripe of the chunk
+     * @return the values of the rows
+     */
+    public static Object[] readChunk(DataInput in, Chunk chunk, int rows) throws IOException {
+        byte[] bytes = new byte[chunk.length];
+        in.readFully(bytes);
+        if (chunk.isCompressed()) {
+            bytes = decompress(bytes, chunk.rawLength);
+        }
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        Object[] values = new Object[rows];
+        if (chunk.type == DataType.NULL) {
+            return values;
+        }
+        byte[] nulls = null;
+        if (chunk.nullCount > 0) {
+            nulls = new byte[(rows + 7) / 8];
+            data.readFully(nulls);
+        }
+        int count = rows - chunk.nullCount;
+        switch (chunk.type) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.BOOLEAN: {
+            long[] longs = readLongs(data, count);
+            int i = 0;
+            for (int row = 0; row < rows; row++) {
+                if (!isNull(nulls, row)) {
+                    long value = longs[i++];
+                    values[row] = chunk.type == DataType.INTEGER ? Integer.valueOf((int)value)
+                        : chunk.type == DataType.LONG ? Long.valueOf(value)
+                        : Boolean.valueOf(value != 0);
+                }
+            }
+            break;
+        }
+        case DataType.CHARARRAY: {
+            byte encoding = data.readByte();
+            if (encoding == DICTIONARY) {
+                String[] dictionary = new String[WritableUtils.readVInt(data)];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = readString(data);
+                }
+                long[] codes = readLongs(data, count);
+                int i = 0;
+                for (int row = 0; row < rows; row++) {
+                    if (!isNull(nulls, row)) {
+                        values[row] = dictionary[(int)codes[i++]];
+                    }
+                }
+            } else {
+                for (int row = 0; row < rows; row++) {
+                    if (!isNull(nulls, row)) {
+                        values[row] = readString(data);
+                    }
+                }
+            }
+            break;
+        }
+        case DataType.DOUBLE:
+            for (int row = 0; row < rows; row++) {
+                if (!isNull(nulls, row)) {
+                    values[row] = data.readDouble();
+                }
+            }
+            break;
+        case DataType.FLOAT:
+            for (int row = 0; row < rows; row++) {
+                if (!isNull(nulls, row)) {
+                    values[row] = data.readFloat();
+                }
+            }
+            break;
+        case DataType.BYTEARRAY:
+            for (int row = 0; row < rows; row++) {
+                if (!isNull(nulls, row)) {
+                    byte[] b = new byte[WritableUtils.readVInt(data)];
+                    data.readFully(b);
+                    values[row] = new DataByteArray(b);
+                }
+            }
+            break;
+        default:
+            for (int row = 0; row < rows; row++) {
+                if (!isNull(nulls, row)) {
+                    values[row] = DataReaderWriter.readDatum(data);
+                }
+            }
+        }
+        return values;
+    }
+
+    private static boolean isNull(byte[] nulls, int row) {
+        return nulls != null && (nulls[row / 8] & (1 << (row % 8))) != 0;
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] b = new byte[WritableUtils.readVInt(in)];
+        in.readFully(b);
+        return new String(b, "UTF-8");
+    }
+}
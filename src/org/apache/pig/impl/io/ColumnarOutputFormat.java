@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.Utils;
+
+/**
+ * The output format of {@link org.apache.pig.builtin.ColumnarStorage}.
+ */
+public class ColumnarOutputFormat extends
+        FileOutputFormat<org.apache.hadoop.io.WritableComparable, Tuple> {
+
+    /* (non-Javadoc)
+     * @see org.apache.hadoop.mapreduce.lib.output.FileOutputFormat#getRecordWriter(org.apache.hadoop.mapreduce.TaskAttemptContext)
+     */
+    @Override
+    public RecordWriter<WritableComparable, Tuple> getRecordWriter(
+            TaskAttemptContext job) throws IOException, InterruptedException {
+        Configuration conf = job.getConfiguration();
+        String schema = conf.get(ColumnarFile.PROP_SCHEMA);
+        if (schema == null || schema.length() == 0) {
+            throw new IOException("No schema for the columnar output");
+        }
+        int columns = Utils.getSchemaFromString(schema).size();
+        boolean compress = conf.getBoolean(ColumnarFile.PROP_COMPRESS, false);
+        long stripeSize = conf.getLong(ColumnarFile.PROP_STRIPE_SIZE,
+                ColumnarFile.DEFAULT_STRIPE_SIZE);
+        Path file = getDefaultWorkFile(job, "");
+        FileSystem fs = file.getFileSystem(conf);
+        FSDataOutputStream fileOut = fs.create(file, false);
+        return new ColumnarRecordWriter(fileOut, schema, columns, compress, stripeSize);
+    }
+}
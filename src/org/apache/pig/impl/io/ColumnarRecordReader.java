@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * A record reader for files written by {@link ColumnarRecordWriter}. It reads
+ * the stripes that start in its split, and of them only the chunks of the
+ * columns required.
+ */
+public class ColumnarRecordReader extends RecordReader<Text, Tuple> {
+
+    private FSDataInputStream in;
+    private List<ColumnarFile.Stripe> stripes = new ArrayList<ColumnarFile.Stripe>();
+    private int nextStripe = 0;
+    private boolean[] requiredColumns = null;
+    private int[] columns;
+    private Object[][] values;
+    private int rows = 0;
+    private int row = 0;
+    private Tuple value = null;
+    private TupleFactory tupleFactory = TupleFactory.getInstance();
+
+    @Override
+    public void initialize(InputSplit genericSplit, TaskAttemptContext context)
+            throws IOException {
+        FileSplit split = (FileSplit) genericSplit;
+        long start = split.getStart();
+        long end = start + split.getLength();
+        Path file = split.getPath();
+        FileSystem fs = file.getFileSystem(context.getConfiguration());
+        long length = fs.getFileStatus(file).getLen();
+        in = fs.open(file);
+        for (ColumnarFile.Stripe stripe : ColumnarFile.read(in, length, file).getStripes()) {
+            if (stripe.getOffset() >= start && stripe.getOffset() < end) {
+                stripes.add(stripe);
+            }
+        }
+    }
+
+    /**
+     * Sets the columns to read, in the order of the file.
+     * @param requiredColumns whether each column is required, or null to
+     * read all the columns
+     */
+    public void setRequiredColumns(boolean[] requiredColumns) {
+        this.requiredColumns = requiredColumns;
+    }
+
+    private boolean nextStripe() throws IOException {
+        if (nextStripe == stripes.size()) {
+            return false;
+        }
+        ColumnarFile.Stripe stripe = stripes.get(nextStripe++);
+        ColumnarFile.Chunk[] chunks = stripe.getChunks();
+        if (columns == null) {
+            List<Integer> required = new ArrayList<Integer>();
+            int count = requiredColumns == null ? chunks.length : requiredColumns.length;
+            for (int i = 0; i < count; i++) {
+                if (requiredColumns == null || requiredColumns[i]) {
+                    required.add(i);
+                }
+            }
+            columns = new int[required.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = required.get(i);
+            }
+            values = new Object[columns.length][];
+        }
+        rows = stripe.getRows();
+        row = 0;
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] < chunks.length) {
+                in.seek(chunks[columns[i]].offset);
+                values[i] = ColumnarFile.readChunk(in, chunks[columns[i]], rows);
+            } else {
+                values[i] = new Object[rows];
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean nextKeyValue() throws IOException {
+        while (row == rows) {
+            if (!nextStripe()) {
+                return false;
+            }
+        }
+        value = tupleFactory.newTuple(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            value.set(i, values[i][row]);
+        }
+        row++;
+        return true;
+    }
+
+    @Override
+    public Text getCurrentKey() {
+        // the key is always null since we don't really have a key for each
+        // input record
+        return null;
+    }
+
+    @Override
+    public Tuple getCurrentValue() {
+        return value;
+    }
+
+    @Override
+    public float getProgress() {
+        if (stripes.isEmpty()) {
+            return 0.0f;
+        }
+        return Math.min(1.0f, nextStripe / (float)stripes.size());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+}
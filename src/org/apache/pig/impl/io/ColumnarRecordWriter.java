@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.pig.data.Tuple;
+
+/**
+ * A record writer that writes the tuples in stripes of column chunks, see
+ * {@link ColumnarFile}.
+ */
+public class ColumnarRecordWriter extends
+        RecordWriter<org.apache.hadoop.io.WritableComparable, Tuple> {
+
+    private FSDataOutputStream out;
+    private ColumnarFile file;
+    private ColumnarFile.ColumnWriter[] columns;
+    private boolean compress;
+    private long stripeSize;
+    private int rows = 0;
+
+    /**
+     * @param schema the schema of the tuples, as a string
+     * @param columns the number of fields of the tuples
+     * @param compress whether to compress the column chunks
+     * @param stripeSize the number of bytes of values in a stripe
+     */
+    public ColumnarRecordWriter(FSDataOutputStream out, String schema, int columns,
+            boolean compress, long stripeSize) throws IOException {
+        this.out = out;
+        this.file = new ColumnarFile(schema);
+        this.columns = new ColumnarFile.ColumnWriter[columns];
+        for (int i = 0; i < columns; i++) {
+            this.columns[i] = new ColumnarFile.ColumnWriter();
+        }
+        this.compress = compress;
+        this.stripeSize = stripeSize;
+        ColumnarFile.writeHeader(out);
+    }
+
+    @Override
+    public void write(WritableComparable wc, Tuple t) throws IOException,
+            InterruptedException {
+        // the file keeps only the columns of its schema
+        if (t.size() > columns.length) {
+            throw new IOException("Cannot store a tuple of " + t.size()
+                    + " fields with a schema of " + columns.length + " fields");
+        }
+        long size = 0;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].add(i < t.size() ? t.get(i) : null);
+            size += columns[i].getSize();
+        }
+        rows++;
+        if (size >= stripeSize) {
+            writeStripe();
+        }
+    }
+
+    private void writeStripe() throws IOException {
+        ColumnarFile.Stripe stripe = new ColumnarFile.Stripe();
+        stripe.offset = out.getPos();
+        stripe.rows = rows;
+        stripe.chunks = new ColumnarFile.Chunk[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            long offset = out.getPos();
+            stripe.chunks[i] = columns[i].write(out, compress);
+            stripe.chunks[i].offset = offset;
+        }
+        file.getStripes().add(stripe);
+        rows = 0;
+    }
+
+    @Override
+    public void close(TaskAttemptContext context) throws IOException,
+            InterruptedException {
+        if (rows > 0) {
+            writeStripe();
+        }
+        List<Map<String, Long>> valueCounts = new ArrayList<Map<String, Long>>();
+        for (ColumnarFile.ColumnWriter column : columns) {
+            valueCounts.add(column.getValueCounts());
+        }
+        file.setValueCounts(valueCounts);
+        file.writeFooter(out, out.getPos());
+        out.close();
+    }
+}
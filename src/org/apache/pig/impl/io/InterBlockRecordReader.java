@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.data.LazyTuple;
+import org.apache.pig.data.Tuple;
+
+/**
+ * A record reader used to read data written using {@link InterBlockRecordWriter}.
+ * Blocks are read whole with bulk reads, from a memory mapped file when the
+ * file is on the local file system. The tuples are {@link LazyTuple}s, so
+ * the fields that are never looked at are never deserialized.
+ * <p>
+ * A block is read by the split its sync marker starts in.
+ */
+public class InterBlockRecordReader extends RecordReader<Text, Tuple> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private long start;
+    // position in the file of the next byte of in
+    private long pos;
+    private long end;
+    private DataInputStream in;
+    private Tuple value = null;
+    private final byte[] sync = new byte[InterBlockRecordWriter.SYNC_SIZE];
+    private byte[] block = new byte[0];
+    private int blockLength = 0;
+    private int blockPos = 0;
+    private int recordsLeft = 0;
+    private boolean done = false;
+
+    public void initialize(InputSplit genericSplit,
+                           TaskAttemptContext context) throws IOException {
+        FileSplit split = (FileSplit) genericSplit;
+        Configuration job = context.getConfiguration();
+        start = split.getStart();
+        end = start + split.getLength();
+        final Path file = split.getPath();
+
+        FileSystem fs = file.getFileSystem(job);
+        long fileLength = fs.getFileStatus(file).getLen();
+        if (fileLength < InterBlockRecordWriter.HEADER_SIZE) {
+            done = true;
+            return;
+        }
+
+        // the header holds the sync marker of the file
+        FSDataInputStream fileIn = fs.open(file);
+        byte[] magic = new byte[InterBlockRecordWriter.MAGIC.length];
+        fileIn.readFully(magic);
+        if (!Arrays.equals(magic, InterBlockRecordWriter.MAGIC)) {
+            fileIn.close();
+            throw new IOException(file + " is not an intermediate block file");
+        }
+        fileIn.readFully(sync);
+
+        pos = Math.max(start, InterBlockRecordWriter.HEADER_SIZE);
+        if (fs instanceof LocalFileSystem && fileLength - pos <= Integer.MAX_VALUE) {
+            fileIn.close();
+            RandomAccessFile raf = new RandomAccessFile(((LocalFileSystem) fs).pathToFile(file), "r");
+            try {
+                // the mapping stays valid once the file is closed
+                ByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, pos, fileLength - pos);
+                in = new DataInputStream(new ByteBufferInputStream(mapped));
+            } finally {
+                raf.close();
+            }
+        } else {
+            fileIn.seek(pos);
+            in = new DataInputStream(new BufferedInputStream(fileIn, BUFFER_SIZE));
+        }
+        done = !seekSync();
+    }
+
+    /**
+     * Find the next sync marker, and leave the input right after it.
+     * @return false if there is no sync marker left in the file
+     */
+    private boolean seekSync() throws IOException {
+        int n = sync.length;
+        byte[] window = new byte[n];
+        int read = 0;
+        while (true) {
+            int b = in.read();
+            if (b == -1) {
+                return false;
+            }
+            pos++;
+            window[read % n] = (byte) b;
+            read++;
+            if (read >= n) {
+                // window holds the last n bytes, starting at read % n
+                int i = 0;
+                while (i < n && window[(read + i) % n] == sync[i]) {
+                    i++;
+                }
+                if (i == n) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the next block of this split into memory.
+     * @return false if there are no blocks left in the split
+     */
+    private boolean nextBlock() throws IOException {
+        long syncPos = pos - sync.length;
+        if (syncPos >= end) {
+            return false;
+        }
+        recordsLeft = in.readInt();
+        blockLength = in.readInt();
+        if (block.length < blockLength) {
+            block = new byte[blockLength];
+        }
+        in.readFully(block, 0, blockLength);
+        pos += 8 + blockLength;
+        blockPos = 0;
+
+        // move past the sync marker of the next block, if there is one
+        byte[] nextSync = new byte[sync.length];
+        int read = 0;
+        while (read < nextSync.length) {
+            int n = in.read(nextSync, read, nextSync.length - read);
+            if (n == -1) {
+                break;
+            }
+            read += n;
+        }
+        pos += read;
+        if (read == 0) {
+            done = true;
+        } else if (read < nextSync.length || !Arrays.equals(sync, nextSync)) {
+            throw new IOException("Corrupt intermediate block file: no sync marker at " + (pos - read));
+        }
+        return true;
+    }
+
+    public boolean nextKeyValue() throws IOException {
+        while (recordsLeft == 0) {
+            if (done || !nextBlock()) {
+                done = true;
+                value = null;
+                return false;
+            }
+        }
+        if (blockPos + 4 > blockLength) {
+            throw new EOFException("Corrupt intermediate block file: block ends before its records");
+        }
+        int length = ((block[blockPos] & 0xff) << 24) | ((block[blockPos + 1] & 0xff) << 16)
+                | ((block[blockPos + 2] & 0xff) << 8) | (block[blockPos + 3] & 0xff);
+        blockPos += 4;
+        // copy the record, so that the tuple does not hold on to the block
+        byte[] record = Arrays.copyOfRange(block, blockPos, blockPos + length);
+        blockPos += length;
+        recordsLeft--;
+        value = new LazyTuple(record, 0, length);
+        return true;
+    }
+
+    @Override
+    public Text getCurrentKey() {
+        // the key is always null since we don't really have a key for each
+        // input record
+        return null;
+    }
+
+    @Override
+    public Tuple getCurrentValue() {
+        return value;
+    }
+
+    /**
+     * Get the progress within the split
+     */
+    public float getProgress() {
+        if (start == end) {
+            return 0.0f;
+        } else {
+            return Math.min(1.0f, (pos - start) / (float) (end - start));
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads a memory mapped file.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return buffer.remaining();
+        }
+    }
+}
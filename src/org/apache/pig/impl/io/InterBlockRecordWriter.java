@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.WritableComparable;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.Tuple;
+
+/**
+ * A record writer that writes tuples in blocks, to be read back by
+ * {@link InterBlockRecordReader}. It uses the default InterSedes object for
+ * serialization.
+ * <p>
+ * A file starts with {@link #MAGIC} and a sync marker made for the file. Each
+ * block is the sync marker, the number of records in the block, the number
+ * of bytes of the records, and the records, each one the number of bytes of
+ * the serialized tuple followed by the tuple.
+ */
+public class InterBlockRecordWriter extends
+        RecordWriter<org.apache.hadoop.io.WritableComparable, Tuple> {
+
+    public static final byte[] MAGIC = new byte[] { 'P', 'I', 'B', 1 };
+    public static final int SYNC_SIZE = 16;
+    public static final int HEADER_SIZE = MAGIC.length + SYNC_SIZE;
+
+    private static InterSedes sedes = InterSedesFactory.getInterSedesInstance();
+
+    private DataOutputStream out;
+    private final byte[] sync;
+    private final int blockSize;
+    private final DataOutputBuffer block = new DataOutputBuffer();
+    private final DataOutputBuffer record = new DataOutputBuffer();
+    private int recordCount = 0;
+
+    /**
+     * @param out the outputstream to write out on
+     * @param blockSize number of bytes of records after which a block is
+     * written out
+     */
+    public InterBlockRecordWriter(DataOutputStream out, int blockSize) throws IOException {
+        this.out = out;
+        this.blockSize = blockSize;
+        UUID uuid = UUID.randomUUID();
+        sync = ByteBuffer.allocate(SYNC_SIZE).putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits()).array();
+        out.write(MAGIC);
+        out.write(sync, 0, SYNC_SIZE);
+    }
+
+    @Override
+    public void close(TaskAttemptContext arg0) throws IOException,
+            InterruptedException {
+        writeBlock();
+        out.close();
+    }
+
+    @Override
+    public void write(WritableComparable wc, Tuple t) throws IOException,
+            InterruptedException {
+        // we really only want to write the tuple (value) out here
+        record.reset();
+        sedes.writeDatum(record, t);
+        block.writeInt(record.getLength());
+        block.write(record.getData(), 0, record.getLength());
+        recordCount++;
+        if (block.getLength() >= blockSize) {
+            writeBlock();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (recordCount == 0) {
+            return;
+        }
+        out.write(sync, 0, SYNC_SIZE);
+        out.writeInt(recordCount);
+        out.writeInt(block.getLength());
+        out.write(block.getData(), 0, block.getLength());
+        block.reset();
+        recordCount = 0;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.pig.impl.io;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -29,6 +30,7 @@ import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.Expression;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.BinInterSedes;
 import org.apache.pig.data.InterSedes;
@@ -50,6 +52,11 @@ public class InterRecordReader extends RecordReader<Text, Tuple> {
   public static final int RECORD_2 = 0x02;
   public static final int RECORD_3 = 0x03;
   private DataInputStream inData = null;
+  private FSDataInputStream fileIn;
+  // the blocks of the split with no record satisfying the predicate pushed
+  // down to the loader, if the file has an index
+  private List<BlockIndex.Block> skippedBlocks = null;
+  private int nextSkippedBlock = 0;
   private static InterSedes sedes = InterSedesFactory.getInterSedesInstance();
 
   public void initialize(InputSplit genericSplit,
@@ -62,12 +69,42 @@ public class InterRecordReader extends RecordReader<Text, Tuple> {
 
     // open the file and seek to the start of the split
     FileSystem fs = file.getFileSystem(job);
-    FSDataInputStream fileIn = fs.open(split.getPath());
+    fileIn = fs.open(split.getPath());
     if (start != 0) {
         fileIn.seek(start);
     }
     in = new BufferedPositionedInputStream(fileIn, start);
     inData = new DataInputStream(in);
+
+    Expression predicate = BlockIndex.getPredicate(job);
+    if (predicate != null) {
+        BlockIndex index = BlockIndex.read(fs, file);
+        if (index != null) {
+            skippedBlocks = index.getSkippedBlocks(predicate, start, end);
+        }
+    }
+  }
+
+  /**
+   * Moves past the block the position is in if it is skipped. The blocks
+   * start at records, so the position after it is the start of a record.
+   * @return whether the position moved
+   */
+  private boolean skipBlock() throws IOException {
+      long position = in.getPosition();
+      while (nextSkippedBlock < skippedBlocks.size() &&
+              skippedBlocks.get(nextSkippedBlock).getEnd() <= position) {
+          nextSkippedBlock++;
+      }
+      if (nextSkippedBlock == skippedBlocks.size() ||
+              skippedBlocks.get(nextSkippedBlock).getStart() > position) {
+          return false;
+      }
+      position = skippedBlocks.get(nextSkippedBlock++).getEnd();
+      fileIn.seek(position);
+      in = new BufferedPositionedInputStream(fileIn, position);
+      inData = new DataInputStream(in);
+      return true;
   }
   
   public boolean nextKeyValue() throws IOException {
@@ -77,6 +114,10 @@ public class InterRecordReader extends RecordReader<Text, Tuple> {
           if (in == null || in.getPosition() >=end) {
               return false;
           }
+          // only between records, not within the marker of one
+          if (skippedBlocks != null && b != RECORD_1 && skipBlock()) {
+              continue;
+          }
           // check if we saw RECORD_1 in our last attempt
           // this can happen if we have the following 
           // sequence RECORD_1-RECORD_1-RECORD_2-RECORD_3
@@ -103,6 +144,7 @@ public class InterRecordReader extends RecordReader<Text, Tuple> {
           if(b != BinInterSedes.TINYTUPLE && 
                   b != BinInterSedes.SMALLTUPLE &&
                   b != BinInterSedes.TUPLE &&
+                  b != BinInterSedes.PRIMITIVE_TUPLE &&
                   b != -1) {
               continue;
           }
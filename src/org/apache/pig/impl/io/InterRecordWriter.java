@@ -43,6 +43,11 @@ public class InterRecordWriter extends
      * the outputstream to write out on
      */
     private DataOutputStream out;
+
+    /**
+     * the index of the blocks of records written, or null
+     */
+    private BlockIndex.Writer index = null;
     
     /**
      * 
@@ -51,12 +56,24 @@ public class InterRecordWriter extends
         this.out = out;
     }
 
+    /**
+     * @param index the writer of the index of the blocks of records
+     * written, or null to write none
+     */
+    public InterRecordWriter(DataOutputStream out, BlockIndex.Writer index) {
+        this.out = out;
+        this.index = index;
+    }
+
     /* (non-Javadoc)
      * @see org.apache.hadoop.mapreduce.RecordWriter#close(org.apache.hadoop.mapreduce.TaskAttemptContext)
      */
     @Override
     public void close(TaskAttemptContext arg0) throws IOException,
             InterruptedException {
+        if (index != null) {
+            index.close();
+        }
         out.close();        
     }
 
@@ -67,6 +84,9 @@ public class InterRecordWriter extends
     public void write(WritableComparable wc, Tuple t) throws IOException,
             InterruptedException {
         // we really only want to write the tuple (value) out here
+        if (index != null) {
+            index.add(t);
+        }
         out.write(RECORD_1);
         out.write(RECORD_2);
         out.write(RECORD_3);
@@ -18,6 +18,9 @@
 package org.apache.pig.impl.io;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
@@ -29,6 +32,7 @@ import org.apache.hadoop.io.WritableComparable;
 import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.OutputFormat;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.RecordWriter;
@@ -36,9 +40,11 @@ import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 import org.apache.pig.Expression;
+import org.apache.pig.Expression.OpType;
 import org.apache.pig.FileInputLoadFunc;
 import org.apache.pig.LoadFunc;
 import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPredicatePushdown;
 import org.apache.pig.ResourceSchema;
 import org.apache.pig.ResourceStatistics;
 import org.apache.pig.StoreFunc;
@@ -47,23 +53,32 @@ import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigFileInput
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSplit;
 import org.apache.pig.classification.InterfaceAudience;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.util.UDFContext;
 import org.apache.pig.impl.util.Utils;
 
 /**
  * LOAD FUNCTION FOR PIG INTERNAL USE ONLY!
  * This load function is used for storing intermediate data between MR jobs of
  * a pig query.
+ * The files it stores can be indexed by columns, see {@link BlockIndex}, to
+ * skip the blocks of records that do not satisfy a predicate pushed down to
+ * it when loading them.
  * The serialization format of this load function can change in newer
  *  versions of pig, so this should NOT be used to store any persistent data.
  */
 @InterfaceAudience.Private
 public class InterStorage extends FileInputLoadFunc 
-implements StoreFuncInterface, LoadMetadata {
+implements StoreFuncInterface, LoadMetadata, LoadPredicatePushdown {
 
     private static final Log mLog = LogFactory.getLog(InterStorage.class);
     
     private InterRecordReader recReader = null;
     private InterRecordWriter recWriter = null;
+
+    private String signature;
+    private String storeSignature;
+    private String indexColumns = null;
+    private String bloomColumns = null;
     
     /**
      * Simple binary nested reader format
@@ -72,6 +87,17 @@ implements StoreFuncInterface, LoadMetadata {
         mLog.debug("Pig Internal storage in use");
     }
 
+    /**
+     * @param options the columns to index the files stored by, see
+     * {@link BlockIndex#parseOptions(String, String)}
+     */
+    public InterStorage(String options) {
+        this();
+        String[] columns = BlockIndex.parseOptions(options, "InterStorage('[options]')");
+        indexColumns = columns[0];
+        bloomColumns = columns[1];
+    }
+
     @Override
     public Tuple getNext() throws IOException {
         if(recReader.nextKeyValue()) {
@@ -104,6 +130,10 @@ implements StoreFuncInterface, LoadMetadata {
             return new InterRecordReader();
         }
 
+        @Override
+        public List<InputSplit> getSplits(JobContext job) throws IOException {
+            return BlockIndex.pruneSplits(super.getSplits(job), job.getConfiguration());
+        }
     }
 
     
@@ -125,6 +155,20 @@ implements StoreFuncInterface, LoadMetadata {
     @Override
     public void setLocation(String location, Job job) throws IOException {
         FileInputFormat.setInputPaths(job, location);
+        BlockIndex.setLocation(getUDFProperties(signature), job.getConfiguration());
+    }
+
+    @Override
+    public void setUDFContextSignature(String signature) {
+        this.signature = signature;
+    }
+
+    private Properties getUDFProperties(String signature) {
+        if (signature == null) {
+            return new Properties();
+        }
+        return UDFContext.getUDFContext().getUDFProperties(getClass(),
+                new String[] { signature });
     }
 
     public static class InterOutputFormat extends
@@ -140,7 +184,8 @@ implements StoreFuncInterface, LoadMetadata {
             Path file = getDefaultWorkFile(job, "");
             FileSystem fs = file.getFileSystem(conf);
             FSDataOutputStream fileOut = fs.create(file, false);
-            return new InterRecordWriter(fileOut);
+            return new InterRecordWriter(fileOut,
+                BlockIndex.Writer.create(conf, file, fileOut));
         }
     }
 
@@ -158,11 +203,14 @@ implements StoreFuncInterface, LoadMetadata {
     @Override
     public void setStoreLocation(String location, Job job) throws IOException {
         FileOutputFormat.setOutputPath(job, new Path(location));
+        BlockIndex.setStoreLocation(indexColumns, bloomColumns,
+                getUDFProperties(storeSignature), job.getConfiguration());
     }
 
     @Override
     public void checkSchema(ResourceSchema s) throws IOException {
-        
+        BlockIndex.checkSchema(indexColumns, bloomColumns, s,
+                getUDFProperties(storeSignature));
     }
 
     @Override
@@ -194,8 +242,28 @@ implements StoreFuncInterface, LoadMetadata {
         throw new UnsupportedOperationException();
     }
     
+    @Override
+    public List<String> getPredicateFields(String location, Job job)
+            throws IOException {
+        return BlockIndex.getIndexedColumns(location, job.getConfiguration());
+    }
+
+    @Override
+    public List<OpType> getSupportedExpressionTypes() {
+        return BlockIndex.SUPPORTED_OPS;
+    }
+
+    @Override
+    public Expression setPushdownPredicate(Expression predicate)
+            throws IOException {
+        BlockIndex.setPredicate(predicate, getUDFProperties(signature));
+        // whole blocks are skipped, the records read still need filtering
+        return predicate;
+    }
+    
     @Override
     public void setStoreFuncUDFContextSignature(String signature) {
+        this.storeSignature = signature;
     }
 
     @Override
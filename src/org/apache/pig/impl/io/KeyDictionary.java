@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.ResourceStatistics.ResourceFieldStatistics;
+import org.apache.pig.impl.util.ObjectSerializer;
+
+/**
+ * A dictionary of frequent chararray keys of a job, so that the map outputs
+ * carry a small code rather than the whole string for them, see
+ * {@link NullableText}. The codes are given in the order of the UTF-8 bytes
+ * of the strings, so that two codes compare as their strings do.
+ * <p>
+ * The dictionary of a job is built from the most common values of the key
+ * columns in the statistics of its loaders, and is set for the current
+ * thread by the map, combine and reduce tasks before they read or write
+ * keys. Keys read on other threads get it from the job conf.
+ */
+public class KeyDictionary {
+
+    /**
+     * Set in the job conf of the jobs that use a dictionary, to its strings
+     */
+    public static final String KEY_DICTIONARY = "pig.keyDictionary";
+
+    private static final ThreadLocal<KeyDictionary> current = new ThreadLocal<KeyDictionary>();
+
+    // the last dictionary deserialized from a conf, with its serialized form
+    private static volatile Object[] last = null;
+
+    private String[] strings;
+    private Text[] texts;
+    private Map<Text, Integer> codes = new HashMap<Text, Integer>();
+
+    /**
+     * @param strings the strings of the dictionary, with no duplicates
+     */
+    public KeyDictionary(String[] strings) {
+        texts = new Text[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            texts[i] = new Text(strings[i]);
+        }
+        Arrays.sort(texts);
+        this.strings = new String[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            this.strings[i] = texts[i].toString();
+            codes.put(texts[i], i);
+        }
+    }
+
+    /**
+     * @return the code of a string, or -1 if it is not in the dictionary
+     */
+    public int getCode(Text text) {
+        Integer code = codes.get(text);
+        return code == null ? -1 : code;
+    }
+
+    public Text getText(int code) {
+        return texts[code];
+    }
+
+    public String getString(int code) {
+        return strings[code];
+    }
+
+    public int size() {
+        return strings.length;
+    }
+
+    /**
+     * Compares a string of the dictionary with a string serialized as UTF-8.
+     */
+    public int compare(int code, byte[] b, int s, int l) {
+        return WritableComparator.compareBytes(texts[code].getBytes(), 0,
+                texts[code].getLength(), b, s, l);
+    }
+
+    /**
+     * @return the dictionary of a job, or null if it has none
+     */
+    public static KeyDictionary get(Configuration conf) throws IOException {
+        String serialized = conf.get(KEY_DICTIONARY);
+        if (serialized == null) {
+            return null;
+        }
+        Object[] cached = last;
+        if (cached != null && serialized.equals(cached[0])) {
+            return (KeyDictionary)cached[1];
+        }
+        KeyDictionary dictionary =
+            new KeyDictionary((String[])ObjectSerializer.deserialize(serialized));
+        last = new Object[] { serialized, dictionary };
+        return dictionary;
+    }
+
+    /**
+     * Sets the dictionary of a job, or that it has none, as the one of the
+     * current thread.
+     */
+    public static void setup(Configuration conf) throws IOException {
+        current.set(get(conf));
+    }
+
+    /**
+     * @return the dictionary of the job run by the current thread, or null
+     */
+    public static KeyDictionary getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * Picks the most common chararray values of the key columns in the
+     * statistics of the inputs of a job.
+     * @param stats the statistics of the inputs
+     * @param columns for each input, the column its keys come from
+     * @param size the largest number of strings to pick
+     * @return the strings, or null if there are none
+     */
+    public static String[] build(List<ResourceStatistics> stats,
+            List<Integer> columns, int size) {
+        final Map<String, Double> frequencies = new HashMap<String, Double>();
+        for (int s = 0; s < stats.size(); s++) {
+            ResourceStatistics stat = stats.get(s);
+            int column = columns.get(s);
+            if (stat == null || stat.getFields() == null
+                    || column >= stat.getFields().length) {
+                continue;
+            }
+            long records = stat.getNumRecords() == null ? 1 : stat.getNumRecords();
+            ResourceFieldStatistics field = stat.getFields()[column];
+            Object[] values = field == null ? null : field.getMostCommonValues();
+            if (values == null) {
+                continue;
+            }
+            float[] freqs = field.getMostCommonValuesFreq();
+            for (int i = 0; i < values.length; i++) {
+                if (!(values[i] instanceof String)) {
+                    continue;
+                }
+                double count = freqs != null && i < freqs.length
+                    ? freqs[i] * (double)records : 0;
+                Double frequency = frequencies.get(values[i]);
+                frequencies.put((String)values[i],
+                        frequency == null ? count : frequency + count);
+            }
+        }
+        if (frequencies.isEmpty()) {
+            return null;
+        }
+        List<String> strings = new ArrayList<String>(frequencies.keySet());
+        Collections.sort(strings, new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return frequencies.get(o2).compareTo(frequencies.get(o1));
+            }
+        });
+        if (strings.size() > size) {
+            strings = strings.subList(0, size);
+        }
+        return strings.toArray(new String[strings.size()]);
+    }
+}
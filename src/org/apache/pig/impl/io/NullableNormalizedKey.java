@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+
+/**
+ * A key whose serialized form sorts correctly under a plain unsigned byte
+ * comparison, so that the shuffle can sort and merge keys without parsing
+ * them.
+ *
+ * Keys can be integers, longs, floats, doubles, chararrays or nulls, or
+ * tuples of those. Every value is written as its {@link DataType} code
+ * followed by a fixed width big endian encoding (with the sign bit flipped)
+ * for numbers, or by the characters and a terminator for chararrays, which
+ * orders values the same way {@link DataType#compare(Object, Object)} does.
+ * Values sorted in descending order have all their bytes inverted. A tuple is
+ * written as {@link DataType#TUPLE}, its fields and a 0 byte.
+ *
+ * The last byte holds the index. Its high bit is set if the key is or
+ * contains a null, in which case keys from different inputs must not be
+ * grouped together (see PIG-927).
+ */
+public class NullableNormalizedKey extends PigNullableWritable {
+
+    private static final byte END = 0;
+
+    private static final byte HAS_NULL = (byte)0x80;
+
+    private byte[] mBytes = new byte[16];
+
+    private int mLength = 0;
+
+    private boolean mHasNull = false;
+
+    private Object mKey;
+
+    public NullableNormalizedKey() {
+    }
+
+    /**
+     * @param key key to encode
+     * @param asc sort order, either one entry for the whole key or one entry
+     * for each field of a tuple key
+     * @throws ExecException if the key has a type that can not be encoded
+     */
+    public NullableNormalizedKey(Object key, boolean[] asc) throws ExecException {
+        mKey = key;
+        setNull(key == null);
+        if (key instanceof Tuple) {
+            Tuple t = (Tuple)key;
+            append(DataType.TUPLE);
+            for (int i = 0; i < t.size(); i++) {
+                encode(t.get(i), asc.length == 1 ? asc[0] : asc[i]);
+            }
+            append(END);
+        } else {
+            encode(key, asc[0]);
+        }
+    }
+
+    /**
+     * @param type a data type
+     * @return true if values of this type can be part of a normalized key
+     */
+    public static boolean isSupportedType(byte type) {
+        switch (type) {
+        case DataType.INTEGER:
+        case DataType.LONG:
+        case DataType.FLOAT:
+        case DataType.DOUBLE:
+        case DataType.CHARARRAY:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private void encode(Object o, boolean asc) throws ExecException {
+        int start = mLength;
+        byte type = DataType.findType(o);
+        append(type);
+        switch (type) {
+        case DataType.NULL:
+            mHasNull = true;
+            break;
+        case DataType.INTEGER:
+            appendInt(((Integer)o).intValue() ^ Integer.MIN_VALUE);
+            break;
+        case DataType.LONG:
+            appendLong(((Long)o).longValue() ^ Long.MIN_VALUE);
+            break;
+        case DataType.FLOAT: {
+            int bits = Float.floatToIntBits((Float)o);
+            appendInt(bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE);
+            break;
+        }
+        case DataType.DOUBLE: {
+            long bits = Double.doubleToLongBits((Double)o);
+            appendLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+            break;
+        }
+        case DataType.CHARARRAY:
+            appendChars((String)o);
+            break;
+        default:
+            int errCode = 2263;
+            String msg = "Unable to use a value of type " + DataType.findTypeName(type)
+                + " in a normalized key.";
+            throw new ExecException(msg, errCode, PigException.BUG);
+        }
+        if (!asc) {
+            for (int i = start; i < mLength; i++) {
+                mBytes[i] = (byte)~mBytes[i];
+            }
+        }
+    }
+
+    /**
+     * Characters are written as UTF-16 code units each encoded like UTF-8
+     * does (so surrogates take 3 bytes each), which keeps the order of
+     * {@link String#compareTo(String)}. The null character is written as 0 1
+     * and the end of the string as 0 0.
+     */
+    private void appendChars(String s) {
+        ensure(3 * s.length() + 2);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == 0) {
+                mBytes[mLength++] = 0;
+                mBytes[mLength++] = 1;
+            } else if (c < 0x80) {
+                mBytes[mLength++] = (byte)c;
+            } else if (c < 0x800) {
+                mBytes[mLength++] = (byte)(0xc0 | (c >> 6));
+                mBytes[mLength++] = (byte)(0x80 | (c & 0x3f));
+            } else {
+                mBytes[mLength++] = (byte)(0xe0 | (c >> 12));
+                mBytes[mLength++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+                mBytes[mLength++] = (byte)(0x80 | (c & 0x3f));
+            }
+        }
+        mBytes[mLength++] = 0;
+        mBytes[mLength++] = 0;
+    }
+
+    private void appendInt(int v) {
+        ensure(4);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            mBytes[mLength++] = (byte)(v >>> shift);
+        }
+    }
+
+    private void appendLong(long v) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            mBytes[mLength++] = (byte)(v >>> shift);
+        }
+    }
+
+    private void append(byte b) {
+        ensure(1);
+        mBytes[mLength++] = b;
+    }
+
+    private void ensure(int n) {
+        if (mLength + n > mBytes.length) {
+            mBytes = Arrays.copyOf(mBytes, Math.max(mBytes.length * 2, mLength + n));
+        }
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        if ((getIndex() & mqFlag) != 0) {
+            throw new IOException("Normalized keys can not carry multi-query indices");
+        }
+        out.write(mBytes, 0, mLength);
+        out.writeByte(mHasNull ? getIndex() | HAS_NULL : getIndex());
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+        mLength = 0;
+        mHasNull = false;
+        byte b = readByte(in);
+        if (b == DataType.TUPLE) {
+            List<Object> fields = new ArrayList<Object>();
+            while ((b = readByte(in)) != END) {
+                fields.add(decode(in, b));
+            }
+            mKey = TupleFactory.getInstance().newTupleNoCopy(fields);
+        } else {
+            mKey = decode(in, b);
+        }
+        setNull(mKey == null);
+        byte last = in.readByte();
+        mHasNull = (last & HAS_NULL) != 0;
+        setIndex((byte)(last & idxSpace));
+    }
+
+    private Object decode(DataInput in, byte first) throws IOException {
+        boolean asc = (first & 0x80) == 0;
+        byte type = asc ? first : (byte)~first;
+        switch (type) {
+        case DataType.NULL:
+            return null;
+        case DataType.INTEGER:
+            return Integer.valueOf((int)readBits(in, 4, asc) ^ Integer.MIN_VALUE);
+        case DataType.LONG:
+            return Long.valueOf(readBits(in, 8, asc) ^ Long.MIN_VALUE);
+        case DataType.FLOAT: {
+            int bits = (int)readBits(in, 4, asc);
+            return Float.intBitsToFloat(bits < 0 ? bits ^ Integer.MIN_VALUE : ~bits);
+        }
+        case DataType.DOUBLE: {
+            long bits = readBits(in, 8, asc);
+            return Double.longBitsToDouble(bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+        }
+        case DataType.CHARARRAY: {
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                int c = readUnsigned(in, asc);
+                if (c == 0) {
+                    if (readUnsigned(in, asc) == 0) {
+                        break;
+                    }
+                    sb.append((char)0);
+                } else if (c < 0x80) {
+                    sb.append((char)c);
+                } else if (c < 0xe0) {
+                    sb.append((char)(((c & 0x1f) << 6) | (readUnsigned(in, asc) & 0x3f)));
+                } else {
+                    int c2 = readUnsigned(in, asc);
+                    int c3 = readUnsigned(in, asc);
+                    sb.append((char)(((c & 0x0f) << 12) | ((c2 & 0x3f) << 6) | (c3 & 0x3f)));
+                }
+            }
+            return sb.toString();
+        }
+        default:
+            throw new IOException("Unexpected data type " + type + " found in normalized key.");
+        }
+    }
+
+    private long readBits(DataInput in, int n, boolean asc) throws IOException {
+        long v = 0;
+        for (int i = 0; i < n; i++) {
+            v = (v << 8) | readUnsigned(in, asc);
+        }
+        return v;
+    }
+
+    /**
+     * Read a byte of the value, undoing the inversion of descending values
+     */
+    private int readUnsigned(DataInput in, boolean asc) throws IOException {
+        byte b = readByte(in);
+        return (asc ? b : ~b) & 0xff;
+    }
+
+    /**
+     * Read a byte of the encoded key, keeping it for serializing the key again
+     */
+    private byte readByte(DataInput in) throws IOException {
+        byte b = in.readByte();
+        append(b);
+        return b;
+    }
+
+    /**
+     * Unsigned comparison of the encoded keys, then of the indices. This is
+     * the order the shuffle sorts the serialized keys in.
+     */
+    @Override
+    public int compareTo(Object o) {
+        NullableNormalizedKey w = (NullableNormalizedKey)o;
+        int rc = WritableComparator.compareBytes(mBytes, 0, mLength, w.mBytes, 0, w.mLength);
+        if (rc == 0) {
+            rc = getIndex() - w.getIndex();
+        }
+        return rc;
+    }
+
+    /**
+     * Compare keys for grouping: keys that are equal are grouped whatever
+     * their index, unless they contain a null.
+     */
+    public int compareForGrouping(NullableNormalizedKey w) {
+        int rc = WritableComparator.compareBytes(mBytes, 0, mLength, w.mBytes, 0, w.mLength);
+        if (rc == 0 && mHasNull) {
+            rc = getIndex() - w.getIndex();
+        }
+        return rc;
+    }
+
+    /**
+     * Raw version of {@link #compareForGrouping(NullableNormalizedKey)}
+     */
+    public static int compareForGrouping(byte[] b1, int s1, int l1, byte[] b2, int s2, int l2) {
+        int rc = WritableComparator.compareBytes(b1, s1, l1 - 1, b2, s2, l2 - 1);
+        if (rc == 0 && (b1[s1 + l1 - 1] & HAS_NULL) != 0) {
+            rc = (b1[s1 + l1 - 1] & 0xff) - (b2[s2 + l2 - 1] & 0xff);
+        }
+        return rc;
+    }
+
+    @Override
+    public Object getValueAsPigType() {
+        return mKey;
+    }
+
+    @Override
+    public int hashCode() {
+        return WritableComparator.hashBytes(mBytes, mLength);
+    }
+
+    @Override
+    public String toString() {
+        return "Null: " + isNull() + " index: " + getIndex() + " " + mKey;
+    }
+}
@@ -17,12 +17,39 @@
  */
 package org.apache.pig.impl.io;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableUtils;
 
 /**
- *
+ * When the job has a {@link KeyDictionary}, the strings of the dictionary
+ * are written as their code, marked by {@link #CODE} in place of the null
+ * flag.  Whether a key is a code thus does not depend on the reader: one
+ * that has no dictionary for its thread gets it from the job conf given to
+ * {@link #setConf}.
  */
-public class NullableText extends PigNullableWritable {
+public class NullableText extends PigNullableWritable implements Configurable {
+
+    /**
+     * Written in place of the null flag when the value is a code of the
+     * dictionary of the job
+     */
+    public static final byte CODE = 2;
+
+    // the string read, when it was read from a dictionary
+    private String mString = null;
+
+    private byte[] mBuffer = null;
+
+    private Configuration mConf = null;
+
+    // the dictionary of the job conf, if one was given
+    private KeyDictionary mDictionary = null;
 
     public NullableText() {
         mValue = new Text();
@@ -43,6 +70,68 @@ public class NullableText extends PigNullableWritable {
     }
 
     public Object getValueAsPigType() {
-        return isNull() ? null : ((Text)mValue).toString();
+        if (isNull()) {
+            return null;
+        }
+        return mString != null ? mString : ((Text)mValue).toString();
+    }
+
+    @Override
+    public void setConf(Configuration conf) {
+        mConf = conf;
+        try {
+            mDictionary = KeyDictionary.get(conf);
+        } catch (IOException ioe) {
+            String msg = "Unable to deserialize " + KeyDictionary.KEY_DICTIONARY;
+            throw new RuntimeException(msg, ioe);
+        }
+    }
+
+    @Override
+    public Configuration getConf() {
+        return mConf;
+    }
+
+    private KeyDictionary getDictionary() {
+        return mDictionary != null ? mDictionary : KeyDictionary.getCurrent();
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+        mString = null;
+        byte flag = in.readByte();
+        setNull(flag != 0 && flag != CODE);
+        if (flag == CODE) {
+            KeyDictionary dictionary = getDictionary();
+            if (dictionary == null) {
+                throw new IOException("Unable to read a chararray key written "
+                        + "with the dictionary of the job: no "
+                        + KeyDictionary.KEY_DICTIONARY + " is set");
+            }
+            int code = WritableUtils.readVInt(in);
+            ((Text)mValue).set(dictionary.getText(code));
+            mString = dictionary.getString(code);
+        } else if (!isNull()) {
+            int length = WritableUtils.readVInt(in);
+            if (mBuffer == null || mBuffer.length < length) {
+                mBuffer = new byte[length];
+            }
+            in.readFully(mBuffer, 0, length);
+            ((Text)mValue).set(mBuffer, 0, length);
+        }
+        setIndex(in.readByte());
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        KeyDictionary dictionary = isNull() ? null : getDictionary();
+        int code = dictionary == null ? -1 : dictionary.getCode((Text)mValue);
+        if (code < 0) {
+            super.write(out);
+            return;
+        }
+        out.writeByte(CODE);
+        WritableUtils.writeVInt(out, code);
+        out.writeByte(getIndex());
     }
 }
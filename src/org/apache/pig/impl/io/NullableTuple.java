@@ -17,6 +17,15 @@
  */
 package org.apache.pig.impl.io;
 
+import java.io.DataInput;
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigMapReduce;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.LazyTuple;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
 
@@ -27,6 +36,9 @@ public class NullableTuple extends PigNullableWritable {
 
     private TupleFactory mFactory = null;
 
+    // whether values read from a buffer are LazyTuples, set on the first read
+    private Boolean lazy = null;
+
     public NullableTuple() {
         if (mFactory == null) {
             mFactory = TupleFactory.getInstance();
@@ -41,6 +53,40 @@ public class NullableTuple extends PigNullableWritable {
         mValue = t;
     }
 
+    /**
+     * Wrap another tuple, so that one instance can be written for every
+     * record
+     * @param t
+     */
+    public void setTuple(Tuple t) {
+        mValue = t;
+    }
+
+    /**
+     * With pig.exec.lazytuples on, a tuple read from a buffer, as the shuffle
+     * does, is a new {@link LazyTuple} holding a copy of its serialized bytes
+     * instead of this object's tuple read again.
+     */
+    @Override
+    public void readFields(DataInput in) throws IOException {
+        if (lazy == null) {
+            Configuration conf = PigMapReduce.sJobConfInternal.get();
+            lazy = conf != null && conf.getBoolean(LazyTuple.PROP_LAZY_TUPLES, false)
+                    && InterSedesFactory.getInterSedesInstance() instanceof BinInterSedes;
+        }
+        if (lazy && in instanceof DataInputBuffer) {
+            boolean isNull = in.readBoolean();
+            setNull(isNull);
+            if (!isNull) {
+                mValue = ((BinInterSedes) InterSedesFactory.getInterSedesInstance())
+                        .readLazyTuple((DataInputBuffer) in);
+            }
+            setIndex(in.readByte());
+        } else {
+            super.readFields(in);
+        }
+    }
+
     public Object getValueAsPigType() {
         return isNull() ? null : (Tuple)mValue;
     }
@@ -0,0 +1,526 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.impl.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.pig.PigException;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+
+/**
+ * Creates the files that bags spill to, and the streams to write and read
+ * them. Spill files can be compressed, spread over several local
+ * directories, and written and read ahead by background threads so that
+ * compression and disk I/O overlap with the serialization of the tuples.
+ * <p>
+ * Whether a spill file is compressed is told by its extension, so a file is
+ * read back correctly even if it was written before {@link #configure} was
+ * called with different properties.
+ */
+public class SpillFileManager {
+
+    private static final Log log = LogFactory.getLog(SpillFileManager.class);
+
+    public static final String PROP_SPILL_DIRS = "pig.spill.dirs";
+    public static final String PROP_SPILL_COMPRESS = "pig.spill.compress";
+    public static final String PROP_SPILL_ASYNC = "pig.spill.async";
+    public static final String PROP_SPILL_PREFETCH = "pig.spill.prefetch";
+    public static final String PROP_SPILL_MERGE_THREADS = "pig.spill.merge.threads";
+
+    // size of the chunks written and read ahead by background threads, and
+    // the number of chunks a stream may have in flight before the writing
+    // thread waits
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CHUNKS = 4;
+
+    private static final int PREFETCH_THREADS = 4;
+
+    private static volatile File[] spillDirs = null;
+    private static volatile CompressionCodec codec = null;
+    private static volatile boolean async = false;
+    private static volatile boolean prefetch = false;
+    private static volatile int mergeThreads = 1;
+
+    private static final AtomicInteger nextDir = new AtomicInteger();
+
+    // every codec spill files have been written with, by file extension
+    private static final Map<String, CompressionCodec> codecs =
+        new ConcurrentHashMap<String, CompressionCodec>();
+
+    private static ExecutorService writers = null;
+    private static ExecutorService prefetchers = null;
+
+    public static void configure(Properties properties) {
+        String dirs = properties.getProperty(PROP_SPILL_DIRS);
+        if (dirs == null || dirs.trim().length() == 0) {
+            spillDirs = null;
+        } else {
+            List<File> list = new ArrayList<File>();
+            for (String dir : dirs.split(",")) {
+                if (dir.trim().length() > 0) {
+                    list.add(new File(dir.trim()));
+                }
+            }
+            spillDirs = list.isEmpty() ? null : list.toArray(new File[list.size()]);
+        }
+
+        if (properties.getProperty(PROP_SPILL_COMPRESS, "false").equals("true")) {
+            codec = getCodec(properties);
+            codecs.put(codec.getDefaultExtension(), codec);
+        } else {
+            codec = null;
+        }
+
+        async = properties.getProperty(PROP_SPILL_ASYNC, "false").equals("true");
+        prefetch = properties.getProperty(PROP_SPILL_PREFETCH, "false").equals("true");
+        try {
+            mergeThreads = Math.max(1, Integer.parseInt(
+                    properties.getProperty(PROP_SPILL_MERGE_THREADS, "1")));
+        } catch (NumberFormatException nfe) {
+            throw new RuntimeException("Error while converting system configuration "
+                    + PROP_SPILL_MERGE_THREADS, nfe);
+        }
+    }
+
+    /**
+     * @return the number of threads spill files of sorted bags are merged
+     * with before the bags are read
+     */
+    public static int getMergeThreads() {
+        return mergeThreads;
+    }
+
+    /**
+     * The codec is the one used for compressed intermediate files, as set by
+     * pig.tmpfilecompression.codec.
+     */
+    private static CompressionCodec getCodec(Properties properties) {
+        String name = properties.getProperty("pig.tmpfilecompression.codec", "gz");
+        Configuration conf = ConfigurationUtil.toConfiguration(properties);
+        Class<?> codecClass;
+        if (name.equals("gz") || name.equals("gzip")) {
+            codecClass = GzipCodec.class;
+        } else if (name.equals("lzo")) {
+            String className = properties.getProperty("io.compression.codec.lzo.class",
+                    "com.hadoop.compression.lzo.LzoCodec");
+            try {
+                codecClass = Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("Unable to load spill file compression codec " + className, e);
+            }
+        } else {
+            throw new RuntimeException("Invalid spill file compression codec [" + name
+                    + "]. Expected compression codecs are gz and lzo");
+        }
+        return (CompressionCodec) ReflectionUtils.newInstance(codecClass, conf);
+    }
+
+    /**
+     * Create a new spill file, in the next of the spill directories. The file
+     * is deleted when the JVM exits, if it has not been deleted before.
+     */
+    public static File createSpillFile() throws IOException {
+        File[] dirs = spillDirs;
+        File tmpDir;
+        if (dirs == null) {
+            tmpDir = new File(System.getProperties().getProperty("java.io.tmpdir"));
+        } else {
+            tmpDir = dirs[(nextDir.getAndIncrement() & Integer.MAX_VALUE) % dirs.length];
+        }
+
+        // if the directory does not exist, create it.
+        if (!tmpDir.exists()){
+            log.info("Temporary directory doesn't exists. Trying to create: " + tmpDir.getAbsolutePath());
+            // Create the directory and see if it was successful
+            if (tmpDir.mkdirs()){
+                log.info("Successfully created temporary directory: " + tmpDir.getAbsolutePath());
+            } else {
+                // If execution reaches here, it means that we needed to create the directory but
+                // were not successful in doing so.
+                //
+                // If this directory is created recently then we can simply
+                // skip creation. This is to address a rare issue occuring in a cluster despite the
+                // the fact that spill() makes call to getSpillFile() in a synchronized
+                // block.
+                if (tmpDir.exists()) {
+                    log.info("Temporary directory already exists: " + tmpDir.getAbsolutePath());
+                } else {
+                    int errCode = 2111;
+                    String msg = "Unable to create temporary directory: " + tmpDir.getAbsolutePath();
+                    throw new ExecException(msg, errCode, PigException.BUG);
+                }
+            }
+        }
+
+        CompressionCodec c = codec;
+        File f = File.createTempFile("pigbag", c == null ? null : c.getDefaultExtension(), tmpDir);
+        f.deleteOnExit();
+        return f;
+    }
+
+    private static CompressionCodec getCodec(File f) {
+        String name = f.getName();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? null : codecs.get(name.substring(dot));
+    }
+
+    /**
+     * @return stream to write tuples to the given spill file
+     */
+    public static DataOutputStream openForWrite(File f) throws IOException {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(f));
+        CompressionCodec c = getCodec(f);
+        if (c != null) {
+            out = c.createOutputStream(out);
+        }
+        if (async) {
+            return new DataOutputStream(new AsyncOutputStream(out));
+        }
+        return new DataOutputStream(c == null ? out : new BufferedOutputStream(out));
+    }
+
+    /**
+     * @return stream to read back the tuples of the given spill file
+     */
+    public static DataInputStream openForRead(File f) throws IOException {
+        InputStream in = new FileInputStream(f);
+        CompressionCodec c = getCodec(f);
+        if (c != null) {
+            in = c.createInputStream(new BufferedInputStream(in));
+        }
+        if (prefetch) {
+            return new DataInputStream(new PrefetchInputStream(in));
+        }
+        return new DataInputStream(new BufferedInputStream(in));
+    }
+
+    private static synchronized ExecutorService getWriters() {
+        if (writers == null) {
+            writers = Executors.newCachedThreadPool(new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "SpillFileWriter-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return writers;
+    }
+
+    private static synchronized ExecutorService getPrefetchers() {
+        if (prefetchers == null) {
+            prefetchers = Executors.newFixedThreadPool(PREFETCH_THREADS, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "SpillFilePrefetcher-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return prefetchers;
+    }
+
+    private static IOException toIOException(ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+            return (IOException) e.getCause();
+        }
+        return new IOException("Unable to access spill file", e.getCause());
+    }
+
+    /**
+     * Reads ahead, on a background thread, the chunk after the one being
+     * read, so that merges of many spill files seldom wait for the disk.
+     */
+    private static class PrefetchInputStream extends InputStream {
+        private final InputStream in;
+        private byte[] current = new byte[CHUNK_SIZE];
+        private byte[] next = new byte[CHUNK_SIZE];
+        private int pos = 0;
+        private int length = 0;
+        // the read of next, null once the end of the stream is reached
+        private Future<Integer> pending;
+
+        PrefetchInputStream(InputStream in) {
+            this.in = in;
+            pending = readAhead(next);
+        }
+
+        private Future<Integer> readAhead(final byte[] buf) {
+            return getPrefetchers().submit(new Callable<Integer>() {
+                public Integer call() throws IOException {
+                    // fill the whole chunk, so a short chunk means the end
+                    int n = 0;
+                    while (n < buf.length) {
+                        int r = in.read(buf, n, buf.length - n);
+                        if (r < 0) {
+                            break;
+                        }
+                        n += r;
+                    }
+                    return n;
+                }
+            });
+        }
+
+        /**
+         * @return false at the end of the stream
+         */
+        private boolean fill() throws IOException {
+            if (pending == null) {
+                return false;
+            }
+            int n;
+            try {
+                n = pending.get();
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted while reading spill file", e);
+            } catch (ExecutionException e) {
+                pending = null;
+                throw toIOException(e);
+            }
+            byte[] tmp = current;
+            current = next;
+            next = tmp;
+            pos = 0;
+            length = n;
+            pending = n < current.length ? null : readAhead(next);
+            return n > 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pos == length && !fill()) {
+                return -1;
+            }
+            return current[pos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == length && !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, length - pos);
+            System.arraycopy(current, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return length - pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // let the read ahead finish before the stream is closed under it
+            if (pending != null) {
+                try {
+                    pending.get();
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted while reading spill file", e);
+                } catch (ExecutionException e) {
+                    // the stream is closed anyway
+                }
+                pending = null;
+            }
+            in.close();
+        }
+    }
+
+    private static class Chunk {
+        final byte[] buf;
+        int length = 0;
+
+        Chunk(int size) {
+            buf = new byte[size];
+        }
+    }
+
+    /**
+     * Hands what is written to it in chunks to a background thread that
+     * writes them to the underlying stream. At most {@link #MAX_CHUNKS}
+     * chunks are in flight, after which writes wait for the background
+     * thread. Closing the stream waits until everything has been written.
+     */
+    private static class AsyncOutputStream extends OutputStream implements Callable<Void> {
+        private static final Chunk END = new Chunk(0);
+
+        private final OutputStream out;
+        private final BlockingQueue<Chunk> full = new ArrayBlockingQueue<Chunk>(MAX_CHUNKS + 1);
+        private final BlockingQueue<Chunk> free = new ArrayBlockingQueue<Chunk>(MAX_CHUNKS);
+        private final Future<Void> writer;
+        private int allocated = 0;
+        private Chunk current = null;
+        private volatile IOException failure = null;
+        private boolean closed = false;
+
+        AsyncOutputStream(OutputStream out) {
+            this.out = out;
+            writer = getWriters().submit(this);
+        }
+
+        public Void call() throws IOException, InterruptedException {
+            Chunk c;
+            while ((c = full.take()) != END) {
+                // after a failure keep taking the chunks, so the writing
+                // thread does not wait for them forever
+                if (failure == null) {
+                    try {
+                        out.write(c.buf, 0, c.length);
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+                c.length = 0;
+                free.put(c);
+            }
+            try {
+                out.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return null;
+        }
+
+        private void checkFailure() throws IOException {
+            if (failure != null) {
+                throw new IOException("Unable to write spill file", failure);
+            }
+        }
+
+        private Chunk nextChunk() throws IOException {
+            checkFailure();
+            Chunk c = free.poll();
+            if (c == null) {
+                if (allocated < MAX_CHUNKS) {
+                    allocated++;
+                    return new Chunk(CHUNK_SIZE);
+                }
+                try {
+                    c = free.take();
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted while writing spill file", e);
+                }
+            }
+            return c;
+        }
+
+        private void handOff() throws IOException {
+            if (current != null && current.length > 0) {
+                try {
+                    full.put(current);
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted while writing spill file", e);
+                }
+                current = null;
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (current == null) {
+                current = nextChunk();
+            } else if (current.length == current.buf.length) {
+                handOff();
+                current = nextChunk();
+            }
+            current.buf[current.length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (current == null) {
+                    current = nextChunk();
+                } else if (current.length == current.buf.length) {
+                    handOff();
+                    current = nextChunk();
+                }
+                int n = Math.min(len, current.buf.length - current.length);
+                System.arraycopy(b, off, current.buf, current.length, n);
+                current.length += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            checkFailure();
+            handOff();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                handOff();
+                full.put(END);
+                writer.get();
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted while writing spill file", e);
+            } catch (ExecutionException e) {
+                throw toIOException(e);
+            }
+        }
+    }
+}
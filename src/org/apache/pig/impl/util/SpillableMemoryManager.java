@@ -21,7 +21,9 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryNotificationInfo;
 import java.lang.management.MemoryPoolMXBean;
 import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -36,6 +38,8 @@ import javax.management.openmbean.CompositeData;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.pig.PigCounters;
+import org.apache.pig.tools.pigstats.PigStatusReporter;
 
 /**
  * This class Tracks the tenured pool and a list of Spillable objects. When memory gets low, this
@@ -44,13 +48,36 @@ import org.apache.commons.logging.LogFactory;
  * Low memory is defined as more than 50% of the tenured pool being allocated. Spillable objects are
  * tracked using WeakReferences so that the objects can be GCed even though this class has a reference
  * to them. 
- *
+ * <p>
+ * With pig.spill.predictive=true, a background thread also samples the tenured pool and
+ * the sizes of the spillables. It predicts where the growth of the spillables takes the
+ * tenured pool, and spills a few of them, the fastest growing first, as soon as the
+ * prediction crosses the usage threshold, rather than many at once once it has been
+ * crossed. Bags that have stopped growing are spilled last, as they are likely to be
+ * released soon. The memory budgets of self spilling bags and of in-map partial
+ * aggregation are then also cut down to what is left below the threshold, see
+ * {@link #getMemoryBudget(long)}.
  */
 public class SpillableMemoryManager implements NotificationListener {
     
     private final Log log = LogFactory.getLog(getClass());
     
-    LinkedList<WeakReference<Spillable>> spillables = new LinkedList<WeakReference<Spillable>>();
+    public static final String PROP_SPILL_PREDICTIVE = "pig.spill.predictive";
+    public static final String PROP_SPILL_PREDICTIVE_INTERVAL = "pig.spill.predictive.interval";
+
+    /**
+     * A tracked spillable, with its size and growth as of the last sample.
+     */
+    static class SpillableRef extends WeakReference<Spillable> {
+        long lastSize;
+        long growth;
+
+        SpillableRef(Spillable s) {
+            super(s);
+        }
+    }
+
+    LinkedList<SpillableRef> spillables = new LinkedList<SpillableRef>();
     
     // if we freed at least this much, invoke GC 
     // (default 40 MB - this can be overridden by user supplied property)
@@ -78,6 +105,39 @@ public class SpillableMemoryManager implements NotificationListener {
     // log notification on collection threshold exceeded only the first time
     private boolean firstCollectionThreshExceededLogged = false;
     
+    // whether spills are predicted, and the milliseconds between two samples
+    private static volatile boolean predictive = false;
+    private static volatile long sampleInterval = 500L;
+
+    // number of samples ahead the growth of the spillables is predicted for
+    private static final int PREDICTION_SAMPLES = 4;
+
+    // budgets are not cut down below this fraction of what is asked for
+    private static final int MIN_BUDGET_DIVISOR = 4;
+
+    private MemoryPoolMXBean tenuredHeap;
+    private long tenuredSize;
+
+    // total size of the spillables at the last sample, and the smoothed
+    // growth of that total between two samples
+    private long lastTotalSize = 0L;
+    private long growthRate = 0L;
+
+    private Thread monitor = null;
+
+    private static SpillableMemoryManager instance = null;
+    
+    /**
+     * @return the memory manager shared by everything in this JVM that
+     * registers spillables
+     */
+    public static synchronized SpillableMemoryManager getInstance() {
+        if (instance == null) {
+            instance = new SpillableMemoryManager();
+        }
+        return instance;
+    }
+    
     public SpillableMemoryManager() {
         ((NotificationEmitter)ManagementFactory.getMemoryMXBean()).addNotificationListener(this, null, null);
         List<MemoryPoolMXBean> mpbeans = ManagementFactory.getMemoryPoolMXBeans();
@@ -102,6 +162,8 @@ public class SpillableMemoryManager implements NotificationListener {
         }
         log.debug("Selected heap to monitor (" +
             biggestHeap.getName() + ")");
+        tenuredHeap = biggestHeap;
+        tenuredSize = biggestSize;
         
         // we want to set both collection and usage threshold alerts to be 
         // safe. In some local tests after a point only collection threshold
@@ -134,6 +196,140 @@ public class SpillableMemoryManager implements NotificationListener {
             throw new RuntimeException("Error while converting system configurations" +
             		"spill.size.threshold, spill.gc.activation.size", nfe) ;
         }
+
+        try {
+            sampleInterval = Math.max(1L, Long.parseLong(
+                    properties.getProperty(PROP_SPILL_PREDICTIVE_INTERVAL, "500")));
+        }
+        catch (NumberFormatException nfe) {
+            throw new RuntimeException("Error while converting system configuration "
+                    + PROP_SPILL_PREDICTIVE_INTERVAL, nfe);
+        }
+        predictive = properties.getProperty(PROP_SPILL_PREDICTIVE, "false").equals("true");
+        if (predictive) {
+            getInstance().startMonitor();
+        }
+    }
+
+    /**
+     * Cut down a memory budget to what is left below the usage threshold of the tenured
+     * pool, if spills are predicted.
+     * @param requested number of bytes a user of memory would be allowed to use
+     * @return number of bytes it may use, at least a quarter of what is requested
+     */
+    public static long getMemoryBudget(long requested) {
+        if (!predictive) {
+            return requested;
+        }
+        SpillableMemoryManager mm = getInstance();
+        long threshold = (long)(mm.tenuredSize * memoryThresholdFraction);
+        // what was left after the last collection, as the rest may be garbage
+        MemoryUsage usage = mm.tenuredHeap.getCollectionUsage();
+        if (usage == null) {
+            usage = mm.tenuredHeap.getUsage();
+        }
+        long headroom = threshold - usage.getUsed();
+        return Math.min(requested, Math.max(headroom, requested / MIN_BUDGET_DIVISOR));
+    }
+
+    private synchronized void startMonitor() {
+        if (monitor != null && monitor.isAlive()) {
+            return;
+        }
+        monitor = new Thread(new Runnable() {
+            public void run() {
+                while (predictive) {
+                    try {
+                        Thread.sleep(sampleInterval);
+                        sample();
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (RuntimeException e) {
+                        // a spillable that fails to spill here will fail again
+                        // when memory runs low, and be reported then
+                        log.warn("Predictive spill failed", e);
+                    }
+                }
+            }
+        }, "SpillableMemoryManager-Monitor");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+
+    /**
+     * Take a sample of the sizes of the spillables, and spill some of them if their
+     * growth is predicted to take the tenured pool over the usage threshold.
+     */
+    void sample() {
+        synchronized(spillables) {
+            long total = 0;
+            List<SpillableRef> candidates = new ArrayList<SpillableRef>();
+            for (Iterator<SpillableRef> i = spillables.iterator(); i.hasNext();) {
+                SpillableRef ref = i.next();
+                Spillable s = ref.get();
+                if (s == null) {
+                    i.remove();
+                    continue;
+                }
+                long size = s.getMemorySize();
+                ref.growth = size - ref.lastSize;
+                ref.lastSize = size;
+                total += size;
+                if (size >= spillFileSizeThreshold) {
+                    candidates.add(ref);
+                }
+            }
+            // spillables that were spilled or released shrink the total, that
+            // is not a change of pace of the ones left
+            long growth = Math.max(0L, total - lastTotalSize);
+            lastTotalSize = total;
+            growthRate = (growthRate + growth) / 2;
+
+            long threshold = (long)(tenuredSize * memoryThresholdFraction);
+            long predicted = tenuredHeap.getUsage().getUsed() + growthRate * PREDICTION_SAMPLES;
+            long toFree = predicted - threshold;
+            if (toFree <= 0 || candidates.isEmpty()) {
+                return;
+            }
+
+            // the fastest growing first, they will not be released soon
+            Collections.sort(candidates, new Comparator<SpillableRef>() {
+                public int compare(SpillableRef r1, SpillableRef r2) {
+                    if (r1.growth != r2.growth) {
+                        return r1.growth < r2.growth ? 1 : -1;
+                    }
+                    return r1.lastSize == r2.lastSize ? 0 : (r1.lastSize < r2.lastSize ? 1 : -1);
+                }
+            });
+            long estimatedFreed = 0;
+            int numObjSpilled = 0;
+            for (SpillableRef ref : candidates) {
+                Spillable s = ref.get();
+                if (s == null) {
+                    continue;
+                }
+                s.spill();
+                numObjSpilled++;
+                estimatedFreed += ref.lastSize;
+                ref.lastSize = 0;
+                if (estimatedFreed > toFree) {
+                    break;
+                }
+            }
+            lastTotalSize -= estimatedFreed;
+            incCounter(PigCounters.PREDICTIVE_SPILL_COUNT, numObjSpilled);
+            incCounter(PigCounters.PREDICTIVE_SPILL_BYTES, estimatedFreed);
+            log.info("Predictive spill of an estimate of " + estimatedFreed + " bytes from "
+                    + numObjSpilled + " objects, growing by " + growthRate
+                    + " bytes per sample. " + tenuredHeap.getUsage());
+        }
+    }
+
+    private static void incCounter(PigCounters counter, long n) {
+        PigStatusReporter reporter = PigStatusReporter.getInstance();
+        if (reporter != null && reporter.getCounter(counter) != null) {
+            reporter.getCounter(counter).increment(n);
+        }
     }
     
     public void handleNotification(Notification n, Object o) {
@@ -180,14 +376,14 @@ public class SpillableMemoryManager implements NotificationListener {
         synchronized(spillables) {
             // Walk the list first and remove nulls, otherwise the sort
             // takes way too long.
-            Iterator<WeakReference<Spillable>> i;
+            Iterator<SpillableRef> i;
             for (i = spillables.iterator(); i.hasNext();) {
                 Spillable s = i.next().get();
                 if (s == null) {
                     i.remove();
                 }
             }
-            Collections.sort(spillables, new Comparator<WeakReference<Spillable>>() {
+            Collections.sort(spillables, new Comparator<SpillableRef>() {
 
                 /**
                  * We don't lock anything, so this sort may not be stable if a WeakReference suddenly
@@ -195,7 +391,7 @@ public class SpillableMemoryManager implements NotificationListener {
                  * Also between the time we sort and we use these spillables, they
                  * may actually change in size - so this is just best effort
                  */    
-                public int compare(WeakReference<Spillable> o1Ref, WeakReference<Spillable> o2Ref) {
+                public int compare(SpillableRef o1Ref, SpillableRef o2Ref) {
                     Spillable o1 = o1Ref.get();
                     Spillable o2 = o2Ref.get();
                     if (o1 == null && o2 == null) {
@@ -278,12 +474,12 @@ public class SpillableMemoryManager implements NotificationListener {
         synchronized(spillables) {
             // Cleaing the entire list is too expensive.  Just trim off the front while
             // we can.
-            WeakReference<Spillable> first = spillables.peek();
+            SpillableRef first = spillables.peek();
             while (first != null && first.get() == null) {
                 spillables.remove();
                 first = spillables.peek();
             }
-            spillables.add(new WeakReference<Spillable>(s));
+            spillables.add(new SpillableRef(s));
         }
     }
 }
@@ -36,6 +36,7 @@ import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.io.InterBlockStorage;
 import org.apache.pig.impl.io.InterStorage;
 import org.apache.pig.impl.io.ReadToEndLoader;
 import org.apache.pig.impl.io.TFileStorage;
@@ -185,13 +186,17 @@ public class Utils {
             if (codec.equals("lzo"))
                 pigContext.getProperties().setProperty("io.compression.codec.lzo.class", "com.hadoop.compression.lzo.LzoCodec");
             return TFileStorage.class.getName();
-        } else
+        } else if (pigContext.getProperties().getProperty(InterBlockStorage.PROP_TMPFILE_BLOCKS, "false").equals("true"))
+            return InterBlockStorage.class.getName();
+        else
             return InterStorage.class.getName();
     }
 
     public static FileInputLoadFunc getTmpFileStorageObject(Configuration conf) throws IOException {
         boolean tmpFileCompression = conf.getBoolean("pig.tmpfilecompression", false);
-        return tmpFileCompression ? new TFileStorage() : new InterStorage();
+        if (tmpFileCompression)
+            return new TFileStorage();
+        return conf.getBoolean(InterBlockStorage.PROP_TMPFILE_BLOCKS, false) ? new InterBlockStorage() : new InterStorage();
     }
 
     public static boolean tmpFileCompression(PigContext pigContext) {
@@ -91,6 +91,14 @@ public class LOLoad extends LogicalRelationalOperator {
         this.requiredFields = requiredFields;
     }
     
+    /**
+     * @return the columns of the input the loader was asked to read, or
+     * null if it reads all of them
+     */
+    public List<Integer> getRequiredFields() {
+        return requiredFields;
+    }
+    
     /**
      * Get the schema for this load.  The schema will be either be what was
      * given by the user in the script or what the load functions getSchema
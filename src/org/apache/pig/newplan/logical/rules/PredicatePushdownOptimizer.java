@@ -0,0 +1,364 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.pig.newplan.logical.rules;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadPredicatePushdown;
+import org.apache.pig.impl.logicalLayer.FrontendException;
+import org.apache.pig.impl.util.Pair;
+import org.apache.pig.newplan.Operator;
+import org.apache.pig.newplan.OperatorPlan;
+import org.apache.pig.newplan.OperatorSubPlan;
+import org.apache.pig.newplan.logical.expression.AndExpression;
+import org.apache.pig.newplan.logical.expression.BinaryExpression;
+import org.apache.pig.newplan.logical.expression.ConstantExpression;
+import org.apache.pig.newplan.logical.expression.EqualExpression;
+import org.apache.pig.newplan.logical.expression.GreaterThanEqualExpression;
+import org.apache.pig.newplan.logical.expression.GreaterThanExpression;
+import org.apache.pig.newplan.logical.expression.IsNullExpression;
+import org.apache.pig.newplan.logical.expression.LessThanEqualExpression;
+import org.apache.pig.newplan.logical.expression.LessThanExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpression;
+import org.apache.pig.newplan.logical.expression.LogicalExpressionPlan;
+import org.apache.pig.newplan.logical.expression.NotEqualExpression;
+import org.apache.pig.newplan.logical.expression.NotExpression;
+import org.apache.pig.newplan.logical.expression.OrExpression;
+import org.apache.pig.newplan.logical.expression.ProjectExpression;
+import org.apache.pig.newplan.logical.relational.LOFilter;
+import org.apache.pig.newplan.logical.relational.LOLoad;
+import org.apache.pig.newplan.logical.relational.LogicalPlan;
+import org.apache.pig.newplan.logical.relational.LogicalRelationalOperator;
+import org.apache.pig.newplan.logical.relational.LogicalSchema;
+import org.apache.pig.newplan.optimizer.Rule;
+import org.apache.pig.newplan.optimizer.Transformer;
+
+/**
+ * This Rule offers the conditions of a filter that follows a load to the
+ * {@link LoadPredicatePushdown} of the load. The filter condition is split
+ * into the conditions it is a conjunction of, and those that only use fields
+ * and operators the loader supports are pushed down together. The conditions
+ * the loader enforces exactly are then removed from the filter, and the filter
+ * itself if none are left.
+ */
+public class PredicatePushdownOptimizer extends Rule {
+
+    private static final Log LOG = LogFactory.getLog(PredicatePushdownOptimizer.class);
+
+    /**
+     * loads whose filter has already been offered, so that a filter the
+     * loader only enforces approximately is not offered again
+     */
+    private Set<LOLoad> pushedLoads = new HashSet<LOLoad>();
+
+    public PredicatePushdownOptimizer(String name) {
+        super( name, false );
+    }
+
+    @Override
+    protected OperatorPlan buildPattern() {
+        LogicalPlan plan = new LogicalPlan();
+        LogicalRelationalOperator load = new LOLoad (null, null, plan, null );
+        plan.add( load );
+        return plan;
+    }
+
+    @Override
+    public Transformer getNewTransformer() {
+        return new PredicatePushdownTransformer();
+    }
+
+    public class PredicatePushdownTransformer extends Transformer {
+        private OperatorSubPlan subPlan;
+
+        private LOLoad loLoad;
+        private LOFilter loFilter;
+        private LoadPredicatePushdown loadPredicatePushdown;
+
+        /**
+         * fields that can be pushed down, as named by the loader
+         */
+        private List<String> predicateFields;
+
+        private List<OpType> supportedOps;
+
+        @Override
+        public boolean check(OperatorPlan matched) throws FrontendException {
+            loLoad = (LOLoad)matched.getSources().get(0);
+            if (pushedLoads.contains(loLoad)) {
+                return false;
+            }
+            // Match filter.
+            List<Operator> succeds = currentPlan.getSuccessors( loLoad );
+            if( succeds == null || succeds.size() == 0 || !( succeds.get(0) instanceof LOFilter ) )
+                return false;
+            loFilter = (LOFilter)succeds.get(0);
+
+            // Filter has dependency other than load, skip optimization
+            if (currentPlan.getSoftLinkPredecessors(loFilter)!=null)
+                return false;
+
+            LoadFunc loadFunc = loLoad.getLoadFunc();
+            if (!(loadFunc instanceof LoadPredicatePushdown)) {
+                return false;
+            }
+            loadPredicatePushdown = (LoadPredicatePushdown)loadFunc;
+            try {
+                predicateFields = loadPredicatePushdown.getPredicateFields(
+                        loLoad.getFileSpec().getFileName(), new Job( loLoad.getConfiguration() ) );
+            } catch (IOException e) {
+                throw new FrontendException( e );
+            }
+            if (predicateFields == null || predicateFields.isEmpty()) {
+                return false;
+            }
+            supportedOps = loadPredicatePushdown.getSupportedExpressionTypes();
+            return supportedOps != null && !supportedOps.isEmpty();
+        }
+
+        @Override
+        public OperatorPlan reportChanges() {
+            return subPlan;
+        }
+
+        @Override
+        public void transform(OperatorPlan matched) throws FrontendException {
+            subPlan = new OperatorSubPlan( currentPlan );
+            pushedLoads.add(loLoad);
+
+            LogicalExpressionPlan filterPlan = loFilter.getFilterPlan();
+            List<LogicalExpression> conditions = new ArrayList<LogicalExpression>();
+            getConjuncts((LogicalExpression)filterPlan.getSources().get(0), conditions);
+
+            // the conditions that can be pushed down, by the expression
+            // offered to the loader
+            Map<Expression, LogicalExpression> pushed =
+                new IdentityHashMap<Expression, LogicalExpression>();
+            Expression predicate = null;
+            for (LogicalExpression condition : conditions) {
+                Expression expr = getExpression(condition);
+                if (expr == null) {
+                    continue;
+                }
+                pushed.put(expr, condition);
+                predicate = predicate == null ? expr
+                        : new Expression.BinaryExpression(predicate, expr, OpType.OP_AND);
+            }
+            if (predicate == null) {
+                return;
+            }
+
+            Expression residual;
+            try {
+                residual = loadPredicatePushdown.setPushdownPredicate(predicate);
+            } catch (IOException e) {
+                throw new FrontendException( e );
+            }
+            LOG.info("Pushed down predicate " + predicate + " to " + loLoad.getFileSpec()
+                    + (residual == null ? "" : ", still filtering on " + residual));
+
+            // the conditions the loader does not enforce exactly stay in the
+            // filter, and so does everything if the loader returns anything
+            // other than some of the conditions
+            List<Expression> kept = new ArrayList<Expression>();
+            if (residual != null) {
+                getConjuncts(residual, kept);
+            }
+            for (Expression expr : kept) {
+                if (!pushed.containsKey(expr)) {
+                    return;
+                }
+                pushed.remove(expr);
+            }
+            if (pushed.isEmpty()) {
+                return;
+            }
+            if (pushed.size() == conditions.size()) {
+                currentPlan.removeAndReconnect( loFilter );
+                return;
+            }
+            for (LogicalExpression condition : pushed.values()) {
+                removeConjunct(filterPlan, condition);
+            }
+            subPlan.add(loFilter);
+        }
+
+        private void getConjuncts(LogicalExpression op, List<LogicalExpression> conjuncts)
+                throws FrontendException {
+            if (op instanceof AndExpression) {
+                getConjuncts(((AndExpression)op).getLhs(), conjuncts);
+                getConjuncts(((AndExpression)op).getRhs(), conjuncts);
+            } else {
+                conjuncts.add(op);
+            }
+        }
+
+        private void getConjuncts(Expression expr, List<Expression> conjuncts) {
+            if (expr instanceof Expression.BinaryExpression && expr.getOpType() == OpType.OP_AND) {
+                getConjuncts(((Expression.BinaryExpression)expr).getLhs(), conjuncts);
+                getConjuncts(((Expression.BinaryExpression)expr).getRhs(), conjuncts);
+            } else {
+                conjuncts.add(expr);
+            }
+        }
+
+        /**
+         * @return the condition as an expression for the loader, or null if
+         * it uses fields or operators the loader does not support
+         */
+        private Expression getExpression(LogicalExpression op) throws FrontendException {
+            if (op instanceof AndExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_AND, false);
+            } else if (op instanceof OrExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_OR, false);
+            } else if (op instanceof EqualExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_EQ, true);
+            } else if (op instanceof NotEqualExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_NE, true);
+            } else if (op instanceof GreaterThanExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_GT, true);
+            } else if (op instanceof GreaterThanEqualExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_GE, true);
+            } else if (op instanceof LessThanExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_LT, true);
+            } else if (op instanceof LessThanEqualExpression) {
+                return getExpression((BinaryExpression)op, OpType.OP_LE, true);
+            } else if (op instanceof NotExpression) {
+                if (!supportedOps.contains(OpType.OP_NOT)) {
+                    return null;
+                }
+                Expression expr = getExpression(((NotExpression)op).getExpression());
+                return expr == null ? null : new Expression.UnaryExpression(expr, OpType.OP_NOT);
+            } else if (op instanceof IsNullExpression) {
+                if (!supportedOps.contains(OpType.OP_NULL)) {
+                    return null;
+                }
+                Expression.Column col = getColumn(((IsNullExpression)op).getExpression());
+                return col == null ? null : new Expression.UnaryExpression(col, OpType.OP_NULL);
+            }
+            return null;
+        }
+
+        private Expression getExpression(BinaryExpression binOp, OpType opType,
+                boolean comparison) throws FrontendException {
+            if (!supportedOps.contains(opType)) {
+                return null;
+            }
+            if (!comparison) {
+                Expression lhs = getExpression(binOp.getLhs());
+                Expression rhs = lhs == null ? null : getExpression(binOp.getRhs());
+                return rhs == null ? null : new Expression.BinaryExpression(lhs, rhs, opType);
+            }
+            // a comparison between a field and a constant
+            Expression lhs = getColumn(binOp.getLhs());
+            Expression rhs = getConst(binOp.getRhs());
+            if (lhs == null || rhs == null) {
+                lhs = getConst(binOp.getLhs());
+                rhs = getColumn(binOp.getRhs());
+            }
+            if (lhs == null || rhs == null) {
+                return null;
+            }
+            return new Expression.BinaryExpression(lhs, rhs, opType);
+        }
+
+        private Expression.Column getColumn(LogicalExpression op) throws FrontendException {
+            if (!(op instanceof ProjectExpression)) {
+                return null;
+            }
+            ProjectExpression project = (ProjectExpression)op;
+            if (project.isRangeOrStarProject() || project.getColNum() < 0) {
+                return null;
+            }
+            // the loader knows the field by the name in its own schema,
+            // which the user may have renamed in the load statement, or by
+            // its position if its schema does not name it
+            String name = null;
+            LogicalSchema loadFuncSchema = loLoad.getDeterminedSchema();
+            if (loadFuncSchema != null) {
+                if (project.getColNum() >= loadFuncSchema.size()) {
+                    return null;
+                }
+                name = loadFuncSchema.getField(project.getColNum()).alias;
+            }
+            if (name == null) {
+                name = "$" + project.getColNum();
+            }
+            if (!predicateFields.contains(name)) {
+                return null;
+            }
+            return new Expression.Column(name);
+        }
+
+        private Expression.Const getConst(LogicalExpression op) {
+            if (!(op instanceof ConstantExpression)) {
+                return null;
+            }
+            Object value = ((ConstantExpression)op).getValue();
+            return value == null ? null : new Expression.Const(value);
+        }
+
+        /**
+         * Removes one of the conditions the filter condition is a conjunction
+         * of, putting the other side of the AND it is in in place of the AND.
+         */
+        private void removeConjunct(LogicalExpressionPlan plan, LogicalExpression condition)
+                throws FrontendException {
+            Operator and = plan.getPredecessors(condition).get(0);
+            Operator other = ((AndExpression)and).getLhs() == condition
+                    ? ((AndExpression)and).getRhs() : ((AndExpression)and).getLhs();
+            plan.disconnect(and, condition);
+            plan.disconnect(and, other);
+            removeTree(plan, condition);
+
+            List<Operator> preds = plan.getPredecessors(and);
+            if (preds == null || preds.isEmpty()) {
+                plan.remove(and);
+                return;
+            }
+            Operator pred = preds.get(0);
+            Pair<Integer, Integer> pos = plan.disconnect(pred, and);
+            plan.remove(and);
+            plan.connect(pred, pos.first, other, pos.second);
+        }
+
+        private void removeTree(LogicalExpressionPlan plan, Operator op) throws FrontendException {
+            List<Operator> succs = plan.getSuccessors(op);
+            if (succs != null) {
+                for (Operator succ : new ArrayList<Operator>(succs)) {
+                    plan.disconnect(op, succ);
+                    removeTree(plan, succ);
+                }
+            }
+            plan.remove(op);
+        }
+    }
+}
@@ -443,6 +443,34 @@ public final class JobStats extends Operator {
         annotate(FEATURE, ScriptState.get().getPigFeature(mro));
     }
     
+    /**
+     * Sets the statistics of a plan run in process. There are no map
+     * reduce counters, so only the records stored are known.
+     */
+    void setDirectStatistics(Configuration conf, Map<POStore, Long> storeRecords,
+            List<String> loadLocations) {
+        this.conf = conf;
+        for (Map.Entry<POStore, Long> entry : storeRecords.entrySet()) {
+            POStore sto = entry.getKey();
+            if (sto.isTmpStore()) continue;
+            OutputStats ds = new OutputStats(sto.getSFile().getFileName(), -1,
+                    entry.getValue(), (state == JobState.SUCCESS));
+            ds.setPOStore(sto);
+            ds.setConf(conf);
+            outputs.add(ds);
+            
+            if (state == JobState.SUCCESS) {
+                ScriptState.get().emitOutputCompletedNotification(ds);
+            }
+        }
+        for (String location : loadLocations) {
+            InputStats is = new InputStats(location, -1, -1,
+                    (state == JobState.SUCCESS));
+            is.setConf(conf);
+            inputs.add(is);
+        }
+    }
+    
     void addOutputStatistics() {
         if (mapStores == null || reduceStores == null) {
             LOG.warn("unable to get stores of the job");
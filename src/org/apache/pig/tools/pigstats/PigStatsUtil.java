@@ -26,6 +26,7 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapred.Counters;
 import org.apache.hadoop.mapred.JobClient;
 import org.apache.hadoop.mapred.RunningJob;
@@ -90,7 +91,8 @@ public abstract class PigStatsUtil {
             String counterName) {
         long value = -1;
         try {
-            RunningJob rj = jobClient.getJob(job.getAssignedJobID());
+            RunningJob rj = JobControlCompiler.getJobClient(job, jobClient).getJob(
+                    job.getAssignedJobID());
             if (rj != null) {
                 Counters.Counter counter = rj.getCounters().getGroup(
                         MULTI_STORE_COUNTER_GROUP).getCounterForName(counterName);
@@ -167,6 +169,46 @@ public abstract class PigStatsUtil {
         ScriptState.get().emitLaunchStartedNotification(plan.size());
     }
      
+    /**
+     * Starts collecting statistics for a plan run in process rather than
+     * as map reduce jobs
+     * 
+     * @param pc the Pig context
+     * @param alias the aliases of the plan
+     * @return the statistics of the single job the plan is shown as
+     */
+    public static JobStats startDirectCollection(PigContext pc, String alias) {
+        SimplePigStats ps = (SimplePigStats)PigStats.start();
+        JobStats js = ps.startDirect(pc, alias);
+        
+        ScriptState.get().emitLaunchStartedNotification(1);
+        return js;
+    }
+    
+    /**
+     * Updates the statistics after a plan run in process is done
+     * 
+     * @param js the statistics returned by {@link #startDirectCollection}
+     * @param conf the configuration the plan ran with
+     * @param storeRecords the number of records written by each store
+     * @param loadLocations the locations loaded
+     * @param e the exception the run failed with, or null if it succeeded
+     */
+    public static void addDirectJobStats(JobStats js, Configuration conf,
+            Map<POStore, Long> storeRecords, List<String> loadLocations,
+            Exception e) {
+        ScriptState ss = ScriptState.get();
+        js.setSuccessful(e == null);
+        js.setDirectStatistics(conf, storeRecords, loadLocations);
+        if (e == null) {
+            ss.emitjobFinishedNotification(js);
+        } else {
+            js.setBackendException(e);
+            js.setErrorMsg(e.getMessage());
+            ss.emitJobFailedNotification(js);
+        }
+    }
+    
     /**
      * Stops collecting statistics for a MR plan
      * 
@@ -325,9 +367,9 @@ public abstract class PigStatsUtil {
         } else {                
             js.setSuccessful(true);
                            
-            js.addMapReduceStatistics(ps.getJobClient(), job.getJobConf());
+            JobClient client = JobControlCompiler.getJobClient(job, ps.getJobClient());
+            js.addMapReduceStatistics(client, job.getJobConf());
             
-            JobClient client = ps.getJobClient();
             RunningJob rjob = null;
             try {
                 rjob = client.getJob(job.getAssignedJobID());
@@ -64,6 +64,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSplit;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStore;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POStream;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POTopN;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POUnion;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.util.PlanHelper;
 import org.apache.pig.impl.PigContext;
@@ -619,6 +620,11 @@ public class ScriptState {
         public void visitPartialAgg(POPartialAgg partAgg){
             feature.set(PIG_FEATURE.MAP_PARTIALAGG.ordinal());
         }
+
+        @Override
+        public void visitTopN(POTopN topN) throws VisitorException {
+            feature.set(PIG_FEATURE.ORDER_BY.ordinal());
+        }
         
     }    
     
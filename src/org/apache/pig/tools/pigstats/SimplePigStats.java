@@ -382,6 +382,25 @@ final class SimplePigStats extends PigStats {
         userId = System.getProperty("user.name");
     }
     
+    /**
+     * Starts collecting statistics for a plan run in process rather than
+     * as map reduce jobs. The plan is shown as a single job.
+     */
+    JobStats startDirect(PigContext pigContext, String alias) {
+        this.pigContext = pigContext;
+        jobPlan = new JobGraph();
+        mroJobMap = new HashMap<MapReduceOper, JobStats>();
+        
+        JobStats js = new JobStats("direct", jobPlan);
+        js.annotate(JobStats.ALIAS, alias);
+        js.annotate(JobStats.FEATURE, ScriptState.get().getScriptFeatures());
+        jobPlan.add(js);
+        
+        startTime = System.currentTimeMillis();
+        userId = System.getProperty("user.name");
+        return js;
+    }
+    
     void stop() {
         endTime = System.currentTimeMillis();
         int m = getNumberSuccessfulJobs();
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.apache.pig.Algebraic;
+import org.apache.pig.EvalFunc;
+import org.apache.pig.builtin.APPROX_COUNT_DISTINCT;
+import org.apache.pig.builtin.APPROX_QUANTILES;
+import org.apache.pig.builtin.APPROX_TOP_K;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.PigContext;
+import org.junit.Test;
+
+public class TestApproxUDFs {
+    private static final TupleFactory tf = TupleFactory.getInstance();
+    private static final BagFactory bf = BagFactory.getInstance();
+
+    private static Tuple wrap(DataBag bag) {
+        return tf.newTuple(bag);
+    }
+
+    private static DataBag bagOf(Object... values) {
+        DataBag bag = bf.newDefaultBag();
+        for (Object v : values) {
+            bag.add(tf.newTuple(v));
+        }
+        return bag;
+    }
+
+    /**
+     * Runs an algebraic function as map, combiner and reducer would, with one
+     * initial call per value and the intermediate results split in parts.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object runAlgebraic(Algebraic func, String[] args, DataBag input, int parts)
+            throws IOException {
+        EvalFunc<Tuple> initial = (EvalFunc<Tuple>) PigContext.instantiateFuncFromSpec(
+                new org.apache.pig.FuncSpec(func.getInitial(), args));
+        EvalFunc<Tuple> intermed = (EvalFunc<Tuple>) PigContext.instantiateFuncFromSpec(
+                new org.apache.pig.FuncSpec(func.getIntermed(), args));
+        EvalFunc<?> fin = (EvalFunc<?>) PigContext.instantiateFuncFromSpec(
+                new org.apache.pig.FuncSpec(func.getFinal(), args));
+        DataBag[] mapped = new DataBag[parts];
+        for (int i = 0; i < parts; i++) {
+            mapped[i] = bf.newDefaultBag();
+        }
+        int i = 0;
+        for (Tuple t : input) {
+            DataBag single = bf.newDefaultBag();
+            single.add(t);
+            mapped[i++ % parts].add(initial.exec(wrap(single)));
+        }
+        DataBag combined = bf.newDefaultBag();
+        for (DataBag part : mapped) {
+            combined.add(intermed.exec(wrap(part)));
+        }
+        return fin.exec(wrap(combined));
+    }
+
+    @Test
+    public void testCountDistinct() throws IOException {
+        DataBag bag = bf.newDefaultBag();
+        for (int i = 0; i < 50000; i++) {
+            bag.add(tf.newTuple("v" + (i % 20000)));
+        }
+        bag.add(tf.newTuple((Object) null));
+        long exact = 20000;
+
+        long estimate = new APPROX_COUNT_DISTINCT().exec(wrap(bag));
+        assertTrue("estimate " + estimate, Math.abs(estimate - exact) < exact * 0.05);
+
+        long merged = (Long) runAlgebraic(new APPROX_COUNT_DISTINCT(), new String[0], bag, 7);
+        assertEquals(estimate, merged);
+
+        long precise = (Long) runAlgebraic(new APPROX_COUNT_DISTINCT("16"), new String[] { "16" },
+                bag, 3);
+        assertTrue("estimate " + precise, Math.abs(precise - exact) < exact * 0.02);
+    }
+
+    @Test
+    public void testCountDistinctSmall() throws IOException {
+        assertEquals(0L, (long) new APPROX_COUNT_DISTINCT().exec(wrap(bagOf())));
+        assertEquals(0L, (long) new APPROX_COUNT_DISTINCT().exec(wrap(bagOf((Object) null))));
+        assertEquals(3L, (long) new APPROX_COUNT_DISTINCT().exec(wrap(bagOf(1, 2, 3, 2, 1))));
+        assertEquals(3L, (long) (Long) runAlgebraic(new APPROX_COUNT_DISTINCT(), new String[0],
+                bagOf("a", "b", "c", "a"), 2));
+        assertEquals(0L, (long) (Long) runAlgebraic(new APPROX_COUNT_DISTINCT(), new String[0],
+                bagOf(), 1));
+    }
+
+    @Test
+    public void testCountDistinctAccumulator() throws IOException {
+        APPROX_COUNT_DISTINCT func = new APPROX_COUNT_DISTINCT();
+        for (int i = 0; i < 10; i++) {
+            DataBag bag = bf.newDefaultBag();
+            for (int j = 0; j < 1000; j++) {
+                bag.add(tf.newTuple((Object) (j * 10 + i)));
+            }
+            func.accumulate(wrap(bag));
+        }
+        long estimate = func.getValue();
+        assertTrue("estimate " + estimate, Math.abs(estimate - 10000) < 500);
+        func.cleanup();
+        assertEquals(0L, (long) func.getValue());
+    }
+
+    @Test
+    public void testQuantiles() throws IOException {
+        DataBag bag = bf.newDefaultBag();
+        Random r = new Random(42);
+        int n = 10000;
+        int[] shuffled = new int[n];
+        for (int i = 0; i < n; i++) {
+            shuffled[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            int tmp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = tmp;
+        }
+        for (int i = 0; i < n; i++) {
+            bag.add(tf.newTuple((Object) shuffled[i]));
+        }
+        String[] qs = { "0.1", "0.5", "0.99" };
+        Tuple result = new APPROX_QUANTILES(qs).exec(wrap(bag));
+        checkQuantiles(qs, result, n);
+        checkQuantiles(qs, (Tuple) runAlgebraic(new APPROX_QUANTILES(qs), qs, bag, 5), n);
+
+        Tuple median = (Tuple) runAlgebraic(new APPROX_QUANTILES(), new String[0], bag, 3);
+        assertEquals(1, median.size());
+        checkQuantiles(new String[] { "0.5" }, median, n);
+    }
+
+    private static void checkQuantiles(String[] qs, Tuple result, int n) throws IOException {
+        assertEquals(qs.length, result.size());
+        for (int i = 0; i < qs.length; i++) {
+            double expected = Double.parseDouble(qs[i]) * n;
+            double actual = (Double) result.get(i);
+            assertTrue("quantile " + qs[i] + " is " + actual, Math.abs(actual - expected) < n * 0.02);
+        }
+    }
+
+    @Test
+    public void testQuantilesEmpty() throws IOException {
+        Tuple result = new APPROX_QUANTILES("0.5", "0.9").exec(wrap(bagOf((Object) null)));
+        assertEquals(2, result.size());
+        assertNull(result.get(0));
+        assertNull(result.get(1));
+
+        APPROX_QUANTILES func = new APPROX_QUANTILES("0.5");
+        func.accumulate(wrap(bagOf(1.0, 2.0, 3.0)));
+        func.accumulate(wrap(bagOf(4.0, 5.0)));
+        assertEquals(3.0, (Double) func.getValue().get(0), 0.0);
+    }
+
+    @Test
+    public void testTopK() throws IOException {
+        DataBag bag = bf.newDefaultBag();
+        Random r = new Random(7);
+        // a few heavy values among many rare ones
+        for (int i = 0; i < 20000; i++) {
+            int x = r.nextInt(100);
+            if (x < 20) {
+                bag.add(tf.newTuple("heavy0"));
+            } else if (x < 30) {
+                bag.add(tf.newTuple("heavy1"));
+            } else if (x < 35) {
+                bag.add(tf.newTuple("heavy2"));
+            } else {
+                bag.add(tf.newTuple("rare" + r.nextInt(100000)));
+            }
+        }
+        checkTopK(new APPROX_TOP_K("3").exec(wrap(bag)));
+        checkTopK((DataBag) runAlgebraic(new APPROX_TOP_K("3"), new String[] { "3" }, bag, 4));
+
+        APPROX_TOP_K func = new APPROX_TOP_K("3", "50");
+        func.accumulate(wrap(bag));
+        checkTopK(func.getValue());
+    }
+
+    private static void checkTopK(DataBag top) throws IOException {
+        assertEquals(3, top.size());
+        Iterator<Tuple> it = top.iterator();
+        long last = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            Tuple t = it.next();
+            assertEquals("heavy" + i, t.get(0));
+            long count = (Long) t.get(1);
+            assertTrue(count <= last);
+            last = count;
+        }
+    }
+}
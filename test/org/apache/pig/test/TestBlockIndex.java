@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.ExecType;
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.BinStorageInputFormat;
+import org.apache.pig.impl.io.BinStorageRecordReader;
+import org.apache.pig.impl.io.BlockIndex;
+import org.apache.pig.impl.io.InterStorage;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.apache.pig.tools.pigstats.PigStats;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestBlockIndex {
+
+    private static final int RECORDS = 1000;
+
+    private static File input;
+    private static File indexed;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        input = File.createTempFile("blockindex", ".txt");
+        PrintWriter w = new PrintWriter(input);
+        for (int i = 0; i < RECORDS; i++) {
+            // k is sorted, with some nulls, and n is scattered
+            w.println((i % 97 == 50 ? "" : String.valueOf(i)) + "\tuser" + (i * 37 % RECORDS)
+                    + "\t" + (i * 0.5));
+        }
+        w.close();
+        indexed = new File(input.toString() + ".bin");
+
+        PigServer pig = newPigServer();
+        pig.registerQuery("A = load '" + Util.generateURI(input.toString(), pig.getPigContext())
+                + "' as (k:int, n:chararray, v:double);");
+        pig.store("A", Util.generateURI(indexed.toString(), pig.getPigContext()),
+                "BinStorage('', '-index k,$2 -bloom n')");
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        input.delete();
+        Util.deleteDirectory(indexed);
+    }
+
+    private static PigServer newPigServer() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(BlockIndex.PROP_BLOCK_SIZE, "512");
+        return new PigServer(ExecType.LOCAL, props);
+    }
+
+    private static List<String> run(String load, String filter) throws Exception {
+        PigServer pig = newPigServer();
+        pig.registerQuery("A = load '" + load + ";");
+        pig.registerQuery("R = filter A by " + filter + ";");
+        List<String> result = new ArrayList<String>();
+        Iterator<Tuple> it = pig.openIterator("R");
+        while (it.hasNext()) {
+            result.add(it.next().toString());
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * Checks the filter gives the same result on the indexed file as on the
+     * input, and returns the number of records read from the indexed file.
+     */
+    private static long check(String filter) throws Exception {
+        List<String> expected = run(input.toString() + "' as (k:int, n:chararray, v:double)",
+                filter);
+        List<String> actual = run(indexed.toString() + "' using BinStorage()", filter);
+        assertEquals(expected, actual);
+        return PigStats.get().getInputStats().get(0).getNumberRecords();
+    }
+
+    private static Expression column(int position, OpType op, Object value) {
+        return new Expression.BinaryExpression(new Expression.Column("$" + position),
+                new Expression.Const(value), op);
+    }
+
+    @Test
+    public void testRanges() throws Exception {
+        assertTrue(check("$0 >= 900") < RECORDS / 2);
+        assertTrue(check("$0 < 10 or 500 == $0") < RECORDS / 2);
+        assertTrue(check("not ($0 < 990) and $2 > 100.0") < RECORDS / 2);
+        assertTrue(check("$0 > 200 and $0 <= 210") < RECORDS / 2);
+        assertEquals(0, check("$0 > 5000"));
+        check("$0 != 3 and $0 is not null");
+        check("$0 is null");
+        check("$1 > 'user5'");
+    }
+
+    @Test
+    public void testSchema() throws Exception {
+        List<String> expected = run(input.toString() + "' as (k:int, n:chararray, v:double)",
+                "k >= 900");
+        List<String> actual = run(indexed.toString()
+                + "' using BinStorage() as (k:int, n:chararray, v:double)", "k >= 900");
+        assertEquals(expected, actual);
+        assertTrue(PigStats.get().getInputStats().get(0).getNumberRecords() < RECORDS / 2);
+    }
+
+    @Test
+    public void testBloomFilter() throws Exception {
+        assertTrue(check("$1 == 'user37'") < RECORDS / 2);
+        assertTrue(check("$1 == 'user37' or $1 == 'user74'") < RECORDS / 2);
+        assertEquals(0, check("$1 == 'nobody'"));
+    }
+
+    @Test
+    public void testInterStorage() throws Exception {
+        File inter = new File(input.toString() + ".inter");
+        try {
+            PigServer pig = newPigServer();
+            pig.registerQuery("A = load '" + Util.generateURI(indexed.toString(), pig.getPigContext())
+                    + "' using BinStorage();");
+            pig.store("A", Util.generateURI(inter.toString(), pig.getPigContext()),
+                    InterStorage.class.getName() + "('-index $0')");
+            List<String> expected = run(input.toString() + "' as (k:int, n:chararray, v:double)",
+                    "$0 < 50");
+            List<String> actual = run(inter.toString() + "' using "
+                    + InterStorage.class.getName() + "()", "$0 < 50");
+            assertEquals(expected, actual);
+            assertTrue(PigStats.get().getInputStats().get(0).getNumberRecords() < RECORDS / 2);
+        } finally {
+            Util.deleteDirectory(inter);
+        }
+    }
+
+    @Test
+    public void testReader() throws Exception {
+        Configuration conf = new Configuration();
+        Path file = new Path(indexed.toString(), "part-m-00000");
+        FileSystem fs = file.getFileSystem(conf);
+        assertTrue(fs.exists(BlockIndex.getIndexFile(file)));
+        BlockIndex index = BlockIndex.read(fs, file);
+        assertTrue(index.getBlocks().size() > 10);
+        assertEquals(3, index.getColumnNames().size());
+
+        conf.set(BlockIndex.PROP_PREDICATE,
+                ObjectSerializer.serialize(column(0, OpType.OP_LT, 100)));
+        long length = fs.getFileStatus(file).getLen();
+        BinStorageRecordReader reader = new BinStorageRecordReader();
+        reader.initialize(new FileSplit(file, 0, length, null),
+                HadoopShims.createTaskAttemptContext(conf, HadoopShims.getNewTaskAttemptID()));
+        int records = 0;
+        while (reader.nextKeyValue()) {
+            records++;
+        }
+        reader.close();
+        assertTrue(records >= 99 && records < RECORDS / 2);
+
+        // the splits of the end of the file have no record matching
+        Job job = new Job(conf);
+        FileInputFormat.setInputPaths(job, file);
+        FileInputFormat.setMaxInputSplitSize(job, length / 4);
+        List<InputSplit> splits = new BinStorageInputFormat().getSplits(job);
+        assertEquals(1, splits.size());
+        assertEquals(0, ((FileSplit)splits.get(0)).getStart());
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.ExecType;
+import org.apache.pig.PigServer;
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.ResourceStatistics.ResourceFieldStatistics;
+import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
+import org.apache.pig.builtin.ColumnarStorage;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.io.ColumnarFile;
+import org.apache.pig.impl.io.ColumnarRecordReader;
+import org.apache.pig.impl.io.ColumnarRecordWriter;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+import org.apache.pig.impl.util.Utils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestColumnarStorage {
+
+    private static final int RECORDS = 5000;
+    private static final String SCHEMA = "k:int, l:long, f:float, d:double, s:chararray, "
+        + "b:boolean, t:tuple(a:int, c:chararray), bg:bag{(x:int)}, m:map[]";
+
+    private static File input;
+    private static File stored;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        input = File.createTempFile("columnar", ".txt");
+        PrintWriter w = new PrintWriter(input);
+        for (int i = 0; i < RECORDS; i++) {
+            w.println((i % 101 == 7 ? "" : String.valueOf(i)) + "\t" + (i * 1000000000L) + "\t"
+                    + (i * 0.25f) + "\t" + (i % 13 == 0 ? "" : String.valueOf(i / 3.0)) + "\t"
+                    + (i % 17 == 0 ? "" : "category" + (i % 5)) + "\t"
+                    + (i % 2 == 0) + "\t(" + i + ",c" + i + ")\t{(" + i + "),(" + (i + 1) + ")}\t"
+                    + "[key#value" + i + "]");
+        }
+        w.close();
+        stored = new File(input.toString() + ".col");
+
+        PigServer pig = new PigServer(ExecType.LOCAL);
+        pig.getPigContext().getProperties().setProperty(ColumnarFile.PROP_STRIPE_SIZE, "1048576");
+        pig.registerQuery("A = load '" + Util.generateURI(input.toString(), pig.getPigContext())
+                + "' as (" + SCHEMA + ");");
+        pig.store("A", Util.generateURI(stored.toString(), pig.getPigContext()),
+                "ColumnarStorage('-compress')");
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        input.delete();
+        Util.deleteDirectory(stored);
+    }
+
+    private static List<String> run(String load, String query) throws Exception {
+        PigServer pig = new PigServer(ExecType.LOCAL);
+        pig.registerQuery("A = load '" + load + ";");
+        pig.registerQuery("R = " + query + ";");
+        List<String> result = new ArrayList<String>();
+        Iterator<Tuple> it = pig.openIterator("R");
+        while (it.hasNext()) {
+            result.add(it.next().toString());
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private static void check(String query) throws Exception {
+        List<String> expected = run(input.toString() + "' as (" + SCHEMA + ")", query);
+        List<String> actual = run(stored.toString() + "' using ColumnarStorage()", query);
+        assertEquals(RECORDS, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        check("foreach A generate *");
+        check("foreach A generate s, k");
+        check("foreach A generate t.c, m#'key', l + 1");
+    }
+
+    @Test
+    public void testSchema() throws Exception {
+        Configuration conf = new Configuration();
+        ResourceSchema schema = new ColumnarStorage().getSchema(stored.toString(), new Job(conf));
+        assertEquals(Utils.getSchemaFromString(SCHEMA), Schema.getPigSchema(schema));
+        assertNull(new ColumnarStorage().getSchema(stored.toString() + ".none", new Job(conf)));
+
+        // unnamed fields
+        File unnamed = new File(input.toString() + ".unnamed");
+        try {
+            PigServer pig = new PigServer(ExecType.LOCAL);
+            pig.registerQuery("A = load '" + Util.generateURI(stored.toString(), pig.getPigContext())
+                    + "' using ColumnarStorage();");
+            pig.registerQuery("B = foreach A generate k, k + 1, (s, b);");
+            pig.store("B", Util.generateURI(unnamed.toString(), pig.getPigContext()),
+                    "ColumnarStorage()");
+            List<String> expected = run(input.toString() + "' as (" + SCHEMA + ")",
+                    "foreach A generate k, k + 1, (s, b)");
+            List<String> actual = run(unnamed.toString() + "' using ColumnarStorage()",
+                    "foreach A generate *");
+            assertEquals(expected, actual);
+        } finally {
+            Util.deleteDirectory(unnamed);
+        }
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        ResourceStatistics stats = new ColumnarStorage().getStatistics(stored.toString(),
+                new Job(new Configuration()));
+        assertEquals(RECORDS, stats.getNumRecords().longValue());
+        assertEquals(9, stats.getFields().length);
+        assertArrayEquals(new Object[] { 0, RECORDS - 1 },
+                stats.getFields()[0].getValueHistogram());
+        assertArrayEquals(new Object[] { "category0", "category4" },
+                stats.getFields()[4].getValueHistogram());
+        assertArrayEquals(new Object[] { false, true },
+                stats.getFields()[5].getValueHistogram());
+        assertEquals(0, stats.getFields()[8].getValueHistogram().length);
+        // the values of the chararrays with few distinct values are counted
+        ResourceFieldStatistics categories = stats.getFields()[4];
+        assertEquals(5, categories.getNumDistinctValues().longValue());
+        assertEquals(5, categories.getMostCommonValues().length);
+        float freqs = 0;
+        for (float freq : categories.getMostCommonValuesFreq()) {
+            freqs += freq;
+        }
+        assertEquals(1 - 295 / (float)RECORDS, freqs, 0.001);
+        assertNull(stats.getFields()[0].getNumDistinctValues());
+        assertNull(stats.getFields()[6].getNumDistinctValues());
+    }
+
+    @Test
+    public void testEncodings() throws Exception {
+        ColumnarFile.ColumnWriter sequence = new ColumnarFile.ColumnWriter();
+        ColumnarFile.ColumnWriter constant = new ColumnarFile.ColumnWriter();
+        ColumnarFile.ColumnWriter categories = new ColumnarFile.ColumnWriter();
+        for (int i = 0; i < RECORDS; i++) {
+            sequence.add(1000000L + i);
+            constant.add(i % 1000 == 0 ? null : 42);
+            categories.add("category" + (i % 5));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        // delta encoding takes a byte per value
+        ColumnarFile.Chunk sequenceChunk = sequence.write(out, false);
+        assertTrue(bytes.size() < RECORDS * 2);
+        // run length encoding takes a few bytes per run
+        int size = bytes.size();
+        ColumnarFile.Chunk constantChunk = constant.write(out, false);
+        assertTrue(bytes.size() - size < RECORDS / 8 + 100);
+        // dictionary encoding takes a byte per value
+        size = bytes.size();
+        ColumnarFile.Chunk categoriesChunk = categories.write(out, false);
+        assertTrue(bytes.size() - size < RECORDS * 2);
+        assertTrue(!categoriesChunk.isCompressed());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Object[] values = ColumnarFile.readChunk(in, sequenceChunk, RECORDS);
+        assertEquals(1000000L, values[0]);
+        assertEquals(1000000L + RECORDS - 1, values[RECORDS - 1]);
+        values = ColumnarFile.readChunk(in, constantChunk, RECORDS);
+        assertNull(values[0]);
+        assertEquals(42, values[1]);
+        assertEquals(RECORDS / 1000, constantChunk.getNullCount());
+        values = ColumnarFile.readChunk(in, categoriesChunk, RECORDS);
+        assertEquals("category3", values[RECORDS - 2]);
+        assertEquals("category0", categoriesChunk.getMin());
+        assertEquals("category4", categoriesChunk.getMax());
+    }
+
+    @Test
+    public void testComplexValueSize() throws Exception {
+        DataBag bag = BagFactory.getInstance().newDefaultBag();
+        for (int i = 0; i < 1000; i++) {
+            bag.add(TupleFactory.getInstance().newTuple((Object) ("value" + i)));
+        }
+        ColumnarFile.ColumnWriter column = new ColumnarFile.ColumnWriter();
+        column.add(bag);
+        // a large bag counts for what it holds
+        assertTrue(column.getSize() >= bag.getMemorySize());
+    }
+
+    @Test(expected = IOException.class)
+    public void testTooManyFields() throws Exception {
+        Configuration conf = new Configuration();
+        Path file = new Path(stored.toString() + ".wide");
+        FileSystem fs = FileSystem.getLocal(conf);
+        ColumnarRecordWriter writer = new ColumnarRecordWriter(fs.create(file),
+                "a:int", 1, false, 1024);
+        try {
+            writer.write(null, TupleFactory.getInstance().newTuple((Object) 1));
+            writer.write(null, TupleFactory.getInstance().newTuple(2));
+        } finally {
+            fs.delete(file, false);
+        }
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        Configuration conf = new Configuration();
+        Path file = new Path(stored.toString(), "part-m-00000");
+        FileSystem fs = file.getFileSystem(conf);
+        long length = fs.getFileStatus(file).getLen();
+        ColumnarFile columnarFile = ColumnarFile.read(fs, file);
+        assertTrue(columnarFile.getStripes().size() > 1);
+        assertEquals(RECORDS, columnarFile.getRows());
+
+        long read = readColumns(conf, file, length, null);
+        long projected = readColumns(conf, file, length, new boolean[] { true });
+        assertTrue(projected < read / 4);
+    }
+
+    /**
+     * Reads a file, and returns the number of bytes read.
+     */
+    private static long readColumns(Configuration conf, Path file, long length,
+            boolean[] requiredColumns) throws Exception {
+        long read = -getBytesRead();
+        ColumnarRecordReader reader = new ColumnarRecordReader();
+        reader.initialize(new FileSplit(file, 0, length, null),
+                HadoopShims.createTaskAttemptContext(conf, HadoopShims.getNewTaskAttemptID()));
+        reader.setRequiredColumns(requiredColumns);
+        int records = 0;
+        while (reader.nextKeyValue()) {
+            Tuple t = reader.getCurrentValue();
+            assertEquals(requiredColumns == null ? 9 : 1, t.size());
+            records++;
+        }
+        reader.close();
+        assertEquals(RECORDS, records);
+        return read + getBytesRead();
+    }
+
+    private static long getBytesRead() {
+        long read = 0;
+        for (FileSystem.Statistics statistics : FileSystem.getAllStatistics()) {
+            read += statistics.getBytesRead();
+        }
+        return read;
+    }
+}
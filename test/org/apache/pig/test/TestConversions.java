@@ -455,4 +455,34 @@ public class TestConversions extends TestCase {
         convertedTuple = ps.getLoadCaster().bytesToTuple(tuple.toString().getBytes(), rfs);
         assertNull("Invalid cast to long: " + tuple.get(0) + " -> " + convertedTuple.get(0), convertedTuple.get(0));
     }
+
+    @Test
+    public void testBytesToNumbersInPlace() throws IOException {
+        // the fast paths of the caster have to agree with the JDK parsers
+        String[] doubles = { "0", "-0", "0.1", "12.7", "-3.25", "1e5", "1.5E-3",
+                "123456789012345678", "9007199254740993", "1e22", "1e23", "4.9e-324",
+                "0.30000000000000004", ".5", "5.", "+7", "1e400", "NaN", "Infinity" };
+        for (String s : doubles) {
+            byte[] bytes = s.getBytes();
+            assertEquals(s, Double.valueOf(s), ps.getLoadCaster().bytesToDouble(bytes));
+            assertEquals(s, Float.valueOf(s), ps.getLoadCaster().bytesToFloat(bytes));
+        }
+        String[] longs = { "0", "-0", "42", "-42", "2147483647", "-2147483648",
+                "9223372036854775807", "-9223372036854775808" };
+        for (String s : longs) {
+            assertEquals(s, Long.valueOf(s), ps.getLoadCaster().bytesToLong(s.getBytes()));
+        }
+        assertEquals(Long.valueOf(5L), ps.getLoadCaster().bytesToLong("5L".getBytes()));
+        assertEquals(Float.valueOf(2.5f), ps.getLoadCaster().bytesToFloat("2.5f".getBytes()));
+        assertEquals(Integer.valueOf(-2147483648),
+                ps.getLoadCaster().bytesToInteger("-2147483648".getBytes()));
+
+        // values the fast paths give up on still go through the slow path
+        assertEquals(Integer.valueOf(12), ps.getLoadCaster().bytesToInteger("12.7".getBytes()));
+        assertNull(ps.getLoadCaster().bytesToInteger("2147483648".getBytes()));
+        assertNull(ps.getLoadCaster().bytesToLong("99999999999999999999".getBytes()));
+        assertNull(ps.getLoadCaster().bytesToInteger("1-2".getBytes()));
+        assertNull(ps.getLoadCaster().bytesToDouble("1e".getBytes()));
+        assertNull(ps.getLoadCaster().bytesToDouble("-".getBytes()));
+    }
 }
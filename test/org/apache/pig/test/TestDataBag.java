@@ -817,6 +817,66 @@ public class TestDataBag extends junit.framework.TestCase {
         assertEquals(bg1, bg2);
     }
     
+    @Test
+    public void testInternalHashDistinctBag() throws Exception {
+        // check adding empty tuple
+        DataBag bg0 = new InternalHashDistinctBag();
+        bg0.add(TupleFactory.getInstance().newTuple());
+        bg0.add(TupleFactory.getInstance().newTuple());
+        assertEquals(bg0.size(), 1);
+
+        DataBag bg1 = new InternalHashDistinctBag();
+        String[][] tupleContents = new String[][] {{ "e", "f"}, {"a", "b"}, {"e", "d" }, {"a", "b"}, {"e", "f"}};
+        for (int i = 0; i < tupleContents.length; i++) {
+            bg1.add(Util.createTuple(tupleContents[i]));
+        }
+        assertEquals(bg1.size(), 3);
+        assertFalse(bg1.isSorted());
+        assertTrue(bg1.isDistinct());
+
+        // check bag with data written to disk
+        DataBag bg2 = new InternalHashDistinctBag(1, 0.0f);
+        for (int i = 0; i < tupleContents.length; i++) {
+            bg2.add(Util.createTuple(tupleContents[i]));
+        }
+        assertEquals(bg1, bg2);
+        assertEquals(bg2.size(), 3);
+
+        // the iterator returns null when there are no more tuples, like the
+        // iterators of the other distinct bags
+        Iterator<Tuple> iter = bg2.iterator();
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(iter.next());
+        }
+        assertNull(iter.next());
+        assertFalse(iter.hasNext());
+
+        // partitions too big for memory are split when they are read
+        float percent = 20000f / Runtime.getRuntime().maxMemory();
+        DataBag bg3 = new InternalHashDistinctBag(1, percent);
+        Set<Tuple> rightAnswer = new HashSet<Tuple>();
+        for (int i = 0; i < 30000; i++) {
+            Tuple t = TupleFactory.getInstance().newTuple(2);
+            t.set(0, rand.nextInt(5000));
+            t.set(1, "value");
+            bg3.add(t);
+            rightAnswer.add(t);
+        }
+        for (int j = 0; j < 2; j++) {
+            Set<Tuple> read = new HashSet<Tuple>();
+            iter = bg3.iterator();
+            while (iter.hasNext()) {
+                assertTrue(read.add(iter.next()));
+            }
+            assertEquals(rightAnswer, read);
+        }
+        assertEquals(rightAnswer.size(), bg3.size());
+
+        // check clear
+        bg3.clear();
+        assertEquals(bg3.size(), 0);
+    }
+
     @Test
     public void testDefaultDataBagEquals2() throws Exception {
         String[][] tupleContents = new String[][] {{"a", "b"},{"c", "d" }, { "e", "f"} };
@@ -893,9 +953,82 @@ public class TestDataBag extends junit.framework.TestCase {
         
         
         bg4.clear();
-        assertEquals(bg4.size(), 0);        
+        assertEquals(bg4.size(), 0);
     }
-    
+
+    public void testInternalOffHeapBag() throws Exception {
+        // check adding empty tuple
+        DataBag bg0 = new InternalOffHeapBag();
+        bg0.add(TupleFactory.getInstance().newTuple());
+        bg0.add(TupleFactory.getInstance().newTuple());
+        assertEquals(bg0.size(), 2);
+
+        DataBag bg1 = new InternalOffHeapBag(1, 0.5f);
+        String[][] tupleContents = new String[][] {{"a", "b"},{"c", "d" }, { "e", "f"} };
+        for (int i = 0; i < tupleContents.length; i++) {
+            bg1.add(Util.createTuple(tupleContents[i]));
+        }
+        assertEquals(bg1.size(), 3);
+        assertFalse(bg1.isSorted());
+        assertFalse(bg1.isDistinct());
+
+        // check bag with data written to disk
+        DataBag bg2 = new InternalOffHeapBag(1, 0.0f);
+        tupleContents = new String[][] {{ "e", "f"}, {"c", "d" }, {"a", "b"}};
+        for (int i = 0; i < tupleContents.length; i++) {
+            bg2.add(Util.createTuple(tupleContents[i]));
+        }
+        assertEquals(bg1, bg2);
+
+        // enough memory for some heap pages and some direct pages,
+        // and the rest goes to disk
+        float percent = 300000f / Runtime.getRuntime().maxMemory();
+        DataBag bg3 = new InternalOffHeapBag(1, percent);
+        List<Tuple> rightAnswer = new ArrayList<Tuple>();
+        for (int i = 0; i < 50000; i++) {
+            Tuple t = TupleFactory.getInstance().newTuple(2);
+            t.set(0, i);
+            t.set(1, i % 100 == 0 ? null : "value " + rand.nextInt());
+            bg3.add(t);
+            rightAnswer.add(t);
+        }
+        // the direct pages are held to the limit on their own, and do not
+        // count for the heap
+        assertTrue(bg3.getMemorySize() < InternalOffHeapBag.DIRECT_PAGE_SIZE);
+        long direct = ((InternalOffHeapBag) bg3).getDirectMemorySize();
+        assertTrue(direct <= 300000);
+        assertTrue(direct >= InternalOffHeapBag.DIRECT_PAGE_SIZE);
+        for (int j = 0; j < 2; j++) {
+            Iterator<Tuple> iter = bg3.iterator();
+            for (Tuple t : rightAnswer) {
+                assertTrue(iter.hasNext());
+                assertEquals(t, iter.next());
+            }
+            assertFalse(iter.hasNext());
+        }
+
+        // a page mostly unused is shrunk once the bag is read
+        InternalOffHeapBag bg6 = new InternalOffHeapBag(1, 0.5f);
+        for (int i = 0; i < 5000; i++) {
+            bg6.add(Util.createTuple(new String[] { "value " + i }));
+        }
+        long before = bg6.getMemorySize() + bg6.getDirectMemorySize();
+        Iterator<Tuple> it6 = bg6.iterator();
+        assertEquals(Util.createTuple(new String[] { "value 0" }), it6.next());
+        long after = bg6.getMemorySize() + bg6.getDirectMemorySize();
+        assertTrue(after < before);
+
+        try {
+            bg3.add(TupleFactory.getInstance().newTuple());
+            fail("tuples should not be added once the bag is read");
+        } catch (IllegalStateException e) {
+        }
+
+        bg3.clear();
+        assertEquals(bg3.size(), 0);
+        assertEquals(bg3.getMemorySize(), 0);
+    }
+
     public void testInternalSortedBag() throws Exception {    
     	
     	// check adding empty tuple
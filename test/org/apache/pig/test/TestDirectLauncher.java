@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.pig.ExecType;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.executionengine.ExecJob;
+import org.apache.pig.backend.hadoop.executionengine.directLayer.DirectLauncher;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.tools.pigstats.JobStats;
+import org.apache.pig.tools.pigstats.PigStats;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestDirectLauncher {
+
+    private static File input;
+    private static File small;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        input = File.createTempFile("direct", ".txt");
+        PrintWriter w = new PrintWriter(input);
+        for (int i = 0; i < 1000; i++) {
+            // some keys are null
+            w.println((i % 13 == 0 ? "" : String.valueOf(i % 17)) + "\tname" + (i % 7)
+                    + "\t" + (i * 0.5));
+        }
+        w.close();
+        small = File.createTempFile("direct", ".txt");
+        w = new PrintWriter(small);
+        for (int i = 0; i < 5; i++) {
+            w.println("name" + i + "\t" + i);
+        }
+        w.close();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        input.delete();
+        small.delete();
+    }
+
+    private static PigServer newPigServer(boolean direct) throws Exception {
+        return newPigServer(direct, false);
+    }
+
+    private static PigServer newPigServer(boolean direct, boolean batch) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(DirectLauncher.DIRECT, String.valueOf(direct));
+        PigServer pig = new PigServer(ExecType.LOCAL, props);
+        if (batch) {
+            pig.setBatchOn();
+        }
+        pig.registerQuery("A = load '" + Util.generateURI(input.toString(), pig.getPigContext())
+                + "' as (k:int, n:chararray, v:double);");
+        pig.registerQuery("S = load '" + Util.generateURI(small.toString(), pig.getPigContext())
+                + "' as (n:chararray, x:int);");
+        return pig;
+    }
+
+    private static List<String> run(boolean direct, String query) throws Exception {
+        PigServer pig = newPigServer(direct);
+        pig.registerQuery(query);
+        List<String> result = new ArrayList<String>();
+        Iterator<Tuple> it = pig.openIterator("R");
+        while (it.hasNext()) {
+            result.add(it.next().toString());
+        }
+        return result;
+    }
+
+    /**
+     * Checks the query gives the same result run directly as in map reduce.
+     */
+    private static void check(String query, boolean ordered) throws Exception {
+        List<String> expected = run(false, query);
+        List<String> actual = run(true, query);
+        assertTrue(expected.size() > 0);
+        if (!ordered) {
+            Collections.sort(expected);
+            Collections.sort(actual);
+        }
+        assertEquals(expected, actual);
+    }
+
+    private static boolean ranDirectly(PigStats stats) {
+        Iterator<JobStats> it = stats.getJobGraph().iterator();
+        return it.hasNext() && it.next().getName().equals("direct") && !it.hasNext();
+    }
+
+    @Test
+    public void testGroup() throws Exception {
+        check("B = group A by k; R = foreach B generate group, COUNT(A), SUM(A.v);", false);
+        check("B = group A all; R = foreach B generate COUNT(A), MAX(A.v);", false);
+    }
+
+    @Test
+    public void testCogroupAndJoin() throws Exception {
+        check("B = cogroup A by n, S by n; R = foreach B generate group, COUNT(A), SUM(S.x);",
+                false);
+        check("B = cogroup A by n inner, S by n inner; R = foreach B generate group, COUNT(A);",
+                false);
+        check("R = join A by n, S by n;", false);
+        check("R = join A by n left outer, S by n;", false);
+    }
+
+    @Test
+    public void testOrderDistinctLimit() throws Exception {
+        check("R = order A by v desc;", true);
+        check("B = foreach A generate k, n; R = distinct B;", false);
+        check("B = order A by v; R = limit B 10;", true);
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        check("split A into B if k < 5, C if k >= 10; D = group C by n;"
+                + "E = foreach D generate group, COUNT(C); R = join B by n, E by group;", false);
+    }
+
+    @Test
+    public void testMultipleStores() throws Exception {
+        String out1 = input.toString() + ".out1";
+        String out2 = input.toString() + ".out2";
+        PigServer pig = newPigServer(true, true);
+        pig.registerQuery("B = group A by n;");
+        pig.registerQuery("C = foreach B generate group, COUNT_STAR(A);");
+        pig.registerQuery("store C into '" + Util.generateURI(out1, pig.getPigContext()) + "';");
+        pig.registerQuery("D = filter A by v > 100.0;");
+        pig.registerQuery("store D into '" + Util.generateURI(out2, pig.getPigContext()) + "';");
+        try {
+            List<ExecJob> jobs = pig.executeBatch();
+            assertEquals(ExecJob.JOB_STATUS.COMPLETED, jobs.get(0).getStatus());
+            PigStats stats = jobs.get(0).getStatistics();
+            assertTrue(ranDirectly(stats));
+            assertEquals(2, stats.getOutputStats().size());
+            assertEquals(7, stats.result("C").getNumberRecords());
+            assertEquals(799, stats.result("D").getNumberRecords());
+
+            pig.registerQuery("X = load '" + Util.generateURI(out1, pig.getPigContext())
+                    + "' as (n:chararray, c:long);");
+            Iterator<Tuple> it = pig.openIterator("X");
+            long total = 0;
+            while (it.hasNext()) {
+                total += (Long) it.next().get(1);
+            }
+            assertEquals(1000, total);
+        } finally {
+            Util.deleteDirectory(new File(out1));
+            Util.deleteDirectory(new File(out2));
+        }
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        // a replicated join needs the distributed cache of map reduce
+        String query = "R = join A by n, S by n using 'replicated';";
+        check(query, false);
+
+        PigServer pig = newPigServer(true);
+        pig.registerQuery(query);
+        pig.openIterator("R");
+        assertFalse(ranDirectly(PigStats.get()));
+
+        Properties props = new Properties();
+        props.setProperty(DirectLauncher.DIRECT, "true");
+        props.setProperty(DirectLauncher.DIRECT_MAX_INPUT_SIZE, "10");
+        pig = new PigServer(ExecType.LOCAL, props);
+        pig.registerQuery("A = load '" + Util.generateURI(input.toString(), pig.getPigContext())
+                + "' as (k:int, n:chararray, v:double);");
+        pig.registerQuery("R = group A by n;");
+        pig.openIterator("R");
+        assertFalse(ranDirectly(PigStats.get()));
+    }
+
+    @Test
+    public void testDirect() throws Exception {
+        PigServer pig = newPigServer(true);
+        pig.registerQuery("R = group A by n;");
+        Iterator<Tuple> it = pig.openIterator("R");
+        int n = 0;
+        while (it.hasNext()) {
+            it.next();
+            n++;
+        }
+        assertEquals(7, n);
+        assertTrue(ranDirectly(PigStats.get()));
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.pig.data.TupleFactory;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.POStatus;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.TupleBatch;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POFilter;
 import org.apache.pig.test.PORead;
@@ -308,6 +309,130 @@ public class TestFilter extends junit.framework.TestCase {
         }
     }
 
+    /**
+     * Filters the same rows a row at a time and a batch at a time with
+     * the predicate ((x + y > 10 AND NOT (y == 3)) OR x is null OR x / 2 >= y)
+     * and checks that both produce the same rows in the same order. Divide
+     * has no native batch support, so it goes through the row adapter.
+     */
+    @Test
+    public void testBatchFilter() throws Exception {
+        POProject x1 = GenPhyOp.exprProject(0);
+        POProject y1 = GenPhyOp.exprProject(1);
+        Add add = new Add(GenPhyOp.getOK());
+        add.setResultType(DataType.INTEGER);
+        add.setLhs(x1);
+        add.setRhs(y1);
+        ConstantExpression ten = GenPhyOp.exprConst();
+        ten.setValue(new Integer(10));
+        GreaterThanExpr gt = GenPhyOp.compGreaterThanExpr(add, ten, DataType.INTEGER);
+
+        POProject y2 = GenPhyOp.exprProject(1);
+        ConstantExpression three = GenPhyOp.exprConst();
+        three.setValue(new Integer(3));
+        EqualToExpr eq = GenPhyOp.compEqualToExpr(y2, three, DataType.INTEGER);
+        PONot not = new PONot(GenPhyOp.getOK());
+        not.setExpr(eq);
+        not.setOperandType(DataType.BOOLEAN);
+        POAnd and = GenPhyOp.compAndExpr(gt, not);
+
+        POProject x2 = GenPhyOp.exprProject(0);
+        POIsNull isNull = GenPhyOp.compIsNullExpr();
+        isNull.setExpr(x2);
+        isNull.setOperandType(DataType.INTEGER);
+        POOr or1 = new POOr(GenPhyOp.getOK());
+        or1.setLhs(and);
+        or1.setRhs(isNull);
+        or1.setOperandType(DataType.BOOLEAN);
+
+        POProject x3 = GenPhyOp.exprProject(0);
+        ConstantExpression two = GenPhyOp.exprConst();
+        two.setValue(new Integer(2));
+        Divide div = new Divide(GenPhyOp.getOK());
+        div.setResultType(DataType.INTEGER);
+        div.setLhs(x3);
+        div.setRhs(two);
+        POProject y3 = GenPhyOp.exprProject(1);
+        GTOrEqualToExpr gte = GenPhyOp.compGTOrEqualToExpr();
+        gte.setLhs(div);
+        gte.setRhs(y3);
+        gte.setOperandType(DataType.INTEGER);
+        POOr or2 = new POOr(GenPhyOp.getOK());
+        or2.setLhs(or1);
+        or2.setRhs(gte);
+        or2.setOperandType(DataType.BOOLEAN);
+
+        PhysicalPlan ip = new PhysicalPlan();
+        PhysicalOperator[] ops = { x1, y1, add, ten, gt, y2, three, eq, not, and,
+                x2, isNull, or1, x3, two, div, y3, gte, or2 };
+        for (PhysicalOperator op : ops) {
+            ip.add(op);
+        }
+        ip.connect(x1, add);
+        ip.connect(y1, add);
+        ip.connect(add, gt);
+        ip.connect(ten, gt);
+        ip.connect(y2, eq);
+        ip.connect(three, eq);
+        ip.connect(eq, not);
+        ip.connect(gt, and);
+        ip.connect(not, and);
+        ip.connect(x2, isNull);
+        ip.connect(and, or1);
+        ip.connect(isNull, or1);
+        ip.connect(x3, div);
+        ip.connect(two, div);
+        ip.connect(div, gte);
+        ip.connect(y3, gte);
+        ip.connect(or1, or2);
+        ip.connect(gte, or2);
+
+        POFilter filter = GenPhyOp.topFilterOp();
+        filter.setPlan(ip);
+        assertTrue(filter.supportsBatch());
+
+        TupleFactory tf = TupleFactory.getInstance();
+        Random r = new Random(42);
+        List<Tuple> rows = new ArrayList<Tuple>();
+        for (int i = 0; i < 1000; i++) {
+            Tuple t = tf.newTuple(2);
+            t.set(0, r.nextInt(10) == 0 ? null : new Integer(r.nextInt(12)));
+            t.set(1, r.nextInt(10) == 0 ? null : new Integer(r.nextInt(6)));
+            rows.add(t);
+        }
+
+        List<Tuple> expected = new ArrayList<Tuple>();
+        for (Tuple t : rows) {
+            filter.attachInput(t);
+            Result res = filter.getNext(t);
+            if (res.returnStatus == POStatus.STATUS_OK) {
+                expected.add((Tuple)res.result);
+            } else {
+                assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+            }
+        }
+        assertTrue(expected.size() > 0 && expected.size() < rows.size());
+
+        List<Tuple> actual = new ArrayList<Tuple>();
+        filter.setBatchMode(true);
+        TupleBatch batch = new TupleBatch(64);
+        int next = 0;
+        while (next < rows.size()) {
+            batch.clear();
+            while (!batch.isFull() && next < rows.size()) {
+                batch.add(rows.get(next++));
+            }
+            filter.attachInput(batch);
+            Result res;
+            while ((res = filter.getNext((Tuple) null)).returnStatus == POStatus.STATUS_OK) {
+                actual.add((Tuple)res.result);
+            }
+            assertEquals(POStatus.STATUS_EOP, res.returnStatus);
+        }
+        filter.setBatchMode(false);
+        assertEquals(expected, actual);
+    }
+
     public static void main(String[] args) {
         TestFilter tf = new TestFilter();
         try {
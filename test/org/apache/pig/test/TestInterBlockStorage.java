@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.pig.backend.hadoop.executionengine.shims.HadoopShims;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.InterSedes;
+import org.apache.pig.data.InterSedesFactory;
+import org.apache.pig.data.LazyTuple;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.io.InterBlockRecordReader;
+import org.apache.pig.impl.io.InterBlockRecordWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestInterBlockStorage {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+    private static final InterSedes sedes = InterSedesFactory.getInterSedesInstance();
+    private static final int NUM_RECORDS = 1000;
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("interblock", "");
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(file));
+        // small blocks, so that the splits cut through many of them
+        InterBlockRecordWriter writer = new InterBlockRecordWriter(out, 200);
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            writer.write(null, makeTuple(i));
+        }
+        writer.close(null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.delete();
+    }
+
+    private static Tuple makeTuple(int i) throws Exception {
+        Tuple t = tf.newTuple(4);
+        t.set(0, i);
+        t.set(1, "record " + i);
+        DataBag bag = BagFactory.getInstance().newDefaultBag();
+        bag.add(tf.newTuple((Object) Long.valueOf(i)));
+        t.set(2, bag);
+        Map<String, Object> m = new HashMap<String, Object>();
+        m.put("key", i % 2 == 0 ? null : Double.valueOf(i));
+        t.set(3, m);
+        return t;
+    }
+
+    private List<Tuple> read(Configuration conf, long start, long length) throws Exception {
+        TaskAttemptContext context = HadoopShims.createTaskAttemptContext(conf, new TaskAttemptID());
+        InterBlockRecordReader reader = new InterBlockRecordReader();
+        reader.initialize(new FileSplit(new Path(file.toURI()), start, length, null), context);
+        List<Tuple> tuples = new ArrayList<Tuple>();
+        while (reader.nextKeyValue()) {
+            tuples.add(reader.getCurrentValue());
+        }
+        reader.close();
+        return tuples;
+    }
+
+    private void checkSplits(Configuration conf) throws Exception {
+        long fileLength = file.length();
+        for (long splitSize : new long[] { 7, 100, 333, fileLength }) {
+            List<Tuple> tuples = new ArrayList<Tuple>();
+            for (long start = 0; start < fileLength; start += splitSize) {
+                tuples.addAll(read(conf, start, Math.min(splitSize, fileLength - start)));
+            }
+            assertEquals("split size " + splitSize, NUM_RECORDS, tuples.size());
+            for (int i = 0; i < NUM_RECORDS; i++) {
+                assertEquals(makeTuple(i), tuples.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSplitsMapped() throws Exception {
+        checkSplits(new Configuration(false));
+    }
+
+    @Test
+    public void testSplitsStreamed() throws Exception {
+        Configuration conf = new Configuration(false);
+        // not a LocalFileSystem, so the file is not memory mapped
+        conf.set("fs.file.impl", RawLocalFileSystem.class.getName());
+        conf.setBoolean("fs.file.impl.disable.cache", true);
+        checkSplits(conf);
+    }
+
+    @Test
+    public void testLazyTuple() throws Exception {
+        Tuple t = makeTuple(3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        sedes.writeDatum(new DataOutputStream(baos), t);
+        byte[] bytes = baos.toByteArray();
+
+        LazyTuple lazy = new LazyTuple(bytes, 0, bytes.length);
+        assertEquals(4, lazy.size());
+        assertEquals("record 3", lazy.get(1));
+        assertFalse(lazy.isNull(3));
+        lazy.set(0, 42);
+        assertEquals(42, lazy.get(0));
+        assertEquals(t.get(2), lazy.get(2));
+        lazy.set(0, 3);
+        assertEquals(t, lazy);
+        assertEquals(t.hashCode(), lazy.hashCode());
+
+        lazy.append("x");
+        assertEquals(5, lazy.size());
+        assertEquals("x", lazy.get(4));
+        assertTrue(t.compareTo(lazy) < 0);
+
+        // serialized again, it reads back as the tuple it holds
+        baos.reset();
+        sedes.writeDatum(new DataOutputStream(baos), lazy);
+        bytes = baos.toByteArray();
+        assertEquals(lazy, new LazyTuple(bytes, 0, bytes.length));
+    }
+}
@@ -661,4 +661,51 @@ public class TestJobSubmission {
         sort = mrPlan.getLeaves().get(0);       
         assertEquals(reducer, sort.getRequestedParallelism());
     }
+
+    @Test
+    public void testAutoLocal() throws Exception {
+        pc.getProperties().setProperty(JobControlCompiler.PROP_AUTO_LOCAL, "true");
+        pc.getProperties().setProperty("pig.exec.reducers.bytes.per.reducer", "100");
+        try {
+            String query = "a = load '/passwd';" +
+                           "b = group a by $0;" +
+                           "store b into 'output';";
+            PigServer ps = new PigServer(ExecType.MAPREDUCE, cluster.getProperties());
+            Job job = compileSingleJob(ps, query);
+            assertTrue(job.getJobConf().getBoolean(JobControlCompiler.LOCAL_RUNNER, false));
+            assertEquals("local", job.getJobConf().get("mapred.job.tracker"));
+            assertEquals(1, job.getJobConf().getNumReduceTasks());
+            assertNull(job.getJobConf().get("mapred.jar"));
+
+            // streaming needs the distributed cache
+            query = "a = load '/passwd';" +
+                    "b = stream a through `cat`;" +
+                    "store b into 'output';";
+            job = compileSingleJob(ps, query);
+            assertFalse(job.getJobConf().getBoolean(JobControlCompiler.LOCAL_RUNNER, false));
+
+            // the input is larger than the threshold
+            pc.getProperties().setProperty(JobControlCompiler.PROP_AUTO_LOCAL_MAX_INPUT_SIZE, "10");
+            query = "a = load '/passwd';" +
+                    "b = group a by $0;" +
+                    "store b into 'output';";
+            job = compileSingleJob(ps, query);
+            assertFalse(job.getJobConf().getBoolean(JobControlCompiler.LOCAL_RUNNER, false));
+            assertFalse("local".equals(job.getJobConf().get("mapred.job.tracker")));
+        } finally {
+            pc.getProperties().remove(JobControlCompiler.PROP_AUTO_LOCAL);
+            pc.getProperties().remove(JobControlCompiler.PROP_AUTO_LOCAL_MAX_INPUT_SIZE);
+            pc.getProperties().remove("pig.exec.reducers.bytes.per.reducer");
+        }
+    }
+
+    private Job compileSingleJob(PigServer ps, String query) throws Exception {
+        PhysicalPlan pp = Util.buildPp(ps, query);
+        MROperPlan mrPlan = Util.buildMRPlan(pp, pc);
+        Configuration conf = ConfigurationUtil.toConfiguration(pc.getProperties());
+        JobControlCompiler jcc = new JobControlCompiler(pc, conf);
+        JobControl jc = jcc.compile(mrPlan, "Test");
+        assertEquals(1, jc.getWaitingJobs().size());
+        return jc.getWaitingJobs().get(0);
+    }
 }
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.pig.ExecType;
+import org.apache.pig.PigServer;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.ResourceStatistics.ResourceFieldStatistics;
+import org.apache.pig.backend.hadoop.datastorage.ConfigurationUtil;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.JobControlCompiler;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROperPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTextRawComparator;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.io.KeyDictionary;
+import org.apache.pig.impl.io.NullableText;
+import org.apache.pig.impl.util.ObjectSerializer;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test the dictionary encoding of chararray keys
+ */
+public class TestKeyDictionary {
+
+    private static final String[] STRINGS = { "", "a", "ab", "a\u0000", "é", "中",
+            "😀", "b", "click", "view" };
+
+    private static final String[] DICTIONARY = { "view", "a", "é", "click", "" };
+
+    private static Configuration newConf(String[] dictionary) throws IOException {
+        JobConf conf = new JobConf(false);
+        if (dictionary != null) {
+            conf.set(KeyDictionary.KEY_DICTIONARY, ObjectSerializer.serialize(dictionary));
+        }
+        return conf;
+    }
+
+    private static byte[] serialize(NullableText key) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        key.write(new DataOutputStream(baos));
+        return baos.toByteArray();
+    }
+
+    private static NullableText deserialize(byte[] b) throws IOException {
+        NullableText key = new NullableText();
+        key.readFields(new DataInputStream(new ByteArrayInputStream(b)));
+        return key;
+    }
+
+    private static NullableText newKey(String s) {
+        NullableText key = s == null ? new NullableText() : new NullableText(s);
+        key.setNull(s == null);
+        key.setIndex((byte)1);
+        return key;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        KeyDictionary.setup(newConf(null));
+    }
+
+    @Test
+    public void testDictionary() throws Exception {
+        KeyDictionary dictionary = new KeyDictionary(DICTIONARY);
+        assertEquals(5, dictionary.size());
+        // codes are in the order of the strings
+        for (int i = 1; i < dictionary.size(); i++) {
+            assertTrue(dictionary.getString(i - 1).compareTo(dictionary.getString(i)) < 0);
+        }
+        assertEquals("click", dictionary.getString(dictionary.getCode(new Text("click"))));
+        assertEquals(-1, dictionary.getCode(new Text("ab")));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        KeyDictionary.setup(newConf(DICTIONARY));
+        byte[] plain = serialize(newKey("click"));
+        assertEquals(3, plain.length);
+        NullableText key = deserialize(plain);
+        assertEquals("click", key.getValueAsPigType());
+        assertEquals(1, key.getIndex());
+        assertEquals("ab", deserialize(serialize(newKey("ab"))).getValueAsPigType());
+        assertTrue(deserialize(serialize(newKey(null))).isNull());
+
+        // keys written without a dictionary are read with one
+        KeyDictionary.setup(newConf(null));
+        byte[] b = serialize(newKey("click"));
+        assertEquals(8, b.length);
+        KeyDictionary.setup(newConf(DICTIONARY));
+        assertEquals("click", deserialize(b).getValueAsPigType());
+    }
+
+    @Test
+    public void testReadOnOtherThread() throws Exception {
+        KeyDictionary.setup(newConf(DICTIONARY));
+        final byte[] coded = serialize(newKey("click"));
+        assertEquals(NullableText.CODE, coded[0]);
+        final byte[] plain = serialize(newKey("ab"));
+        final List<Object> results = Collections.synchronizedList(new ArrayList<Object>());
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    // no dictionary for this thread, nor in the conf
+                    results.add(deserialize(plain).getValueAsPigType());
+                    try {
+                        deserialize(coded);
+                        results.add("read a code without a dictionary");
+                    } catch (IOException e) {
+                        results.add(e);
+                    }
+                    // the dictionary comes from the job conf
+                    NullableText key = new NullableText();
+                    key.setConf(newConf(DICTIONARY));
+                    key.readFields(new DataInputStream(new ByteArrayInputStream(coded)));
+                    results.add(key.getValueAsPigType());
+                    results.add(key.getIndex());
+                } catch (Exception e) {
+                    results.add(e);
+                }
+            }
+        };
+        thread.start();
+        thread.join();
+        assertEquals(4, results.size());
+        assertEquals("ab", results.get(0));
+        assertTrue(results.get(1) instanceof IOException);
+        assertEquals("click", results.get(2));
+        assertEquals((byte)1, results.get(3));
+    }
+
+    @Test
+    public void testRawComparator() throws Exception {
+        Configuration conf = newConf(DICTIONARY);
+        KeyDictionary.setup(conf);
+        PigTextRawComparator comparator = new PigTextRawComparator();
+        comparator.setConf(conf);
+        Random rand = new Random(123456789);
+        for (int i = 0; i < 5000; i++) {
+            String s1 = rand.nextInt(10) == 0 ? null : STRINGS[rand.nextInt(STRINGS.length)];
+            String s2 = rand.nextInt(10) == 0 ? null : STRINGS[rand.nextInt(STRINGS.length)];
+            byte[] b1 = serialize(newKey(s1));
+            byte[] b2 = serialize(newKey(s2));
+            int expected = s1 == null ? (s2 == null ? 0 : -1) : (s2 == null ? 1
+                    : new Text(s1).compareTo(new Text(s2)));
+            assertEquals(s1 + " vs " + s2, Math.signum(expected),
+                    Math.signum(comparator.compare(b1, 0, b1.length, b2, 0, b2.length)), 0);
+        }
+    }
+
+    @Test
+    public void testBuild() throws Exception {
+        ResourceFieldStatistics field = new ResourceFieldStatistics();
+        field.setMostCommonValues(new Object[] { "view", "click", "buy" });
+        field.setMostCommonValuesFreq(new float[] { 0.5f, 0.3f, 0.01f });
+        ResourceFieldStatistics ints = new ResourceFieldStatistics();
+        ints.setMostCommonValues(new Object[] { 1, 2 });
+        ints.setMostCommonValuesFreq(new float[] { 0.5f, 0.5f });
+        ResourceStatistics stats = new ResourceStatistics();
+        stats.setNumRecords(100L);
+        stats.setFields(new ResourceFieldStatistics[] { field, ints });
+        List<ResourceStatistics> list = new ArrayList<ResourceStatistics>();
+        list.add(stats);
+        list.add(null);
+        assertArrayEquals(new String[] { "view", "click" },
+                KeyDictionary.build(list, Arrays.asList(0, 0), 2));
+        // only the key column is sampled
+        assertNull(KeyDictionary.build(list, Arrays.asList(1, 1), 2));
+        assertNull(KeyDictionary.build(new ArrayList<ResourceStatistics>(),
+                new ArrayList<Integer>(), 2));
+    }
+
+    private static KeyDictionary compile(PigServer pig, String query) throws Exception {
+        PhysicalPlan pp = Util.buildPp(pig, query);
+        MROperPlan mrPlan = Util.buildMRPlan(pp, pig.getPigContext());
+        JobControlCompiler jcc = new JobControlCompiler(pig.getPigContext(),
+                ConfigurationUtil.toConfiguration(pig.getPigContext().getProperties()));
+        return KeyDictionary.get(jcc.compile(mrPlan, "Test").getWaitingJobs().get(0).getJobConf());
+    }
+
+    private static PigServer newPigServer(File stored, boolean dictionary) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(JobControlCompiler.PROP_KEY_DICTIONARY, String.valueOf(dictionary));
+        PigServer pig = new PigServer(ExecType.LOCAL, props);
+        pig.registerQuery("A = load '" + Util.generateURI(stored.toString(), pig.getPigContext())
+                + "' using ColumnarStorage();");
+        return pig;
+    }
+
+    private static List<String> run(File stored, boolean dictionary, String query)
+    throws Exception {
+        PigServer pig = newPigServer(stored, dictionary);
+        pig.registerQuery(query);
+        List<String> result = new ArrayList<String>();
+        Iterator<Tuple> it = pig.openIterator("R");
+        while (it.hasNext()) {
+            result.add(it.next().toString());
+        }
+        return result;
+    }
+
+    @Test
+    public void testGroupAndOrder() throws Exception {
+        File input = File.createTempFile("keydictionary", ".txt");
+        File stored = new File(input.toString() + ".col");
+        try {
+            PrintWriter w = new PrintWriter(input);
+            String[] events = { "view", "click", "buy", "" };
+            for (int i = 0; i < 2000; i++) {
+                // a few rare events that are not in the dictionary
+                String event = i % 500 == 0 ? "rare" + i : events[i * 7 % 11 % events.length];
+                w.println((i % 97 == 3 ? "" : event) + "\t" + i + "\ttag" + (i % 3));
+            }
+            w.close();
+            PigServer pig = new PigServer(ExecType.LOCAL);
+            pig.registerQuery("A = load '" + Util.generateURI(input.toString(), pig.getPigContext())
+                    + "' as (event:chararray, n:int, tag:chararray);");
+            pig.store("A", Util.generateURI(stored.toString(), pig.getPigContext()),
+                    "ColumnarStorage()");
+
+            // the job gets the common events as its dictionary
+            Properties props = new Properties();
+            props.setProperty(JobControlCompiler.PROP_KEY_DICTIONARY, "true");
+            pig = new PigServer(ExecType.LOCAL, props);
+            String load = "A = load '" + Util.generateURI(stored.toString(), pig.getPigContext())
+                    + "' using ColumnarStorage(); ";
+            KeyDictionary dictionary = compile(pig,
+                    load + "B = group A by event; store B into 'output';");
+            assertEquals(7, dictionary.size());
+            assertTrue(dictionary.getCode(new Text("click")) >= 0);
+            // the values of the other columns are left out
+            assertEquals(-1, dictionary.getCode(new Text("tag0")));
+
+            // the key is traced through projections and pruned columns
+            dictionary = compile(pig, load + "B = foreach A generate tag, event; "
+                    + "C = filter B by tag != 'tag2'; D = group C by event; store D into 'output';");
+            assertEquals(7, dictionary.size());
+            assertEquals(-1, dictionary.getCode(new Text("tag0")));
+            dictionary = compile(pig, load + "B = foreach A generate tag, event; "
+                    + "C = group B by tag; store C into 'output';");
+            assertEquals(3, dictionary.size());
+            assertTrue(dictionary.getCode(new Text("tag0")) >= 0);
+
+            // no dictionary for keys that are not a loaded column
+            assertNull(compile(pig, load + "B = foreach A generate CONCAT(event, tag) as k; "
+                    + "C = group B by k; store C into 'output';"));
+
+            for (String query : Arrays.asList(
+                    "B = group A by event; R = foreach B generate group, COUNT(A), SUM(A.n), MIN(A.n);",
+                    "B = foreach A generate event; R = order B by event desc;",
+                    "B = join A by event, A2 by event; R = foreach B generate A::event, A::n, A2::n;",
+                    "B = foreach A generate event; R = distinct B;")) {
+                if (query.contains("A2")) {
+                    query = "A2 = foreach A generate event, n; " + query;
+                }
+                List<String> expected = run(stored, false, query);
+                List<String> actual = run(stored, true, query);
+                if (!query.contains("order")) {
+                    Collections.sort(expected);
+                    Collections.sort(actual);
+                }
+                assertEquals(query, expected, actual);
+            }
+        } finally {
+            input.delete();
+            Util.deleteDirectory(stored);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.pig.data.BagFactory;
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.LazyTuple;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Test;
+
+public class TestLazyTuple {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+    private static final BinInterSedes sedes = new BinInterSedes();
+
+    private static Tuple makeTuple() throws Exception {
+        Tuple t = tf.newTuple(4);
+        t.set(0, 7);
+        t.set(1, "abc");
+        DataBag bag = BagFactory.getInstance().newDefaultBag();
+        bag.add(tf.newTuple((Object) 3L));
+        t.set(2, bag);
+        Map<String, Object> m = new HashMap<String, Object>();
+        m.put("k", 1.5);
+        t.set(3, m);
+        return t;
+    }
+
+    private static byte[] serialize(Tuple t) throws Exception {
+        DataOutputBuffer out = new DataOutputBuffer();
+        sedes.writeDatum(out, t);
+        byte[] bytes = new byte[out.getLength()];
+        System.arraycopy(out.getData(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    private static Tuple readLazy(byte[] bytes) throws Exception {
+        // surround the tuple with other data, as in a shuffle buffer
+        DataOutputBuffer out = new DataOutputBuffer();
+        out.writeInt(42);
+        out.write(bytes);
+        out.writeInt(43);
+        DataInputBuffer in = new DataInputBuffer();
+        in.reset(out.getData(), out.getLength());
+        assertEquals(42, in.readInt());
+        Tuple t = sedes.readLazyTuple(in);
+        assertEquals(43, in.readInt());
+        return t;
+    }
+
+    @Test
+    public void testReadLazyTuple() throws Exception {
+        Tuple t = makeTuple();
+        Tuple lazy = readLazy(serialize(t));
+        assertTrue(lazy instanceof LazyTuple);
+        assertEquals(t.get(3), lazy.get(3));
+        assertEquals(t, lazy);
+
+        Tuple empty = readLazy(serialize(tf.newTuple()));
+        assertEquals(0, empty.size());
+    }
+
+    @Test
+    public void testWriteUnchanged() throws Exception {
+        byte[] bytes = serialize(makeTuple());
+        Tuple lazy = readLazy(bytes);
+        lazy.get(1);
+        // written out as read, and as the tuple itself would be
+        assertArrayEquals(bytes, serialize(lazy));
+
+        lazy.set(1, "xyz");
+        Tuple changed = makeTuple();
+        changed.set(1, "xyz");
+        assertArrayEquals(serialize(changed), serialize(lazy));
+    }
+
+    @Test
+    public void testWriteChangedInPlace() throws Exception {
+        Tuple lazy = readLazy(serialize(makeTuple()));
+        ((DataBag) lazy.get(2)).add(tf.newTuple((Object) 4L));
+        Tuple changed = makeTuple();
+        ((DataBag) changed.get(2)).add(tf.newTuple((Object) 4L));
+        assertArrayEquals(serialize(changed), serialize(lazy));
+
+        lazy = readLazy(serialize(makeTuple()));
+        lazy.getAll().set(1, "xyz");
+        changed = makeTuple();
+        changed.set(1, "xyz");
+        assertArrayEquals(serialize(changed), serialize(lazy));
+    }
+
+    @Test
+    public void testCopyAndInsert() throws Exception {
+        Tuple t = makeTuple();
+        LazyTuple lazy = (LazyTuple) readLazy(serialize(t));
+        LazyTuple copy = lazy.copy();
+        copy.insert(0, "key");
+        copy.insert(3, null);
+        assertEquals(6, copy.size());
+        assertEquals("key", copy.get(0));
+        assertEquals(t.get(0), copy.get(1));
+        assertEquals(t.get(1), copy.get(2));
+        assertNull(copy.get(3));
+        assertEquals(t.get(2), copy.get(4));
+        assertEquals(t.get(3), copy.get(5));
+
+        Tuple expected = tf.newTuple(6);
+        expected.set(0, "key");
+        expected.set(1, t.get(0));
+        expected.set(2, t.get(1));
+        expected.set(4, t.get(2));
+        expected.set(5, t.get(3));
+        assertArrayEquals(serialize(expected), serialize(copy));
+
+        // the original is not changed
+        assertEquals(4, lazy.size());
+        assertEquals(t, lazy);
+    }
+}
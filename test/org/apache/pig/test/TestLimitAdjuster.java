@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.apache.pig.ExecType;
 import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MRCompiler;
 import org.apache.pig.data.Tuple;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -67,6 +68,8 @@ public class TestLimitAdjuster {
         
         Util.copyFromLocalToCluster(cluster, INPUT_FILE, INPUT_FILE);
         
+        // a sort job with two reducers rather than a single top n job
+        pig.getPigContext().getProperties().setProperty(MRCompiler.TOPN_MAX, "0");
         pig.registerQuery("a = load '" + INPUT_FILE + "' as (x:int, y:chararray);");
         pig.registerQuery("b = order a by x parallel 2;");
         pig.registerQuery("c = limit b 1;");
@@ -879,7 +879,7 @@ public class TestMRCompiler extends junit.framework.TestCase {
     	"store c into 'output';";
     	
     	PhysicalPlan pp = Util.buildPp(pigServer, query);
-    	MROperPlan mrPlan = Util.buildMRPlan(pp, pc);
+    	MROperPlan mrPlan = buildMRPlanWithoutTopN(pp);
     	MapReduceOper mrOper = mrPlan.getRoots().get(0);
     	int count = 1;
     	
@@ -901,7 +901,7 @@ public class TestMRCompiler extends junit.framework.TestCase {
     	"c = limit b 10;" + "store c into 'output';";
     	
     	PhysicalPlan pp = Util.buildPp(pigServerMR, query);
-    	MROperPlan mrPlan = Util.buildMRPlan(pp, pc);
+    	MROperPlan mrPlan = buildMRPlanWithoutTopN(pp);
     	
     	LimitAdjuster la = new LimitAdjuster(mrPlan, pc);
         la.visit();
@@ -917,6 +917,75 @@ public class TestMRCompiler extends junit.framework.TestCase {
     	assertTrue(count == 4);
     }
 
+    /**
+     * Compiles a plan with order by followed by limit done by a sampling job
+     * and a sort job, rather than a single top n job.
+     */
+    private MROperPlan buildMRPlanWithoutTopN(PhysicalPlan pp) throws Exception {
+        pc.getProperties().setProperty(MRCompiler.TOPN_MAX, "0");
+        try {
+            return Util.buildMRPlan(pp, pc);
+        } finally {
+            pc.getProperties().remove(MRCompiler.TOPN_MAX);
+        }
+    }
+
+    /**
+     * Test that an order by followed by a small limit is compiled into a
+     * single job, that keeps the first records in map, combiner and reducer.
+     */
+    @Test
+    public void testTopN() throws Exception {
+        String query = "a = load 'input';" +
+        "b = order a by $0 desc parallel 2;" +
+        "c = limit b 10;" +
+        "store c into 'output';";
+
+        PhysicalPlan pp = Util.buildPp(pigServer, query);
+        MROperPlan mrPlan = Util.buildMRPlan(pp, pc);
+        assertEquals(1, mrPlan.size());
+        MapReduceOper mrOper = mrPlan.getRoots().get(0);
+        assertEquals(1, mrOper.getRequestedParallelism());
+        assertFalse(mrOper.isGlobalSort());
+
+        PhysicalOperator mapTopN = mrOper.mapPlan.getPredecessors(
+                mrOper.mapPlan.getLeaves().get(0)).get(0);
+        assertTrue(mapTopN instanceof POTopN);
+        assertTrue(((POTopN) mapTopN).isWaitForEndOfAllInput());
+        assertEquals(10, ((POTopN) mapTopN).getLimit());
+
+        boolean combineTopN = false;
+        for (PhysicalOperator op : mrOper.combinePlan) {
+            combineTopN |= op instanceof POTopN;
+        }
+        assertTrue(combineTopN);
+        boolean reduceTopN = false;
+        for (PhysicalOperator op : mrOper.reducePlan) {
+            if (op instanceof POTopN) {
+                reduceTopN = true;
+                assertFalse(((POTopN) op).isWaitForEndOfAllInput());
+            }
+        }
+        assertTrue(reduceTopN);
+    }
+
+    /**
+     * Test that an order by followed by a limit larger than pig.exec.topn.max
+     * is still compiled into a sampling job and a sort job.
+     */
+    @Test
+    public void testTopNMax() throws Exception {
+        String query = "a = load 'input';" +
+        "b = order a by $0;" +
+        "c = limit b 20000;" +
+        "store c into 'output';";
+
+        PhysicalPlan pp = Util.buildPp(pigServer, query);
+        MROperPlan mrPlan = Util.buildMRPlan(pp, pc);
+        assertEquals(3, mrPlan.size());
+        assertTrue(mrPlan.getLeaves().get(0).isGlobalSort());
+    }
+
     @Test
     public void testUDFInJoin() throws Exception {
         String query = "a = load 'input1' using BinStorage();" +
@@ -1000,7 +1069,7 @@ public class TestMRCompiler extends junit.framework.TestCase {
                 + PigStorageNoDefCtor.class.getName() + "('\t');";
          
         PhysicalPlan pp = Util.buildPp(pigServerMR, query);
-        MROperPlan mrPlan = Util.buildMRPlan(pp, pc);
+        MROperPlan mrPlan = buildMRPlanWithoutTopN(pp);
         
         LimitAdjuster la = new LimitAdjuster(mrPlan, pc);
         la.visit();
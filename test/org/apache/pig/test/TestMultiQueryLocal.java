@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.File;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Properties;
@@ -29,14 +30,22 @@ import java.util.Properties;
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.ExecType;
+import org.apache.pig.FuncSpec;
 import org.apache.pig.PigException;
 import org.apache.pig.PigServer;
 import org.apache.pig.backend.executionengine.ExecJob;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MapReduceLauncher;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MapReduceOper;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROperPlan;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLoad;
+import org.apache.pig.builtin.PigStorage;
+import org.apache.pig.impl.io.FileSpec;
 import org.apache.pig.impl.io.FileLocalizer;
 import org.apache.pig.impl.plan.Operator;
+import org.apache.pig.impl.plan.OperatorKey;
 import org.apache.pig.impl.plan.OperatorPlan;
 import org.apache.pig.impl.PigContext;
 import org.apache.pig.tools.grunt.GruntParser;
@@ -44,7 +53,10 @@ import org.apache.pig.impl.util.LogUtils;
 import org.apache.pig.newplan.logical.relational.LogicalPlan;
 import org.apache.pig.tools.pigscript.parser.ParseException;
 import org.apache.pig.tools.pigstats.JobStats;
+import org.apache.pig.tools.pigstats.OutputStats;
+import org.apache.pig.tools.pigstats.PigProgressNotificationListener;
 import org.apache.pig.tools.pigstats.PigStats;
+import org.apache.pig.tools.pigstats.ScriptState;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -479,6 +491,149 @@ public class TestMultiQueryLocal {
         }
     }
 
+    @Test
+    public void testMaxConcurrentJobs() {
+        System.out.println("===== multi-query with one job at a time =====");
+
+        myPig.getPigContext().getProperties().setProperty(
+                MapReduceLauncher.PROP_MAX_CONCURRENT_JOBS, "1");
+        try {
+            myPig.setBatchOn();
+            myPig.registerQuery("a = load 'test/org/apache/pig/test/data/passwd' " +
+                                "using PigStorage(':') as (uname:chararray, passwd:chararray, uid:int,gid:int);");
+            myPig.registerQuery("b = group a by gid;");
+            myPig.registerQuery("c = foreach b generate group, COUNT(a);");
+            myPig.registerQuery("store c into '/tmp/Pig-TestMultiQueryLocal1';");
+            myPig.registerQuery("d = order a by uid;");
+            myPig.registerQuery("store d into '/tmp/Pig-TestMultiQueryLocal2';");
+            myPig.registerQuery("e = distinct a;");
+            myPig.registerQuery("f = join e by uid, c by group;");
+            myPig.registerQuery("store f into '/tmp/Pig-TestMultiQueryLocal3';");
+
+            List<ExecJob> jobs = myPig.executeBatch();
+            for (ExecJob job : jobs) {
+                Assert.assertEquals(ExecJob.JOB_STATUS.COMPLETED, job.getStatus());
+            }
+
+            PigStats stats = jobs.get(0).getStatistics();
+            Assert.assertTrue(stats.getJobGraph().size() > 1);
+            Iterator<JobStats> iter = stats.getJobGraph().iterator();
+            while (iter.hasNext()) {
+                Assert.assertTrue(iter.next().isSuccessful());
+            }
+
+            Assert.assertTrue(new File("/tmp/Pig-TestMultiQueryLocal1").exists());
+            Assert.assertTrue(new File("/tmp/Pig-TestMultiQueryLocal2").exists());
+            Assert.assertTrue(new File("/tmp/Pig-TestMultiQueryLocal3").exists());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            myPig.getPigContext().getProperties().remove(
+                    MapReduceLauncher.PROP_MAX_CONCURRENT_JOBS);
+            deleteOutputFiles();
+        }
+    }
+
+    @Test
+    public void testMaxConcurrentJobsCap() {
+        System.out.println("===== multi-query with two jobs at a time =====");
+
+        final int[] running = new int[2];
+        ScriptState ss = ScriptState.start("", myPig.getPigContext());
+        ss.registerListener(new PigProgressNotificationListener() {
+            public void launchStartedNotification(String scriptId, int numJobsToLaunch) {
+            }
+            public void jobsSubmittedNotification(String scriptId, int numJobsSubmitted) {
+                running[0] += numJobsSubmitted;
+                running[1] = Math.max(running[1], running[0]);
+            }
+            public void jobStartedNotification(String scriptId, String assignedJobId) {
+            }
+            public void jobFinishedNotification(String scriptId, JobStats jobStats) {
+                running[0]--;
+            }
+            public void jobFailedNotification(String scriptId, JobStats jobStats) {
+                running[0]--;
+            }
+            public void outputCompletedNotification(String scriptId, OutputStats outputStats) {
+            }
+            public void progressUpdatedNotification(String scriptId, int progress) {
+            }
+            public void launchCompletedNotification(String scriptId, int numJobsSucceeded) {
+            }
+        });
+        myPig.getPigContext().getProperties().setProperty(
+                MapReduceLauncher.PROP_MAX_CONCURRENT_JOBS, "2");
+        try {
+            myPig.setBatchOn();
+            // three independent branches are ready at first
+            myPig.registerQuery("a = load 'test/org/apache/pig/test/data/passwd' " +
+                                "using PigStorage(':') as (uname:chararray, passwd:chararray, uid:int,gid:int);");
+            myPig.registerQuery("b = group a by gid;");
+            myPig.registerQuery("c = foreach b generate group, COUNT(a);");
+            myPig.registerQuery("store c into '/tmp/Pig-TestMultiQueryLocal1';");
+            myPig.registerQuery("d = order a by uid;");
+            myPig.registerQuery("store d into '/tmp/Pig-TestMultiQueryLocal2';");
+            myPig.registerQuery("e = distinct a;");
+            myPig.registerQuery("store e into '/tmp/Pig-TestMultiQueryLocal3';");
+
+            List<ExecJob> jobs = myPig.executeBatch();
+            for (ExecJob job : jobs) {
+                Assert.assertEquals(ExecJob.JOB_STATUS.COMPLETED, job.getStatus());
+            }
+            Assert.assertTrue(jobs.get(0).getStatistics().getJobGraph().size() > 2);
+            Assert.assertEquals(0, running[0]);
+            Assert.assertEquals(2, running[1]);
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            myPig.getPigContext().getProperties().remove(
+                    MapReduceLauncher.PROP_MAX_CONCURRENT_JOBS);
+            ScriptState.start("", myPig.getPigContext());
+            deleteOutputFiles();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEstimateCriticalPaths() throws Exception {
+        // a -> b -> c <- d, where d loads a file and the others only
+        // read the output of the jobs before them
+        String scope = "test";
+        MROperPlan mrp = new MROperPlan();
+        MapReduceOper a = new MapReduceOper(new OperatorKey(scope, 1));
+        MapReduceOper b = new MapReduceOper(new OperatorKey(scope, 2));
+        MapReduceOper c = new MapReduceOper(new OperatorKey(scope, 3));
+        MapReduceOper d = new MapReduceOper(new OperatorKey(scope, 4));
+        File input = new File("test/org/apache/pig/test/data/passwd");
+        d.mapPlan.add(new POLoad(new OperatorKey(scope, 5),
+                new FileSpec(input.getAbsolutePath(), new FuncSpec(PigStorage.class.getName()))));
+        for (MapReduceOper mro : new MapReduceOper[] { a, b, c, d }) {
+            mrp.add(mro);
+        }
+        mrp.connect(a, b);
+        mrp.connect(b, c);
+        mrp.connect(d, c);
+
+        java.lang.reflect.Method estimate = MapReduceLauncher.class.getDeclaredMethod(
+                "estimateCriticalPaths", MROperPlan.class, Configuration.class);
+        estimate.setAccessible(true);
+        Map<MapReduceOper, Long> paths = (Map<MapReduceOper, Long>) estimate.invoke(
+                null, mrp, new Configuration());
+
+        // each job counts for one byte on top of its input, and the input
+        // of a job includes that of the jobs before it
+        long size = input.length();
+        Assert.assertEquals(4, paths.size());
+        Assert.assertEquals(Long.valueOf(4 + size), paths.get(c));
+        Assert.assertEquals(Long.valueOf(6 + size), paths.get(b));
+        Assert.assertEquals(Long.valueOf(7 + size), paths.get(a));
+        Assert.assertEquals(Long.valueOf(5 + 2 * size), paths.get(d));
+        Assert.assertTrue(paths.get(d) > paths.get(a));
+    }
+
     // --------------------------------------------------------------------------
     // Helper methods
 
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.pig.backend.executionengine.ExecException;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.io.NullableNormalizedKey;
+import org.junit.Test;
+
+/**
+ * Test that normalized keys sort as bytes like the values they encode
+ */
+public class TestNullableNormalizedKey {
+
+    private static final int SEED = 123456789;
+
+    private TupleFactory tf = TupleFactory.getInstance();
+
+    private static final String[] STRINGS = { "", "a", "ab", "a\u0000", "a\u0001", "\u00e9", "\u4e2d",
+            "\ud83d\ude00", "\uffe0", "b" };
+
+    private Object randomValue(Random rand) {
+        switch (rand.nextInt(6)) {
+        case 0:
+            return null;
+        case 1:
+            return rand.nextInt(5) - 2;
+        case 2:
+            return rand.nextBoolean() ? Long.MIN_VALUE : (long)(rand.nextInt(5) - 2);
+        case 3:
+            float[] floats = { -1.5f, -0.0f, 0.0f, 2.5f, Float.NaN, Float.NEGATIVE_INFINITY };
+            return floats[rand.nextInt(floats.length)];
+        case 4:
+            double[] doubles = { -1.5, -0.0, 0.0, 2.5, Double.NaN, Double.MAX_VALUE };
+            return doubles[rand.nextInt(doubles.length)];
+        default:
+            return STRINGS[rand.nextInt(STRINGS.length)];
+        }
+    }
+
+    private byte[] serialize(NullableNormalizedKey key) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        key.write(new DataOutputStream(baos));
+        return baos.toByteArray();
+    }
+
+    private NullableNormalizedKey deserialize(byte[] b) throws IOException {
+        NullableNormalizedKey key = new NullableNormalizedKey();
+        key.readFields(new DataInputStream(new ByteArrayInputStream(b)));
+        return key;
+    }
+
+    private int compareBytes(byte[] b1, byte[] b2) {
+        return WritableComparator.compareBytes(b1, 0, b1.length, b2, 0, b2.length);
+    }
+
+    @Test
+    public void testSingleValues() throws Exception {
+        Random rand = new Random(SEED);
+        for (int i = 0; i < 5000; i++) {
+            Object o1 = randomValue(rand);
+            Object o2 = randomValue(rand);
+            boolean asc = rand.nextBoolean();
+            byte[] b1 = serialize(new NullableNormalizedKey(o1, new boolean[] { asc }));
+            byte[] b2 = serialize(new NullableNormalizedKey(o2, new boolean[] { asc }));
+            int expected = DataType.compare(o1, o2) * (asc ? 1 : -1);
+            assertEquals(o1 + " vs " + o2, Math.signum(expected), Math.signum(compareBytes(b1, b2)), 0);
+            assertEquals(o1, deserialize(b1).getValueAsPigType());
+        }
+    }
+
+    @Test
+    public void testTuples() throws Exception {
+        Random rand = new Random(SEED);
+        for (int i = 0; i < 5000; i++) {
+            Tuple t1 = tf.newTuple(Arrays.asList(randomValue(rand), randomValue(rand), randomValue(rand)));
+            Tuple t2 = tf.newTuple(Arrays.asList(randomValue(rand), randomValue(rand), randomValue(rand)));
+            boolean[] asc = { rand.nextBoolean(), rand.nextBoolean(), rand.nextBoolean() };
+            byte[] b1 = serialize(new NullableNormalizedKey(t1, asc));
+            byte[] b2 = serialize(new NullableNormalizedKey(t2, asc));
+            int expected = 0;
+            for (int j = 0; j < 3 && expected == 0; j++) {
+                expected = DataType.compare(t1.get(j), t2.get(j)) * (asc[j] ? 1 : -1);
+            }
+            assertEquals(t1 + " vs " + t2, Math.signum(expected), Math.signum(compareBytes(b1, b2)), 0);
+            assertEquals(t1, deserialize(b1).getValueAsPigType());
+        }
+    }
+
+    @Test
+    public void testGrouping() throws Exception {
+        boolean[] asc = { true };
+        NullableNormalizedKey k1 = new NullableNormalizedKey(tf.newTuple(Arrays.<Object> asList(1, "a")), asc);
+        NullableNormalizedKey k2 = new NullableNormalizedKey(tf.newTuple(Arrays.<Object> asList(1, "a")), asc);
+        k1.setIndex((byte)0);
+        k2.setIndex((byte)1);
+        byte[] b1 = serialize(k1);
+        byte[] b2 = serialize(k2);
+        // keys from different inputs sort apart but group together
+        assertTrue(compareBytes(b1, b2) < 0);
+        assertEquals(0, NullableNormalizedKey.compareForGrouping(b1, 0, b1.length, b2, 0, b2.length));
+        assertEquals(0, deserialize(b1).compareForGrouping(deserialize(b2)));
+        assertEquals(k1.hashCode(), k2.hashCode());
+
+        // unless they contain a null
+        k1 = new NullableNormalizedKey(tf.newTuple(Arrays.<Object> asList(1, null)), asc);
+        k2 = new NullableNormalizedKey(tf.newTuple(Arrays.<Object> asList(1, null)), asc);
+        k1.setIndex((byte)0);
+        k2.setIndex((byte)1);
+        b1 = serialize(k1);
+        b2 = serialize(k2);
+        assertTrue(NullableNormalizedKey.compareForGrouping(b1, 0, b1.length, b2, 0, b2.length) < 0);
+        assertTrue(deserialize(b1).compareForGrouping(deserialize(b2)) < 0);
+        assertEquals(1, deserialize(b2).getIndex());
+    }
+
+    @Test
+    public void testUnsupportedType() throws Exception {
+        try {
+            new NullableNormalizedKey(new DataByteArray("a"), new boolean[] { true });
+            fail("Expected ExecException");
+        } catch (ExecException e) {
+            assertEquals(2263, e.getErrorCode());
+        }
+    }
+}
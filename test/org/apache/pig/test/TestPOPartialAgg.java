@@ -18,10 +18,13 @@
 package org.apache.pig.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.pig.FuncSpec;
@@ -37,6 +40,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOpe
 import org.apache.pig.builtin.IntSum;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
 import org.apache.pig.impl.plan.PlanException;
 import org.apache.pig.parser.ParserException;
 import org.apache.pig.test.utils.GenPhyOp;
@@ -292,6 +296,55 @@ public class TestPOPartialAgg {
 
     }
 
+    @Test
+    public void testReenableAfterDisable() throws Exception {
+        PigMapReduce.sJobConfInternal.set(new Configuration());
+        TupleFactory tf = TupleFactory.getInstance();
+        List<Tuple> outputs = new ArrayList<Tuple>();
+        Map<Integer, Long> expectedSums = new HashMap<Integer, Long>();
+
+        // distinct keys, this gets map aggregation disabled
+        int numInputs = 0;
+        for (int i = 0; i < 1000; i++) {
+            runInput(tf, 1000 + i, expectedSums, outputs);
+            numInputs++;
+        }
+        // few keys, these get aggregated once it is tried again
+        for (int i = 0; i < 150000; i++) {
+            runInput(tf, i % 5, expectedSums, outputs);
+            numInputs++;
+        }
+
+        parentPlan.endOfAllInput = true;
+        while (addResults(partAggOp.getNext(dummyTuple), outputs));
+
+        // at most the first 1000 records and the pass through records
+        // before map aggregation was tried again come out unaggregated
+        assertTrue(outputs.size() < numInputs - 40000);
+
+        Map<Integer, Long> sums = new HashMap<Integer, Long>();
+        for (Tuple t : outputs) {
+            Integer key = (Integer) t.get(0);
+            Long val = (Long) ((Tuple) t.get(1)).get(0);
+            Long sum = sums.get(key);
+            sums.put(key, sum == null ? val : sum + val);
+        }
+        assertEquals(expectedSums, sums);
+    }
+
+    private void runInput(TupleFactory tf, int key,
+            Map<Integer, Long> expectedSums, List<Tuple> outputs)
+            throws ExecException {
+        Tuple t = tf.newTuple(2);
+        t.set(0, key);
+        t.set(1, tf.newTuple(Long.valueOf(1L)));
+        Long sum = expectedSums.get(key);
+        expectedSums.put(key, sum == null ? 1L : sum + 1L);
+
+        partAggOp.attachInput(t);
+        while (addResults(partAggOp.getNext(dummyTuple), outputs));
+    }
+
     private boolean addResults(Result res, List<Tuple> outputs) {
         if (res.returnStatus == POStatus.STATUS_EOP) {
             return false;
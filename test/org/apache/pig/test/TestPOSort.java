@@ -35,6 +35,7 @@ import org.apache.pig.backend.hadoop.executionengine.physicalLayer.Result;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
 import org.apache.pig.test.PORead;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POSort;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POTopN;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POProject;
 import org.apache.pig.backend.hadoop.executionengine.physicalLayer.expressionOperators.POUserComparisonFunc;
 import org.apache.pig.test.utils.GenRandomData;
@@ -632,6 +633,46 @@ public class TestPOSort extends TestCase {
 		}
      
     }
+	@Test
+	public void testPOTopN() throws ExecException {
+		DataBag input = (DataBag) GenRandomData.genRandSmallTupDataBagWithNulls(r,
+				100, 100);
+		List<Object> expected = new LinkedList<Object>();
+		POSort sort = intDescSort(input);
+		for (Result res = sort.getNext((Tuple) null); res.returnStatus != POStatus.STATUS_EOP;
+				res = sort.getNext((Tuple) null)) {
+			if (expected.size() < 7) {
+				expected.add(((Tuple) res.result).get(1));
+			}
+		}
+
+		POSort limited = intDescSort(input);
+		POTopN topN = new POTopN(new OperatorKey("", r.nextLong()), limited, 7);
+		topN.setInputs(limited.getInputs());
+		List<Object> actual = new LinkedList<Object>();
+		for (Result res = topN.getNext((Tuple) null); res.returnStatus != POStatus.STATUS_EOP;
+				res = topN.getNext((Tuple) null)) {
+			actual.add(((Tuple) res.result).get(1));
+		}
+		assertEquals(expected, actual);
+	}
+
+	private POSort intDescSort(DataBag input) {
+		List<PhysicalPlan> sortPlans = new LinkedList<PhysicalPlan>();
+		POProject pr1 = new POProject(new OperatorKey("", r.nextLong()), -1, 1);
+		pr1.setResultType(DataType.INTEGER);
+		PhysicalPlan expPlan = new PhysicalPlan();
+		expPlan.add(pr1);
+		sortPlans.add(expPlan);
+		List<Boolean> mAscCols = new LinkedList<Boolean>();
+		mAscCols.add(false);
+		PORead read = new PORead(new OperatorKey("", r.nextLong()), input);
+		List<PhysicalOperator> inputs = new LinkedList<PhysicalOperator>();
+		inputs.add(read);
+		return new POSort(new OperatorKey("", r.nextLong()), -1, inputs,
+				sortPlans, mAscCols, null);
+	}
+
 	// sorts values in ascending order of their distance from 50
 	public static class WeirdComparator extends ComparisonFunc {
 
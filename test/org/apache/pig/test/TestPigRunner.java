@@ -208,6 +208,8 @@ public class TestPigRunner {
     @Test
     public void orderByTest() throws Exception {
         PrintWriter w = new PrintWriter(new FileWriter(PIG_FILE));
+        // a sampling job and a sort job rather than a single top n job
+        w.println("set pig.exec.topn.max 0;");
         w.println("A = load '" + INPUT_FILE + "' as (a0:int, a1:int, a2:int);");
         w.println("B = order A by a0;");
         w.println("C = limit B 2;");
@@ -377,6 +377,51 @@ public class TestPigStorage  {
         Assert.assertFalse(sessions.hasNext());
     }
 
+    @Test
+    public void testTypedFieldsWithSchema() throws Exception {
+        pigContext.connect();
+        Util.createLocalInputFile(datadir + "typedinput",
+                new String[] {"a\t1\t10000000000\t1.5\t2.25\tx\ttrue",
+                "\t-7\t-1\t1e3\t-0.1\t\tfalse",
+                "b\tnotanint\t3\t\t7\ty\ttrue\textra",
+                "c\t12.7"});
+        pig.registerQuery("a = LOAD '" + datadir + "typedinput' " +
+                "as (s:chararray, i:int, l:long, f:float, d:double, b:bytearray, t:boolean);");
+        pig.store("a", datadir + "typedout", "PigStorage('\\t', '-schema')");
+        // fields past the end of the schema are left as bytearrays
+        Util.createLocalInputFile(datadir + "typedout/part-extra",
+                new String[] {"e\t5\t6\t7\t8\tz\tfalse\tmore"});
+
+        // the stored schema types the fields as they are read
+        pig.registerQuery("b = LOAD '" + datadir + "typedout';");
+        Iterator<Tuple> it = pig.openIterator("b");
+        Tuple t = it.next();
+        assertEquals("(a,1,10000000000,1.5,2.25,x,true)", t.toString());
+        assertEquals(DataType.INTEGER, DataType.findType(t.get(1)));
+        assertEquals(DataType.LONG, DataType.findType(t.get(2)));
+        assertEquals(DataType.FLOAT, DataType.findType(t.get(3)));
+        assertEquals(DataType.DOUBLE, DataType.findType(t.get(4)));
+        assertEquals(DataType.BYTEARRAY, DataType.findType(t.get(5)));
+        assertEquals(DataType.BOOLEAN, DataType.findType(t.get(6)));
+        assertEquals("(,-7,-1,1000.0,-0.1,,false)", it.next().toString());
+        assertEquals("(b,,3,,7.0,y,true)", it.next().toString());
+        assertEquals("(c,12,,,,,)", it.next().toString());
+        t = it.next();
+        assertEquals("(e,5,6,7.0,8.0,z,false,more)", t.toString());
+        assertEquals(DataType.BYTEARRAY, DataType.findType(t.get(7)));
+        assertFalse(it.hasNext());
+
+        // only the projected fields are decoded
+        pig.registerQuery("c = foreach b generate i, d;");
+        it = pig.openIterator("c");
+        assertEquals("(1,2.25)", it.next().toString());
+        assertEquals("(-7,-0.1)", it.next().toString());
+        assertEquals("(,7.0)", it.next().toString());
+        assertEquals("(12,)", it.next().toString());
+        assertEquals("(5,8.0)", it.next().toString());
+        assertFalse(it.hasNext());
+    }
+
     @Test
     public void testPigStorageSchemaHeaderDelimiter() throws Exception {
         pigContext.connect();
@@ -26,15 +26,19 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import org.apache.hadoop.io.RawComparator;
 import org.apache.hadoop.mapred.JobConf;
+import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleDefaultRawComparator;
 import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigTupleSortComparator;
 import org.apache.pig.data.DataBag;
 import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.DataType;
 import org.apache.pig.data.DefaultDataBag;
 import org.apache.pig.data.Tuple;
 import org.apache.pig.data.TupleFactory;
@@ -205,6 +209,25 @@ public class TestPigTupleRawComparator {
         assertTrue(res < 0);
     }
 
+    @Test
+    public void testCompareNonAsciiCharArray() throws IOException {
+        // ASCII, two and three byte characters, a supplementary character
+        // and the null character, written both as SMALLCHARARRAY (modified
+        // UTF-8) and as CHARARRAY (UTF-8)
+        String[] strs = { "abc", "ab\u00e9", "ab\u00ff", "ab\u4e2d", "ab\uffe0", "ab\ud83d\ude00", "ab\u0000",
+                "ab", "\u00e9", "\ud83d\ude00z", "\uffe0z" };
+        for (String large : new String[] { "", appendChars("", 'x', 70000) }) {
+            for (String s1 : strs) {
+                for (String s2 : strs) {
+                    NullableTuple t1 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(s1 + large, 1)));
+                    NullableTuple t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(s2 + large, 1)));
+                    int res = compareHelper(t1, t2, comparator);
+                    assertEquals(s1 + " vs " + s2, Math.signum(t1.compareTo(t2)), Math.signum(res), 0);
+                }
+            }
+        }
+    }
+
     private String appendChars(String str, char c, int rep) {
         StringBuilder sb = new StringBuilder(str.length() + rep);
         sb.append(str);
@@ -314,6 +337,34 @@ public class TestPigTupleRawComparator {
     
     }
 
+    @Test
+    public void testCompareBagOrder() throws IOException {
+        // bags with the same tuples in a different order are equal
+        DataBag b1 = new DefaultDataBag();
+        DataBag b2 = new DefaultDataBag();
+        for (int i = 0; i < 50; i++) {
+            b1.add(tf.newTuple(Arrays.<Object> asList(i, "v" + (i % 7))));
+            b2.add(tf.newTuple(Arrays.<Object> asList(49 - i, "v" + ((49 - i) % 7))));
+        }
+        NullableTuple t1 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(b1, 1)));
+        NullableTuple t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(b2, 1)));
+        int res = compareHelper(t1, t2, comparator);
+        assertEquals(Math.signum(t1.compareTo(t2)), Math.signum(res), 0);
+        assertTrue(res == 0);
+
+        // the field after the bag decides
+        t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(b2, 2)));
+        res = compareHelper(t1, t2, comparator);
+        assertTrue(res < 0);
+
+        b2.add(tf.newTuple(Arrays.<Object> asList(-1, "v0")));
+        b1.add(tf.newTuple(Arrays.<Object> asList(-1, "v1")));
+        t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(b2, 1)));
+        res = compareHelper(t1, t2, comparator);
+        assertEquals(Math.signum(t1.compareTo(t2)), Math.signum(res), 0);
+        assertTrue(res > 0);
+    }
+
     private DataBag createLargeBag(int size, TupleFactory tf) {
         Tuple t = tf.newTuple(Arrays.asList(0));
         ArrayList<Tuple> tuplist = new ArrayList<Tuple>(size); 
@@ -358,6 +409,69 @@ public class TestPigTupleRawComparator {
         assertTrue(res < 0);
     }
 
+    @Test
+    public void testCompareNestedMaps() throws IOException {
+        // maps with several keys, inserted in different orders, holding
+        // tuples and bags
+        Random rand = new Random(SEED);
+        for (int i = 0; i < TUPLE_NUMBER; i++) {
+            Map<String, Object> m1 = randomMap(rand);
+            Map<String, Object> m2 = rand.nextInt(4) == 0 ? new LinkedHashMap<String, Object>(m1) : randomMap(rand);
+            NullableTuple t1 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(m1, 1)));
+            NullableTuple t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList(m2, 1)));
+            int res = compareHelper(t1, t2, comparator);
+            assertEquals(Math.signum(t1.compareTo(t2)), Math.signum(res), 0);
+        }
+    }
+
+    private Map<String, Object> randomMap(Random rand) throws IOException {
+        Map<String, Object> m = new LinkedHashMap<String, Object>();
+        int size = 1 + rand.nextInt(3);
+        while (m.size() < size) {
+            String key = "k" + rand.nextInt(4);
+            switch (rand.nextInt(3)) {
+            case 0:
+                m.put(key, rand.nextInt(2));
+                break;
+            case 1:
+                m.put(key, tf.newTuple(Arrays.<Object> asList("a" + rand.nextInt(2), rand.nextInt(2))));
+                break;
+            default:
+                DataBag b = new DefaultDataBag();
+                for (int j = rand.nextInt(3); j > 0; j--)
+                    b.add(tf.newTuple(Arrays.<Object> asList(rand.nextInt(2))));
+                m.put(key, b);
+            }
+        }
+        return m;
+    }
+
+    @Test
+    public void testSortOrderNested() throws IOException {
+        // descending first column, ascending nested tuple
+        JobConf jobConf = new JobConf();
+        jobConf.set("pig.sortOrder", ObjectSerializer.serialize(new boolean[] { false, true }));
+        comparator.setConf(jobConf);
+        Random rand = new Random(SEED);
+        for (int i = 0; i < TUPLE_NUMBER; i++) {
+            NullableTuple t1 = new NullableTuple(tf.newTuple(Arrays.<Object> asList("s" + rand.nextInt(3),
+                    tf.newTuple(Arrays.<Object> asList(rand.nextInt(3), "\u00e9" + rand.nextInt(3))))));
+            NullableTuple t2 = new NullableTuple(tf.newTuple(Arrays.<Object> asList("s" + rand.nextInt(3),
+                    tf.newTuple(Arrays.<Object> asList(rand.nextInt(3), "\u00e9" + rand.nextInt(3))))));
+            int expected = DataType.compare(t1.getValueAsPigType(), t2.getValueAsPigType());
+            try {
+                int first = DataType.compare(((Tuple) t1.getValueAsPigType()).get(0),
+                        ((Tuple) t2.getValueAsPigType()).get(0));
+                if (first != 0)
+                    expected = -first;
+            } catch (ExecException e) {
+                throw new IOException(e);
+            }
+            int res = compareHelper(t1, t2, comparator);
+            assertEquals(Math.signum(expected), Math.signum(res), 0);
+        }
+    }
+
     @Test
     public void testCompareDiffertTypes() throws IOException {
         // DataType.INTEGER < DataType.LONG
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.pig.ExecType;
+import org.apache.pig.Expression;
+import org.apache.pig.Expression.OpType;
+import org.apache.pig.LoadFunc;
+import org.apache.pig.LoadMetadata;
+import org.apache.pig.LoadPredicatePushdown;
+import org.apache.pig.PigServer;
+import org.apache.pig.ResourceSchema;
+import org.apache.pig.ResourceStatistics;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.PigSplit;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.PigContext;
+import org.apache.pig.impl.logicalLayer.schema.Schema;
+import org.apache.pig.impl.util.Utils;
+import org.apache.pig.newplan.Operator;
+import org.apache.pig.newplan.OperatorPlan;
+import org.apache.pig.newplan.PColFilterExtractor;
+import org.apache.pig.newplan.logical.expression.LogicalExpression;
+import org.apache.pig.newplan.logical.optimizer.LogicalPlanOptimizer;
+import org.apache.pig.newplan.logical.relational.LOFilter;
+import org.apache.pig.newplan.logical.relational.LogicalPlan;
+import org.apache.pig.newplan.logical.rules.PredicatePushdownOptimizer;
+import org.apache.pig.newplan.optimizer.PlanOptimizer;
+import org.apache.pig.newplan.optimizer.Rule;
+import org.apache.pig.parser.ParserException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * unit tests to test pushing the conditions of a filter following a load
+ * down to a loader that implements {@link LoadPredicatePushdown}
+ */
+public class TestPredicatePushdown {
+    static PigContext pc = new PigContext(ExecType.LOCAL, new Properties());
+
+    String load = "a = load 'foo' using " + TestLoader.class.getName()
+        + "('srcid:int, mrkt:chararray, dstid:int, name:chararray, age:int', "
+        + "'srcid,mrkt,age')";
+
+    @Before
+    public void setUp() {
+        TestLoader.predicate = null;
+    }
+
+    /**
+     * test case where the filter has conditions the loader enforces exactly,
+     * conditions it enforces approximately and conditions it cannot take
+     */
+    @Test
+    public void testMixed() throws Exception {
+        String q = load + ";b = filter a by srcid == 10 and name == 'foo' and age > 5;"
+            + "store b into 'out';";
+        LogicalPlan plan = optimize(q);
+        Assert.assertEquals("((srcid == 10) and (age > 5))", TestLoader.predicate.toString());
+        Assert.assertEquals("((name == 'foo') and (age > 5))", getFilter(plan));
+    }
+
+    /**
+     * test case where the loader enforces all of the filter
+     */
+    @Test
+    public void testFilterRemoved() throws Exception {
+        String q = load + ";b = filter a by srcid == 10 and mrkt == 'us';"
+            + "store b into 'out';";
+        LogicalPlan plan = optimize(q);
+        Assert.assertEquals("((srcid == 10) and (mrkt == 'us'))",
+                TestLoader.predicate.toString());
+        Assert.assertNull(getFilter(plan));
+    }
+
+    /**
+     * test case where conditions are combined with or, not and is null
+     */
+    @Test
+    public void testLogicalOperators() throws Exception {
+        String q = load + ";b = filter a by (srcid == 10 or not (mrkt is null)) and 20 < age;"
+            + "store b into 'out';";
+        LogicalPlan plan = optimize(q);
+        Assert.assertEquals("(((srcid == 10) or (not (mrkt is null))) and (20 < age))",
+                TestLoader.predicate.toString());
+        Assert.assertNotNull(getFilterOperator(plan));
+    }
+
+    /**
+     * test case where no condition can be pushed down, so the loader is not
+     * given any predicate
+     */
+    @Test
+    public void testNothingPushed() throws Exception {
+        String q = load + ";b = filter a by name == 'foo' and age + 1 > 5 and dstid == srcid"
+            + " and mrkt matches '.*us.*';"
+            + "store b into 'out';";
+        LogicalPlan plan = optimize(q);
+        Assert.assertNull(TestLoader.predicate);
+        Assert.assertNotNull(getFilterOperator(plan));
+    }
+
+    /**
+     * test that the loader gets its own names of the fields when the user
+     * has renamed them in the load statement
+     */
+    @Test
+    public void testColNameMapping() throws Exception {
+        String q = load + " as (f1, f2, f3, f4, f5);"
+            + "b = filter a by f1 == 10 and f4 == 'foo';"
+            + "store b into 'out';";
+        LogicalPlan plan = optimize(q);
+        Assert.assertEquals("(srcid == 10)", TestLoader.predicate.toString());
+        Assert.assertEquals("(f4 == 'foo')", getFilter(plan));
+    }
+
+    private LogicalPlan optimize(String query) throws Exception {
+        PigServer pigServer = new PigServer( pc );
+        LogicalPlan newLogicalPlan = Util.buildLp(pigServer, query);
+        PlanOptimizer optimizer = new MyPlanOptimizer( newLogicalPlan, 3 );
+        optimizer.optimize();
+        return newLogicalPlan;
+    }
+
+    private LOFilter getFilterOperator(LogicalPlan plan) {
+        Iterator<Operator> iter = plan.getOperators();
+        while (iter.hasNext()) {
+            Operator op = iter.next();
+            if (op instanceof LOFilter) {
+                return (LOFilter)op;
+            }
+        }
+        return null;
+    }
+
+    private String getFilter(LogicalPlan plan) throws Exception {
+        LOFilter filter = getFilterOperator(plan);
+        if (filter == null) {
+            return null;
+        }
+        PColFilterExtractor extractor = new PColFilterExtractor(filter.getFilterPlan(),
+                new ArrayList<String>());
+        return extractor.getExpression(
+                (LogicalExpression)filter.getFilterPlan().getSources().get(0)).toString();
+    }
+
+    /**
+     * this loader is only used to test the predicates given to it - it
+     * enforces the equality conditions exactly and the others approximately
+     */
+    public static class TestLoader extends LoadFunc implements LoadMetadata,
+            LoadPredicatePushdown {
+
+        Schema schema;
+        List<String> fields;
+        static Expression predicate = null;
+
+        public TestLoader(String schemaString, String commaSepFields)
+        throws ParserException {
+            schema = Utils.getSchemaFromString(schemaString);
+            fields = Arrays.asList(commaSepFields.split(","));
+        }
+
+        @Override
+        public InputFormat getInputFormat() throws IOException {
+            return null;
+        }
+
+        @Override
+        public Tuple getNext() throws IOException {
+            return null;
+        }
+
+        @Override
+        public void prepareToRead(RecordReader reader, PigSplit split)
+        throws IOException {
+        }
+
+        @Override
+        public void setLocation(String location, Job job) throws IOException {
+        }
+
+        @Override
+        public String[] getPartitionKeys(String location, Job job)
+        throws IOException {
+            return null;
+        }
+
+        @Override
+        public ResourceSchema getSchema(String location, Job job)
+        throws IOException {
+            return new ResourceSchema(schema);
+        }
+
+        @Override
+        public ResourceStatistics getStatistics(String location,
+                Job job) throws IOException {
+            return null;
+        }
+
+        @Override
+        public void setPartitionFilter(Expression partitionFilter)
+        throws IOException {
+        }
+
+        @Override
+        public List<String> getPredicateFields(String location, Job job)
+        throws IOException {
+            return fields;
+        }
+
+        @Override
+        public List<OpType> getSupportedExpressionTypes() {
+            return Arrays.asList(OpType.OP_EQ, OpType.OP_GT, OpType.OP_LT,
+                    OpType.OP_AND, OpType.OP_OR, OpType.OP_NOT, OpType.OP_NULL);
+        }
+
+        @Override
+        public Expression setPushdownPredicate(Expression predicate)
+        throws IOException {
+            TestLoader.predicate = predicate;
+            List<Expression> conditions = new ArrayList<Expression>();
+            getConjuncts(predicate, conditions);
+            Expression residual = null;
+            for (Expression condition : conditions) {
+                if (condition.getOpType() != OpType.OP_EQ) {
+                    residual = residual == null ? condition
+                            : new Expression.BinaryExpression(residual, condition, OpType.OP_AND);
+                }
+            }
+            return residual;
+        }
+
+        private void getConjuncts(Expression expr, List<Expression> conjuncts) {
+            if (expr.getOpType() == OpType.OP_AND) {
+                getConjuncts(((Expression.BinaryExpression)expr).getLhs(), conjuncts);
+                getConjuncts(((Expression.BinaryExpression)expr).getRhs(), conjuncts);
+            } else {
+                conjuncts.add(expr);
+            }
+        }
+    }
+
+    public class MyPlanOptimizer extends LogicalPlanOptimizer {
+        protected MyPlanOptimizer(OperatorPlan p,  int iterations) {
+            super( p, iterations, new HashSet<String>() );
+        }
+
+        protected List<Set<Rule>> buildRuleSets() {
+            List<Set<Rule>> ls = new ArrayList<Set<Rule>>();
+            Set<Rule> s = new HashSet<Rule>();
+            s.add(new PredicatePushdownOptimizer("PredicatePushdownOptimizer"));
+            ls.add(s);
+            return ls;
+        }
+    }
+}
@@ -1,20 +1,32 @@
 package org.apache.pig.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Properties;
 
+import org.apache.pig.ExecType;
+import org.apache.pig.PigServer;
 import org.apache.pig.backend.executionengine.ExecException;
 import org.apache.pig.data.DataType;
 import org.apache.pig.data.InterSedes;
 import org.apache.pig.data.InterSedesFactory;
 import org.apache.pig.data.PrimitiveTuple;
+import org.apache.pig.data.SchemaTupleFactory;
 import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
 import org.junit.Test;
 
 public class TestPrimitiveTuple {
@@ -82,4 +94,94 @@ public class TestPrimitiveTuple {
         assertEquals(t, t3);
 
     }
+
+    @Test
+    public void testNulls() throws IOException {
+        PrimitiveTuple t = new PrimitiveTuple(DataType.INTEGER, DataType.LONG, DataType.BOOLEAN);
+        t.set(0, null);
+        t.setLong(1, LONG);
+        t.setBoolean(2, true);
+        assertNull(t.get(0));
+        assertNull(t.getInteger(0));
+        assertEquals(Arrays.<Object>asList(null, LONG, true), t.getAll());
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        t.write(new DataOutputStream(baos));
+        Tuple t2 = (Tuple) sedes.readDatum(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+        assertEquals(t, t2);
+        assertNull(t2.get(0));
+
+        // setting a value clears the null
+        t.setInt(0, INT);
+        assertEquals(INT, t.get(0));
+    }
+
+    @Test
+    public void testSameAsDefaultTuple() throws ExecException {
+        PrimitiveTuple t = new PrimitiveTuple(DataType.INTEGER, DataType.DOUBLE, DataType.LONG);
+        t.set(0, INT);
+        t.set(1, null);
+        t.set(2, LONG);
+        Tuple dt = TupleFactory.getInstance().newTuple(Arrays.<Object>asList(INT, null, LONG));
+        assertEquals(dt.hashCode(), t.hashCode());
+        assertEquals(dt.toString(), t.toString());
+        assertEquals(0, t.compareTo(dt));
+        assertEquals(0, dt.compareTo(t));
+    }
+
+    @Test
+    public void testReadIntoDefaultTuple() throws IOException {
+        PrimitiveTuple t = new PrimitiveTuple(DataType.INTEGER, DataType.FLOAT);
+        t.set(0, INT);
+        t.set(1, FLOAT);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        sedes.writeDatum(new DataOutputStream(baos), t);
+        Tuple t2 = TupleFactory.getInstance().newTuple();
+        t2.readFields(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+        assertEquals(TupleFactory.getInstance().tupleClass(), t2.getClass());
+        assertEquals(t, t2);
+    }
+
+    @Test
+    public void testSchemaTupleFactory() throws ExecException {
+        SchemaTupleFactory stf = SchemaTupleFactory.getInstance(DataType.INTEGER, DataType.DOUBLE);
+        assertTrue(stf.isPrimitive());
+        Tuple t = stf.newTuple(INT, DOUBLE);
+        assertTrue(t instanceof PrimitiveTuple);
+        assertEquals(Arrays.<Object>asList(INT, DOUBLE), t.getAll());
+        assertEquals(Arrays.<Object>asList(null, null), stf.newTuple().getAll());
+
+        // values that do not match the schema go into a default tuple
+        t = stf.newTuple(INT, "a");
+        assertFalse(t instanceof PrimitiveTuple);
+        assertEquals(Arrays.<Object>asList(INT, "a"), t.getAll());
+
+        stf = SchemaTupleFactory.getInstance(DataType.INTEGER, DataType.CHARARRAY);
+        assertFalse(stf.isPrimitive());
+        assertFalse(stf.newTuple(INT, "a") instanceof PrimitiveTuple);
+    }
+
+    @Test
+    public void testIntermediateFile() throws Exception {
+        File input = File.createTempFile("primitive", ".txt");
+        PrintWriter w = new PrintWriter(input);
+        w.println("1\t0.5");
+        w.println("\t2.5");
+        w.close();
+        Properties props = new Properties();
+        props.setProperty(SchemaTupleFactory.PROP_PRIMITIVE_TUPLES, "true");
+        PigServer pig = new PigServer(ExecType.LOCAL, props);
+        try {
+            // the tuples are read back from the temporary file of the result
+            pig.registerQuery("A = load '" + Util.generateURI(input.toString(), pig.getPigContext())
+                    + "' as (a:int, b:double);");
+            pig.registerQuery("B = foreach A generate a, b;");
+            Iterator<Tuple> it = pig.openIterator("B");
+            assertEquals(Arrays.<Object>asList(1, 0.5), it.next().getAll());
+            assertEquals(Arrays.<Object>asList(null, 2.5), it.next().getAll());
+            assertFalse(it.hasNext());
+        } finally {
+            input.delete();
+        }
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.ReplicatedJoinTable;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.ReplicatedJoinTableCache;
+import org.apache.pig.data.DataByteArray;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.junit.Test;
+
+/**
+ * Test the hash table used by replicated join
+ */
+public class TestReplicatedJoinTable {
+
+    private TupleFactory tf = TupleFactory.getInstance();
+
+    private Tuple tuple(Object... fields) {
+        Tuple t = tf.newTuple(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                t.set(i, fields[i]);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Fill a table and a HashMap with the same data and check that every
+     * key gives the same values in the same order
+     */
+    private void checkAgainstHashMap(List<Object> keys) throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        Map<Object, List<Tuple>> expected = new HashMap<Object, List<Tuple>>();
+        int i = 0;
+        for (Object key : keys) {
+            Tuple value = tuple(key, Integer.valueOf(i++), "v" + i);
+            table.put(key, value);
+            List<Tuple> l = expected.get(key);
+            if (l == null) {
+                l = new ArrayList<Tuple>();
+                expected.put(key, l);
+            }
+            l.add(value);
+        }
+        assertEquals(expected.size(), table.size());
+        assertEquals(keys.size(), table.getNumValues());
+        for (Map.Entry<Object, List<Tuple>> e : expected.entrySet()) {
+            assertTrue(table.containsKey(e.getKey()));
+            assertEquals(e.getValue(), table.get(e.getKey()));
+        }
+    }
+
+    @Test
+    public void testIntKeys() throws Exception {
+        Random r = new Random(1);
+        List<Object> keys = new ArrayList<Object>();
+        for (int i = 0; i < 10000; i++) {
+            keys.add(Integer.valueOf(r.nextInt(3000) - 1500));
+        }
+        checkAgainstHashMap(keys);
+    }
+
+    @Test
+    public void testLongKeys() throws Exception {
+        Random r = new Random(2);
+        List<Object> keys = new ArrayList<Object>();
+        for (int i = 0; i < 10000; i++) {
+            keys.add(Long.valueOf(r.nextInt(3000) * 1000000007L));
+        }
+        checkAgainstHashMap(keys);
+    }
+
+    @Test
+    public void testCharArrayAndTupleKeys() throws Exception {
+        Random r = new Random(3);
+        List<Object> keys = new ArrayList<Object>();
+        for (int i = 0; i < 5000; i++) {
+            keys.add("key" + r.nextInt(2000));
+            keys.add(tuple("k" + r.nextInt(50), Integer.valueOf(r.nextInt(50))));
+            keys.add(new DataByteArray("b" + r.nextInt(500)));
+        }
+        checkAgainstHashMap(keys);
+    }
+
+    @Test
+    public void testMixedKeyTypes() throws Exception {
+        // starts out with int keys and has to switch to serialized keys
+        List<Object> keys = new ArrayList<Object>();
+        for (int i = 0; i < 3000; i++) {
+            keys.add(Integer.valueOf(i % 700));
+        }
+        for (int i = 0; i < 3000; i++) {
+            keys.add(Long.valueOf(i % 700));
+        }
+        checkAgainstHashMap(keys);
+    }
+
+    @Test
+    public void testMapKeys() throws Exception {
+        // equal maps whose entries are serialized in a different order
+        Map<String, Object> m1 = new LinkedHashMap<String, Object>();
+        Map<String, Object> m2 = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < 10; i++) {
+            m1.put("k" + i, Integer.valueOf(i));
+            m2.put("k" + (9 - i), Integer.valueOf(9 - i));
+        }
+        List<Object> keys = new ArrayList<Object>();
+        // starts out with serialized keys and has to switch to objects
+        for (int i = 0; i < 100; i++) {
+            keys.add("key" + (i % 30));
+        }
+        keys.add(tuple("a", m1));
+        keys.add(m1);
+        checkAgainstHashMap(keys);
+
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        table.put(tuple("a", m1), tuple(Integer.valueOf(1)));
+        table.put(m1, tuple(Integer.valueOf(2)));
+        table.put(tuple("a", m2), tuple(Integer.valueOf(3)));
+        assertEquals(2, table.size());
+        assertEquals(2, table.get(tuple("a", m2)).size());
+        assertEquals(1, table.get(m2).size());
+    }
+
+    @Test
+    public void testDuplicate() throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        for (int i = 0; i < 100; i++) {
+            table.put("k" + (i % 10), tuple(Integer.valueOf(i)));
+        }
+        ReplicatedJoinTable dup = table.duplicate();
+        assertEquals(table.size(), dup.size());
+        assertEquals(table.getNumValues(), dup.getNumValues());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(table.get("k" + i), dup.get("k" + i));
+        }
+        assertNull(dup.get("k10"));
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        ReplicatedJoinTableCache.clear();
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        table.put(Integer.valueOf(1), tuple(Integer.valueOf(1), "a"));
+        assertNull(ReplicatedJoinTableCache.get("t1"));
+        ReplicatedJoinTableCache.put("t1", table);
+        ReplicatedJoinTable cached = ReplicatedJoinTableCache.get("t1");
+        assertEquals(table.get(Integer.valueOf(1)), cached.get(Integer.valueOf(1)));
+
+        // the cache only keeps a bounded number of tables
+        for (int i = 0; i < 100; i++) {
+            ReplicatedJoinTableCache.put("other" + i, new ReplicatedJoinTable());
+        }
+        assertTrue(ReplicatedJoinTableCache.size() < 100);
+        assertNull(ReplicatedJoinTableCache.get("t1"));
+        ReplicatedJoinTableCache.clear();
+        assertEquals(0, ReplicatedJoinTableCache.size());
+    }
+
+    @Test
+    public void testMissingKeys() throws Exception {
+        ReplicatedJoinTable table = new ReplicatedJoinTable();
+        assertNull(table.get(Integer.valueOf(1)));
+        table.put(Integer.valueOf(1), tuple(Integer.valueOf(1)));
+        assertNull(table.get(Integer.valueOf(2)));
+        assertNull(table.get(Long.valueOf(1)));
+        assertNull(table.get("1"));
+        assertNull(table.get(null));
+        assertFalse(table.containsKey(null));
+        assertEquals(1, table.get(Integer.valueOf(1)).size());
+    }
+}
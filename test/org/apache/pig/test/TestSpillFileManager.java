@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.apache.pig.data.BinInterSedes;
+import org.apache.pig.data.DataBag;
+import org.apache.pig.data.DataType;
+import org.apache.pig.data.DefaultDataBag;
+import org.apache.pig.data.DistinctDataBag;
+import org.apache.pig.data.InternalCachedBag;
+import org.apache.pig.data.InternalSortedBag;
+import org.apache.pig.data.SortedDataBag;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.data.TupleFactory;
+import org.apache.pig.impl.util.SpillFileManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSpillFileManager {
+
+    private static final TupleFactory tf = TupleFactory.getInstance();
+
+    private File dir1;
+    private File dir2;
+
+    @Before
+    public void setUp() throws Exception {
+        dir1 = File.createTempFile("spill", "");
+        dir1.delete();
+        dir2 = File.createTempFile("spill", "");
+        dir2.delete();
+        // the directories are created on the first spill
+        Properties props = new Properties();
+        props.setProperty(SpillFileManager.PROP_SPILL_DIRS, dir1 + "," + dir2);
+        props.setProperty(SpillFileManager.PROP_SPILL_COMPRESS, "true");
+        props.setProperty(SpillFileManager.PROP_SPILL_ASYNC, "true");
+        props.setProperty("pig.tmpfilecompression.codec", "gz");
+        SpillFileManager.configure(props);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SpillFileManager.configure(new Properties());
+        for (File dir : new File[] { dir1, dir2 }) {
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    f.delete();
+                }
+            }
+            dir.delete();
+        }
+    }
+
+    private static List<Tuple> fill(DataBag b, int spills, int perSpill, Random rand) throws Exception {
+        List<Tuple> added = new ArrayList<Tuple>();
+        for (int j = 0; j < spills; j++) {
+            for (int i = 0; i < perSpill; i++) {
+                Tuple t = tf.newTuple(2);
+                t.set(0, rand.nextInt(1000));
+                t.set(1, "value " + i);
+                b.add(t);
+                added.add(t);
+            }
+            b.spill();
+        }
+        return added;
+    }
+
+    private static List<Tuple> read(DataBag b) {
+        List<Tuple> read = new ArrayList<Tuple>();
+        Iterator<Tuple> it = b.iterator();
+        while (it.hasNext()) {
+            read.add(it.next());
+        }
+        return read;
+    }
+
+    @Test
+    public void testSpillDirectories() throws Exception {
+        DataBag b = new DefaultDataBag();
+        List<Tuple> added = fill(b, 4, 100, new Random(1));
+        assertEquals(added, read(b));
+
+        // spread over both directories, compressed
+        for (File dir : new File[] { dir1, dir2 }) {
+            File[] files = dir.listFiles();
+            assertEquals(2, files.length);
+            for (File f : files) {
+                assertTrue(f.getName().endsWith(".gz"));
+            }
+        }
+        b.clear();
+        assertEquals(0, dir1.listFiles().length + dir2.listFiles().length);
+    }
+
+    @Test
+    public void testSortedAndDistinctBags() throws Exception {
+        DataBag sorted = new SortedDataBag(null);
+        // more spill files than are merged at once
+        List<Tuple> added = fill(sorted, 150, 10, new Random(2));
+        Collections.sort(added);
+        assertEquals(added, read(sorted));
+
+        DataBag distinct = new DistinctDataBag();
+        added = fill(distinct, 150, 10, new Random(3));
+        List<Tuple> expected = new ArrayList<Tuple>();
+        for (Tuple t : added) {
+            if (!expected.contains(t)) {
+                expected.add(t);
+            }
+        }
+        Collections.sort(expected);
+        assertEquals(expected, read(distinct));
+    }
+
+    @Test
+    public void testParallelMerge() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(SpillFileManager.PROP_SPILL_DIRS, dir1 + "," + dir2);
+        props.setProperty(SpillFileManager.PROP_SPILL_PREFETCH, "true");
+        props.setProperty(SpillFileManager.PROP_SPILL_MERGE_THREADS, "4");
+        SpillFileManager.configure(props);
+
+        // not thread safe, like the comparators of POSort
+        Comparator<Tuple> reverse = new Comparator<Tuple>() {
+            private Tuple last;
+            public int compare(Tuple t1, Tuple t2) {
+                last = t1;
+                return t2.compareTo(last);
+            }
+        };
+        DataBag sorted = new SortedDataBag(reverse);
+        // several groups of files are merged before the bag is read
+        List<Tuple> added = fill(sorted, 350, 10, new Random(6));
+        Collections.sort(added, Collections.reverseOrder());
+        assertEquals(added, read(sorted));
+        sorted.clear();
+
+        DataBag internal = new InternalSortedBag(null);
+        added = fill(internal, 250, 10, new Random(7));
+        Collections.sort(added);
+        assertEquals(added, read(internal));
+        internal.clear();
+        assertEquals(0, dir1.listFiles().length + dir2.listFiles().length);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergeManyFiles() throws Exception {
+        // more than fanIn * fanIn files take several passes to merge
+        int fanIn = 4;
+        BinInterSedes sedes = new BinInterSedes();
+        Random rand = new Random(8);
+        List<Tuple> added = new ArrayList<Tuple>();
+        List<File> files = new ArrayList<File>();
+        for (int j = 0; j < 40; j++) {
+            List<Tuple> spill = new ArrayList<Tuple>();
+            for (int i = 0; i < 10; i++) {
+                spill.add(tf.newTuple((Object) Integer.valueOf(rand.nextInt(1000))));
+            }
+            Collections.sort(spill);
+            File f = SpillFileManager.createSpillFile();
+            DataOutputStream out = SpillFileManager.openForWrite(f);
+            for (Tuple t : spill) {
+                sedes.writeDatum(out, t, DataType.TUPLE);
+            }
+            out.close();
+            files.add(f);
+            added.addAll(spill);
+        }
+
+        Method merge = Class.forName("org.apache.pig.data.SpillFileMerger")
+                .getDeclaredMethod("merge", List.class, int.class,
+                        Comparator.class, boolean.class, TupleFactory.class);
+        merge.setAccessible(true);
+        Comparator<Tuple> comp = new Comparator<Tuple>() {
+            public int compare(Tuple t1, Tuple t2) {
+                return t1.compareTo(t2);
+            }
+        };
+        LinkedList<File> merged = (LinkedList<File>) merge.invoke(null, files,
+                fanIn, comp, true, null);
+        assertTrue(merged.size() <= fanIn);
+
+        // the files that were merged are deleted
+        assertEquals(merged.size(), dir1.listFiles().length + dir2.listFiles().length);
+
+        List<Tuple> read = new ArrayList<Tuple>();
+        for (File f : merged) {
+            List<Tuple> file = new ArrayList<Tuple>();
+            DataInputStream in = SpillFileManager.openForRead(f);
+            try {
+                while (true) {
+                    file.add((Tuple) sedes.readDatum(in));
+                }
+            } catch (EOFException e) {
+                in.close();
+            }
+            List<Tuple> sorted = new ArrayList<Tuple>(file);
+            Collections.sort(sorted);
+            assertEquals(sorted, file);
+            read.addAll(file);
+            f.delete();
+        }
+        Collections.sort(added);
+        Collections.sort(read);
+        assertEquals(added, read);
+    }
+
+    @Test
+    public void testInternalCachedBag() throws Exception {
+        InternalCachedBag b = new InternalCachedBag(1, 0.000001f);
+        List<Tuple> added = new ArrayList<Tuple>();
+        Random rand = new Random(4);
+        for (int i = 0; i < 10000; i++) {
+            Tuple t = tf.newTuple((Object) Integer.valueOf(rand.nextInt()));
+            b.add(t);
+            added.add(t);
+        }
+        assertEquals(added, read(b));
+    }
+
+    @Test
+    public void testLargeFile() throws Exception {
+        // many times the size of what is in flight to the writer thread
+        File f = SpillFileManager.createSpillFile();
+        DataOutputStream out = SpillFileManager.openForWrite(f);
+        Random rand = new Random(5);
+        for (int i = 0; i < 500000; i++) {
+            out.writeInt(i);
+            out.writeLong(rand.nextLong());
+        }
+        out.close();
+
+        // read back after the settings change
+        SpillFileManager.configure(new Properties());
+        DataInputStream in = SpillFileManager.openForRead(f);
+        rand = new Random(5);
+        for (int i = 0; i < 500000; i++) {
+            assertEquals(i, in.readInt());
+            assertEquals(rand.nextLong(), in.readLong());
+        }
+        assertEquals(-1, in.read());
+        in.close();
+        f.delete();
+    }
+}
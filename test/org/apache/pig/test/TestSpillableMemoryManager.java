@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+
+import org.apache.pig.impl.util.Spillable;
+import org.apache.pig.impl.util.SpillableMemoryManager;
+import org.junit.After;
+import org.junit.Test;
+
+public class TestSpillableMemoryManager {
+
+    private static Properties getProperties(boolean predictive) {
+        Properties props = new Properties();
+        props.setProperty("pig.spill.size.threshold", "5000000");
+        props.setProperty("pig.spill.gc.activation.size", "40000000");
+        props.setProperty(SpillableMemoryManager.PROP_SPILL_PREDICTIVE, String.valueOf(predictive));
+        props.setProperty(SpillableMemoryManager.PROP_SPILL_PREDICTIVE_INTERVAL, "10");
+        return props;
+    }
+
+    @After
+    public void tearDown() {
+        SpillableMemoryManager.configure(getProperties(false));
+    }
+
+    /**
+     * Reports a size that grows by the whole heap each time it is asked for.
+     */
+    private static class GrowingSpillable implements Spillable {
+        volatile int spills = 0;
+        long size = 0;
+
+        public long spill() {
+            spills++;
+            size = 0;
+            return 0;
+        }
+
+        public long getMemorySize() {
+            size += Runtime.getRuntime().maxMemory();
+            return size;
+        }
+    }
+
+    @Test
+    public void testMemoryBudget() throws Exception {
+        long requested = Runtime.getRuntime().maxMemory() / 5;
+        assertEquals(requested, SpillableMemoryManager.getMemoryBudget(requested));
+
+        SpillableMemoryManager.configure(getProperties(true));
+        long budget = SpillableMemoryManager.getMemoryBudget(requested);
+        assertTrue(budget <= requested);
+        assertTrue(budget >= requested / 4);
+    }
+
+    @Test
+    public void testPredictiveSpill() throws Exception {
+        GrowingSpillable s = new GrowingSpillable();
+        SpillableMemoryManager.getInstance().registerSpillable(s);
+        SpillableMemoryManager.configure(getProperties(true));
+        for (int i = 0; i < 500 && s.spills == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(s.spills > 0);
+
+        // no spills once it is turned off
+        SpillableMemoryManager.configure(getProperties(false));
+        Thread.sleep(100);
+        int spills = s.spills;
+        Thread.sleep(100);
+        assertEquals(spills, s.spills);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.pig.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.pig.ExecType;
+import org.apache.pig.PigServer;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.MapReduceOper;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.TupleReuseOptimizer;
+import org.apache.pig.backend.hadoop.executionengine.mapReduceLayer.plans.MROperPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.PhysicalOperator;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.plans.PhysicalPlan;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POForEach;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POLocalRearrange;
+import org.apache.pig.backend.hadoop.executionengine.physicalLayer.relationalOperators.POPackage;
+import org.apache.pig.data.Tuple;
+import org.apache.pig.impl.PigContext;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the marking of operators that reuse their output tuples
+ */
+public class TestTupleReuseOptimizer {
+    PigContext pc;
+
+    @Before
+    public void setUp() throws Exception {
+        pc = new PigContext(ExecType.LOCAL, new Properties());
+        pc.connect();
+    }
+
+    private String getQuery(String storeFunc) {
+        return "a = load 'x' as (s:chararray, n:int, l:long);" +
+                "b = foreach a generate s, n, l * 2 as l2;" +
+                "c = group b by (s, n);" +
+                "d = foreach c generate flatten(group), b.l2;" +
+                "store d into 'y' using " + storeFunc + "();";
+    }
+
+    private POForEach getForEach(PhysicalPlan plan) {
+        for (PhysicalOperator op : plan) {
+            if (op instanceof POForEach) {
+                return (POForEach)op;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testPropNotSet() throws Exception {
+        MROperPlan mrp = Util.buildMRPlan(getQuery("PigStorage"), pc);
+        MapReduceOper mro = mrp.getRoots().get(0);
+        assertFalse(((POLocalRearrange)mro.mapPlan.getLeaves().get(0)).isReuseOutput());
+        assertFalse(getForEach(mro.mapPlan).isReuseOutput());
+        assertFalse(((POPackage)mro.reducePlan.getRoots().get(0)).isReuseOutput());
+        assertFalse(getForEach(mro.reducePlan).isReuseOutput());
+    }
+
+    @Test
+    public void testPropTrue() throws Exception {
+        pc.getProperties().setProperty(TupleReuseOptimizer.PROP_TUPLE_REUSE, "true");
+        MROperPlan mrp = Util.buildMRPlan(getQuery("PigStorage"), pc);
+        MapReduceOper mro = mrp.getRoots().get(0);
+        assertTrue(((POLocalRearrange)mro.mapPlan.getLeaves().get(0)).isReuseOutput());
+        assertTrue(getForEach(mro.mapPlan).isReuseOutput());
+        assertTrue(((POPackage)mro.reducePlan.getRoots().get(0)).isReuseOutput());
+        assertTrue(getForEach(mro.reducePlan).isReuseOutput());
+    }
+
+    @Test
+    public void testUnknownStoreFunc() throws Exception {
+        // the store function may hold on to the tuples it is given
+        pc.getProperties().setProperty(TupleReuseOptimizer.PROP_TUPLE_REUSE, "true");
+        MROperPlan mrp = Util.buildMRPlan(getQuery("JsonStorage"), pc);
+        MapReduceOper mro = mrp.getRoots().get(0);
+        assertTrue(((POLocalRearrange)mro.mapPlan.getLeaves().get(0)).isReuseOutput());
+        assertFalse(((POPackage)mro.reducePlan.getRoots().get(0)).isReuseOutput());
+        assertFalse(getForEach(mro.reducePlan).isReuseOutput());
+    }
+
+    @Test
+    public void testCombinePlan() throws Exception {
+        pc.getProperties().setProperty(TupleReuseOptimizer.PROP_TUPLE_REUSE, "true");
+        String query = "a = load 'x' as (s:chararray, n:int);" +
+                "b = group a by s;" +
+                "c = foreach b generate group, COUNT(a), SUM(a.n);" +
+                "store c into 'y';";
+        MROperPlan mrp = Util.buildMRPlan(query, pc);
+        MapReduceOper mro = mrp.getRoots().get(0);
+        assertTrue(((POLocalRearrange)mro.combinePlan.getLeaves().get(0)).isReuseOutput());
+        assertTrue(getForEach(mro.combinePlan).isReuseOutput());
+    }
+
+    private List<String> run(boolean reuse, File input) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(TupleReuseOptimizer.PROP_TUPLE_REUSE, Boolean.toString(reuse));
+        PigServer pigServer = new PigServer(ExecType.LOCAL, props);
+        pigServer.registerQuery("a = load '" + Util.encodeEscape(input.getAbsolutePath())
+                + "' as (s:chararray, n:int, l:long);");
+        pigServer.registerQuery("b = foreach a generate s, n, l * 2 as l2;");
+        pigServer.registerQuery("c = group b by (s, n);");
+        pigServer.registerQuery("d = foreach c generate flatten(group), b.l2, flatten(b.l2);");
+        List<String> result = new ArrayList<String>();
+        Iterator<Tuple> it = pigServer.openIterator("d");
+        while (it.hasNext()) {
+            result.add(it.next().toString());
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    @Test
+    public void testResults() throws Exception {
+        String[] input = new String[300];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = "k" + (i % 7) + "\t" + (i % 3) + "\t" + i;
+        }
+        File f = Util.createFile(input);
+        List<String> expected = run(false, f);
+        assertEquals(input.length, expected.size());
+        assertEquals(expected, run(true, f));
+    }
+}